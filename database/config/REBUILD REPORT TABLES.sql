@@ -0,0 +1,88 @@
+DELETE FROM `db_e-commerce_system`.`tb_reportOrdersByStore`;
+INSERT INTO `db_e-commerce_system`.`tb_reportOrdersByStore` (id, storeId, storeName, orders, receivedOrders, paidOrders, sentOrders, finishedOrders)
+SELECT id, storeId, storeName, orders, receivedOrders, paidOrders, sentOrders, finishedOrders FROM `db_e-commerce_system`.`vw_ordersByStoreAndStatus`;
+
+DELETE FROM `db_e-commerce_system`.`tb_reportProductsByStore`;
+INSERT INTO `db_e-commerce_system`.`tb_reportProductsByStore` (id, storeId, storeName, products, activeProducts)
+SELECT id, storeId, storeName, products, activeProducts FROM `db_e-commerce_system`.`vw_productsByStoreAndStatus`;
+
+DELETE FROM `db_e-commerce_system`.`tb_reportStoresByUser`;
+INSERT INTO `db_e-commerce_system`.`tb_reportStoresByUser` (id, userId, stores, activeStores)
+SELECT id, userId, stores, activeStores FROM `db_e-commerce_system`.`vw_storesByUserAndStatus`;
+
+DELETE FROM `db_e-commerce_system`.`tb_reportStoresCount`;
+INSERT INTO `db_e-commerce_system`.`tb_reportStoresCount` (id, stores, activeStores)
+SELECT id, stores, activeStores FROM `db_e-commerce_system`.`vw_storesCountByStatus`;
+
+DELETE FROM `db_e-commerce_system`.`tb_reportUsersCount`;
+INSERT INTO `db_e-commerce_system`.`tb_reportUsersCount` (id, users, admins, storeAdmins, customers)
+SELECT id, users, admins, storeAdmins, customers FROM `db_e-commerce_system`.`vw_usersCountByRole`;
+
+DELETE FROM `db_e-commerce_system`.`tb_reportStoreCashFlowByOrder`;
+INSERT INTO `db_e-commerce_system`.`tb_reportStoreCashFlowByOrder` (id, storeId, orderId, value, productId, productName, productQuantity, timestamp)
+SELECT id, storeId, orderId, value, productId, productName, productQuantity, timestamp FROM `db_e-commerce_system`.`vw_storeCashFlowByOrder`;
+
+DELETE FROM `db_e-commerce_system`.`tb_reportStoreCashFlowRevenue`;
+INSERT INTO `db_e-commerce_system`.`tb_reportStoreCashFlowRevenue` (id, storeId, revenue, timestamp)
+SELECT id, storeId, revenue, timestamp FROM `db_e-commerce_system`.`vw_storeCashFlowRevenue`;
+
+DELETE FROM `db_e-commerce_system`.`tb_reportSystemCashFlowByOrder`;
+INSERT INTO `db_e-commerce_system`.`tb_reportSystemCashFlowByOrder` (id, orderId, storeId, storeName, value, timestamp)
+SELECT id, orderId, storeId, storeName, value, timestamp FROM `db_e-commerce_system`.`vw_systemCashFlowByOrder`;
+
+DELETE FROM `db_e-commerce_system`.`tb_reportSystemCashFlowRevenue`;
+INSERT INTO `db_e-commerce_system`.`tb_reportSystemCashFlowRevenue` (id, revenue, timestamp)
+SELECT id, revenue, timestamp FROM `db_e-commerce_system`.`vw_systemCashFlowRevenue`;
+
+DELETE FROM `db_e-commerce_system`.`tb_storeRevenueRollup`;
+INSERT INTO `db_e-commerce_system`.`tb_storeRevenueRollup` (periodId, storeId, periodStart, revenue, transactions, lastTransaction)
+SELECT 1, scf.fk_storeId, DATE(scf.timestamp), SUM(scf.value), COUNT(*), MAX(scf.timestamp)
+FROM `db_e-commerce_system`.`tb_storeCashFlow` scf GROUP BY scf.fk_storeId, DATE(scf.timestamp)
+UNION ALL
+SELECT 2, scf.fk_storeId, DATE(scf.timestamp) - INTERVAL WEEKDAY(scf.timestamp) DAY, SUM(scf.value), COUNT(*), MAX(scf.timestamp)
+FROM `db_e-commerce_system`.`tb_storeCashFlow` scf GROUP BY scf.fk_storeId, DATE(scf.timestamp) - INTERVAL WEEKDAY(scf.timestamp) DAY
+UNION ALL
+SELECT 3, scf.fk_storeId, DATE(scf.timestamp) - INTERVAL (DAYOFMONTH(scf.timestamp) - 1) DAY, SUM(scf.value), COUNT(*), MAX(scf.timestamp)
+FROM `db_e-commerce_system`.`tb_storeCashFlow` scf GROUP BY scf.fk_storeId, DATE(scf.timestamp) - INTERVAL (DAYOFMONTH(scf.timestamp) - 1) DAY;
+
+DELETE FROM `db_e-commerce_system`.`tb_systemRevenueRollup`;
+INSERT INTO `db_e-commerce_system`.`tb_systemRevenueRollup` (periodId, periodStart, revenue, transactions, lastTransaction)
+SELECT 1, DATE(scf.timestamp), SUM(scf.value), COUNT(*), MAX(scf.timestamp)
+FROM `db_e-commerce_system`.`tb_systemCashFlow` scf GROUP BY DATE(scf.timestamp)
+UNION ALL
+SELECT 2, DATE(scf.timestamp) - INTERVAL WEEKDAY(scf.timestamp) DAY, SUM(scf.value), COUNT(*), MAX(scf.timestamp)
+FROM `db_e-commerce_system`.`tb_systemCashFlow` scf GROUP BY DATE(scf.timestamp) - INTERVAL WEEKDAY(scf.timestamp) DAY
+UNION ALL
+SELECT 3, DATE(scf.timestamp) - INTERVAL (DAYOFMONTH(scf.timestamp) - 1) DAY, SUM(scf.value), COUNT(*), MAX(scf.timestamp)
+FROM `db_e-commerce_system`.`tb_systemCashFlow` scf GROUP BY DATE(scf.timestamp) - INTERVAL (DAYOFMONTH(scf.timestamp) - 1) DAY;
+
+DELETE FROM `db_e-commerce_system`.`tb_productSalesRollup`;
+INSERT INTO `db_e-commerce_system`.`tb_productSalesRollup` (periodId, periodStart, productId, storeId, quantity)
+SELECT 1, DATE(s.creationDate), s.productId, s.storeId, SUM(s.quantity)
+FROM (SELECT po.pk_fk_productId AS productId, o.fk_storeId AS storeId, po.quantity, o.creationDate
+      FROM `db_e-commerce_system`.`tb_product_order` po INNER JOIN `db_e-commerce_system`.`tb_order` o ON o.pk_orderId = po.pk_fk_orderId
+      UNION ALL
+      SELECT poa.pk_fk_productId, oa.fk_storeId, poa.quantity, oa.creationDate
+      FROM `db_e-commerce_system`.`tb_productOrderArchive` poa INNER JOIN `db_e-commerce_system`.`tb_orderArchive` oa ON oa.pk_orderId = poa.pk_fk_orderId) s
+GROUP BY DATE(s.creationDate), s.productId, s.storeId
+UNION ALL
+SELECT 2, DATE(s.creationDate) - INTERVAL WEEKDAY(s.creationDate) DAY, s.productId, s.storeId, SUM(s.quantity)
+FROM (SELECT po.pk_fk_productId AS productId, o.fk_storeId AS storeId, po.quantity, o.creationDate
+      FROM `db_e-commerce_system`.`tb_product_order` po INNER JOIN `db_e-commerce_system`.`tb_order` o ON o.pk_orderId = po.pk_fk_orderId
+      UNION ALL
+      SELECT poa.pk_fk_productId, oa.fk_storeId, poa.quantity, oa.creationDate
+      FROM `db_e-commerce_system`.`tb_productOrderArchive` poa INNER JOIN `db_e-commerce_system`.`tb_orderArchive` oa ON oa.pk_orderId = poa.pk_fk_orderId) s
+GROUP BY DATE(s.creationDate) - INTERVAL WEEKDAY(s.creationDate) DAY, s.productId, s.storeId
+UNION ALL
+SELECT 3, DATE(s.creationDate) - INTERVAL (DAYOFMONTH(s.creationDate) - 1) DAY, s.productId, s.storeId, SUM(s.quantity)
+FROM (SELECT po.pk_fk_productId AS productId, o.fk_storeId AS storeId, po.quantity, o.creationDate
+      FROM `db_e-commerce_system`.`tb_product_order` po INNER JOIN `db_e-commerce_system`.`tb_order` o ON o.pk_orderId = po.pk_fk_orderId
+      UNION ALL
+      SELECT poa.pk_fk_productId, oa.fk_storeId, poa.quantity, oa.creationDate
+      FROM `db_e-commerce_system`.`tb_productOrderArchive` poa INNER JOIN `db_e-commerce_system`.`tb_orderArchive` oa ON oa.pk_orderId = poa.pk_fk_orderId) s
+GROUP BY DATE(s.creationDate) - INTERVAL (DAYOFMONTH(s.creationDate) - 1) DAY, s.productId, s.storeId;
+
+DELETE FROM `db_e-commerce_system`.`tb_storeSalesRollup`;
+INSERT INTO `db_e-commerce_system`.`tb_storeSalesRollup` (periodId, periodStart, storeId, quantity)
+SELECT periodId, periodStart, storeId, SUM(quantity) FROM `db_e-commerce_system`.`tb_productSalesRollup`
+GROUP BY periodId, periodStart, storeId;
@@ -220,6 +220,7 @@ CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_orderSummary` (
                                                                         INDEX `fk_tb_orderSummary_tb_user1_idx` (`fk_userId` ASC) VISIBLE,
                                                                         INDEX `fk_tb_orderSummary_tb_paymentMethod1_idx` (`fk_paymentMethodId` ASC) VISIBLE,
                                                                         INDEX `fk_tb_orderSummary_tb_orderStatus1_idx` (`fk_orderStatusId` ASC) VISIBLE,
+                                                                        INDEX `tb_orderSummary_status_lastUpdate_idx` (`fk_orderStatusId` ASC, `lastUpdate` ASC) VISIBLE,
                                                                         CONSTRAINT `fk_tb_orderSummary_tb_user1`
                                                                             FOREIGN KEY (`fk_userId`)
                                                                                 REFERENCES `db_e-commerce_system`.`tb_user` (`pk_userId`)
@@ -255,6 +256,7 @@ CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_order` (
                                                                  INDEX `fk_tb_order_tb_store1_idx` (`fk_storeId` ASC) VISIBLE,
                                                                  INDEX `fk_tb_order_tb_orderStatus1_idx` (`fk_orderStatusId` ASC) VISIBLE,
                                                                  INDEX `fk_tb_order_tb_orderSummary1_idx` (`fk_orderSummaryId` ASC) VISIBLE,
+                                                                 INDEX `tb_order_store_status_idx` (`fk_storeId` ASC, `fk_orderStatusId` ASC) VISIBLE,
                                                                  CONSTRAINT `fk_tb_order_tb_store1`
                                                                      FOREIGN KEY (`fk_storeId`)
                                                                          REFERENCES `db_e-commerce_system`.`tb_store` (`pk_storeId`)
@@ -283,11 +285,7 @@ CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_systemCashFlow` (
                                                                           `timestamp` DATETIME NOT NULL,
                                                                           PRIMARY KEY (`pk_cashFlowId`),
                                                                           INDEX `fk_tb_cashFlow_tb_order1_idx` (`fk_orderId` ASC) VISIBLE,
-                                                                          CONSTRAINT `fk_tb_cashFlow_tb_order1`
-                                                                              FOREIGN KEY (`fk_orderId`)
-                                                                                  REFERENCES `db_e-commerce_system`.`tb_order` (`pk_orderId`)
-                                                                                  ON DELETE NO ACTION
-                                                                                  ON UPDATE NO ACTION)
+                                                                          INDEX `tb_systemCashFlow_timestamp_idx` (`timestamp` ASC) VISIBLE)
     ENGINE = InnoDB;
 
 
@@ -437,17 +435,13 @@ CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_storeCashFlow` (
                                                                          `value` DECIMAL(19,4) NOT NULL,
                                                                          `timestamp` DATETIME NOT NULL,
                                                                          PRIMARY KEY (`pk_storeCashFlowId`),
-                                                                         INDEX `fk_tb_storeCashFlow_tb_store1_idx` (`fk_storeId` ASC) VISIBLE,
+                                                                         INDEX `fk_tb_storeCashFlow_tb_store1_idx` (`fk_storeId` ASC, `timestamp` ASC) VISIBLE,
+                                                                         INDEX `tb_storeCashFlow_timestamp_idx` (`timestamp` ASC) VISIBLE,
                                                                          INDEX `fk_tb_storeCashFlow_tb_order1_idx` (`fk_orderId` ASC) VISIBLE,
                                                                          CONSTRAINT `fk_tb_storeCashFlow_tb_store1`
                                                                              FOREIGN KEY (`fk_storeId`)
                                                                                  REFERENCES `db_e-commerce_system`.`tb_store` (`pk_storeId`)
                                                                                  ON DELETE NO ACTION
-                                                                                 ON UPDATE NO ACTION,
-                                                                         CONSTRAINT `fk_tb_storeCashFlow_tb_order1`
-                                                                             FOREIGN KEY (`fk_orderId`)
-                                                                                 REFERENCES `db_e-commerce_system`.`tb_order` (`pk_orderId`)
-                                                                                 ON DELETE NO ACTION
                                                                                  ON UPDATE NO ACTION)
     ENGINE = InnoDB;
 
@@ -567,6 +561,469 @@ CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_productImage` (
                                                                                 ON UPDATE NO ACTION)
     ENGINE = InnoDB;
 
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_orderEvent`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_orderEvent` (
+                                                                      `pk_orderEventId` BIGINT NOT NULL AUTO_INCREMENT,
+                                                                      `eventTypeId` INT NOT NULL,
+                                                                      `orderSummaryId` INT NOT NULL,
+                                                                      `orderId` INT NOT NULL,
+                                                                      `payload` TEXT NOT NULL,
+                                                                      `timestamp` DATETIME NOT NULL,
+                                                                      PRIMARY KEY (`pk_orderEventId`),
+                                                                      INDEX `tb_orderEvent_orderSummaryId_idx` (`orderSummaryId` ASC) VISIBLE)
+    ENGINE = InnoDB;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_orderProjectionCheckpoint`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_orderProjectionCheckpoint` (
+                                                                                     `pk_projectionName` VARCHAR(200) NOT NULL,
+                                                                                     `lastEventId` BIGINT NOT NULL,
+                                                                                     `lastUpdate` DATETIME NOT NULL,
+                                                                                     PRIMARY KEY (`pk_projectionName`))
+    ENGINE = InnoDB;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_orderState`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_orderState` (
+                                                                      `pk_orderId` INT NOT NULL,
+                                                                      `orderSummaryId` INT NOT NULL,
+                                                                      `storeId` INT NOT NULL,
+                                                                      `userId` INT NOT NULL,
+                                                                      `orderStatusId` INT NOT NULL,
+                                                                      `totalPrice` DECIMAL(19,4) NOT NULL,
+                                                                      `paidValue` DECIMAL(19,4) NOT NULL,
+                                                                      `items` INT NOT NULL,
+                                                                      `reservedQuantity` INT NOT NULL,
+                                                                      `deliveryId` INT NOT NULL,
+                                                                      `isDelivered` TINYINT NOT NULL,
+                                                                      `creationDate` DATETIME NOT NULL,
+                                                                      `lastUpdate` DATETIME NULL,
+                                                                      PRIMARY KEY (`pk_orderId`),
+                                                                      INDEX `tb_orderState_storeId_idx` (`storeId` ASC) VISIBLE,
+                                                                      INDEX `tb_orderState_orderSummaryId_idx` (`orderSummaryId` ASC) VISIBLE)
+    ENGINE = InnoDB;
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_orderSummaryArchive`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_orderSummaryArchive` (
+                                                                               `pk_orderSummaryId` INT NOT NULL,
+                                                                               `fk_userId` INT NOT NULL,
+                                                                               `fk_paymentMethodId` INT NOT NULL,
+                                                                               `totalPrice` DECIMAL(19,4) NOT NULL,
+                                                                               `totalDiscountPercentage` DECIMAL(19,4) NOT NULL,
+                                                                               `finalPrice` DECIMAL(19,4) NOT NULL,
+                                                                               `installment` INT NOT NULL,
+                                                                               `creationDate` DATETIME NOT NULL,
+                                                                               `lastUpdate` DATETIME NULL,
+                                                                               `fk_orderStatusId` INT NOT NULL,
+                                                                               `archiveDate` DATETIME NOT NULL,
+                                                                               PRIMARY KEY (`pk_orderSummaryId`),
+                                                                               INDEX `tb_orderSummaryArchive_userId_idx` (`fk_userId` ASC) VISIBLE)
+    ENGINE = InnoDB
+    ROW_FORMAT = COMPRESSED;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_orderArchive`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_orderArchive` (
+                                                                        `pk_orderId` INT NOT NULL,
+                                                                        `fk_orderSummaryId` INT NOT NULL,
+                                                                        `fk_storeId` INT NOT NULL,
+                                                                        `totalPrice` DECIMAL(19,4) NOT NULL,
+                                                                        `totalDiscountPercentage` DECIMAL(19,4) NOT NULL,
+                                                                        `finalPrice` DECIMAL(19,4) NOT NULL,
+                                                                        `creationDate` DATETIME NOT NULL,
+                                                                        `lastUpdate` DATETIME NULL,
+                                                                        `fk_orderStatusId` INT NOT NULL,
+                                                                        `archiveDate` DATETIME NOT NULL,
+                                                                        PRIMARY KEY (`pk_orderId`),
+                                                                        INDEX `tb_orderArchive_storeId_idx` (`fk_storeId` ASC) VISIBLE,
+                                                                        INDEX `tb_orderArchive_orderSummaryId_idx` (`fk_orderSummaryId` ASC) VISIBLE)
+    ENGINE = InnoDB
+    ROW_FORMAT = COMPRESSED;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_productOrderArchive`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_productOrderArchive` (
+                                                                               `pk_fk_productId` INT NOT NULL,
+                                                                               `pk_fk_orderId` INT NOT NULL,
+                                                                               `quantity` INT NOT NULL,
+                                                                               PRIMARY KEY (`pk_fk_productId`, `pk_fk_orderId`),
+                                                                               INDEX `tb_productOrderArchive_orderId_idx` (`pk_fk_orderId` ASC) VISIBLE)
+    ENGINE = InnoDB
+    ROW_FORMAT = COMPRESSED;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_deliveryArchive`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_deliveryArchive` (
+                                                                           `pk_deliveryId` INT NOT NULL,
+                                                                           `fk_deliveryServiceId` INT NOT NULL,
+                                                                           `fk_orderId` INT NOT NULL,
+                                                                           `fk_senderAddressId` INT NOT NULL,
+                                                                           `fk_receiverAddressId` INT NOT NULL,
+                                                                           `price` DECIMAL(19,4) NOT NULL,
+                                                                           `isSuccess` TINYINT NOT NULL,
+                                                                           PRIMARY KEY (`pk_deliveryId`),
+                                                                           INDEX `tb_deliveryArchive_orderId_idx` (`fk_orderId` ASC) VISIBLE)
+    ENGINE = InnoDB
+    ROW_FORMAT = COMPRESSED;
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_deliveryZone`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_deliveryZone` (
+                                                                        `pk_deliveryZoneId` INT NOT NULL AUTO_INCREMENT,
+                                                                        `name` VARCHAR(200) NOT NULL,
+                                                                        PRIMARY KEY (`pk_deliveryZoneId`))
+    ENGINE = InnoDB;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_deliveryZonePrefix`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_deliveryZonePrefix` (
+                                                                              `pk_postalCodePrefix` VARCHAR(3) NOT NULL,
+                                                                              `fk_deliveryZoneId` INT NOT NULL,
+                                                                              PRIMARY KEY (`pk_postalCodePrefix`),
+                                                                              INDEX `fk_tb_deliveryZonePrefix_tb_deliveryZone1_idx` (`fk_deliveryZoneId` ASC) VISIBLE,
+                                                                              CONSTRAINT `fk_tb_deliveryZonePrefix_tb_deliveryZone1`
+                                                                                  FOREIGN KEY (`fk_deliveryZoneId`)
+                                                                                      REFERENCES `db_e-commerce_system`.`tb_deliveryZone` (`pk_deliveryZoneId`)
+                                                                                      ON DELETE NO ACTION
+                                                                                      ON UPDATE NO ACTION)
+    ENGINE = InnoDB;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_deliveryRate`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_deliveryRate` (
+                                                                        `pk_deliveryRateId` INT NOT NULL AUTO_INCREMENT,
+                                                                        `fk_deliveryServiceId` INT NOT NULL,
+                                                                        `fk_originZoneId` INT NOT NULL,
+                                                                        `fk_destinationZoneId` INT NOT NULL,
+                                                                        `price` DECIMAL(19,4) NOT NULL,
+                                                                        PRIMARY KEY (`pk_deliveryRateId`),
+                                                                        UNIQUE INDEX `tb_deliveryRate_route_UNIQUE` (`fk_deliveryServiceId` ASC, `fk_originZoneId` ASC, `fk_destinationZoneId` ASC) VISIBLE,
+                                                                        INDEX `fk_tb_deliveryRate_tb_deliveryZone1_idx` (`fk_originZoneId` ASC) VISIBLE,
+                                                                        INDEX `fk_tb_deliveryRate_tb_deliveryZone2_idx` (`fk_destinationZoneId` ASC) VISIBLE,
+                                                                        CONSTRAINT `fk_tb_deliveryRate_tb_deliveryService1`
+                                                                            FOREIGN KEY (`fk_deliveryServiceId`)
+                                                                                REFERENCES `db_e-commerce_system`.`tb_deliveryService` (`pk_deliveryServiceId`)
+                                                                                ON DELETE NO ACTION
+                                                                                ON UPDATE NO ACTION,
+                                                                        CONSTRAINT `fk_tb_deliveryRate_tb_deliveryZone1`
+                                                                            FOREIGN KEY (`fk_originZoneId`)
+                                                                                REFERENCES `db_e-commerce_system`.`tb_deliveryZone` (`pk_deliveryZoneId`)
+                                                                                ON DELETE NO ACTION
+                                                                                ON UPDATE NO ACTION,
+                                                                        CONSTRAINT `fk_tb_deliveryRate_tb_deliveryZone2`
+                                                                            FOREIGN KEY (`fk_destinationZoneId`)
+                                                                                REFERENCES `db_e-commerce_system`.`tb_deliveryZone` (`pk_deliveryZoneId`)
+                                                                                ON DELETE NO ACTION
+                                                                                ON UPDATE NO ACTION)
+    ENGINE = InnoDB;
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_reportOrdersByStore`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_reportOrdersByStore` (
+                                                                            `id` VARCHAR(36) NOT NULL,
+                                                                            `storeId` INT NOT NULL,
+                                                                            `storeName` VARCHAR(200) NOT NULL,
+                                                                            `orders` INT NOT NULL,
+                                                                            `receivedOrders` INT NOT NULL,
+                                                                            `paidOrders` INT NOT NULL,
+                                                                            `sentOrders` INT NOT NULL,
+                                                                            `finishedOrders` INT NOT NULL,
+                                                                            PRIMARY KEY (`storeId`),
+                                                                            UNIQUE INDEX `tb_reportOrdersByStore_id_UNIQUE` (`id` ASC) VISIBLE)
+    ENGINE = InnoDB;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_reportProductsByStore`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_reportProductsByStore` (
+                                                                              `id` VARCHAR(36) NOT NULL,
+                                                                              `storeId` INT NOT NULL,
+                                                                              `storeName` VARCHAR(200) NOT NULL,
+                                                                              `products` INT NOT NULL,
+                                                                              `activeProducts` INT NOT NULL,
+                                                                              PRIMARY KEY (`storeId`),
+                                                                              UNIQUE INDEX `tb_reportProductsByStore_id_UNIQUE` (`id` ASC) VISIBLE)
+    ENGINE = InnoDB;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_reportStoresByUser`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_reportStoresByUser` (
+                                                                           `id` VARCHAR(36) NOT NULL,
+                                                                           `userId` INT NOT NULL,
+                                                                           `stores` INT NOT NULL,
+                                                                           `activeStores` INT NOT NULL,
+                                                                           PRIMARY KEY (`userId`),
+                                                                           UNIQUE INDEX `tb_reportStoresByUser_id_UNIQUE` (`id` ASC) VISIBLE)
+    ENGINE = InnoDB;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_reportStoresCount`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_reportStoresCount` (
+                                                                          `id` VARCHAR(36) NOT NULL,
+                                                                          `stores` INT NOT NULL,
+                                                                          `activeStores` INT NOT NULL,
+                                                                          PRIMARY KEY (`id`))
+    ENGINE = InnoDB;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_reportUsersCount`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_reportUsersCount` (
+                                                                         `id` VARCHAR(36) NOT NULL,
+                                                                         `users` INT NOT NULL,
+                                                                         `admins` INT NOT NULL,
+                                                                         `storeAdmins` INT NOT NULL,
+                                                                         `customers` INT NOT NULL,
+                                                                         PRIMARY KEY (`id`))
+    ENGINE = InnoDB;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_reportStoreCashFlowByOrder`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_reportStoreCashFlowByOrder` (
+                                                                                   `id` VARCHAR(36) NOT NULL,
+                                                                                   `storeId` INT NOT NULL,
+                                                                                   `orderId` INT NOT NULL,
+                                                                                   `value` DECIMAL(19,4) NOT NULL,
+                                                                                   `productId` INT NOT NULL,
+                                                                                   `productName` VARCHAR(200) NOT NULL,
+                                                                                   `productQuantity` INT NOT NULL,
+                                                                                   `timestamp` DATETIME NOT NULL,
+                                                                                   PRIMARY KEY (`id`),
+                                                                                   INDEX `tb_reportStoreCashFlowByOrder_storeId_timestamp_idx` (`storeId` ASC, `timestamp` ASC) VISIBLE,
+                                                                                   INDEX `tb_reportStoreCashFlowByOrder_timestamp_idx` (`timestamp` ASC) VISIBLE)
+    ENGINE = InnoDB;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_reportStoreCashFlowRevenue`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_reportStoreCashFlowRevenue` (
+                                                                                   `id` VARCHAR(36) NOT NULL,
+                                                                                   `storeId` INT NOT NULL,
+                                                                                   `revenue` DECIMAL(19,4) NOT NULL,
+                                                                                   `timestamp` DATETIME NOT NULL,
+                                                                                   PRIMARY KEY (`storeId`),
+                                                                                   UNIQUE INDEX `tb_reportStoreCashFlowRevenue_id_UNIQUE` (`id` ASC) VISIBLE,
+                                                                                   INDEX `tb_reportStoreCashFlowRevenue_timestamp_idx` (`timestamp` ASC) VISIBLE)
+    ENGINE = InnoDB;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_reportSystemCashFlowByOrder`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_reportSystemCashFlowByOrder` (
+                                                                                    `id` VARCHAR(36) NOT NULL,
+                                                                                    `orderId` INT NOT NULL,
+                                                                                    `storeId` INT NOT NULL,
+                                                                                    `storeName` VARCHAR(200) NOT NULL,
+                                                                                    `value` DECIMAL(19,4) NOT NULL,
+                                                                                    `timestamp` DATETIME NOT NULL,
+                                                                                    PRIMARY KEY (`id`),
+                                                                                    INDEX `tb_reportSystemCashFlowByOrder_timestamp_idx` (`timestamp` ASC) VISIBLE)
+    ENGINE = InnoDB;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_reportSystemCashFlowRevenue`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_reportSystemCashFlowRevenue` (
+                                                                                    `id` VARCHAR(36) NOT NULL,
+                                                                                    `revenue` DECIMAL(19,4) NOT NULL,
+                                                                                    `timestamp` DATETIME NOT NULL,
+                                                                                    PRIMARY KEY (`timestamp`),
+                                                                                    UNIQUE INDEX `tb_reportSystemCashFlowRevenue_id_UNIQUE` (`id` ASC) VISIBLE)
+    ENGINE = InnoDB;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_storeRevenueRollup`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_storeRevenueRollup` (
+                                                                            `periodId` TINYINT NOT NULL,
+                                                                            `storeId` INT NOT NULL,
+                                                                            `periodStart` DATE NOT NULL,
+                                                                            `revenue` DECIMAL(19,4) NOT NULL,
+                                                                            `transactions` INT NOT NULL,
+                                                                            `lastTransaction` DATETIME NOT NULL,
+                                                                            PRIMARY KEY (`periodId`, `storeId`, `periodStart`),
+                                                                            INDEX `tb_storeRevenueRollup_periodStart_idx` (`periodId` ASC, `periodStart` ASC) VISIBLE)
+    ENGINE = InnoDB;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_systemRevenueRollup`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_systemRevenueRollup` (
+                                                                             `periodId` TINYINT NOT NULL,
+                                                                             `periodStart` DATE NOT NULL,
+                                                                             `revenue` DECIMAL(19,4) NOT NULL,
+                                                                             `transactions` INT NOT NULL,
+                                                                             `lastTransaction` DATETIME NOT NULL,
+                                                                             PRIMARY KEY (`periodId`, `periodStart`))
+    ENGINE = InnoDB;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_reportJob`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_reportJob` (
+                                                                    `pk_reportJobId` VARCHAR(36) NOT NULL,
+                                                                    `owner` VARCHAR(200) NOT NULL,
+                                                                    `reportTypeId` INT NOT NULL,
+                                                                    `format` VARCHAR(10) NOT NULL,
+                                                                    `gzip` TINYINT NOT NULL,
+                                                                    `storeId` INT NULL,
+                                                                    `startDate` DATE NOT NULL,
+                                                                    `endDate` DATE NOT NULL,
+                                                                    `reportJobStatusId` INT NOT NULL,
+                                                                    `totalChunks` INT NOT NULL,
+                                                                    `completedChunks` INT NOT NULL,
+                                                                    `rows` BIGINT NOT NULL,
+                                                                    `fileSize` BIGINT NOT NULL,
+                                                                    `filePath` VARCHAR(500) NULL,
+                                                                    `errorMessage` VARCHAR(500) NULL,
+                                                                    `creationDate` DATETIME NOT NULL,
+                                                                    `lastUpdate` DATETIME NULL,
+                                                                    `finishDate` DATETIME NULL,
+                                                                    PRIMARY KEY (`pk_reportJobId`),
+                                                                    INDEX `tb_reportJob_owner_idx` (`owner` ASC) VISIBLE,
+                                                                    INDEX `tb_reportJob_status_finishDate_idx` (`reportJobStatusId` ASC, `finishDate` ASC) VISIBLE)
+    ENGINE = InnoDB;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_productSalesRollup`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_productSalesRollup` (
+                                                                             `periodId` TINYINT NOT NULL,
+                                                                             `periodStart` DATE NOT NULL,
+                                                                             `productId` INT NOT NULL,
+                                                                             `storeId` INT NOT NULL,
+                                                                             `quantity` BIGINT NOT NULL,
+                                                                             PRIMARY KEY (`periodId`, `periodStart`, `productId`),
+                                                                             INDEX `tb_productSalesRollup_quantity_idx` (`periodId` ASC, `periodStart` ASC, `quantity` DESC) VISIBLE,
+                                                                             INDEX `tb_productSalesRollup_storeId_quantity_idx` (`periodId` ASC, `periodStart` ASC, `storeId` ASC, `quantity` DESC) VISIBLE)
+    ENGINE = InnoDB;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_storeSalesRollup`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_storeSalesRollup` (
+                                                                           `periodId` TINYINT NOT NULL,
+                                                                           `periodStart` DATE NOT NULL,
+                                                                           `storeId` INT NOT NULL,
+                                                                           `quantity` BIGINT NOT NULL,
+                                                                           PRIMARY KEY (`periodId`, `periodStart`, `storeId`),
+                                                                           INDEX `tb_storeSalesRollup_quantity_idx` (`periodId` ASC, `periodStart` ASC, `quantity` DESC) VISIBLE)
+    ENGINE = InnoDB;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_storeDailySketch`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_storeDailySketch` (
+                                                                           `storeId` INT NOT NULL,
+                                                                           `metricId` TINYINT NOT NULL,
+                                                                           `day` DATE NOT NULL,
+                                                                           `sketch` VARBINARY(3073) NOT NULL,
+                                                                           `lastUpdate` DATETIME NOT NULL,
+                                                                           PRIMARY KEY (`storeId`, `metricId`, `day`),
+                                                                           INDEX `tb_storeDailySketch_day_idx` (`day` ASC) VISIBLE)
+    ENGINE = InnoDB;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_rateLimitBucket`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_rateLimitBucket` (
+                                                                           `bucketKey` VARCHAR(255) NOT NULL,
+                                                                           `tokens` DOUBLE NOT NULL,
+                                                                           `capacity` INT NOT NULL,
+                                                                           `refillPerMinute` INT NOT NULL,
+                                                                           `lastRefill` BIGINT NOT NULL,
+                                                                           PRIMARY KEY (`bucketKey`))
+    ENGINE = InnoDB;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_refreshToken`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_refreshToken` (
+                                                                        `pk_refreshTokenId` BIGINT NOT NULL AUTO_INCREMENT,
+                                                                        `tokenHash` CHAR(64) NOT NULL,
+                                                                        `familyId` VARCHAR(36) NOT NULL,
+                                                                        `fk_userId` INT NOT NULL,
+                                                                        `email` VARCHAR(200) NOT NULL,
+                                                                        `roleId` INT NOT NULL,
+                                                                        `creationDate` DATETIME NOT NULL,
+                                                                        `expirationDate` DATETIME NOT NULL,
+                                                                        `usedDate` DATETIME NULL,
+                                                                        `revoked` TINYINT NOT NULL,
+                                                                        PRIMARY KEY (`pk_refreshTokenId`),
+                                                                        UNIQUE INDEX `tb_refreshToken_tokenHash_UNIQUE` (`tokenHash` ASC) VISIBLE,
+                                                                        INDEX `tb_refreshToken_familyId_idx` (`familyId` ASC) VISIBLE,
+                                                                        INDEX `tb_refreshToken_expirationDate_idx` (`expirationDate` ASC) VISIBLE,
+                                                                        INDEX `fk_tb_refreshToken_tb_user1_idx` (`fk_userId` ASC) VISIBLE,
+                                                                        CONSTRAINT `fk_tb_refreshToken_tb_user1`
+                                                                            FOREIGN KEY (`fk_userId`)
+                                                                                REFERENCES `db_e-commerce_system`.`tb_user` (`pk_userId`)
+                                                                                ON DELETE NO ACTION
+                                                                                ON UPDATE NO ACTION)
+    ENGINE = InnoDB;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_revokedToken`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_revokedToken` (
+                                                                        `pk_tokenId` VARCHAR(36) NOT NULL,
+                                                                        `subject` VARCHAR(200) NOT NULL,
+                                                                        `expirationDate` DATETIME NOT NULL,
+                                                                        PRIMARY KEY (`pk_tokenId`),
+                                                                        INDEX `tb_revokedToken_expirationDate_idx` (`expirationDate` ASC) VISIBLE)
+    ENGINE = InnoDB;
+
+
+-- -----------------------------------------------------
+-- Table `db_e-commerce_system`.`tb_revokedUser`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`tb_revokedUser` (
+                                                                       `pk_subject` VARCHAR(200) NOT NULL,
+                                                                       `notBefore` DATETIME NOT NULL,
+                                                                       PRIMARY KEY (`pk_subject`),
+                                                                       INDEX `tb_revokedUser_notBefore_idx` (`notBefore` ASC) VISIBLE)
+    ENGINE = InnoDB;
+
+
 USE `db_e-commerce_system` ;
 
 -- -----------------------------------------------------
@@ -620,10 +1077,11 @@ CREATE TABLE IF NOT EXISTS `db_e-commerce_system`.`vw_storesCountByStatus` (`id`
 DROP TABLE IF EXISTS `db_e-commerce_system`.`vw_systemCashFlowByOrder`;
 USE `db_e-commerce_system`;
 CREATE  OR REPLACE VIEW `vw_systemCashFlowByOrder` AS
-SELECT UUID() AS id , o.pk_orderId AS orderId, s.pk_storeId as storeId, s.name AS storeName, scf.value, scf.timestamp
-FROM tb_order o
-         INNER JOIN tb_systemCashFlow scf ON scf.fk_orderId = o.pk_orderId
-         INNER JOIN tb_store s ON s.pk_storeId = o.fk_storeId
+SELECT UUID() AS id , scf.fk_orderId AS orderId, s.pk_storeId as storeId, s.name AS storeName, scf.value, scf.timestamp
+FROM tb_systemCashFlow scf
+         LEFT JOIN tb_order o ON o.pk_orderId = scf.fk_orderId
+         LEFT JOIN tb_orderArchive oa ON oa.pk_orderId = scf.fk_orderId AND o.pk_orderId IS NULL
+         INNER JOIN tb_store s ON s.pk_storeId = COALESCE(o.fk_storeId, oa.fk_storeId)
 ORDER BY scf.timestamp ASC;
 
 -- -----------------------------------------------------
@@ -644,17 +1102,17 @@ USE `db_e-commerce_system`;
 CREATE  OR REPLACE VIEW `vw_storeCashFlowByOrder` AS
 SELECT
     UUID() AS id,
-    o.fk_storeId AS storeId,
-    o.pk_orderId AS orderId,
+    scf.fk_storeId AS storeId,
+    scf.fk_orderId AS orderId,
     scf.value,
     p.pk_productId AS productId,
     p.name AS productName,
-    po.quantity AS productQuantity,
+    COALESCE(po.quantity, poa.quantity) AS productQuantity,
     scf.timestamp
-FROM tb_order o
-         INNER JOIN tb_product_order po ON po.pk_fk_orderId = o.pk_orderId
-         INNER JOIN tb_product p ON p.pk_productId = po.pk_fk_productId
-         INNER JOIN tb_storeCashFlow scf ON scf.fk_orderId = o.pk_orderId
+FROM tb_storeCashFlow scf
+         LEFT JOIN tb_product_order po ON po.pk_fk_orderId = scf.fk_orderId
+         LEFT JOIN tb_productOrderArchive poa ON poa.pk_fk_orderId = scf.fk_orderId AND po.pk_fk_orderId IS NULL
+         INNER JOIN tb_product p ON p.pk_productId = COALESCE(po.pk_fk_productId, poa.pk_fk_productId)
 ORDER BY scf.timestamp ASC;
 
 -- -----------------------------------------------------
@@ -699,7 +1157,9 @@ SELECT
     COUNT(IF(o.fk_orderStatusId = 2, 1, null)) AS paidOrders,
     COUNT(IF(o.fk_orderStatusId = 3, 1, null)) AS sentOrders,
     COUNT(IF(o.fk_orderStatusId = 4, 1, null)) AS finishedOrders
-FROM tb_order o
+FROM (SELECT pk_orderId, fk_storeId, fk_orderStatusId FROM tb_order
+      UNION ALL
+      SELECT pk_orderId, fk_storeId, fk_orderStatusId FROM tb_orderArchive) o
          INNER JOIN tb_store s ON s.pk_storeId = o.fk_storeId
 GROUP BY s.pk_storeId
 ORDER BY s.pk_storeId ASC;
@@ -3,6 +3,48 @@ INSERT INTO `db_e-commerce_system`.`tb_deliveryservice`
 VALUES
 ('Correios');
 
+INSERT INTO `db_e-commerce_system`.`tb_deliveryzone`
+(`name`)
+VALUES
+('Sudeste'),
+('Sul'),
+('Centro-Oeste'),
+('Nordeste'),
+('Norte');
+
+INSERT INTO `db_e-commerce_system`.`tb_deliveryzoneprefix`
+(`pk_postalCodePrefix`,
+`fk_deliveryZoneId`)
+VALUES
+('0', 1),
+('1', 1),
+('2', 1),
+('3', 1),
+('4', 4),
+('5', 4),
+('6', 4),
+('66', 5),
+('67', 5),
+('68', 5),
+('69', 5),
+('7', 3),
+('76', 5),
+('77', 5),
+('8', 2),
+('9', 2);
+
+INSERT INTO `db_e-commerce_system`.`tb_deliveryrate`
+(`fk_deliveryServiceId`,
+`fk_originZoneId`,
+`fk_destinationZoneId`,
+`price`)
+VALUES
+(1, 1, 1, 10.00), (1, 1, 2, 15.00), (1, 1, 3, 18.00), (1, 1, 4, 22.00), (1, 1, 5, 28.00),
+(1, 2, 1, 15.00), (1, 2, 2, 10.00), (1, 2, 3, 20.00), (1, 2, 4, 26.00), (1, 2, 5, 32.00),
+(1, 3, 1, 18.00), (1, 3, 2, 20.00), (1, 3, 3, 10.00), (1, 3, 4, 20.00), (1, 3, 5, 22.00),
+(1, 4, 1, 22.00), (1, 4, 2, 26.00), (1, 4, 3, 20.00), (1, 4, 4, 10.00), (1, 4, 5, 20.00),
+(1, 5, 1, 28.00), (1, 5, 2, 32.00), (1, 5, 3, 22.00), (1, 5, 4, 20.00), (1, 5, 5, 12.00);
+
 INSERT INTO tb_documentType (name) 
 VALUES 
 	('CPF'),
@@ -604,3 +604,39 @@ VALUES
 (39, 4599.9900, '2020-05-17 19:15:00'),
 (40, 4599.9900, '2020-05-18 19:15:00'),
 (41, 4599.9900, '2020-05-19 19:15:00');
+
+DELETE FROM `db_e-commerce_system`.`tb_reportOrdersByStore`;
+INSERT INTO `db_e-commerce_system`.`tb_reportOrdersByStore` (id, storeId, storeName, orders, receivedOrders, paidOrders, sentOrders, finishedOrders)
+SELECT id, storeId, storeName, orders, receivedOrders, paidOrders, sentOrders, finishedOrders FROM `db_e-commerce_system`.`vw_ordersByStoreAndStatus`;
+
+DELETE FROM `db_e-commerce_system`.`tb_reportProductsByStore`;
+INSERT INTO `db_e-commerce_system`.`tb_reportProductsByStore` (id, storeId, storeName, products, activeProducts)
+SELECT id, storeId, storeName, products, activeProducts FROM `db_e-commerce_system`.`vw_productsByStoreAndStatus`;
+
+DELETE FROM `db_e-commerce_system`.`tb_reportStoresByUser`;
+INSERT INTO `db_e-commerce_system`.`tb_reportStoresByUser` (id, userId, stores, activeStores)
+SELECT id, userId, stores, activeStores FROM `db_e-commerce_system`.`vw_storesByUserAndStatus`;
+
+DELETE FROM `db_e-commerce_system`.`tb_reportStoresCount`;
+INSERT INTO `db_e-commerce_system`.`tb_reportStoresCount` (id, stores, activeStores)
+SELECT id, stores, activeStores FROM `db_e-commerce_system`.`vw_storesCountByStatus`;
+
+DELETE FROM `db_e-commerce_system`.`tb_reportUsersCount`;
+INSERT INTO `db_e-commerce_system`.`tb_reportUsersCount` (id, users, admins, storeAdmins, customers)
+SELECT id, users, admins, storeAdmins, customers FROM `db_e-commerce_system`.`vw_usersCountByRole`;
+
+DELETE FROM `db_e-commerce_system`.`tb_reportStoreCashFlowByOrder`;
+INSERT INTO `db_e-commerce_system`.`tb_reportStoreCashFlowByOrder` (id, storeId, orderId, value, productId, productName, productQuantity, timestamp)
+SELECT id, storeId, orderId, value, productId, productName, productQuantity, timestamp FROM `db_e-commerce_system`.`vw_storeCashFlowByOrder`;
+
+DELETE FROM `db_e-commerce_system`.`tb_reportStoreCashFlowRevenue`;
+INSERT INTO `db_e-commerce_system`.`tb_reportStoreCashFlowRevenue` (id, storeId, revenue, timestamp)
+SELECT id, storeId, revenue, timestamp FROM `db_e-commerce_system`.`vw_storeCashFlowRevenue`;
+
+DELETE FROM `db_e-commerce_system`.`tb_reportSystemCashFlowByOrder`;
+INSERT INTO `db_e-commerce_system`.`tb_reportSystemCashFlowByOrder` (id, orderId, storeId, storeName, value, timestamp)
+SELECT id, orderId, storeId, storeName, value, timestamp FROM `db_e-commerce_system`.`vw_systemCashFlowByOrder`;
+
+DELETE FROM `db_e-commerce_system`.`tb_reportSystemCashFlowRevenue`;
+INSERT INTO `db_e-commerce_system`.`tb_reportSystemCashFlowRevenue` (id, revenue, timestamp)
+SELECT id, revenue, timestamp FROM `db_e-commerce_system`.`vw_systemCashFlowRevenue`;
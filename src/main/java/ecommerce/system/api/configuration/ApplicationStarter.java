@@ -4,10 +4,12 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = { "ecommerce.system.api" })
 @EntityScan(basePackages = "ecommerce.system.api.models")
-@PropertySource("classpath:application.properties")
+@EnableScheduling
+@PropertySource({ "classpath:management.properties", "classpath:application.properties" })
 public class ApplicationStarter {
 
 	public static void main(String[] args) {
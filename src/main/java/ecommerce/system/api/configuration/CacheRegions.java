@@ -0,0 +1,31 @@
+package ecommerce.system.api.configuration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public final class CacheRegions {
+
+    public static final String STORE = "ecommerce.entity.store";
+    public static final String USER = "ecommerce.entity.user";
+    public static final String PAYMENT_METHOD = "ecommerce.entity.paymentMethod";
+    public static final String PRODUCT_TYPE = "ecommerce.entity.productType";
+    public static final String PRODUCT_SUBTYPE = "ecommerce.entity.productSubtype";
+    public static final String PRODUCT_DETAIL_LABEL = "ecommerce.entity.productDetailLabel";
+
+    public static final String STORE_QUERIES = "ecommerce.query.store";
+    public static final String USER_QUERIES = "ecommerce.query.user";
+    public static final String CATALOG_QUERIES = "ecommerce.query.catalog";
+
+    public static final String QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    public static final List<String> ENTITY_REGIONS = Collections.unmodifiableList(Arrays.asList(
+            STORE, USER, PAYMENT_METHOD, PRODUCT_TYPE, PRODUCT_SUBTYPE, PRODUCT_DETAIL_LABEL));
+
+    public static final List<String> QUERY_REGIONS = Collections.unmodifiableList(Arrays.asList(
+            STORE_QUERIES, USER_QUERIES, CATALOG_QUERIES, QUERY_RESULTS));
+
+    private CacheRegions() {
+    }
+}
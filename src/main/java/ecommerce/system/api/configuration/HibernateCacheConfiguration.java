@@ -0,0 +1,36 @@
+package ecommerce.system.api.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+@Configuration
+public class HibernateCacheConfiguration implements HibernatePropertiesCustomizer {
+
+    @Value("${application.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${application.cache.config:ehcache.xml}")
+    private String config;
+
+    @Value("${application.cache.statistics:true}")
+    private boolean statistics;
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+
+        hibernateProperties.put("javax.persistence.sharedCache.mode", this.enabled ? "ENABLE_SELECTIVE" : "NONE");
+        hibernateProperties.put("hibernate.cache.use_second_level_cache", this.enabled);
+        hibernateProperties.put("hibernate.cache.use_query_cache", this.enabled);
+        hibernateProperties.put("hibernate.generate_statistics", this.statistics);
+
+        if (this.enabled) {
+            hibernateProperties.put("hibernate.cache.region.factory_class", "jcache");
+            hibernateProperties.put("hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider");
+            hibernateProperties.put("hibernate.javax.cache.uri", this.config);
+            hibernateProperties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+        }
+    }
+}
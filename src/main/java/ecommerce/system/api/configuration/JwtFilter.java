@@ -3,8 +3,10 @@ package ecommerce.system.api.configuration;
 import ecommerce.system.api.enums.RolesEnum;
 import ecommerce.system.api.exceptions.InvalidTokenException;
 import ecommerce.system.api.models.User;
+import ecommerce.system.api.services.ITokenRevocationService;
 import ecommerce.system.api.services.IUserService;
 import ecommerce.system.api.tools.JwtHandler;
+import io.jsonwebtoken.Claims;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,11 +29,14 @@ import java.util.ArrayList;
 public class JwtFilter extends OncePerRequestFilter {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final ITokenRevocationService tokenRevocationService;
     private final IUserService userService;
     private final JwtHandler jwtHandler;
 
     @Autowired
-    public JwtFilter(IUserService userService, JwtHandler jwtHandler) {
+    public JwtFilter(ITokenRevocationService tokenRevocationService, IUserService userService,
+            JwtHandler jwtHandler) {
+        this.tokenRevocationService = tokenRevocationService;
         this.userService = userService;
         this.jwtHandler = jwtHandler;
     }
@@ -48,9 +53,14 @@ public class JwtFilter extends OncePerRequestFilter {
                 throw new InvalidTokenException("Token inválido ou nulo");
             }
 
-            String email = this.jwtHandler.getTokenSubject(token);
+            Claims claims = this.jwtHandler.getClaims(token);
+            String email = claims.getSubject();
 
-            if (this.jwtHandler.checkToken(email, token)) {
+            if (this.tokenRevocationService.isRevoked(claims.getId(), email, claims.getIssuedAt())) {
+                throw new InvalidTokenException("Token revogado");
+            }
+
+            if (this.jwtHandler.checkClaims(email, claims)) {
 
                 User user = this.userService.getUserByEmail(email);
 
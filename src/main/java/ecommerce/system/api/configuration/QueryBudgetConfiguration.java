@@ -0,0 +1,25 @@
+package ecommerce.system.api.configuration;
+
+import ecommerce.system.api.tools.QueryBudgetGuard;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+@Configuration
+public class QueryBudgetConfiguration implements HibernatePropertiesCustomizer {
+
+    private final QueryBudgetGuard queryBudgetGuard;
+
+    @Autowired
+    public QueryBudgetConfiguration(QueryBudgetGuard queryBudgetGuard) {
+        this.queryBudgetGuard = queryBudgetGuard;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+
+        hibernateProperties.put("hibernate.session_factory.statement_inspector", this.queryBudgetGuard);
+    }
+}
@@ -0,0 +1,30 @@
+package ecommerce.system.api.configuration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static ecommerce.system.api.configuration.QueryBudgetRule.budget;
+
+public final class QueryBudgetPolicy {
+
+    public static final List<QueryBudgetRule> RULES = Collections.unmodifiableList(Arrays.asList(
+            // ORDER
+            budget("GET", "/orders/store/**", 20),
+            budget("GET", "/orders/user/**", 20),
+            budget("GET", "/orders/*", 10),
+            budget("GET", "/orders/summary/**", 10),
+            // PAYMENT METHOD
+            budget("GET", "/paymentmethods/**", 5),
+            // PRODUCT
+            budget("GET", "/products/**", 20),
+            // STORE
+            budget("GET", "/stores/**", 10),
+            // USER
+            budget("GET", "/users/**", 10),
+            // REPORT
+            budget("/reports/**", 100)));
+
+    private QueryBudgetPolicy() {
+    }
+}
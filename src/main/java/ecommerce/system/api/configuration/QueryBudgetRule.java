@@ -0,0 +1,39 @@
+package ecommerce.system.api.configuration;
+
+public class QueryBudgetRule {
+
+    private final String method;
+    private final String pattern;
+    private final int maxStatements;
+
+    private QueryBudgetRule(String method, String pattern, int maxStatements) {
+        this.method = method;
+        this.pattern = pattern;
+        this.maxStatements = maxStatements;
+    }
+
+    public static QueryBudgetRule budget(String pattern, int maxStatements) {
+        return new QueryBudgetRule(null, pattern, maxStatements);
+    }
+
+    public static QueryBudgetRule budget(String method, String pattern, int maxStatements) {
+        return new QueryBudgetRule(method, pattern, maxStatements);
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public int getMaxStatements() {
+        return maxStatements;
+    }
+
+    @Override
+    public String toString() {
+        return (this.method == null ? "*" : this.method) + " " + this.pattern + " -> " + this.maxStatements;
+    }
+}
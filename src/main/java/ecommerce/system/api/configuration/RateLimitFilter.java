@@ -0,0 +1,90 @@
+package ecommerce.system.api.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ecommerce.system.api.dto.BaseResponseDTO;
+import ecommerce.system.api.enums.MessagesEnum;
+import ecommerce.system.api.enums.RateLimitRouteEnum;
+import ecommerce.system.api.tools.RateLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final ObjectMapper objectMapper;
+    private final RateLimiter rateLimiter;
+
+    @Value("${application.rate-limit.trust-forwarded-for:false}")
+    private boolean trustForwardedFor;
+
+    @Autowired
+    public RateLimitFilter(ObjectMapper objectMapper, RateLimiter rateLimiter) {
+        this.objectMapper = objectMapper;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse,
+            FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String pathInfo = httpServletRequest.getPathInfo();
+        String path = pathInfo == null ? httpServletRequest.getServletPath()
+                : httpServletRequest.getServletPath() + pathInfo;
+
+        RateLimitRouteEnum route = this.rateLimiter.getRoute(httpServletRequest.getMethod(), path);
+
+        if (route != null) {
+
+            String ip = this.getClientIp(httpServletRequest);
+            long wait = this.rateLimiter.tryConsumeByIp(route, ip);
+
+            if (wait > 0) {
+
+                logger.warn("Rate limit exceeded on " + route.getName() + " by " + ip);
+
+                BaseResponseDTO<String> response = new BaseResponseDTO<>(false,
+                        MessagesEnum.TOO_MANY_REQUESTS.getMessage(), "");
+
+                httpServletResponse.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                httpServletResponse.setHeader(HttpHeaders.RETRY_AFTER,
+                        String.valueOf(RateLimiter.toRetryAfterSeconds(wait)));
+                httpServletResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                httpServletResponse.setCharacterEncoding("UTF-8");
+                this.objectMapper.writeValue(httpServletResponse.getWriter(), response);
+
+                return;
+            }
+        }
+
+        filterChain.doFilter(httpServletRequest, httpServletResponse);
+    }
+
+    private String getClientIp(HttpServletRequest request) {
+
+        if (this.trustForwardedFor) {
+
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+
+            if (forwardedFor != null && !forwardedFor.isEmpty()) {
+                return forwardedFor.split(",")[0].trim();
+            }
+        }
+
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,126 @@
+package ecommerce.system.api.configuration;
+
+import ecommerce.system.api.tools.RequestQueryContext;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Aspect
+@Component
+public class RepositoryMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean histogram;
+    private final Map<Method, Meters> meters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RepositoryMetricsAspect(MeterRegistry meterRegistry,
+            @Value("${application.metrics.repository-histogram:true}") boolean histogram) {
+        this.meterRegistry = meterRegistry;
+        this.histogram = histogram;
+    }
+
+    @Around("execution(public * ecommerce.system.api.repositories.implementations.*.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Meters meters = this.meters.computeIfAbsent(method,
+                key -> new Meters(key.getDeclaringClass().getSimpleName(), key.getName()));
+
+        RequestQueryContext context = RequestQueryContext.current();
+
+        if (context != null) {
+            context.recordRepositoryCall();
+        }
+
+        long start = System.nanoTime();
+
+        try {
+            Object result = joinPoint.proceed();
+
+            meters.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            long rows = method.getReturnType() == void.class ? -1 : countRows(result);
+
+            if (rows >= 0) {
+                meters.rows.record(rows);
+            }
+
+            return result;
+
+        } catch (Throwable e) {
+
+            meters.error.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            throw e;
+        }
+    }
+
+    static long countRows(Object result) {
+
+        if (result == null) {
+            return 0;
+        }
+
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+
+        if (result instanceof Map) {
+            return ((Map<?, ?>) result).size();
+        }
+
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+
+        // Counts, ids and flags are not rows
+        if (result instanceof Number || result instanceof Boolean) {
+            return -1;
+        }
+
+        return 1;
+    }
+
+    private class Meters {
+        private final Timer success;
+        private final Timer error;
+        private final DistributionSummary rows;
+
+        private Meters(String repository, String method) {
+            this.success = this.timer(repository, method, "success");
+            this.error = this.timer(repository, method, "error");
+            this.rows = DistributionSummary.builder("repository.rows")
+                    .description("Rows returned by repository methods")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .publishPercentileHistogram(histogram)
+                    .register(meterRegistry);
+        }
+
+        private Timer timer(String repository, String method, String outcome) {
+
+            return Timer.builder("repository.invocations")
+                    .description("Repository method latency")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram(histogram)
+                    .register(meterRegistry);
+        }
+    }
+}
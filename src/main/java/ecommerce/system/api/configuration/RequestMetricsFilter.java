@@ -0,0 +1,80 @@
+package ecommerce.system.api.configuration;
+
+import ecommerce.system.api.tools.QueryBudgetGuard;
+import ecommerce.system.api.tools.RequestQueryContext;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@Component
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final QueryBudgetGuard queryBudgetGuard;
+    private final boolean histogram;
+
+    @Autowired
+    public RequestMetricsFilter(MeterRegistry meterRegistry, QueryBudgetGuard queryBudgetGuard,
+            @Value("${application.metrics.repository-histogram:true}") boolean histogram) {
+        this.meterRegistry = meterRegistry;
+        this.queryBudgetGuard = queryBudgetGuard;
+        this.histogram = histogram;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse,
+            FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String method = httpServletRequest.getMethod();
+        String pathInfo = httpServletRequest.getPathInfo();
+        String path = pathInfo == null ? httpServletRequest.getServletPath()
+                : httpServletRequest.getServletPath() + pathInfo;
+
+        RequestQueryContext context = RequestQueryContext.begin(method, path,
+                this.queryBudgetGuard.getBudget(method, path));
+
+        try {
+            filterChain.doFilter(httpServletRequest, httpServletResponse);
+        } finally {
+            RequestQueryContext.end();
+
+            String uri = getUri(httpServletRequest);
+            context.setUri(uri);
+
+            this.summary("http.server.requests.repository.calls", "Repository calls made while serving a request",
+                    method, uri).record(context.getRepositoryCalls());
+            this.summary("http.server.requests.statements", "SQL statements executed while serving a request",
+                    method, uri).record(context.getStatements());
+
+            this.queryBudgetGuard.complete(context);
+        }
+    }
+
+    private DistributionSummary summary(String name, String description, String method, String uri) {
+
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram(this.histogram)
+                .register(this.meterRegistry);
+    }
+
+    static String getUri(HttpServletRequest request) {
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
@@ -0,0 +1,78 @@
+package ecommerce.system.api.configuration;
+
+import ecommerce.system.api.tools.RouteTrie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.List;
+
+@Component("routeAuthorizer")
+public class RouteAuthorizer {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+    private final RouteTrie<RouteRule> routes = new RouteTrie<>();
+    private final List<RouteRule> rules;
+
+    public RouteAuthorizer() {
+        this(RoutePolicy.RULES);
+    }
+
+    public RouteAuthorizer(List<RouteRule> rules) {
+        this.rules = rules;
+
+        for (RouteRule rule : rules) {
+            this.routes.add(rule.getMethod(), rule.getPattern(), rule);
+        }
+
+        logger.info("Route policy compiled with " + this.routes.size() + " rules");
+    }
+
+    public boolean check(Authentication authentication, HttpServletRequest request) {
+
+        RouteRule rule = this.getRule(request.getMethod(), this.getPath(request));
+
+        if (rule != null && rule.isPermitAll()) {
+            return true;
+        }
+
+        if (authentication == null || !authentication.isAuthenticated()
+                || this.trustResolver.isAnonymous(authentication)) {
+            return false;
+        }
+
+        if (rule == null) {
+            return true;
+        }
+
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (rule.isGranted(authority.getAuthority())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public RouteRule getRule(String method, String path) {
+
+        return this.routes.find(method, path);
+    }
+
+    public List<RouteRule> getRules() {
+        return this.rules;
+    }
+
+    private String getPath(HttpServletRequest request) {
+
+        String pathInfo = request.getPathInfo();
+
+        return pathInfo == null ? request.getServletPath() : request.getServletPath() + pathInfo;
+    }
+}
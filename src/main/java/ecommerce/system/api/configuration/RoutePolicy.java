@@ -0,0 +1,89 @@
+package ecommerce.system.api.configuration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static ecommerce.system.api.configuration.RouteRule.hasAnyRole;
+import static ecommerce.system.api.configuration.RouteRule.permitAll;
+import static ecommerce.system.api.enums.RolesEnum.CUSTOMER;
+import static ecommerce.system.api.enums.RolesEnum.STORE_ADMIN;
+import static ecommerce.system.api.enums.RolesEnum.SYSTEM_ADMIN;
+
+public final class RoutePolicy {
+
+    public static final List<RouteRule> RULES = Collections.unmodifiableList(Arrays.asList(
+            // ADDRESS
+            hasAnyRole("/addresses/create", SYSTEM_ADMIN, STORE_ADMIN, CUSTOMER),
+            hasAnyRole("/addresses/user/**", SYSTEM_ADMIN, STORE_ADMIN, CUSTOMER),
+            hasAnyRole("/addresses/update", SYSTEM_ADMIN, STORE_ADMIN, CUSTOMER),
+            hasAnyRole("/addresses/delete", SYSTEM_ADMIN, STORE_ADMIN, CUSTOMER),
+            permitAll("/addresses/**"),
+            // ACTUATOR
+            permitAll("GET", "/actuator/health"),
+            hasAnyRole("/actuator/**", SYSTEM_ADMIN),
+            // AUTHENTICATION
+            permitAll("POST", "/auth/login"),
+            permitAll("POST", "/auth/refresh"),
+            hasAnyRole("/auth/logout", SYSTEM_ADMIN, STORE_ADMIN, CUSTOMER),
+            hasAnyRole("/auth/**", SYSTEM_ADMIN),
+            // ORDER
+            hasAnyRole("/orders/create", SYSTEM_ADMIN, STORE_ADMIN, CUSTOMER),
+            hasAnyRole("/orders/events/**", SYSTEM_ADMIN),
+            hasAnyRole("/orders/archive", SYSTEM_ADMIN),
+            hasAnyRole("/orders/counters/**", SYSTEM_ADMIN),
+            hasAnyRole("/orders/delivery/rates/**", SYSTEM_ADMIN),
+            hasAnyRole("/orders/store/**", SYSTEM_ADMIN, STORE_ADMIN),
+            hasAnyRole("/orders/user/**", SYSTEM_ADMIN, STORE_ADMIN, CUSTOMER),
+            hasAnyRole("/orders/summary/**", SYSTEM_ADMIN, STORE_ADMIN, CUSTOMER),
+            permitAll("/orders/**"),
+            // PAYMENT METHOD
+            permitAll("/paymentmethods/**"),
+            // PRODUCT
+            hasAnyRole("/products/create/**", STORE_ADMIN),
+            hasAnyRole("/products/store/**", SYSTEM_ADMIN, STORE_ADMIN),
+            hasAnyRole("/products/update", STORE_ADMIN),
+            hasAnyRole("/products/delete/**", STORE_ADMIN),
+            permitAll("/products/**"),
+            // REPORT
+            hasAnyRole("/reports/orders", SYSTEM_ADMIN),
+            hasAnyRole("/reports/orders/**", SYSTEM_ADMIN, STORE_ADMIN),
+            hasAnyRole("/reports/products", SYSTEM_ADMIN),
+            hasAnyRole("/reports/products/**", SYSTEM_ADMIN, STORE_ADMIN),
+            hasAnyRole("/reports/stores/cashflow", SYSTEM_ADMIN),
+            hasAnyRole("/reports/stores/cashflow/export", SYSTEM_ADMIN),
+            hasAnyRole("/reports/stores/cashflow/revenue", SYSTEM_ADMIN),
+            hasAnyRole("/reports/stores/cashflow/**", SYSTEM_ADMIN, STORE_ADMIN),
+            hasAnyRole("/reports/stores/metrics/reconciliation", SYSTEM_ADMIN),
+            hasAnyRole("/reports/stores/metrics/**", SYSTEM_ADMIN, STORE_ADMIN),
+            hasAnyRole("/reports/stores/user", SYSTEM_ADMIN),
+            hasAnyRole("/reports/stores/user/**", SYSTEM_ADMIN, STORE_ADMIN),
+            hasAnyRole("/reports/**", SYSTEM_ADMIN),
+            // STORE
+            hasAnyRole("/stores/create/**", STORE_ADMIN),
+            hasAnyRole("/stores/all", SYSTEM_ADMIN),
+            hasAnyRole("/stores/user/**", SYSTEM_ADMIN, STORE_ADMIN),
+            hasAnyRole("/stores/update/**", STORE_ADMIN),
+            hasAnyRole("/stores/delete/**", SYSTEM_ADMIN, STORE_ADMIN),
+            permitAll("/stores/**"),
+            // TELEPHONE
+            hasAnyRole("/telephones/create", SYSTEM_ADMIN, STORE_ADMIN, CUSTOMER),
+            hasAnyRole("/telephones/user/**", SYSTEM_ADMIN, STORE_ADMIN, CUSTOMER),
+            hasAnyRole("/telephones/update", SYSTEM_ADMIN, STORE_ADMIN, CUSTOMER),
+            hasAnyRole("/telephones/delete", SYSTEM_ADMIN, STORE_ADMIN, CUSTOMER),
+            permitAll("/telephone/**"),
+            // TEST
+            permitAll("/test/check"),
+            hasAnyRole("/test/**", SYSTEM_ADMIN),
+            // USER
+            permitAll("POST", "/users/create"),
+            hasAnyRole("/users/create/image/**", SYSTEM_ADMIN, STORE_ADMIN, CUSTOMER),
+            hasAnyRole("/users/profile", SYSTEM_ADMIN, STORE_ADMIN, CUSTOMER),
+            hasAnyRole("/users/update/**", SYSTEM_ADMIN, STORE_ADMIN, CUSTOMER),
+            permitAll("/users/recover/password/**"),
+            hasAnyRole("/users/delete/profile/**", SYSTEM_ADMIN, STORE_ADMIN, CUSTOMER),
+            hasAnyRole("/users/**", SYSTEM_ADMIN)));
+
+    private RoutePolicy() {
+    }
+}
@@ -0,0 +1,62 @@
+package ecommerce.system.api.configuration;
+
+import ecommerce.system.api.enums.RolesEnum;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class RouteRule {
+
+    private final String method;
+    private final String pattern;
+    private final List<String> roles;
+    private final List<String> authorities;
+
+    private RouteRule(String method, String pattern, RolesEnum... roles) {
+        this.method = method;
+        this.pattern = pattern;
+        this.roles = Collections.unmodifiableList(
+                Arrays.stream(roles).map(RolesEnum::getName).collect(Collectors.toList()));
+        this.authorities = this.roles.stream().map(role -> "ROLE_" + role).collect(Collectors.toList());
+    }
+
+    public static RouteRule permitAll(String pattern) {
+        return new RouteRule(null, pattern);
+    }
+
+    public static RouteRule permitAll(String method, String pattern) {
+        return new RouteRule(method, pattern);
+    }
+
+    public static RouteRule hasAnyRole(String pattern, RolesEnum... roles) {
+        return new RouteRule(null, pattern, roles);
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    public boolean isPermitAll() {
+        return this.roles.isEmpty();
+    }
+
+    public boolean isGranted(String authority) {
+        return this.authorities.contains(authority);
+    }
+
+    @Override
+    public String toString() {
+        return (this.method == null ? "*" : this.method) + " " + this.pattern + " -> "
+                + (this.isPermitAll() ? "permitAll" : this.roles);
+    }
+}
@@ -25,10 +25,15 @@ public class SecurityConfiguration extends WebSecurityConfigurerAdapter {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final JwtFilter jwtFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final RequestMetricsFilter requestMetricsFilter;
 
     @Autowired
-    public SecurityConfiguration(JwtFilter jwtFilter) {
+    public SecurityConfiguration(JwtFilter jwtFilter, RateLimitFilter rateLimitFilter,
+            RequestMetricsFilter requestMetricsFilter) {
         this.jwtFilter = jwtFilter;
+        this.rateLimitFilter = rateLimitFilter;
+        this.requestMetricsFilter = requestMetricsFilter;
     }
 
     @Override
@@ -39,69 +44,12 @@ public class SecurityConfiguration extends WebSecurityConfigurerAdapter {
                     .and()
                     .csrf().disable()
                     .authorizeRequests()
-                    // ADDRESS
-                    .antMatchers("/addresses/create").hasAnyRole("system_admin", "store_admin", "customer")
-                    .antMatchers("/addresses/user/**").hasAnyRole("system_admin", "store_admin", "customer")
-                    .antMatchers("/addresses/update").hasAnyRole("system_admin", "store_admin", "customer")
-                    .antMatchers("/addresses/delete").hasAnyRole("system_admin", "store_admin", "customer")
-                    .antMatchers("/addresses/**").permitAll()
-                    // AUTHENTICATION
-                    .antMatchers("/auth/login").permitAll()
-                    .antMatchers("/auth/**").hasAnyRole("system_admin")
-                    // ORDER
-                    .antMatchers("/orders/create").hasAnyRole("system_admin", "store_admin", "customer")
-                    .antMatchers("/orders/store/**").hasAnyRole("system_admin", "store_admin")
-                    .antMatchers("/orders/user/**").hasAnyRole("system_admin", "store_admin", "customer")
-                    .antMatchers("/orders/summary/**").hasAnyRole("system_admin", "store_admin", "customer")
-                    .antMatchers("/orders/**").permitAll()
-                    // PAYMENT METHOD
-                    .antMatchers("/paymentmethods/**").permitAll()
-                    // PRODUCT
-                    .antMatchers("/products/create/**").hasAnyRole("store_admin")
-                    .antMatchers("/products/store/**").hasAnyRole("system_admin", "store_admin")
-                    .antMatchers("/products/update").hasAnyRole("store_admin")
-                    .antMatchers("/products/delete/**").hasAnyRole("store_admin")
-                    .antMatchers("/products/**").permitAll()
-                    // REPORT
-                    .antMatchers("/reports/orders/**").hasAnyRole("system_admin", "store_admin")
-                    .antMatchers("/reports/orders").hasAnyRole("system_admin")
-                    .antMatchers("/reports/products/**").hasAnyRole("system_admin", "store_admin")
-                    .antMatchers("/reports/products").hasAnyRole("system_admin")
-                    .antMatchers("/reports/stores/cashflow/**").hasAnyRole("system_admin", "store_admin")
-                    .antMatchers("/reports/stores/cashflow/revenue/**").hasAnyRole("system_admin", "store_admin")
-                    .antMatchers("/reports/stores/cashflow").hasAnyRole("system_admin")
-                    .antMatchers("/reports/stores/cashflow/revenue").hasAnyRole("system_admin")
-                    .antMatchers("/reports/stores/user/**").hasAnyRole("system_admin", "store_admin")
-                    .antMatchers("/reports/stores/user").hasAnyRole("system_admin")
-                    .antMatchers("/reports/**").hasAnyRole("system_admin")
-                    // STORE
-                    .antMatchers("/stores/create/**").hasAnyRole("store_admin")
-                    .antMatchers("/stores/all").hasAnyRole("system_admin")
-                    .antMatchers("/stores/user/**").hasAnyRole("system_admin", "store_admin")
-                    .antMatchers("/stores/update/**").hasAnyRole("store_admin")
-                    .antMatchers("/stores/delete/**").hasAnyRole("system_admin", "store_admin")
-                    .antMatchers("/stores/**").permitAll()
-                    // TELEPHONE
-                    .antMatchers("/telephones/create").hasAnyRole("system_admin", "store_admin", "customer")
-                    .antMatchers("/telephones/user/**").hasAnyRole("system_admin", "store_admin", "customer")
-                    .antMatchers("/telephones/update").hasAnyRole("system_admin", "store_admin", "customer")
-                    .antMatchers("/telephones/delete").hasAnyRole("system_admin", "store_admin", "customer")
-                    .antMatchers("/telephone/**").permitAll()
-                    // TEST
-                    .antMatchers("/test/check").permitAll()
-                    .antMatchers("/test/**").hasAnyRole("system_admin")
-                    // USER
-                    .antMatchers("/users/create").permitAll()
-                    .antMatchers("/users/create/image/**").hasAnyRole("system_admin", "store_admin", "customer")
-                    .antMatchers("/users/profile").hasAnyRole("system_admin", "store_admin", "customer")
-                    .antMatchers("/users/update/**").hasAnyRole("system_admin", "store_admin", "customer")
-                    .antMatchers("/users/recover/password/**").permitAll()
-                    .antMatchers("/users/delete/profile/**").hasAnyRole("system_admin", "store_admin", "customer")
-                    .antMatchers("/users/**").hasAnyRole("system_admin")
-                    .anyRequest().authenticated()
+                    .anyRequest().access("@routeAuthorizer.check(authentication, request)")
                     .and()
                     .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
 
+            http.addFilterBefore(requestMetricsFilter, UsernamePasswordAuthenticationFilter.class);
+            http.addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class);
             http.addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
 
         } catch (Exception e) {
@@ -1,15 +1,26 @@
 package ecommerce.system.api.configuration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    @Value("${application.async.request-timeout-ms:600000}")
+    private long asyncRequestTimeout;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
 
         registry.addMapping("http://localhost:4200/**");
     }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+
+        configurer.setDefaultTimeout(this.asyncRequestTimeout);
+    }
 }
@@ -0,0 +1,128 @@
+package ecommerce.system.api.controllers;
+
+import ecommerce.system.api.dto.BaseResponseDTO;
+import ecommerce.system.api.dto.CashFlowAggregateDTO;
+import ecommerce.system.api.enums.CashFlowLedgerEnum;
+import ecommerce.system.api.enums.MessagesEnum;
+import ecommerce.system.api.enums.ReportPeriodEnum;
+import ecommerce.system.api.exceptions.InvalidOperationException;
+import ecommerce.system.api.services.IAnalyticsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("reports/analytics")
+public class AnalyticsController {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final IAnalyticsService analyticsService;
+
+    @Autowired
+    public AnalyticsController(IAnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    @GetMapping("cashflow")
+    public ResponseEntity<?> aggregateCashFlow(
+            @RequestParam(value = "ledgerId", defaultValue = "1") int ledgerId,
+            @RequestParam(value = "storeId", required = false) Integer storeId,
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(value = "groupByStore", defaultValue = "false") boolean groupByStore,
+            @RequestParam(value = "periodId", required = false) Integer periodId) {
+
+        BaseResponseDTO<?> response;
+
+        try {
+
+            CashFlowLedgerEnum ledger = CashFlowLedgerEnum.getLedgerById(ledgerId);
+            ReportPeriodEnum period = periodId == null ? null : ReportPeriodEnum.getPeriodById(periodId);
+
+            if (ledger == null || (periodId != null && period == null)) {
+                throw new InvalidOperationException("Parâmetros de consulta inválidos!");
+            }
+
+            List<CashFlowAggregateDTO> aggregates = this.analyticsService.aggregateCashFlow(ledger, storeId,
+                    startDate, endDate, groupByStore, period);
+
+            response = new BaseResponseDTO<>(true, MessagesEnum.SUCCESS.getMessage(), aggregates);
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("status")
+    public ResponseEntity<?> getStatus() {
+
+        BaseResponseDTO<?> response;
+
+        try {
+
+            Map<String, Object> status = this.analyticsService.getStatus();
+
+            response = new BaseResponseDTO<>(true, MessagesEnum.SUCCESS.getMessage(), status);
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PostMapping("reload")
+    public ResponseEntity<?> reloadCashFlowColumns() {
+
+        BaseResponseDTO<?> response;
+
+        try {
+
+            this.analyticsService.loadCashFlowColumns();
+
+            response = new BaseResponseDTO<>(true, MessagesEnum.SUCCESS.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -3,28 +3,48 @@ package ecommerce.system.api.controllers;
 import ecommerce.system.api.enums.MessagesEnum;
 import ecommerce.system.api.dto.BaseResponseDTO;
 import ecommerce.system.api.dto.CredentialsDTO;
+import ecommerce.system.api.dto.RefreshTokenDTO;
 import ecommerce.system.api.dto.TokenDTO;
+import ecommerce.system.api.enums.RateLimitRouteEnum;
 import ecommerce.system.api.services.IAuthenticationService;
+import ecommerce.system.api.services.ITokenRevocationService;
+import ecommerce.system.api.tools.JwtHandler;
+import ecommerce.system.api.tools.RateLimiter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
+import java.util.Map;
+
 @RestController
 @RequestMapping("auth")
 public class AuthenticationController {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final IAuthenticationService authenticationService;
+    private final ITokenRevocationService tokenRevocationService;
+    private final JwtHandler jwtHandler;
+    private final RateLimiter rateLimiter;
 
     @Autowired
-    public AuthenticationController(IAuthenticationService authenticationService) {
+    public AuthenticationController(
+            IAuthenticationService authenticationService,
+            ITokenRevocationService tokenRevocationService,
+            JwtHandler jwtHandler,
+            RateLimiter rateLimiter) {
         this.authenticationService = authenticationService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.jwtHandler = jwtHandler;
+        this.rateLimiter = rateLimiter;
     }
 
     @PostMapping("login")
@@ -33,6 +53,16 @@ public class AuthenticationController {
         BaseResponseDTO<?> response;
 
         try {
+            long wait = this.rateLimiter.tryConsumeByAccount(RateLimitRouteEnum.LOGIN, credentials.getEmail());
+
+            if (wait > 0) {
+                response = new BaseResponseDTO<>(false, MessagesEnum.TOO_MANY_REQUESTS.getMessage(), "");
+
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(RateLimiter.toRetryAfterSeconds(wait)))
+                        .body(response);
+            }
+
             TokenDTO token = this.authenticationService.authenticateUser(credentials);
 
             if (token == null) {
@@ -55,4 +85,74 @@ public class AuthenticationController {
             return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
+
+    @PostMapping("refresh")
+    public ResponseEntity<?> refreshToken(@RequestBody RefreshTokenDTO refreshToken) {
+
+        BaseResponseDTO<?> response;
+
+        try {
+            TokenDTO token = this.authenticationService.refreshToken(refreshToken.getRefreshToken());
+
+            if (token == null) {
+                response = new BaseResponseDTO<>(false, "Sessão expirada. Faça login novamente.", "");
+
+                return new ResponseEntity<>(response, HttpStatus.UNAUTHORIZED);
+            }
+
+            response = new BaseResponseDTO<>(true, "Sessão renovada com sucesso!", token);
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PostMapping("logout")
+    public ResponseEntity<?> logout(HttpServletRequest request,
+            @RequestBody(required = false) RefreshTokenDTO refreshToken) {
+
+        BaseResponseDTO<?> response;
+
+        try {
+            this.authenticationService.logout(this.jwtHandler.getTokenFromRequest(request),
+                    refreshToken == null ? null : refreshToken.getRefreshToken());
+
+            response = new BaseResponseDTO<>(true, "Sessão encerrada com sucesso!", "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("revocations")
+    public ResponseEntity<?> getRevocationStatus() {
+
+        BaseResponseDTO<Map<String, Object>> response = new BaseResponseDTO<>(true,
+                MessagesEnum.SUCCESS.getMessage(), this.tokenRevocationService.getStatus());
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @GetMapping("ratelimits")
+    public ResponseEntity<?> getRateLimitStatus() {
+
+        BaseResponseDTO<Map<String, Object>> response = new BaseResponseDTO<>(true,
+                MessagesEnum.SUCCESS.getMessage(), this.rateLimiter.getStatus());
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
 }
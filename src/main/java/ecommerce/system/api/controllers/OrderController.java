@@ -6,7 +6,10 @@ import ecommerce.system.api.exceptions.InvalidOperationException;
 import ecommerce.system.api.dto.BaseResponseDTO;
 import ecommerce.system.api.models.Delivery;
 import ecommerce.system.api.models.Order;
+import ecommerce.system.api.models.OrderEvent;
 import ecommerce.system.api.services.IDeliveryService;
+import ecommerce.system.api.services.IOrderArchiveService;
+import ecommerce.system.api.services.IOrderEventService;
 import ecommerce.system.api.services.IOrderService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,6 +19,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("orders")
@@ -23,11 +28,16 @@ public class OrderController {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final IDeliveryService deliveryService;
+    private final IOrderArchiveService orderArchiveService;
+    private final IOrderEventService orderEventService;
     private final IOrderService orderService;
 
     @Autowired
-    public OrderController(IDeliveryService deliveryService, IOrderService orderService) {
+    public OrderController(IDeliveryService deliveryService, IOrderArchiveService orderArchiveService,
+            IOrderEventService orderEventService, IOrderService orderService) {
         this.deliveryService = deliveryService;
+        this.orderArchiveService = orderArchiveService;
+        this.orderEventService = orderEventService;
         this.orderService = orderService;
     }
 
@@ -85,14 +95,61 @@ public class OrderController {
         }
     }
 
+    @PostMapping("archive")
+    public ResponseEntity<?> archiveFinishedOrders() {
+
+        BaseResponseDTO<?> response;
+
+        try {
+
+            int archivedOrders = this.orderArchiveService.archiveFinishedOrders();
+
+            response = new BaseResponseDTO<>(true, MessagesEnum.SUCCESS.getMessage(), archivedOrders);
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PostMapping("counters/reconcile")
+    public ResponseEntity<?> reconcileOpenOrderCounters() {
+
+        BaseResponseDTO<?> response;
+
+        try {
+
+            this.orderService.reconcileOpenOrderCounters();
+
+            response = new BaseResponseDTO<>(true, MessagesEnum.SUCCESS.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @GetMapping("store/{storeId}")
-    public ResponseEntity<?> getOrdersByStoreId(@PathVariable("storeId") int storeId) {
+    public ResponseEntity<?> getOrdersByStoreId(@PathVariable("storeId") int storeId,
+            @RequestParam(value = "archived", defaultValue = "false") boolean archived) {
 
         BaseResponseDTO<?> response;
 
         try {
 
-            List<Order> orders = this.orderService.getOrdersByStoreId(storeId);
+            List<Order> orders = this.orderService.getOrdersByStoreId(storeId, archived);
 
             if (orders == null) {
                 response = new BaseResponseDTO<>(false, MessagesEnum.NOT_FOUND.getMessage(), "");
@@ -197,6 +254,65 @@ public class OrderController {
         }
     }
 
+    @GetMapping("events/{orderId}")
+    public ResponseEntity<?> getOrderEvents(@PathVariable("orderId") int orderSummaryId) {
+
+        BaseResponseDTO<?> response;
+
+        try {
+
+            List<OrderEvent> events = this.orderEventService.getEventsByOrderSummaryId(orderSummaryId);
+
+            if (events == null) {
+                response = new BaseResponseDTO<>(false, MessagesEnum.NOT_FOUND.getMessage(), "");
+
+            } else {
+                response = new BaseResponseDTO<>(true, MessagesEnum.SUCCESS.getMessage(), events);
+            }
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PostMapping("events/replay/{projectionName}")
+    public ResponseEntity<?> replayProjection(@PathVariable("projectionName") String projectionName) {
+
+        BaseResponseDTO<?> response;
+
+        try {
+
+            long appliedEvents = this.orderEventService.replayProjection(projectionName);
+
+            response = new BaseResponseDTO<>(true, MessagesEnum.SUCCESS.getMessage(), appliedEvents);
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @PutMapping("update/{orderId}/status/{statusId}")
     public ResponseEntity<?> updateOrderStatus(@PathVariable("orderId") int orderSummaryId,
             @PathVariable("statusId") int orderStatusId) {
@@ -235,6 +351,29 @@ public class OrderController {
         }
     }
 
+    @PostMapping("delivery/rates/reload")
+    public ResponseEntity<?> reloadDeliveryRates() {
+
+        BaseResponseDTO<?> response;
+
+        try {
+
+            this.deliveryService.reloadDeliveryRates();
+
+            response = new BaseResponseDTO<>(true, MessagesEnum.SUCCESS.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @PutMapping("delivery/update/{deliveryId}")
     public ResponseEntity<?> updateDelveryStatus(@PathVariable("deliveryId") int deliveryId,
             @RequestBody boolean status) {
@@ -264,40 +403,56 @@ public class OrderController {
     }
 
     @PutMapping("{orderId}/pay")
-    public ResponseEntity<?> payOrder(@PathVariable("orderId") int orderSummaryId,
+    public CompletableFuture<ResponseEntity<?>> payOrder(@PathVariable("orderId") int orderSummaryId,
             @RequestBody PaymentDTO paymentInfo) {
 
-        BaseResponseDTO<String> response = new BaseResponseDTO<>();
+        CompletableFuture<Void> payment;
 
         try {
 
-            this.orderService.payOrder(orderSummaryId, paymentInfo);
+            payment = this.orderService.payOrder(orderSummaryId, paymentInfo);
 
+        } catch (Exception e) {
+
+            return CompletableFuture.completedFuture(this.paymentFailureResponse(e));
+        }
+
+        return payment.handle((result, throwable) -> {
+
+            if (throwable != null) {
+                return this.paymentFailureResponse(
+                        throwable instanceof CompletionException && throwable.getCause() != null
+                                ? throwable.getCause()
+                                : throwable);
+            }
+
+            BaseResponseDTO<String> response = new BaseResponseDTO<>();
             response.setSuccess(true);
             response.setMessage("Pedido atualizado com sucesso!");
             response.setData("");
 
             return new ResponseEntity<>(response, HttpStatus.OK);
+        });
+    }
 
-        } catch (InvalidOperationException ioe) {
-
-            logger.error(ioe.getMessage());
+    private ResponseEntity<?> paymentFailureResponse(Throwable throwable) {
 
-            response.setSuccess(false);
-            response.setMessage(ioe.getMessage());
-            response.setData("");
+        BaseResponseDTO<String> response = new BaseResponseDTO<>();
 
-            return new ResponseEntity<>(response, HttpStatus.OK);
+        logger.error(throwable.getMessage());
 
-        } catch (Exception e) {
+        response.setSuccess(false);
+        response.setData("");
 
-            logger.error(e.getMessage());
+        if (throwable instanceof InvalidOperationException) {
 
-            response.setSuccess(false);
-            response.setMessage(MessagesEnum.FAILURE.getMessage());
-            response.setData("");
+            response.setMessage(throwable.getMessage());
 
-            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+            return new ResponseEntity<>(response, HttpStatus.OK);
         }
+
+        response.setMessage(MessagesEnum.FAILURE.getMessage());
+
+        return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 }
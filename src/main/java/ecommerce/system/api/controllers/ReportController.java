@@ -1,22 +1,35 @@
 package ecommerce.system.api.controllers;
 
 import ecommerce.system.api.dto.BaseResponseDTO;
+import ecommerce.system.api.dto.BestSellerDTO;
+import ecommerce.system.api.dto.ReportPageDTO;
+import ecommerce.system.api.dto.ReportPageRequestDTO;
 import ecommerce.system.api.enums.MessagesEnum;
+import ecommerce.system.api.enums.ReportExportFormatEnum;
+import ecommerce.system.api.enums.ReportPeriodEnum;
+import ecommerce.system.api.enums.ReportTypeEnum;
+import ecommerce.system.api.exceptions.InvalidOperationException;
 import ecommerce.system.api.models.*;
 import ecommerce.system.api.services.IReportService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("reports")
@@ -31,13 +44,14 @@ public class ReportController {
     }
 
     @GetMapping("orders")
-    public ResponseEntity<?> getOrdersReports() {
+    public ResponseEntity<?> getOrdersReports(@ModelAttribute ReportPageRequestDTO page) {
 
         BaseResponseDTO<?> response;
 
         try {
 
-            List<OrdersByStoreReport> reports = this.reportService.getOrdersReport();
+            ReportPageDTO reports = this.reportService
+                    .getReportPage(ReportTypeEnum.ORDERS, null, null, null, page);
 
             if (reports == null) {
                 response = new BaseResponseDTO<>(false, MessagesEnum.NOT_FOUND.getMessage(), "");
@@ -48,6 +62,14 @@ public class ReportController {
 
             return new ResponseEntity<>(response, HttpStatus.OK);
 
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
         } catch (Exception e) {
 
             logger.error(e.getMessage());
@@ -87,13 +109,14 @@ public class ReportController {
     }
 
     @GetMapping("products")
-    public ResponseEntity<?> getProductsReports() {
+    public ResponseEntity<?> getProductsReports(@ModelAttribute ReportPageRequestDTO page) {
 
         BaseResponseDTO<?> response;
 
         try {
 
-            List<ProductsByStoreReport> reports = this.reportService.getProductsReport();
+            ReportPageDTO reports = this.reportService
+                    .getReportPage(ReportTypeEnum.PRODUCTS, null, null, null, page);
 
             if (reports == null) {
                 response = new BaseResponseDTO<>(false, MessagesEnum.NOT_FOUND.getMessage(), "");
@@ -104,6 +127,14 @@ public class ReportController {
 
             return new ResponseEntity<>(response, HttpStatus.OK);
 
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
         } catch (Exception e) {
 
             logger.error(e.getMessage());
@@ -143,13 +174,14 @@ public class ReportController {
     }
 
     @GetMapping("stores/cashflow")
-    public ResponseEntity<?> getStoreCashFlowReports() {
+    public ResponseEntity<?> getStoreCashFlowReports(@ModelAttribute ReportPageRequestDTO page) {
 
         BaseResponseDTO<?> response;
 
         try {
 
-            List<StoreCashFlowByOrderReport> reports = this.reportService.getStoreCashFlowReport();
+            ReportPageDTO reports = this.reportService
+                    .getReportPage(ReportTypeEnum.STORE_CASH_FLOW, null, null, null, page);
 
             if (reports == null) {
                 response = new BaseResponseDTO<>(false, MessagesEnum.NOT_FOUND.getMessage(), "");
@@ -160,6 +192,14 @@ public class ReportController {
 
             return new ResponseEntity<>(response, HttpStatus.OK);
 
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
         } catch (Exception e) {
 
             logger.error(e.getMessage());
@@ -173,14 +213,15 @@ public class ReportController {
     @GetMapping(value = "stores/cashflow", params = { "startDate", "endDate" })
     public ResponseEntity<?> getStoreCashFlowReportsByDateRange(
             @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @ModelAttribute ReportPageRequestDTO page) {
 
         BaseResponseDTO<?> response;
 
         try {
 
-            List<StoreCashFlowByOrderReport> reports = this.reportService
-                    .getStoreCashFlowReportByDateRange(startDate, endDate);
+            ReportPageDTO reports = this.reportService
+                    .getReportPage(ReportTypeEnum.STORE_CASH_FLOW, null, startDate, endDate, page);
 
             if (reports == null) {
                 response = new BaseResponseDTO<>(false, MessagesEnum.NOT_FOUND.getMessage(), "");
@@ -191,6 +232,14 @@ public class ReportController {
 
             return new ResponseEntity<>(response, HttpStatus.OK);
 
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
         } catch (Exception e) {
 
             logger.error(e.getMessage());
@@ -202,13 +251,15 @@ public class ReportController {
     }
 
     @GetMapping(value = "stores/cashflow", params = "storeId")
-    public ResponseEntity<?> getStoreCashFlowReportsByStoreId(@RequestParam("storeId") int storeId) {
+    public ResponseEntity<?> getStoreCashFlowReportsByStoreId(@RequestParam("storeId") int storeId,
+            @ModelAttribute ReportPageRequestDTO page) {
 
         BaseResponseDTO<?> response;
 
         try {
 
-            List<StoreCashFlowByOrderReport> reports = this.reportService.getStoreCashFlowReportByStoreId(storeId);
+            ReportPageDTO reports = this.reportService
+                    .getReportPage(ReportTypeEnum.STORE_CASH_FLOW, storeId, null, null, page);
 
             if (reports == null) {
                 response = new BaseResponseDTO<>(false, MessagesEnum.NOT_FOUND.getMessage(), "");
@@ -219,6 +270,14 @@ public class ReportController {
 
             return new ResponseEntity<>(response, HttpStatus.OK);
 
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
         } catch (Exception e) {
 
             logger.error(e.getMessage());
@@ -233,14 +292,15 @@ public class ReportController {
     public ResponseEntity<?> getStoreCashFlowReportsByDateRangeAndStoreId(
             @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            @RequestParam("storeId") int storeId) {
+            @RequestParam("storeId") int storeId,
+            @ModelAttribute ReportPageRequestDTO page) {
 
         BaseResponseDTO<?> response;
 
         try {
 
-            List<StoreCashFlowByOrderReport> reports = this.reportService
-                    .getStoreCashFlowReportByStoreIdAndDateRange(storeId, startDate, endDate);
+            ReportPageDTO reports = this.reportService
+                    .getReportPage(ReportTypeEnum.STORE_CASH_FLOW, storeId, startDate, endDate, page);
 
             if (reports == null) {
                 response = new BaseResponseDTO<>(false, MessagesEnum.NOT_FOUND.getMessage(), "");
@@ -251,6 +311,51 @@ public class ReportController {
 
             return new ResponseEntity<>(response, HttpStatus.OK);
 
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("stores/cashflow/export")
+    public ResponseEntity<?> exportStoreCashFlowReport(
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            @RequestParam(value = "storeId", required = false) Integer storeId,
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+
+        BaseResponseDTO<?> response;
+
+        try {
+
+            ReportExportFormatEnum exportFormat = this.getExportFormat(format, startDate, endDate);
+
+            StreamingResponseBody body = (outputStream) -> this.reportService
+                    .exportStoreCashFlowReport(storeId, startDate, endDate, exportFormat, gzip, outputStream);
+
+            return this.exportResponse("store-cashflow", exportFormat, gzip, body);
+
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
         } catch (Exception e) {
 
             logger.error(e.getMessage());
@@ -262,13 +367,14 @@ public class ReportController {
     }
 
     @GetMapping("stores/cashflow/revenue")
-    public ResponseEntity<?> getStoreCashFlowRevenueReports() {
+    public ResponseEntity<?> getStoreCashFlowRevenueReports(@ModelAttribute ReportPageRequestDTO page) {
 
         BaseResponseDTO<?> response;
 
         try {
 
-            List<StoreCashFlowRevenueReport> reports = this.reportService.getStoreCashFlowRevenueReport();
+            ReportPageDTO reports = this.reportService
+                    .getReportPage(ReportTypeEnum.STORE_CASH_FLOW_REVENUE, null, null, null, page);
 
             if (reports == null) {
                 response = new BaseResponseDTO<>(false, MessagesEnum.NOT_FOUND.getMessage(), "");
@@ -279,6 +385,14 @@ public class ReportController {
 
             return new ResponseEntity<>(response, HttpStatus.OK);
 
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
         } catch (Exception e) {
 
             logger.error(e.getMessage());
@@ -292,14 +406,15 @@ public class ReportController {
     @GetMapping(value = "stores/cashflow/revenue", params = { "startDate", "endDate" })
     public ResponseEntity<?> getStoreCashFlowRevenueReportsByDateRange(
             @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @ModelAttribute ReportPageRequestDTO page) {
 
         BaseResponseDTO<?> response;
 
         try {
 
-            List<StoreCashFlowRevenueReport> reports = this.reportService
-                    .getStoreCashFlowRevenueReportByDateRange(startDate, endDate);
+            ReportPageDTO reports = this.reportService
+                    .getReportPage(ReportTypeEnum.STORE_CASH_FLOW_REVENUE, null, startDate, endDate, page);
 
             if (reports == null) {
                 response = new BaseResponseDTO<>(false, MessagesEnum.NOT_FOUND.getMessage(), "");
@@ -310,6 +425,14 @@ public class ReportController {
 
             return new ResponseEntity<>(response, HttpStatus.OK);
 
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
         } catch (Exception e) {
 
             logger.error(e.getMessage());
@@ -321,14 +444,15 @@ public class ReportController {
     }
 
     @GetMapping(value = "stores/cashflow/revenue", params = "storeId")
-    public ResponseEntity<?> getStoreCashFlowRevenueReportsByStoreId(@RequestParam("storeId") int storeId) {
+    public ResponseEntity<?> getStoreCashFlowRevenueReportsByStoreId(@RequestParam("storeId") int storeId,
+            @ModelAttribute ReportPageRequestDTO page) {
 
         BaseResponseDTO<?> response;
 
         try {
 
-            List<StoreCashFlowRevenueReport> reports = this.reportService
-                    .getStoreCashFlowRevenueReportByStoreId(storeId);
+            ReportPageDTO reports = this.reportService
+                    .getReportPage(ReportTypeEnum.STORE_CASH_FLOW_REVENUE, storeId, null, null, page);
 
             if (reports == null) {
                 response = new BaseResponseDTO<>(false, MessagesEnum.NOT_FOUND.getMessage(), "");
@@ -339,6 +463,14 @@ public class ReportController {
 
             return new ResponseEntity<>(response, HttpStatus.OK);
 
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
         } catch (Exception e) {
 
             logger.error(e.getMessage());
@@ -353,14 +485,15 @@ public class ReportController {
     public ResponseEntity<?> getStoreCashFlowRevenueReportsByDateRangeAndStoreId(
             @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            @RequestParam("storeId") int storeId) {
+            @RequestParam("storeId") int storeId,
+            @ModelAttribute ReportPageRequestDTO page) {
 
         BaseResponseDTO<?> response;
 
         try {
 
-            List<StoreCashFlowRevenueReport> reports = this.reportService
-                    .getStoreCashFlowRevenueReportByStoreIdAndDateRange(storeId, startDate, endDate);
+            ReportPageDTO reports = this.reportService
+                    .getReportPage(ReportTypeEnum.STORE_CASH_FLOW_REVENUE, storeId, startDate, endDate, page);
 
             if (reports == null) {
                 response = new BaseResponseDTO<>(false, MessagesEnum.NOT_FOUND.getMessage(), "");
@@ -371,6 +504,14 @@ public class ReportController {
 
             return new ResponseEntity<>(response, HttpStatus.OK);
 
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
         } catch (Exception e) {
 
             logger.error(e.getMessage());
@@ -382,13 +523,14 @@ public class ReportController {
     }
 
     @GetMapping("stores/user")
-    public ResponseEntity<?> getStoresByUserReports() {
+    public ResponseEntity<?> getStoresByUserReports(@ModelAttribute ReportPageRequestDTO page) {
 
         BaseResponseDTO<?> response;
 
         try {
 
-            List<StoresByUserReport> reports = this.reportService.getStoresByUserReport();
+            ReportPageDTO reports = this.reportService
+                    .getReportPage(ReportTypeEnum.STORES_BY_USER, null, null, null, page);
 
             if (reports == null) {
                 response = new BaseResponseDTO<>(false, MessagesEnum.NOT_FOUND.getMessage(), "");
@@ -399,6 +541,14 @@ public class ReportController {
 
             return new ResponseEntity<>(response, HttpStatus.OK);
 
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
         } catch (Exception e) {
 
             logger.error(e.getMessage());
@@ -438,13 +588,14 @@ public class ReportController {
     }
 
     @GetMapping("system/cashflow")
-    public ResponseEntity<?> getSystemCashFlowReports() {
+    public ResponseEntity<?> getSystemCashFlowReports(@ModelAttribute ReportPageRequestDTO page) {
 
         BaseResponseDTO<?> response;
 
         try {
 
-            List<SystemCashFlowByOrderReport> reports = this.reportService.getSystemCashFlowByOrderReport();
+            ReportPageDTO reports = this.reportService
+                    .getReportPage(ReportTypeEnum.SYSTEM_CASH_FLOW, null, null, null, page);
 
             if (reports == null) {
                 response = new BaseResponseDTO<>(false, MessagesEnum.NOT_FOUND.getMessage(), "");
@@ -455,6 +606,14 @@ public class ReportController {
 
             return new ResponseEntity<>(response, HttpStatus.OK);
 
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
         } catch (Exception e) {
 
             logger.error(e.getMessage());
@@ -468,14 +627,15 @@ public class ReportController {
     @GetMapping(value = "system/cashflow", params = { "startDate", "endDate" })
     public ResponseEntity<?> getSystemCashFlowReportsByDateRange(
             @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @ModelAttribute ReportPageRequestDTO page) {
 
         BaseResponseDTO<?> response;
 
         try {
 
-            List<SystemCashFlowByOrderReport> reports = this.reportService
-                    .getSystemCashFlowByOrderReportByDateRange(startDate, endDate);
+            ReportPageDTO reports = this.reportService
+                    .getReportPage(ReportTypeEnum.SYSTEM_CASH_FLOW, null, startDate, endDate, page);
 
             if (reports == null) {
                 response = new BaseResponseDTO<>(false, MessagesEnum.NOT_FOUND.getMessage(), "");
@@ -486,6 +646,50 @@ public class ReportController {
 
             return new ResponseEntity<>(response, HttpStatus.OK);
 
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("system/cashflow/export")
+    public ResponseEntity<?> exportSystemCashFlowReport(
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+
+        BaseResponseDTO<?> response;
+
+        try {
+
+            ReportExportFormatEnum exportFormat = this.getExportFormat(format, startDate, endDate);
+
+            StreamingResponseBody body = (outputStream) -> this.reportService
+                    .exportSystemCashFlowByOrderReport(startDate, endDate, exportFormat, gzip, outputStream);
+
+            return this.exportResponse("system-cashflow", exportFormat, gzip, body);
+
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
         } catch (Exception e) {
 
             logger.error(e.getMessage());
@@ -497,13 +701,14 @@ public class ReportController {
     }
 
     @GetMapping("system/cashflow/revenue")
-    public ResponseEntity<?> getSystemCashFlowRevenueReports() {
+    public ResponseEntity<?> getSystemCashFlowRevenueReports(@ModelAttribute ReportPageRequestDTO page) {
 
         BaseResponseDTO<?> response;
 
         try {
 
-            List<SystemCashFlowRevenueReport> reports = this.reportService.getSystemCashFlowRevenueReport();
+            ReportPageDTO reports = this.reportService
+                    .getReportPage(ReportTypeEnum.SYSTEM_CASH_FLOW_REVENUE, null, null, null, page);
 
             if (reports == null) {
                 response = new BaseResponseDTO<>(false, MessagesEnum.NOT_FOUND.getMessage(), "");
@@ -514,6 +719,14 @@ public class ReportController {
 
             return new ResponseEntity<>(response, HttpStatus.OK);
 
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
         } catch (Exception e) {
 
             logger.error(e.getMessage());
@@ -527,14 +740,15 @@ public class ReportController {
     @GetMapping(value = "system/cashflow/revenue", params = { "startDate", "endDate" })
     public ResponseEntity<?> getSystemCashFlowRevenueReportsByDateRange(
             @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @ModelAttribute ReportPageRequestDTO page) {
 
         BaseResponseDTO<?> response;
 
         try {
 
-            List<SystemCashFlowRevenueReport> reports = this.reportService
-                    .getSystemCashFlowRevenueReportByDateRange(startDate, endDate);
+            ReportPageDTO reports = this.reportService
+                    .getReportPage(ReportTypeEnum.SYSTEM_CASH_FLOW_REVENUE, null, startDate, endDate, page);
 
             if (reports == null) {
                 response = new BaseResponseDTO<>(false, MessagesEnum.NOT_FOUND.getMessage(), "");
@@ -545,6 +759,14 @@ public class ReportController {
 
             return new ResponseEntity<>(response, HttpStatus.OK);
 
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
         } catch (Exception e) {
 
             logger.error(e.getMessage());
@@ -556,13 +778,14 @@ public class ReportController {
     }
 
     @GetMapping("users/count")
-    public ResponseEntity<?> getUsersCountReports() {
+    public ResponseEntity<?> getUsersCountReports(@ModelAttribute ReportPageRequestDTO page) {
 
         BaseResponseDTO<?> response;
 
         try {
 
-            List<UsersCountReport> reports = this.reportService.getUsersCountReport();
+            ReportPageDTO reports = this.reportService
+                    .getReportPage(ReportTypeEnum.USERS_COUNT, null, null, null, page);
 
             if (reports == null) {
                 response = new BaseResponseDTO<>(false, MessagesEnum.NOT_FOUND.getMessage(), "");
@@ -573,6 +796,14 @@ public class ReportController {
 
             return new ResponseEntity<>(response, HttpStatus.OK);
 
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
         } catch (Exception e) {
 
             logger.error(e.getMessage());
@@ -584,13 +815,14 @@ public class ReportController {
     }
 
     @GetMapping("stores/count")
-    public ResponseEntity<?> getStoresCountReports() {
+    public ResponseEntity<?> getStoresCountReports(@ModelAttribute ReportPageRequestDTO page) {
 
         BaseResponseDTO<?> response;
 
         try {
 
-            List<StoresCountReport> reports = this.reportService.getStoresCountReport();
+            ReportPageDTO reports = this.reportService
+                    .getReportPage(ReportTypeEnum.STORES_COUNT, null, null, null, page);
 
             if (reports == null) {
                 response = new BaseResponseDTO<>(false, MessagesEnum.NOT_FOUND.getMessage(), "");
@@ -601,6 +833,145 @@ public class ReportController {
 
             return new ResponseEntity<>(response, HttpStatus.OK);
 
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("bestsellers/products")
+    public ResponseEntity<?> getBestSellingProducts(
+            @RequestParam(value = "periodId", defaultValue = "1") int periodId,
+            @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(value = "storeId", required = false) Integer storeId,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+
+        BaseResponseDTO<?> response;
+
+        try {
+
+            ReportPeriodEnum period = this.getBestSellersPeriod(periodId, date, limit);
+
+            List<BestSellerDTO> products = this.reportService.getBestSellingProducts(period,
+                    date == null ? LocalDate.now() : date, storeId, limit);
+
+            if (products == null) {
+                response = new BaseResponseDTO<>(false, MessagesEnum.NOT_FOUND.getMessage(), "");
+
+            } else {
+                response = new BaseResponseDTO<>(true, MessagesEnum.SUCCESS.getMessage(), products);
+            }
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("bestsellers/stores")
+    public ResponseEntity<?> getBestSellingStores(
+            @RequestParam(value = "periodId", defaultValue = "1") int periodId,
+            @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+
+        BaseResponseDTO<?> response;
+
+        try {
+
+            ReportPeriodEnum period = this.getBestSellersPeriod(periodId, date, limit);
+
+            List<BestSellerDTO> stores = this.reportService.getBestSellingStores(period,
+                    date == null ? LocalDate.now() : date, limit);
+
+            if (stores == null) {
+                response = new BaseResponseDTO<>(false, MessagesEnum.NOT_FOUND.getMessage(), "");
+
+            } else {
+                response = new BaseResponseDTO<>(true, MessagesEnum.SUCCESS.getMessage(), stores);
+            }
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("bestsellers/status")
+    public ResponseEntity<?> getBestSellersStatus() {
+
+        BaseResponseDTO<?> response;
+
+        try {
+
+            Map<String, Object> status = this.reportService.getBestSellersStatus();
+
+            response = new BaseResponseDTO<>(true, MessagesEnum.SUCCESS.getMessage(), status);
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PostMapping("rebuild")
+    public ResponseEntity<?> rebuildReports() {
+
+        BaseResponseDTO<?> response;
+
+        try {
+
+            this.reportService.rebuildReports();
+
+            response = new BaseResponseDTO<>(true, MessagesEnum.SUCCESS.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
         } catch (Exception e) {
 
             logger.error(e.getMessage());
@@ -610,4 +981,66 @@ public class ReportController {
             return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
+
+    @GetMapping("cache")
+    public ResponseEntity<?> getCacheStatistics() {
+
+        BaseResponseDTO<?> response;
+
+        try {
+
+            Map<String, Object> statistics = this.reportService.getCacheStatistics();
+
+            response = new BaseResponseDTO<>(true, MessagesEnum.SUCCESS.getMessage(), statistics);
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private ReportPeriodEnum getBestSellersPeriod(int periodId, LocalDate date, int limit)
+            throws InvalidOperationException {
+
+        ReportPeriodEnum period = ReportPeriodEnum.getPeriodById(periodId);
+
+        if (period == null || limit <= 0 || (date != null && date.isAfter(LocalDate.now()))) {
+            throw new InvalidOperationException("Parâmetros de consulta inválidos!");
+        }
+
+        return period;
+    }
+
+    private ReportExportFormatEnum getExportFormat(String format, LocalDate startDate, LocalDate endDate)
+            throws InvalidOperationException {
+
+        ReportExportFormatEnum exportFormat = ReportExportFormatEnum.getFormatByName(format);
+
+        if (exportFormat == null) {
+            throw new InvalidOperationException("Formato de exportação inválido!");
+        }
+
+        if ((startDate == null) != (endDate == null)) {
+            throw new InvalidOperationException("Informe a data inicial e a data final do período!");
+        }
+
+        return exportFormat;
+    }
+
+    private ResponseEntity<StreamingResponseBody> exportResponse(String name, ReportExportFormatEnum format,
+            boolean gzip, StreamingResponseBody body) {
+
+        String fileName = name + "." + format.getName() + (gzip ? ".gz" : "");
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : format.getContentType()))
+                .body(body);
+    }
 }
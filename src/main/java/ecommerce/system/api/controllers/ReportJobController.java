@@ -0,0 +1,155 @@
+package ecommerce.system.api.controllers;
+
+import ecommerce.system.api.dto.BaseResponseDTO;
+import ecommerce.system.api.enums.MessagesEnum;
+import ecommerce.system.api.exceptions.InvalidOperationException;
+import ecommerce.system.api.models.ReportJob;
+import ecommerce.system.api.services.IReportJobService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.File;
+import java.util.List;
+
+@RestController
+@RequestMapping("reports/jobs")
+public class ReportJobController {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final IReportJobService reportJobService;
+
+    @Autowired
+    public ReportJobController(IReportJobService reportJobService) {
+        this.reportJobService = reportJobService;
+    }
+
+    @PostMapping
+    public ResponseEntity<?> submitJob(@RequestBody ReportJob reportJob) {
+
+        BaseResponseDTO<?> response;
+
+        try {
+
+            String reportJobId = this.reportJobService.submitJob(reportJob);
+
+            response = new BaseResponseDTO<>(true, MessagesEnum.SUCCESS.getMessage(), reportJobId);
+
+            return new ResponseEntity<>(response, HttpStatus.ACCEPTED);
+
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping
+    public ResponseEntity<?> getJobs() {
+
+        BaseResponseDTO<?> response;
+
+        try {
+
+            List<ReportJob> reportJobs = this.reportJobService.getJobsByLoggedUser();
+
+            if (reportJobs == null) {
+                response = new BaseResponseDTO<>(false, MessagesEnum.NOT_FOUND.getMessage(), "");
+
+            } else {
+                response = new BaseResponseDTO<>(true, MessagesEnum.SUCCESS.getMessage(), reportJobs);
+            }
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("{reportJobId}")
+    public ResponseEntity<?> getJobById(@PathVariable("reportJobId") String reportJobId) {
+
+        BaseResponseDTO<?> response;
+
+        try {
+
+            ReportJob reportJob = this.reportJobService.getJobById(reportJobId);
+
+            response = new BaseResponseDTO<>(true, MessagesEnum.SUCCESS.getMessage(), reportJob);
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("{reportJobId}/file")
+    public ResponseEntity<?> getJobResultFile(@PathVariable("reportJobId") String reportJobId) {
+
+        BaseResponseDTO<?> response;
+
+        try {
+
+            File file = this.reportJobService.getJobResultFile(reportJobId);
+
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getName() + "\"")
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .contentLength(file.length())
+                    .body(new FileSystemResource(file));
+
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
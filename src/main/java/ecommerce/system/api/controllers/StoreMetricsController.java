@@ -0,0 +1,127 @@
+package ecommerce.system.api.controllers;
+
+import ecommerce.system.api.dto.BaseResponseDTO;
+import ecommerce.system.api.dto.StoreMetricsDTO;
+import ecommerce.system.api.enums.MessagesEnum;
+import ecommerce.system.api.enums.ReportPeriodEnum;
+import ecommerce.system.api.exceptions.InvalidOperationException;
+import ecommerce.system.api.services.IStoreMetricsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("reports/stores/metrics")
+public class StoreMetricsController {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final IStoreMetricsService storeMetricsService;
+
+    @Autowired
+    public StoreMetricsController(IStoreMetricsService storeMetricsService) {
+        this.storeMetricsService = storeMetricsService;
+    }
+
+    @GetMapping("{storeId}")
+    public ResponseEntity<?> getStoreMetrics(
+            @PathVariable("storeId") int storeId,
+            @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(value = "periodId", required = false) Integer periodId) {
+
+        BaseResponseDTO<?> response;
+
+        try {
+
+            ReportPeriodEnum period = periodId == null ? null : ReportPeriodEnum.getPeriodById(periodId);
+
+            if (periodId != null && period == null) {
+                throw new InvalidOperationException("Parâmetros de consulta inválidos!");
+            }
+
+            List<StoreMetricsDTO> metrics = this.storeMetricsService.getStoreMetrics(storeId, startDate, endDate,
+                    period);
+
+            response = new BaseResponseDTO<>(true, MessagesEnum.SUCCESS.getMessage(), metrics);
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (InvalidOperationException ioe) {
+
+            logger.error(ioe.getMessage());
+
+            response = new BaseResponseDTO<>(false, ioe.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("reconciliation")
+    public ResponseEntity<?> getReconciliationStatus() {
+
+        BaseResponseDTO<?> response;
+
+        try {
+
+            Map<String, Object> status = this.storeMetricsService.getReconciliationStatus();
+
+            response = new BaseResponseDTO<>(true, MessagesEnum.SUCCESS.getMessage(), status);
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PostMapping("reconciliation")
+    public ResponseEntity<?> reconcile(
+            @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+
+        BaseResponseDTO<?> response;
+
+        try {
+
+            Map<String, Object> status = this.storeMetricsService
+                    .reconcile(date == null ? LocalDate.now().minusDays(1) : date);
+
+            response = new BaseResponseDTO<>(true, MessagesEnum.SUCCESS.getMessage(), status);
+
+            return new ResponseEntity<>(response, HttpStatus.OK);
+
+        } catch (Exception e) {
+
+            logger.error(e.getMessage());
+
+            response = new BaseResponseDTO<>(false, MessagesEnum.FAILURE.getMessage(), "");
+
+            return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
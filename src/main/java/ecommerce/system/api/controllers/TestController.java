@@ -1,5 +1,7 @@
 package ecommerce.system.api.controllers;
 
+import ecommerce.system.api.configuration.RouteAuthorizer;
+import ecommerce.system.api.configuration.RouteRule;
 import ecommerce.system.api.enums.MessagesEnum;
 import ecommerce.system.api.enums.NotificationsEnum;
 import ecommerce.system.api.exceptions.InvalidOperationException;
@@ -7,6 +9,7 @@ import ecommerce.system.api.dto.BaseResponseDTO;
 import ecommerce.system.api.models.SimpleMail;
 import ecommerce.system.api.models.User;
 import ecommerce.system.api.services.IFileService;
+import ecommerce.system.api.tools.CacheStatistics;
 import ecommerce.system.api.tools.EmailSender;
 import ecommerce.system.api.tools.NotificationHandler;
 import org.slf4j.Logger;
@@ -21,6 +24,8 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.util.UriUtils;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -29,15 +34,20 @@ import java.util.stream.Collectors;
 public class TestController {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final CacheStatistics cacheStatistics;
     private final EmailSender emailSender;
     private final IFileService fileService;
     private final NotificationHandler notificationHandler;
+    private final RouteAuthorizer routeAuthorizer;
 
     @Autowired
-    public TestController(EmailSender emailSender, IFileService fileService, NotificationHandler notificationHandler) {
+    public TestController(CacheStatistics cacheStatistics, EmailSender emailSender, IFileService fileService,
+            NotificationHandler notificationHandler, RouteAuthorizer routeAuthorizer) {
+        this.cacheStatistics = cacheStatistics;
         this.emailSender = emailSender;
         this.fileService = fileService;
         this.notificationHandler = notificationHandler;
+        this.routeAuthorizer = routeAuthorizer;
 
     }
 
@@ -54,6 +64,24 @@ public class TestController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    @GetMapping("routes")
+    public ResponseEntity<?> getRoutePolicy() {
+
+        BaseResponseDTO<List<RouteRule>> response = new BaseResponseDTO<>(true, MessagesEnum.SUCCESS.getMessage(),
+                this.routeAuthorizer.getRules());
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @GetMapping("cache")
+    public ResponseEntity<?> getCacheStatistics() {
+
+        BaseResponseDTO<Map<String, Object>> response = new BaseResponseDTO<>(true,
+                MessagesEnum.SUCCESS.getMessage(), this.cacheStatistics.getStatus());
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     @GetMapping("check")
     public ResponseEntity<?> checkApplication() {
 
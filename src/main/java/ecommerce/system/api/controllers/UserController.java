@@ -1,14 +1,17 @@
 package ecommerce.system.api.controllers;
 
 import ecommerce.system.api.enums.MessagesEnum;
+import ecommerce.system.api.enums.RateLimitRouteEnum;
 import ecommerce.system.api.exceptions.InvalidOperationException;
 import ecommerce.system.api.exceptions.InvalidTokenException;
 import ecommerce.system.api.dto.BaseResponseDTO;
 import ecommerce.system.api.models.User;
 import ecommerce.system.api.services.IUserService;
+import ecommerce.system.api.tools.RateLimiter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,10 +25,12 @@ public class UserController {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final IUserService userService;
+    private final RateLimiter rateLimiter;
 
     @Autowired
-    public UserController(IUserService userService) {
+    public UserController(IUserService userService, RateLimiter rateLimiter) {
         this.userService = userService;
+        this.rateLimiter = rateLimiter;
     }
 
     @PostMapping("create")
@@ -348,6 +353,19 @@ public class UserController {
 
         try {
 
+            long wait = this.rateLimiter.tryConsumeByAccount(RateLimitRouteEnum.PASSWORD_RECOVERY, email);
+
+            if (wait > 0) {
+
+                response.setSuccess(false);
+                response.setMessage(MessagesEnum.TOO_MANY_REQUESTS.getMessage());
+                response.setData("");
+
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(RateLimiter.toRetryAfterSeconds(wait)))
+                        .body(response);
+            }
+
             boolean result = this.userService.sendPasswordRecoverEmail(email);
             String message = result ? "E-mail para recuperação de senha enviado com sucesso!"
                     : "Nenhum cadastro relacionado a esse e-mail foi encontrado";
@@ -0,0 +1,41 @@
+package ecommerce.system.api.dto;
+
+public class BestSellerDTO {
+
+    private Integer storeId;
+    private Integer productId;
+    private long quantity;
+
+    public BestSellerDTO() {
+    }
+
+    public BestSellerDTO(Integer storeId, Integer productId, long quantity) {
+        this.storeId = storeId;
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+
+    public Integer getStoreId() {
+        return storeId;
+    }
+
+    public void setStoreId(Integer storeId) {
+        this.storeId = storeId;
+    }
+
+    public Integer getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Integer productId) {
+        this.productId = productId;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(long quantity) {
+        this.quantity = quantity;
+    }
+}
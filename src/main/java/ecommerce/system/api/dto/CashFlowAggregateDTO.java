@@ -0,0 +1,59 @@
+package ecommerce.system.api.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import ecommerce.system.api.tools.MoneySerializer;
+
+import java.time.LocalDate;
+
+public class CashFlowAggregateDTO {
+
+    private Integer storeId;
+    private LocalDate periodStart;
+
+    @JsonSerialize(using = MoneySerializer.class)
+    private long value;
+
+    private long transactions;
+
+    public CashFlowAggregateDTO() {
+    }
+
+    public CashFlowAggregateDTO(Integer storeId, LocalDate periodStart, long value, long transactions) {
+        this.storeId = storeId;
+        this.periodStart = periodStart;
+        this.value = value;
+        this.transactions = transactions;
+    }
+
+    public Integer getStoreId() {
+        return storeId;
+    }
+
+    public void setStoreId(Integer storeId) {
+        this.storeId = storeId;
+    }
+
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    public void setPeriodStart(LocalDate periodStart) {
+        this.periodStart = periodStart;
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    public void setValue(long value) {
+        this.value = value;
+    }
+
+    public long getTransactions() {
+        return transactions;
+    }
+
+    public void setTransactions(long transactions) {
+        this.transactions = transactions;
+    }
+}
@@ -1,11 +1,19 @@
 package ecommerce.system.api.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import ecommerce.system.api.tools.MoneyDeserializer;
+import ecommerce.system.api.tools.MoneySerializer;
+
 public class PaymentDTO {
 
     private PaymentMethodDTO paymentMethod;
-    private double value;
 
-    public PaymentDTO(PaymentMethodDTO paymentMethod, double value) {
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private long value;
+
+    public PaymentDTO(PaymentMethodDTO paymentMethod, long value) {
         this.paymentMethod = paymentMethod;
         this.value = value;
     }
@@ -18,11 +26,11 @@ public class PaymentDTO {
         this.paymentMethod = paymentMethod;
     }
 
-    public double getValue() {
+    public long getValue() {
         return value;
     }
 
-    public void setValue(double value) {
+    public void setValue(long value) {
         this.value = value;
     }
 }
@@ -0,0 +1,24 @@
+package ecommerce.system.api.dto;
+
+import javax.validation.constraints.NotNull;
+
+public class RefreshTokenDTO {
+
+    @NotNull
+    private String refreshToken;
+
+    public RefreshTokenDTO() {
+    }
+
+    public RefreshTokenDTO(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
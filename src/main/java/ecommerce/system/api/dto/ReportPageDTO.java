@@ -0,0 +1,53 @@
+package ecommerce.system.api.dto;
+
+import java.util.List;
+
+public class ReportPageDTO {
+
+    private List<?> items;
+    private int limit;
+    private String sort;
+    private String nextCursor;
+
+    public ReportPageDTO() {
+    }
+
+    public ReportPageDTO(List<?> items, int limit, String sort, String nextCursor) {
+        this.items = items;
+        this.limit = limit;
+        this.sort = sort;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<?> getItems() {
+        return items;
+    }
+
+    public void setItems(List<?> items) {
+        this.items = items;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
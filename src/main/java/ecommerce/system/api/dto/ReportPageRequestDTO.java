@@ -0,0 +1,70 @@
+package ecommerce.system.api.dto;
+
+import java.util.List;
+
+public class ReportPageRequestDTO {
+
+    private Integer limit;
+    private String cursor;
+    private String sort;
+    private List<String> fields;
+
+    public ReportPageRequestDTO() {
+    }
+
+    public ReportPageRequestDTO(Integer limit, String cursor, String sort, List<String> fields) {
+        this.limit = limit;
+        this.cursor = cursor;
+        this.sort = sort;
+        this.fields = fields;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+
+    public List<String> getFields() {
+        return fields;
+    }
+
+    public void setFields(List<String> fields) {
+        this.fields = fields;
+    }
+
+    public boolean isDescending() {
+        return this.sort != null && this.sort.startsWith("-");
+    }
+
+    public String getSortField() {
+        return this.isDescending() ? this.sort.substring(1) : this.sort;
+    }
+
+    public boolean isProjected() {
+        return this.fields != null && !this.fields.isEmpty();
+    }
+
+    public String getKey() {
+        return this.limit + "|" + this.sort + "|" + (this.fields == null ? "" : String.join(",", this.fields)) + "|"
+                + (this.cursor == null ? "" : this.cursor);
+    }
+}
@@ -0,0 +1,74 @@
+package ecommerce.system.api.dto;
+
+import java.time.LocalDate;
+
+public class StoreMetricsDTO {
+
+    private int storeId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private long distinctCustomers;
+    private long distinctProducts;
+    private double relativeStandardError;
+
+    public StoreMetricsDTO() {
+    }
+
+    public StoreMetricsDTO(int storeId, LocalDate startDate, LocalDate endDate, long distinctCustomers,
+            long distinctProducts, double relativeStandardError) {
+        this.storeId = storeId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.distinctCustomers = distinctCustomers;
+        this.distinctProducts = distinctProducts;
+        this.relativeStandardError = relativeStandardError;
+    }
+
+    public int getStoreId() {
+        return storeId;
+    }
+
+    public void setStoreId(int storeId) {
+        this.storeId = storeId;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public long getDistinctCustomers() {
+        return distinctCustomers;
+    }
+
+    public void setDistinctCustomers(long distinctCustomers) {
+        this.distinctCustomers = distinctCustomers;
+    }
+
+    public long getDistinctProducts() {
+        return distinctProducts;
+    }
+
+    public void setDistinctProducts(long distinctProducts) {
+        this.distinctProducts = distinctProducts;
+    }
+
+    public double getRelativeStandardError() {
+        return relativeStandardError;
+    }
+
+    public void setRelativeStandardError(double relativeStandardError) {
+        this.relativeStandardError = relativeStandardError;
+    }
+}
@@ -8,6 +8,8 @@ public class TokenDTO {
     private LocalDateTime expiration;
     private int roleId;
     private int userId;
+    private String refreshToken;
+    private LocalDateTime refreshExpiration;
 
     public TokenDTO(String token, LocalDateTime expiration, int roleId, int userId) {
         this.token = token;
@@ -16,6 +18,16 @@ public class TokenDTO {
         this.userId = userId;
     }
 
+    public TokenDTO(String token, LocalDateTime expiration, int roleId, int userId, String refreshToken,
+            LocalDateTime refreshExpiration) {
+        this.token = token;
+        this.expiration = expiration;
+        this.roleId = roleId;
+        this.userId = userId;
+        this.refreshToken = refreshToken;
+        this.refreshExpiration = refreshExpiration;
+    }
+
     public String getToken() {
         return token;
     }
@@ -47,4 +59,20 @@ public class TokenDTO {
     public void setUserId(int userId) {
         this.userId = userId;
     }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    public LocalDateTime getRefreshExpiration() {
+        return refreshExpiration;
+    }
+
+    public void setRefreshExpiration(LocalDateTime refreshExpiration) {
+        this.refreshExpiration = refreshExpiration;
+    }
 }
@@ -0,0 +1,33 @@
+package ecommerce.system.api.enums;
+
+public enum CashFlowLedgerEnum {
+
+    STORE(1, "Fluxo de caixa das lojas"),
+    SYSTEM(2, "Fluxo de caixa do sistema");
+
+    private final int id;
+    private final String name;
+
+    CashFlowLedgerEnum(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public static CashFlowLedgerEnum getLedgerById(int id) {
+        for (CashFlowLedgerEnum e : CashFlowLedgerEnum.values()) {
+            if (e.getId() == id) {
+                return e;
+            }
+        }
+
+        return null;
+    }
+}
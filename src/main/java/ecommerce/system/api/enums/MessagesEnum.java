@@ -4,7 +4,8 @@ public enum MessagesEnum {
     FAILURE("Ocorreu um erro. Tente novamente mais tarde."),
     SUCCESS("Operação concluída com sucesso!"),
     NOT_FOUND("Nenhum resultado encontrado!"),
-    UNALLOWED("Operação não permitida!");
+    UNALLOWED("Operação não permitida!"),
+    TOO_MANY_REQUESTS("Muitas tentativas em pouco tempo. Aguarde e tente novamente.");
 
     private final String message;
 
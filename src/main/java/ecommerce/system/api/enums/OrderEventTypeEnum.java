@@ -0,0 +1,35 @@
+package ecommerce.system.api.enums;
+
+public enum OrderEventTypeEnum {
+    ORDER_CREATED(1, "OrderCreated"),
+    STOCK_RESERVED(2, "StockReserved"),
+    PAID(3, "Paid"),
+    STATUS_CHANGED(4, "StatusChanged"),
+    DELIVERY_UPDATED(5, "DeliveryUpdated");
+
+    private final int id;
+    private final String name;
+
+    OrderEventTypeEnum(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public static OrderEventTypeEnum getEventTypeById(int id) {
+        for (OrderEventTypeEnum e : OrderEventTypeEnum.values()) {
+            if (e.getId() == id) {
+                return e;
+            }
+        }
+
+        return null;
+    }
+}
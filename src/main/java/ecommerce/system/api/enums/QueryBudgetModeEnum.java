@@ -0,0 +1,34 @@
+package ecommerce.system.api.enums;
+
+public enum QueryBudgetModeEnum {
+
+    OFF(1, "off"),
+    LOG(2, "log"),
+    FAIL(3, "fail");
+
+    private final int id;
+    private final String name;
+
+    QueryBudgetModeEnum(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public static QueryBudgetModeEnum getModeByName(String name) {
+        for (QueryBudgetModeEnum e : QueryBudgetModeEnum.values()) {
+            if (e.getName().equalsIgnoreCase(name)) {
+                return e;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,33 @@
+package ecommerce.system.api.enums;
+
+public enum RateLimitModeEnum {
+
+    LOCAL(1, "local"),
+    SHARED(2, "shared");
+
+    private final int id;
+    private final String name;
+
+    RateLimitModeEnum(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public static RateLimitModeEnum getModeByName(String name) {
+        for (RateLimitModeEnum e : RateLimitModeEnum.values()) {
+            if (e.getName().equalsIgnoreCase(name)) {
+                return e;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,71 @@
+package ecommerce.system.api.enums;
+
+public enum RateLimitRouteEnum {
+
+    LOGIN(1, "login", "POST", "/auth/login", 20, 10, 5, 5),
+    PASSWORD_RECOVERY(2, "password-recovery", "POST", "/users/recover/password/mail", 5, 2, 3, 1),
+    PRODUCT_SEARCH(3, "product-search", "GET", "/products/search", 60, 60, 0, 0);
+
+    private final int id;
+    private final String name;
+    private final String method;
+    private final String pattern;
+    private final int ipCapacity;
+    private final int ipRefillPerMinute;
+    private final int accountCapacity;
+    private final int accountRefillPerMinute;
+
+    RateLimitRouteEnum(int id, String name, String method, String pattern, int ipCapacity, int ipRefillPerMinute,
+            int accountCapacity, int accountRefillPerMinute) {
+        this.id = id;
+        this.name = name;
+        this.method = method;
+        this.pattern = pattern;
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPerMinute = ipRefillPerMinute;
+        this.accountCapacity = accountCapacity;
+        this.accountRefillPerMinute = accountRefillPerMinute;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public int getIpCapacity() {
+        return ipCapacity;
+    }
+
+    public int getIpRefillPerMinute() {
+        return ipRefillPerMinute;
+    }
+
+    public int getAccountCapacity() {
+        return accountCapacity;
+    }
+
+    public int getAccountRefillPerMinute() {
+        return accountRefillPerMinute;
+    }
+
+    public static RateLimitRouteEnum getRouteByName(String name) {
+        for (RateLimitRouteEnum e : RateLimitRouteEnum.values()) {
+            if (e.getName().equalsIgnoreCase(name)) {
+                return e;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,33 @@
+package ecommerce.system.api.enums;
+
+public enum ReportExecutionModeEnum {
+
+    SERIAL(1, "serial"),
+    PARALLEL(2, "parallel");
+
+    private final int id;
+    private final String name;
+
+    ReportExecutionModeEnum(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public static ReportExecutionModeEnum getModeByName(String name) {
+        for (ReportExecutionModeEnum e : ReportExecutionModeEnum.values()) {
+            if (e.getName().equalsIgnoreCase(name)) {
+                return e;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,39 @@
+package ecommerce.system.api.enums;
+
+public enum ReportExportFormatEnum {
+
+    CSV(1, "csv", "text/csv"),
+    NDJSON(2, "ndjson", "application/x-ndjson");
+
+    private final int id;
+    private final String name;
+    private final String contentType;
+
+    ReportExportFormatEnum(int id, String name, String contentType) {
+        this.id = id;
+        this.name = name;
+        this.contentType = contentType;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public static ReportExportFormatEnum getFormatByName(String name) {
+        for (ReportExportFormatEnum e : ReportExportFormatEnum.values()) {
+            if (e.getName().equalsIgnoreCase(name)) {
+                return e;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,36 @@
+package ecommerce.system.api.enums;
+
+public enum ReportJobStatusEnum {
+
+    QUEUED(1, "Na fila"),
+    RUNNING(2, "Em execução"),
+    COMPLETED(3, "Concluído"),
+    FAILED(4, "Falhou"),
+    EXPIRED(5, "Expirado");
+
+    private final int id;
+    private final String name;
+
+    ReportJobStatusEnum(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public static String getStatusNameById(int id) {
+        for (ReportJobStatusEnum e : ReportJobStatusEnum.values()) {
+            if (e.getId() == id) {
+                return e.getName();
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,59 @@
+package ecommerce.system.api.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+public enum ReportPeriodEnum {
+
+    DAY(1, "Dia"),
+    WEEK(2, "Semana"),
+    MONTH(3, "Mês");
+
+    private final int id;
+    private final String name;
+
+    ReportPeriodEnum(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LocalDate getPeriodStart(LocalDate date) {
+        switch (this) {
+            case WEEK:
+                return date.minusDays(date.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue());
+            case MONTH:
+                return date.withDayOfMonth(1);
+            default:
+                return date;
+        }
+    }
+
+    public LocalDate getNextPeriodStart(LocalDate periodStart) {
+        switch (this) {
+            case WEEK:
+                return periodStart.plusWeeks(1);
+            case MONTH:
+                return periodStart.plusMonths(1);
+            default:
+                return periodStart.plusDays(1);
+        }
+    }
+
+    public static ReportPeriodEnum getPeriodById(int id) {
+        for (ReportPeriodEnum e : ReportPeriodEnum.values()) {
+            if (e.getId() == id) {
+                return e;
+            }
+        }
+
+        return null;
+    }
+}
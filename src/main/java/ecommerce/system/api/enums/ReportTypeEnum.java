@@ -0,0 +1,42 @@
+package ecommerce.system.api.enums;
+
+public enum ReportTypeEnum {
+
+    ORDERS(1, "Pedidos por loja"),
+    PRODUCTS(2, "Produtos por loja"),
+    STORE_CASH_FLOW(3, "Fluxo de caixa das lojas"),
+    STORE_CASH_FLOW_REVENUE(4, "Faturamento das lojas"),
+    STORES_BY_USER(5, "Lojas por usuário"),
+    SYSTEM_CASH_FLOW(6, "Fluxo de caixa do sistema"),
+    SYSTEM_CASH_FLOW_REVENUE(7, "Faturamento do sistema"),
+    USERS_COUNT(8, "Quantidade de usuários"),
+    STORES_COUNT(9, "Quantidade de lojas"),
+    BEST_SELLING_PRODUCTS(10, "Produtos mais vendidos"),
+    BEST_SELLING_STORES(11, "Lojas com mais vendas");
+
+    private final int id;
+    private final String name;
+
+    ReportTypeEnum(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public static ReportTypeEnum getReportTypeById(int id) {
+        for (ReportTypeEnum e : ReportTypeEnum.values()) {
+            if (e.getId() == id) {
+                return e;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,33 @@
+package ecommerce.system.api.enums;
+
+public enum StoreMetricEnum {
+
+    DISTINCT_CUSTOMERS(1, "Clientes únicos"),
+    DISTINCT_PRODUCTS(2, "Produtos vendidos distintos");
+
+    private final int id;
+    private final String name;
+
+    StoreMetricEnum(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public static StoreMetricEnum getMetricById(int id) {
+        for (StoreMetricEnum e : StoreMetricEnum.values()) {
+            if (e.getId() == id) {
+                return e;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,8 @@
+package ecommerce.system.api.exceptions;
+
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,13 @@
 package ecommerce.system.api.models;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import ecommerce.system.api.tools.MoneyConverter;
+import ecommerce.system.api.tools.MoneyDeserializer;
+import ecommerce.system.api.tools.MoneySerializer;
+
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
@@ -37,7 +44,10 @@ public class Delivery {
     private int receiverAddressId;
 
     @Column(name = "price")
-    private double price;
+    @Convert(converter = MoneyConverter.class)
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private long price;
 
     @Column(name = "isSuccess")
     private boolean success;
@@ -52,7 +62,7 @@ public class Delivery {
     }
 
     public Delivery(int deliveryId, int deliveryServiceId, int orderId, int senderAddressId, int receiverAddressId,
-            double price, boolean success) {
+            long price, boolean success) {
         this.deliveryId = deliveryId;
         this.deliveryServiceId = deliveryServiceId;
         this.orderId = orderId;
@@ -102,11 +112,11 @@ public class Delivery {
         this.receiverAddress = receiverAddress;
     }
 
-    public double getPrice() {
+    public long getPrice() {
         return price;
     }
 
-    public void setPrice(double price) {
+    public void setPrice(long price) {
         this.price = price;
     }
 
@@ -0,0 +1,90 @@
+package ecommerce.system.api.models;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import ecommerce.system.api.tools.MoneyConverter;
+import ecommerce.system.api.tools.MoneyDeserializer;
+import ecommerce.system.api.tools.MoneySerializer;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+@Entity(name = "DeliveryRate")
+@Table(name = "tb_deliveryRate")
+public class DeliveryRate {
+
+    @Id
+    @Column(name = "pk_deliveryRateId")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int deliveryRateId;
+
+    @Column(name = "fk_deliveryServiceId")
+    private int deliveryServiceId;
+
+    @Column(name = "fk_originZoneId")
+    private int originZoneId;
+
+    @Column(name = "fk_destinationZoneId")
+    private int destinationZoneId;
+
+    @Column(name = "price")
+    @Convert(converter = MoneyConverter.class)
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private long price;
+
+    public DeliveryRate() {
+    }
+
+    public DeliveryRate(int deliveryServiceId, int originZoneId, int destinationZoneId, long price) {
+        this.deliveryServiceId = deliveryServiceId;
+        this.originZoneId = originZoneId;
+        this.destinationZoneId = destinationZoneId;
+        this.price = price;
+    }
+
+    public int getDeliveryRateId() {
+        return deliveryRateId;
+    }
+
+    public void setDeliveryRateId(int deliveryRateId) {
+        this.deliveryRateId = deliveryRateId;
+    }
+
+    public int getDeliveryServiceId() {
+        return deliveryServiceId;
+    }
+
+    public void setDeliveryServiceId(int deliveryServiceId) {
+        this.deliveryServiceId = deliveryServiceId;
+    }
+
+    public int getOriginZoneId() {
+        return originZoneId;
+    }
+
+    public void setOriginZoneId(int originZoneId) {
+        this.originZoneId = originZoneId;
+    }
+
+    public int getDestinationZoneId() {
+        return destinationZoneId;
+    }
+
+    public void setDestinationZoneId(int destinationZoneId) {
+        this.destinationZoneId = destinationZoneId;
+    }
+
+    public long getPrice() {
+        return price;
+    }
+
+    public void setPrice(long price) {
+        this.price = price;
+    }
+}
@@ -0,0 +1,42 @@
+package ecommerce.system.api.models;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+@Entity(name = "DeliveryZonePrefix")
+@Table(name = "tb_deliveryZonePrefix")
+public class DeliveryZonePrefix {
+
+    @Id
+    @Column(name = "pk_postalCodePrefix")
+    private String postalCodePrefix;
+
+    @Column(name = "fk_deliveryZoneId")
+    private int deliveryZoneId;
+
+    public DeliveryZonePrefix() {
+    }
+
+    public DeliveryZonePrefix(String postalCodePrefix, int deliveryZoneId) {
+        this.postalCodePrefix = postalCodePrefix;
+        this.deliveryZoneId = deliveryZoneId;
+    }
+
+    public String getPostalCodePrefix() {
+        return postalCodePrefix;
+    }
+
+    public void setPostalCodePrefix(String postalCodePrefix) {
+        this.postalCodePrefix = postalCodePrefix;
+    }
+
+    public int getDeliveryZoneId() {
+        return deliveryZoneId;
+    }
+
+    public void setDeliveryZoneId(int deliveryZoneId) {
+        this.deliveryZoneId = deliveryZoneId;
+    }
+}
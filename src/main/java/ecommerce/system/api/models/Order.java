@@ -2,13 +2,19 @@ package ecommerce.system.api.models;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import ecommerce.system.api.dto.OrderItemDTO;
 import ecommerce.system.api.dto.PaymentMethodDTO;
+import ecommerce.system.api.tools.MoneyConverter;
+import ecommerce.system.api.tools.MoneyDeserializer;
+import ecommerce.system.api.tools.MoneySerializer;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
@@ -42,7 +48,10 @@ public class Order {
 
     @Column(name = "totalPrice")
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
-    private double totalPrice;
+    @Convert(converter = MoneyConverter.class)
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private long totalPrice;
 
     @Column(name = "totalDiscountPercentage")
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
@@ -50,7 +59,10 @@ public class Order {
 
     @Column(name = "finalPrice")
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
-    private double finalPrice;
+    @Convert(converter = MoneyConverter.class)
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private long finalPrice;
 
     @Transient
     private int installment;
@@ -78,11 +90,15 @@ public class Order {
     @Transient
     private PaymentMethodDTO paymentMethod;
 
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Transient
+    private boolean archived;
+
     public Order() {
     }
 
-    public Order(int orderSummaryIdId, int userId, int paymentMethodId, double totalPrice,
-            double totalDiscountPercentage, double finalPrice, int installment, LocalDateTime creationDate,
+    public Order(int orderSummaryIdId, int userId, int paymentMethodId, long totalPrice,
+            double totalDiscountPercentage, long finalPrice, int installment, LocalDateTime creationDate,
             LocalDateTime lastUpdate, int orderStatusId) {
         this.orderSummaryId = orderSummaryIdId;
         this.userId = userId;
@@ -96,8 +112,8 @@ public class Order {
         this.orderStatusId = orderStatusId;
     }
 
-    public Order(int orderId, int orderSummaryId, int storeId, double totalPrice, double totalDiscountPercentage,
-            double finalPrice, LocalDateTime creationDate, LocalDateTime lastUpdate, int orderStatusId) {
+    public Order(int orderId, int orderSummaryId, int storeId, long totalPrice, double totalDiscountPercentage,
+            long finalPrice, LocalDateTime creationDate, LocalDateTime lastUpdate, int orderStatusId) {
         this.orderId = orderId;
         this.orderSummaryId = orderSummaryId;
         this.storeId = storeId;
@@ -137,6 +153,33 @@ public class Order {
         this.orderStatusId = orderSummary.getOrderStatusId();
     }
 
+    public Order(OrderArchive orderArchive) {
+        this.orderId = orderArchive.getOrderId();
+        this.orderSummaryId = orderArchive.getOrderSummaryId();
+        this.storeId = orderArchive.getStoreId();
+        this.totalPrice = orderArchive.getTotalPrice();
+        this.totalDiscountPercentage = orderArchive.getTotalDiscountPercentage();
+        this.finalPrice = orderArchive.getFinalPrice();
+        this.creationDate = orderArchive.getCreationDate();
+        this.lastUpdate = orderArchive.getLastUpdate();
+        this.orderStatusId = orderArchive.getOrderStatusId();
+        this.archived = true;
+    }
+
+    public Order(OrderSummaryArchive orderSummaryArchive) {
+        this.orderSummaryId = orderSummaryArchive.getOrderSummaryId();
+        this.userId = orderSummaryArchive.getUserId();
+        this.paymentMethodId = orderSummaryArchive.getPaymentMethodId();
+        this.totalPrice = orderSummaryArchive.getTotalPrice();
+        this.totalDiscountPercentage = orderSummaryArchive.getTotalDiscountPercentage();
+        this.finalPrice = orderSummaryArchive.getFinalPrice();
+        this.installment = orderSummaryArchive.getInstallment();
+        this.creationDate = orderSummaryArchive.getCreationDate();
+        this.lastUpdate = orderSummaryArchive.getLastUpdate();
+        this.orderStatusId = orderSummaryArchive.getOrderStatusId();
+        this.archived = true;
+    }
+
     public int getOrderId() {
         return orderId;
     }
@@ -177,11 +220,11 @@ public class Order {
         this.paymentMethodId = paymentMethodId;
     }
 
-    public double getTotalPrice() {
+    public long getTotalPrice() {
         return totalPrice;
     }
 
-    public void setTotalPrice(double totalPrice) {
+    public void setTotalPrice(long totalPrice) {
         this.totalPrice = totalPrice;
     }
 
@@ -193,11 +236,11 @@ public class Order {
         this.totalDiscountPercentage = totalDiscountPercentage;
     }
 
-    public double getFinalPrice() {
+    public long getFinalPrice() {
         return finalPrice;
     }
 
-    public void setFinalPrice(double finalPrice) {
+    public void setFinalPrice(long finalPrice) {
         this.finalPrice = finalPrice;
     }
 
@@ -256,4 +299,12 @@ public class Order {
     public void setPaymentMethod(PaymentMethodDTO paymentMethod) {
         this.paymentMethod = paymentMethod;
     }
+
+    public boolean isArchived() {
+        return archived;
+    }
+
+    public void setArchived(boolean archived) {
+        this.archived = archived;
+    }
 }
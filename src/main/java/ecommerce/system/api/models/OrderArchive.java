@@ -0,0 +1,143 @@
+package ecommerce.system.api.models;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import ecommerce.system.api.tools.MoneyConverter;
+import ecommerce.system.api.tools.MoneyDeserializer;
+import ecommerce.system.api.tools.MoneySerializer;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.Immutable;
+
+@Entity(name = "OrderArchive")
+@Immutable
+@Table(name = "tb_orderArchive")
+public class OrderArchive {
+
+    @Id
+    @Column(name = "pk_orderId")
+    private int orderId;
+
+    @Column(name = "fk_orderSummaryId")
+    private int orderSummaryId;
+
+    @Column(name = "fk_storeId")
+    private int storeId;
+
+    @Column(name = "totalPrice")
+    @Convert(converter = MoneyConverter.class)
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private long totalPrice;
+
+    @Column(name = "totalDiscountPercentage")
+    private double totalDiscountPercentage;
+
+    @Column(name = "finalPrice")
+    @Convert(converter = MoneyConverter.class)
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private long finalPrice;
+
+    @Column(name = "creationDate")
+    private LocalDateTime creationDate;
+
+    @Column(name = "lastUpdate")
+    private LocalDateTime lastUpdate;
+
+    @Column(name = "fk_orderStatusId")
+    private int orderStatusId;
+
+    @Column(name = "archiveDate")
+    private LocalDateTime archiveDate;
+
+    public OrderArchive() {
+    }
+
+    public int getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(int orderId) {
+        this.orderId = orderId;
+    }
+
+    public int getOrderSummaryId() {
+        return orderSummaryId;
+    }
+
+    public void setOrderSummaryId(int orderSummaryId) {
+        this.orderSummaryId = orderSummaryId;
+    }
+
+    public int getStoreId() {
+        return storeId;
+    }
+
+    public void setStoreId(int storeId) {
+        this.storeId = storeId;
+    }
+
+    public long getTotalPrice() {
+        return totalPrice;
+    }
+
+    public void setTotalPrice(long totalPrice) {
+        this.totalPrice = totalPrice;
+    }
+
+    public double getTotalDiscountPercentage() {
+        return totalDiscountPercentage;
+    }
+
+    public void setTotalDiscountPercentage(double totalDiscountPercentage) {
+        this.totalDiscountPercentage = totalDiscountPercentage;
+    }
+
+    public long getFinalPrice() {
+        return finalPrice;
+    }
+
+    public void setFinalPrice(long finalPrice) {
+        this.finalPrice = finalPrice;
+    }
+
+    public LocalDateTime getCreationDate() {
+        return creationDate;
+    }
+
+    public void setCreationDate(LocalDateTime creationDate) {
+        this.creationDate = creationDate;
+    }
+
+    public LocalDateTime getLastUpdate() {
+        return lastUpdate;
+    }
+
+    public void setLastUpdate(LocalDateTime lastUpdate) {
+        this.lastUpdate = lastUpdate;
+    }
+
+    public int getOrderStatusId() {
+        return orderStatusId;
+    }
+
+    public void setOrderStatusId(int orderStatusId) {
+        this.orderStatusId = orderStatusId;
+    }
+
+    public LocalDateTime getArchiveDate() {
+        return archiveDate;
+    }
+
+    public void setArchiveDate(LocalDateTime archiveDate) {
+        this.archiveDate = archiveDate;
+    }
+}
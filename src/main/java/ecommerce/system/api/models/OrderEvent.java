@@ -0,0 +1,94 @@
+package ecommerce.system.api.models;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+@Entity(name = "OrderEvent")
+@Table(name = "tb_orderEvent")
+public class OrderEvent {
+
+    @Id
+    @Column(name = "pk_orderEventId")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long orderEventId;
+
+    @Column(name = "eventTypeId")
+    private int eventTypeId;
+
+    @Column(name = "orderSummaryId")
+    private int orderSummaryId;
+
+    @Column(name = "orderId")
+    private int orderId;
+
+    @Column(name = "payload")
+    private String payload;
+
+    @Column(name = "timestamp")
+    private LocalDateTime timestamp;
+
+    public OrderEvent() {
+    }
+
+    public OrderEvent(int eventTypeId, int orderSummaryId, int orderId, String payload, LocalDateTime timestamp) {
+        this.eventTypeId = eventTypeId;
+        this.orderSummaryId = orderSummaryId;
+        this.orderId = orderId;
+        this.payload = payload;
+        this.timestamp = timestamp;
+    }
+
+    public long getOrderEventId() {
+        return orderEventId;
+    }
+
+    public void setOrderEventId(long orderEventId) {
+        this.orderEventId = orderEventId;
+    }
+
+    public int getEventTypeId() {
+        return eventTypeId;
+    }
+
+    public void setEventTypeId(int eventTypeId) {
+        this.eventTypeId = eventTypeId;
+    }
+
+    public int getOrderSummaryId() {
+        return orderSummaryId;
+    }
+
+    public void setOrderSummaryId(int orderSummaryId) {
+        this.orderSummaryId = orderSummaryId;
+    }
+
+    public int getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(int orderId) {
+        this.orderId = orderId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+}
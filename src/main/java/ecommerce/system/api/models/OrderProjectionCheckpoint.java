@@ -0,0 +1,56 @@
+package ecommerce.system.api.models;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+@Entity(name = "OrderProjectionCheckpoint")
+@Table(name = "tb_orderProjectionCheckpoint")
+public class OrderProjectionCheckpoint {
+
+    @Id
+    @Column(name = "pk_projectionName")
+    private String projectionName;
+
+    @Column(name = "lastEventId")
+    private long lastEventId;
+
+    @Column(name = "lastUpdate")
+    private LocalDateTime lastUpdate;
+
+    public OrderProjectionCheckpoint() {
+    }
+
+    public OrderProjectionCheckpoint(String projectionName, long lastEventId, LocalDateTime lastUpdate) {
+        this.projectionName = projectionName;
+        this.lastEventId = lastEventId;
+        this.lastUpdate = lastUpdate;
+    }
+
+    public String getProjectionName() {
+        return projectionName;
+    }
+
+    public void setProjectionName(String projectionName) {
+        this.projectionName = projectionName;
+    }
+
+    public long getLastEventId() {
+        return lastEventId;
+    }
+
+    public void setLastEventId(long lastEventId) {
+        this.lastEventId = lastEventId;
+    }
+
+    public LocalDateTime getLastUpdate() {
+        return lastUpdate;
+    }
+
+    public void setLastUpdate(LocalDateTime lastUpdate) {
+        this.lastUpdate = lastUpdate;
+    }
+}
@@ -0,0 +1,184 @@
+package ecommerce.system.api.models;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import ecommerce.system.api.tools.MoneyConverter;
+import ecommerce.system.api.tools.MoneyDeserializer;
+import ecommerce.system.api.tools.MoneySerializer;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+@Entity(name = "OrderState")
+@Table(name = "tb_orderState")
+public class OrderState {
+
+    @Id
+    @Column(name = "pk_orderId")
+    private int orderId;
+
+    @Column(name = "orderSummaryId")
+    private int orderSummaryId;
+
+    @Column(name = "storeId")
+    private int storeId;
+
+    @Column(name = "userId")
+    private int userId;
+
+    @Column(name = "orderStatusId")
+    private int orderStatusId;
+
+    @Column(name = "totalPrice")
+    @Convert(converter = MoneyConverter.class)
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private long totalPrice;
+
+    @Column(name = "paidValue")
+    @Convert(converter = MoneyConverter.class)
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private long paidValue;
+
+    @Column(name = "items")
+    private int items;
+
+    @Column(name = "reservedQuantity")
+    private int reservedQuantity;
+
+    @Column(name = "deliveryId")
+    private int deliveryId;
+
+    @Column(name = "isDelivered")
+    private boolean delivered;
+
+    @Column(name = "creationDate")
+    private LocalDateTime creationDate;
+
+    @Column(name = "lastUpdate")
+    private LocalDateTime lastUpdate;
+
+    public OrderState() {
+    }
+
+    public OrderState(int orderId, int orderSummaryId, int storeId, int userId, int orderStatusId, long totalPrice,
+            LocalDateTime creationDate) {
+        this.orderId = orderId;
+        this.orderSummaryId = orderSummaryId;
+        this.storeId = storeId;
+        this.userId = userId;
+        this.orderStatusId = orderStatusId;
+        this.totalPrice = totalPrice;
+        this.creationDate = creationDate;
+    }
+
+    public int getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(int orderId) {
+        this.orderId = orderId;
+    }
+
+    public int getOrderSummaryId() {
+        return orderSummaryId;
+    }
+
+    public void setOrderSummaryId(int orderSummaryId) {
+        this.orderSummaryId = orderSummaryId;
+    }
+
+    public int getStoreId() {
+        return storeId;
+    }
+
+    public void setStoreId(int storeId) {
+        this.storeId = storeId;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public void setUserId(int userId) {
+        this.userId = userId;
+    }
+
+    public int getOrderStatusId() {
+        return orderStatusId;
+    }
+
+    public void setOrderStatusId(int orderStatusId) {
+        this.orderStatusId = orderStatusId;
+    }
+
+    public long getTotalPrice() {
+        return totalPrice;
+    }
+
+    public void setTotalPrice(long totalPrice) {
+        this.totalPrice = totalPrice;
+    }
+
+    public long getPaidValue() {
+        return paidValue;
+    }
+
+    public void setPaidValue(long paidValue) {
+        this.paidValue = paidValue;
+    }
+
+    public int getItems() {
+        return items;
+    }
+
+    public void setItems(int items) {
+        this.items = items;
+    }
+
+    public int getReservedQuantity() {
+        return reservedQuantity;
+    }
+
+    public void setReservedQuantity(int reservedQuantity) {
+        this.reservedQuantity = reservedQuantity;
+    }
+
+    public int getDeliveryId() {
+        return deliveryId;
+    }
+
+    public void setDeliveryId(int deliveryId) {
+        this.deliveryId = deliveryId;
+    }
+
+    public boolean isDelivered() {
+        return delivered;
+    }
+
+    public void setDelivered(boolean delivered) {
+        this.delivered = delivered;
+    }
+
+    public LocalDateTime getCreationDate() {
+        return creationDate;
+    }
+
+    public void setCreationDate(LocalDateTime creationDate) {
+        this.creationDate = creationDate;
+    }
+
+    public LocalDateTime getLastUpdate() {
+        return lastUpdate;
+    }
+
+    public void setLastUpdate(LocalDateTime lastUpdate) {
+        this.lastUpdate = lastUpdate;
+    }
+}
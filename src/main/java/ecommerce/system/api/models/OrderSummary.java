@@ -1,8 +1,15 @@
 package ecommerce.system.api.models;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import ecommerce.system.api.tools.MoneyConverter;
+import ecommerce.system.api.tools.MoneyDeserializer;
+import ecommerce.system.api.tools.MoneySerializer;
+
 import java.time.LocalDateTime;
 
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
@@ -25,13 +32,19 @@ public class OrderSummary {
     private int paymentMethodId;
 
     @Column(name = "totalPrice")
-    private double totalPrice;
+    @Convert(converter = MoneyConverter.class)
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private long totalPrice;
 
     @Column(name = "totalDiscountPercentage")
     private double totalDiscountPercentage;
 
     @Column(name = "finalPrice")
-    private double finalPrice;
+    @Convert(converter = MoneyConverter.class)
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private long finalPrice;
 
     @Column(name = "installment")
     private int installment;
@@ -91,11 +104,11 @@ public class OrderSummary {
         this.paymentMethodId = paymentMethodId;
     }
 
-    public double getTotalPrice() {
+    public long getTotalPrice() {
         return totalPrice;
     }
 
-    public void setTotalPrice(double totalPrice) {
+    public void setTotalPrice(long totalPrice) {
         this.totalPrice = totalPrice;
     }
 
@@ -107,11 +120,11 @@ public class OrderSummary {
         this.totalDiscountPercentage = totalDiscountPercentage;
     }
 
-    public double getFinalPrice() {
+    public long getFinalPrice() {
         return finalPrice;
     }
 
-    public void setFinalPrice(double finalPrice) {
+    public void setFinalPrice(long finalPrice) {
         this.finalPrice = finalPrice;
     }
 
@@ -0,0 +1,154 @@
+package ecommerce.system.api.models;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import ecommerce.system.api.tools.MoneyConverter;
+import ecommerce.system.api.tools.MoneyDeserializer;
+import ecommerce.system.api.tools.MoneySerializer;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.Immutable;
+
+@Entity(name = "OrderSummaryArchive")
+@Immutable
+@Table(name = "tb_orderSummaryArchive")
+public class OrderSummaryArchive {
+
+    @Id
+    @Column(name = "pk_orderSummaryId")
+    private int orderSummaryId;
+
+    @Column(name = "fk_userId")
+    private int userId;
+
+    @Column(name = "fk_paymentMethodId")
+    private int paymentMethodId;
+
+    @Column(name = "totalPrice")
+    @Convert(converter = MoneyConverter.class)
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private long totalPrice;
+
+    @Column(name = "totalDiscountPercentage")
+    private double totalDiscountPercentage;
+
+    @Column(name = "finalPrice")
+    @Convert(converter = MoneyConverter.class)
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private long finalPrice;
+
+    @Column(name = "installment")
+    private int installment;
+
+    @Column(name = "creationDate")
+    private LocalDateTime creationDate;
+
+    @Column(name = "lastUpdate")
+    private LocalDateTime lastUpdate;
+
+    @Column(name = "fk_orderStatusId")
+    private int orderStatusId;
+
+    @Column(name = "archiveDate")
+    private LocalDateTime archiveDate;
+
+    public OrderSummaryArchive() {
+    }
+
+    public int getOrderSummaryId() {
+        return orderSummaryId;
+    }
+
+    public void setOrderSummaryId(int orderSummaryId) {
+        this.orderSummaryId = orderSummaryId;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public void setUserId(int userId) {
+        this.userId = userId;
+    }
+
+    public int getPaymentMethodId() {
+        return paymentMethodId;
+    }
+
+    public void setPaymentMethodId(int paymentMethodId) {
+        this.paymentMethodId = paymentMethodId;
+    }
+
+    public long getTotalPrice() {
+        return totalPrice;
+    }
+
+    public void setTotalPrice(long totalPrice) {
+        this.totalPrice = totalPrice;
+    }
+
+    public double getTotalDiscountPercentage() {
+        return totalDiscountPercentage;
+    }
+
+    public void setTotalDiscountPercentage(double totalDiscountPercentage) {
+        this.totalDiscountPercentage = totalDiscountPercentage;
+    }
+
+    public long getFinalPrice() {
+        return finalPrice;
+    }
+
+    public void setFinalPrice(long finalPrice) {
+        this.finalPrice = finalPrice;
+    }
+
+    public int getInstallment() {
+        return installment;
+    }
+
+    public void setInstallment(int installment) {
+        this.installment = installment;
+    }
+
+    public LocalDateTime getCreationDate() {
+        return creationDate;
+    }
+
+    public void setCreationDate(LocalDateTime creationDate) {
+        this.creationDate = creationDate;
+    }
+
+    public LocalDateTime getLastUpdate() {
+        return lastUpdate;
+    }
+
+    public void setLastUpdate(LocalDateTime lastUpdate) {
+        this.lastUpdate = lastUpdate;
+    }
+
+    public int getOrderStatusId() {
+        return orderStatusId;
+    }
+
+    public void setOrderStatusId(int orderStatusId) {
+        this.orderStatusId = orderStatusId;
+    }
+
+    public LocalDateTime getArchiveDate() {
+        return archiveDate;
+    }
+
+    public void setArchiveDate(LocalDateTime archiveDate) {
+        this.archiveDate = archiveDate;
+    }
+}
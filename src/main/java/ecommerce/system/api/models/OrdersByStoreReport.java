@@ -11,7 +11,7 @@ import org.hibernate.annotations.Immutable;
 
 @Entity(name = "OrdersByStoreReport")
 @Immutable
-@Table(name = "vw_ordersByStoreAndStatus")
+@Table(name = "tb_reportOrdersByStore")
 public class OrdersByStoreReport {
 
     @Id
@@ -1,5 +1,10 @@
 package ecommerce.system.api.models;
 
+import ecommerce.system.api.configuration.CacheRegions;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
@@ -11,6 +16,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity(name = "PaymentMethod")
 @Table(name = "tb_paymentMethod")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PAYMENT_METHOD)
 public class PaymentMethod {
 
     @Id
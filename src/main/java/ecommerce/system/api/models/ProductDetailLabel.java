@@ -1,5 +1,10 @@
 package ecommerce.system.api.models;
 
+import ecommerce.system.api.configuration.CacheRegions;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
@@ -9,6 +14,8 @@ import javax.persistence.Table;
 
 @Entity(name = "ProductDetailLabel")
 @Table(name = "tb_detailLabel")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PRODUCT_DETAIL_LABEL)
 public class ProductDetailLabel {
 
     @Id
@@ -0,0 +1,46 @@
+package ecommerce.system.api.models;
+
+import javax.persistence.Column;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+
+import ecommerce.system.api.dto.OrderItemDTO;
+import ecommerce.system.api.models.embedded.ProductOrderKey;
+import org.hibernate.annotations.Immutable;
+
+@Entity(name = "ProductOrderArchive")
+@Immutable
+@Table(name = "tb_productOrderArchive")
+public class ProductOrderArchive {
+
+    @EmbeddedId
+    private ProductOrderKey id;
+
+    @Column(name = "quantity")
+    private int quantity;
+
+    public ProductOrderArchive() {
+    }
+
+    public OrderItemDTO toDTO() {
+
+        return new OrderItemDTO(this.id.getProductId(), this.quantity);
+    }
+
+    public ProductOrderKey getId() {
+        return id;
+    }
+
+    public void setId(ProductOrderKey id) {
+        this.id = id;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -1,5 +1,10 @@
 package ecommerce.system.api.models;
 
+import ecommerce.system.api.configuration.CacheRegions;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
@@ -9,6 +14,8 @@ import javax.persistence.Table;
 
 @Entity(name = "ProductSubtype")
 @Table(name = "tb_productSubtype")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PRODUCT_SUBTYPE)
 public class ProductSubtype {
 
     @Id
@@ -11,7 +11,7 @@ import org.hibernate.annotations.Immutable;
 
 @Entity(name = "ProductsByStoreReport")
 @Immutable
-@Table(name = "vw_productsByStoreAndStatus")
+@Table(name = "tb_reportProductsByStore")
 public class ProductsByStoreReport {
 
     @Id
@@ -0,0 +1,141 @@
+package ecommerce.system.api.models;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+@Entity(name = "RefreshToken")
+@Table(name = "tb_refreshToken")
+public class RefreshToken {
+
+    @Id
+    @Column(name = "pk_refreshTokenId")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long refreshTokenId;
+
+    @Column(name = "tokenHash")
+    private String tokenHash;
+
+    @Column(name = "familyId")
+    private String familyId;
+
+    @Column(name = "fk_userId")
+    private int userId;
+
+    @Column(name = "email")
+    private String email;
+
+    @Column(name = "roleId")
+    private int roleId;
+
+    @Column(name = "creationDate")
+    private LocalDateTime creationDate;
+
+    @Column(name = "expirationDate")
+    private LocalDateTime expirationDate;
+
+    @Column(name = "usedDate")
+    private LocalDateTime usedDate;
+
+    @Column(name = "revoked")
+    private boolean revoked;
+
+    public RefreshToken() {
+    }
+
+    public RefreshToken(String tokenHash, String familyId, int userId, String email, int roleId,
+            LocalDateTime creationDate, LocalDateTime expirationDate) {
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.userId = userId;
+        this.email = email;
+        this.roleId = roleId;
+        this.creationDate = creationDate;
+        this.expirationDate = expirationDate;
+    }
+
+    public long getRefreshTokenId() {
+        return refreshTokenId;
+    }
+
+    public void setRefreshTokenId(long refreshTokenId) {
+        this.refreshTokenId = refreshTokenId;
+    }
+
+    public String getTokenHash() {
+        return tokenHash;
+    }
+
+    public void setTokenHash(String tokenHash) {
+        this.tokenHash = tokenHash;
+    }
+
+    public String getFamilyId() {
+        return familyId;
+    }
+
+    public void setFamilyId(String familyId) {
+        this.familyId = familyId;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public void setUserId(int userId) {
+        this.userId = userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public int getRoleId() {
+        return roleId;
+    }
+
+    public void setRoleId(int roleId) {
+        this.roleId = roleId;
+    }
+
+    public LocalDateTime getCreationDate() {
+        return creationDate;
+    }
+
+    public void setCreationDate(LocalDateTime creationDate) {
+        this.creationDate = creationDate;
+    }
+
+    public LocalDateTime getExpirationDate() {
+        return expirationDate;
+    }
+
+    public void setExpirationDate(LocalDateTime expirationDate) {
+        this.expirationDate = expirationDate;
+    }
+
+    public LocalDateTime getUsedDate() {
+        return usedDate;
+    }
+
+    public void setUsedDate(LocalDateTime usedDate) {
+        this.usedDate = usedDate;
+    }
+
+    public boolean isRevoked() {
+        return revoked;
+    }
+
+    public void setRevoked(boolean revoked) {
+        this.revoked = revoked;
+    }
+}
@@ -0,0 +1,231 @@
+package ecommerce.system.api.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+@Entity(name = "ReportJob")
+@Table(name = "tb_reportJob")
+public class ReportJob {
+
+    @Id
+    @Column(name = "pk_reportJobId")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String reportJobId;
+
+    @Column(name = "owner")
+    @JsonIgnore
+    private String owner;
+
+    @Column(name = "reportTypeId")
+    private int reportTypeId;
+
+    @Column(name = "format")
+    private String format;
+
+    @Column(name = "gzip")
+    private boolean gzip;
+
+    @Column(name = "storeId")
+    private Integer storeId;
+
+    @Column(name = "startDate")
+    private LocalDate startDate;
+
+    @Column(name = "endDate")
+    private LocalDate endDate;
+
+    @Column(name = "reportJobStatusId")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private int reportJobStatusId;
+
+    @Column(name = "totalChunks")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private int totalChunks;
+
+    @Column(name = "completedChunks")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private int completedChunks;
+
+    @Column(name = "`rows`")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private long rows;
+
+    @Column(name = "fileSize")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private long fileSize;
+
+    @Column(name = "filePath")
+    @JsonIgnore
+    private String filePath;
+
+    @Column(name = "errorMessage")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String errorMessage;
+
+    @Column(name = "creationDate")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime creationDate;
+
+    @Column(name = "lastUpdate")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime lastUpdate;
+
+    @Column(name = "finishDate")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime finishDate;
+
+    public ReportJob() {
+    }
+
+    public String getReportJobId() {
+        return reportJobId;
+    }
+
+    public void setReportJobId(String reportJobId) {
+        this.reportJobId = reportJobId;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public int getReportTypeId() {
+        return reportTypeId;
+    }
+
+    public void setReportTypeId(int reportTypeId) {
+        this.reportTypeId = reportTypeId;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    public void setGzip(boolean gzip) {
+        this.gzip = gzip;
+    }
+
+    public Integer getStoreId() {
+        return storeId;
+    }
+
+    public void setStoreId(Integer storeId) {
+        this.storeId = storeId;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public int getReportJobStatusId() {
+        return reportJobStatusId;
+    }
+
+    public void setReportJobStatusId(int reportJobStatusId) {
+        this.reportJobStatusId = reportJobStatusId;
+    }
+
+    public int getTotalChunks() {
+        return totalChunks;
+    }
+
+    public void setTotalChunks(int totalChunks) {
+        this.totalChunks = totalChunks;
+    }
+
+    public int getCompletedChunks() {
+        return completedChunks;
+    }
+
+    public void setCompletedChunks(int completedChunks) {
+        this.completedChunks = completedChunks;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public void setRows(long rows) {
+        this.rows = rows;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    public void setFileSize(long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public LocalDateTime getCreationDate() {
+        return creationDate;
+    }
+
+    public void setCreationDate(LocalDateTime creationDate) {
+        this.creationDate = creationDate;
+    }
+
+    public LocalDateTime getLastUpdate() {
+        return lastUpdate;
+    }
+
+    public void setLastUpdate(LocalDateTime lastUpdate) {
+        this.lastUpdate = lastUpdate;
+    }
+
+    public LocalDateTime getFinishDate() {
+        return finishDate;
+    }
+
+    public void setFinishDate(LocalDateTime finishDate) {
+        this.finishDate = finishDate;
+    }
+}
@@ -1,8 +1,15 @@
 package ecommerce.system.api.models;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import ecommerce.system.api.tools.MoneyConverter;
+import ecommerce.system.api.tools.MoneyDeserializer;
+import ecommerce.system.api.tools.MoneySerializer;
+
 import java.time.LocalDateTime;
 
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
@@ -25,7 +32,10 @@ public class StoreCashFlow {
     private int orderId;
 
     @Column(name = "value")
-    private double value;
+    @Convert(converter = MoneyConverter.class)
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private long value;
 
     @Column(name = "timestamp")
     private LocalDateTime timestamp;
@@ -33,7 +43,7 @@ public class StoreCashFlow {
     public StoreCashFlow() {
     }
 
-    public StoreCashFlow(int storeId, int orderId, double value, LocalDateTime timestamp) {
+    public StoreCashFlow(int storeId, int orderId, long value, LocalDateTime timestamp) {
         this.storeId = storeId;
         this.orderId = orderId;
         this.value = value;
@@ -64,11 +74,11 @@ public class StoreCashFlow {
         this.orderId = orderId;
     }
 
-    public double getValue() {
+    public long getValue() {
         return value;
     }
 
-    public void setValue(double value) {
+    public void setValue(long value) {
         this.value = value;
     }
 
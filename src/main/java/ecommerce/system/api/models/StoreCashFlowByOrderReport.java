@@ -1,9 +1,16 @@
 package ecommerce.system.api.models;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import ecommerce.system.api.tools.MoneyConverter;
+import ecommerce.system.api.tools.MoneyDeserializer;
+import ecommerce.system.api.tools.MoneySerializer;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
@@ -12,7 +19,7 @@ import org.hibernate.annotations.Immutable;
 
 @Entity(name = "StoreCashFlowReport")
 @Immutable
-@Table(name = "vw_storeCashFlowByOrder")
+@Table(name = "tb_reportStoreCashFlowByOrder")
 public class StoreCashFlowByOrderReport {
 
     @Id
@@ -26,7 +33,10 @@ public class StoreCashFlowByOrderReport {
     private int orderId;
 
     @Column(name = "value")
-    private double value;
+    @Convert(converter = MoneyConverter.class)
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private long value;
 
     @Column(name = "productId")
     private int productId;
@@ -43,7 +53,7 @@ public class StoreCashFlowByOrderReport {
     public StoreCashFlowByOrderReport() {
     }
 
-    public StoreCashFlowByOrderReport(UUID id, int storeId, int orderId, double value, int productId,
+    public StoreCashFlowByOrderReport(UUID id, int storeId, int orderId, long value, int productId,
             String productName, int productQuantity, LocalDateTime timestamp) {
         this.id = id;
         this.storeId = storeId;
@@ -79,11 +89,11 @@ public class StoreCashFlowByOrderReport {
         this.orderId = orderId;
     }
 
-    public double getValue() {
+    public long getValue() {
         return value;
     }
 
-    public void setValue(double value) {
+    public void setValue(long value) {
         this.value = value;
     }
 
@@ -1,9 +1,16 @@
 package ecommerce.system.api.models;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import ecommerce.system.api.tools.MoneyConverter;
+import ecommerce.system.api.tools.MoneyDeserializer;
+import ecommerce.system.api.tools.MoneySerializer;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
@@ -12,7 +19,7 @@ import org.hibernate.annotations.Immutable;
 
 @Entity(name = "StoreCashFlowRevenueReport")
 @Immutable
-@Table(name = "vw_storeCashFlowRevenue")
+@Table(name = "tb_reportStoreCashFlowRevenue")
 public class StoreCashFlowRevenueReport {
 
     @Id
@@ -23,7 +30,10 @@ public class StoreCashFlowRevenueReport {
     private int storeId;
 
     @Column(name = "revenue")
-    private double revenue;
+    @Convert(converter = MoneyConverter.class)
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private long revenue;
 
     @Column(name = "timestamp")
     private LocalDateTime timestamp;
@@ -31,8 +41,9 @@ public class StoreCashFlowRevenueReport {
     public StoreCashFlowRevenueReport() {
     }
 
-    public StoreCashFlowRevenueReport(UUID id, int storeId, double revenue, LocalDateTime timestamp) {
+    public StoreCashFlowRevenueReport(UUID id, int storeId, long revenue, LocalDateTime timestamp) {
         this.id = id;
+        this.storeId = storeId;
         this.revenue = revenue;
         this.timestamp = timestamp;
     }
@@ -53,11 +64,11 @@ public class StoreCashFlowRevenueReport {
         this.storeId = storeId;
     }
 
-    public double getRevenue() {
+    public long getRevenue() {
         return revenue;
     }
 
-    public void setRevenue(double revenue) {
+    public void setRevenue(long revenue) {
         this.revenue = revenue;
     }
 
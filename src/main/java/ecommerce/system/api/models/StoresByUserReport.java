@@ -11,7 +11,7 @@ import org.hibernate.annotations.Immutable;
 
 @Entity(name = "StoresByUserReport")
 @Immutable
-@Table(name = "vw_storesByUserAndStatus")
+@Table(name = "tb_reportStoresByUser")
 public class StoresByUserReport {
 
     @Id
@@ -11,7 +11,7 @@ import org.hibernate.annotations.Immutable;
 
 @Entity(name = "StoresCountReport")
 @Immutable
-@Table(name = "vw_storesCountByStatus")
+@Table(name = "tb_reportStoresCount")
 public class StoresCountReport {
 
     @Id
@@ -1,9 +1,16 @@
 package ecommerce.system.api.models;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import ecommerce.system.api.tools.MoneyConverter;
+import ecommerce.system.api.tools.MoneyDeserializer;
+import ecommerce.system.api.tools.MoneySerializer;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
@@ -12,7 +19,7 @@ import org.hibernate.annotations.Immutable;
 
 @Entity(name = "SystemCashFlowByOrderReport")
 @Immutable
-@Table(name = "vw_systemCashFlowByOrder")
+@Table(name = "tb_reportSystemCashFlowByOrder")
 public class SystemCashFlowByOrderReport {
 
     @Id
@@ -29,7 +36,10 @@ public class SystemCashFlowByOrderReport {
     private String storeName;
 
     @Column(name = "value")
-    private double value;
+    @Convert(converter = MoneyConverter.class)
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private long value;
 
     @Column(name = "timestamp")
     private LocalDateTime timestamp;
@@ -37,7 +47,7 @@ public class SystemCashFlowByOrderReport {
     public SystemCashFlowByOrderReport() {
     }
 
-    public SystemCashFlowByOrderReport(UUID id, int orderId, int storeId, String storeName, double value,
+    public SystemCashFlowByOrderReport(UUID id, int orderId, int storeId, String storeName, long value,
             LocalDateTime timestamp) {
         this.id = id;
         this.orderId = orderId;
@@ -79,11 +89,11 @@ public class SystemCashFlowByOrderReport {
         this.storeName = storeName;
     }
 
-    public double getValue() {
+    public long getValue() {
         return value;
     }
 
-    public void setValue(double value) {
+    public void setValue(long value) {
         this.value = value;
     }
 
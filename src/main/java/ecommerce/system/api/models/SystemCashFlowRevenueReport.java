@@ -1,9 +1,16 @@
 package ecommerce.system.api.models;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import ecommerce.system.api.tools.MoneyConverter;
+import ecommerce.system.api.tools.MoneyDeserializer;
+import ecommerce.system.api.tools.MoneySerializer;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
@@ -12,7 +19,7 @@ import org.hibernate.annotations.Immutable;
 
 @Entity(name = "SystemCashFlowRevenueReport")
 @Immutable
-@Table(name = "vw_systemCashFlowRevenue")
+@Table(name = "tb_reportSystemCashFlowRevenue")
 public class SystemCashFlowRevenueReport {
 
     @Id
@@ -20,7 +27,10 @@ public class SystemCashFlowRevenueReport {
     private UUID id;
 
     @Column(name = "revenue")
-    private double revenue;
+    @Convert(converter = MoneyConverter.class)
+    @JsonSerialize(using = MoneySerializer.class)
+    @JsonDeserialize(using = MoneyDeserializer.class)
+    private long revenue;
 
     @Column(name = "timestamp")
     private LocalDateTime timestamp;
@@ -28,7 +38,7 @@ public class SystemCashFlowRevenueReport {
     public SystemCashFlowRevenueReport() {
     }
 
-    public SystemCashFlowRevenueReport(UUID id, double revenue, LocalDateTime timestamp) {
+    public SystemCashFlowRevenueReport(UUID id, long revenue, LocalDateTime timestamp) {
         this.id = id;
         this.revenue = revenue;
         this.timestamp = timestamp;
@@ -42,11 +52,11 @@ public class SystemCashFlowRevenueReport {
         this.id = id;
     }
 
-    public double getRevenue() {
+    public long getRevenue() {
         return revenue;
     }
 
-    public void setRevenue(double revenue) {
+    public void setRevenue(long revenue) {
         this.revenue = revenue;
     }
 
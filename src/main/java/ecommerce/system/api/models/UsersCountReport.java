@@ -11,7 +11,7 @@ import org.hibernate.annotations.Immutable;
 
 @Entity(name = "UsersCountReport")
 @Immutable
-@Table(name = "vw_usersCountByRole")
+@Table(name = "tb_reportUsersCount")
 public class UsersCountReport {
 
     @Id
@@ -1,7 +1,18 @@
 package ecommerce.system.api.repositories;
 
+import ecommerce.system.api.models.StoreCashFlow;
+import ecommerce.system.api.models.SystemCashFlow;
+
+import java.util.Collection;
+import java.util.List;
+
 public interface ICashFlowRepository {
 
-    int createSystemCashFlowRecord(int orderId, double value);
-    int createStoreCashFlowRecord(int storeId, int orderId, double value);
+    int createSystemCashFlowRecord(int orderId, long value);
+    int createStoreCashFlowRecord(int storeId, int orderId, long value);
+    void createCashFlowRecords(List<StoreCashFlow> storeCashFlows, List<SystemCashFlow> systemCashFlows);
+    List<Object[]> getStoreCashFlowColumnsAfter(int lastStoreCashFlowId, int limit);
+    List<Object[]> getStoreCashFlowColumnsByIds(Collection<Integer> storeCashFlowIds);
+    List<Object[]> getSystemCashFlowColumnsAfter(int lastSystemCashFlowId, int limit);
+    List<Object[]> getSystemCashFlowColumnsByIds(Collection<Integer> systemCashFlowIds);
 }
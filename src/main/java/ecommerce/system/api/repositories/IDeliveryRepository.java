@@ -1,6 +1,8 @@
 package ecommerce.system.api.repositories;
 
 import ecommerce.system.api.models.Delivery;
+import ecommerce.system.api.models.DeliveryRate;
+import ecommerce.system.api.models.DeliveryZonePrefix;
 
 import java.util.List;
 
@@ -8,9 +10,15 @@ public interface IDeliveryRepository {
 
     int createDelivery(Delivery delivery);
 
+    Delivery getDeliveryById(int deliveryId);
+
     List<Delivery> getDeliveriesByOrderId(int orderId);
 
     List<Delivery> getDeliveriesByOrderSummaryId(int orderSummaryId);
 
     boolean updateDeliveryStatus(int deliveryId, boolean status);
+
+    List<DeliveryZonePrefix> getDeliveryZonePrefixes();
+
+    List<DeliveryRate> getDeliveryRates();
 }
@@ -0,0 +1,20 @@
+package ecommerce.system.api.repositories;
+
+import ecommerce.system.api.models.OrderEvent;
+
+import java.util.List;
+
+public interface IOrderEventRepository {
+
+    long appendEvent(OrderEvent event);
+
+    List<OrderEvent> getEventsAfter(long lastEventId, int limit);
+
+    List<OrderEvent> lockEventsByIds(List<Long> orderEventIds);
+
+    List<OrderEvent> getEventsByOrderSummaryId(int orderSummaryId);
+
+    long lockCheckpoint(String projectionName);
+
+    void saveCheckpoint(String projectionName, long lastEventId);
+}
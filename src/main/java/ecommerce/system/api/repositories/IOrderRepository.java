@@ -2,7 +2,10 @@ package ecommerce.system.api.repositories;
 
 import ecommerce.system.api.models.Order;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public interface IOrderRepository {
 
@@ -10,12 +13,16 @@ public interface IOrderRepository {
 
     int createOrderSummary(Order order);
 
-    void createProductOrder(int productId, int orderId, int quantity);
+    void createProductOrder(int storeId, int productId, int orderId, int quantity, LocalDate saleDate);
 
     List<Order> getOrdersByStoreId(int storeId);
 
+    List<Order> getOrdersByStoreId(int storeId, boolean includeArchived);
+
     List<Order> getOrdersByProductId(int productId);
 
+    List<Order> getOrdersByProductId(int productId, boolean includeArchived);
+
     List<Order> getOrderSummariesByUserId(int userId);
 
     List<Order> getOrdersByOrderSummaryId(int orderSummaryId);
@@ -24,7 +31,26 @@ public interface IOrderRepository {
 
     Order getOrderSummaryById(int orderSummaryId);
 
+    int getOrderSummaryIdByOrderId(int orderId);
+
+    List<Integer> getProductIdsByOrderId(int orderId);
+
+    Map<Integer, Long> getOpenOrderCountsByStore();
+
+    Map<Integer, Long> getOpenOrderCountsByProduct();
+
+    boolean hasOpenOrdersByStoreId(int storeId);
+
+    boolean hasOpenOrdersByProductId(int productId);
+
     boolean updateOrder(Order order);
 
     boolean updateOrderSummary(Order orderSummary);
+
+    boolean updateOrderSummaryStatus(int orderSummaryId, int expectedOrderStatusId, int orderStatusId,
+            LocalDateTime lastUpdate);
+
+    List<Integer> getArchivableOrderSummaryIds(LocalDateTime threshold, int limit);
+
+    int archiveOrderSummaries(List<Integer> orderSummaryIds, LocalDateTime threshold);
 }
@@ -0,0 +1,16 @@
+package ecommerce.system.api.repositories;
+
+import ecommerce.system.api.models.OrderState;
+
+import java.util.List;
+
+public interface IOrderStateRepository {
+
+    void saveOrderState(OrderState orderState);
+
+    OrderState getOrderStateById(int orderId);
+
+    List<OrderState> getOrderStatesByOrderSummaryId(int orderSummaryId);
+
+    void deleteAll();
+}
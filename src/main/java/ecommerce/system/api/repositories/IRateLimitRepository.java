@@ -0,0 +1,6 @@
+package ecommerce.system.api.repositories;
+
+import ecommerce.system.api.tools.RateLimitStore;
+
+public interface IRateLimitRepository extends RateLimitStore {
+}
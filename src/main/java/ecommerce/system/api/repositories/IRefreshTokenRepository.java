@@ -0,0 +1,20 @@
+package ecommerce.system.api.repositories;
+
+import ecommerce.system.api.models.RefreshToken;
+
+import java.time.LocalDateTime;
+
+public interface IRefreshTokenRepository {
+
+    void create(RefreshToken refreshToken);
+
+    RefreshToken getByTokenHash(String tokenHash);
+
+    boolean markAsUsed(String tokenHash, LocalDateTime usedDate);
+
+    int revokeFamily(String familyId);
+
+    int revokeByUserId(int userId);
+
+    int deleteExpired(LocalDateTime expirationDate);
+}
@@ -0,0 +1,21 @@
+package ecommerce.system.api.repositories;
+
+import ecommerce.system.api.models.ReportJob;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface IReportJobRepository {
+
+    void createJob(ReportJob reportJob);
+
+    ReportJob getJobById(String reportJobId);
+
+    List<ReportJob> getJobsByOwner(String owner);
+
+    List<ReportJob> getJobsByStatusIds(List<Integer> reportJobStatusIds);
+
+    List<ReportJob> getJobsFinishedBefore(List<Integer> reportJobStatusIds, LocalDateTime finishDate);
+
+    void updateJob(ReportJob reportJob);
+}
@@ -1,55 +1,59 @@
 package ecommerce.system.api.repositories;
 
+import ecommerce.system.api.dto.BestSellerDTO;
+import ecommerce.system.api.dto.ReportPageDTO;
+import ecommerce.system.api.dto.ReportPageRequestDTO;
+import ecommerce.system.api.enums.ReportPeriodEnum;
+import ecommerce.system.api.enums.ReportTypeEnum;
 import ecommerce.system.api.models.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface IReportRepository {
 
-        List<OrdersByStoreReport> getOrdersReport();
-
         OrdersByStoreReport getOrdersReportByStoreId(int storeId);
 
-        List<ProductsByStoreReport> getProductsReport();
-
         ProductsByStoreReport getProductsReportByStoreId(int storeId);
 
-        List<StoreCashFlowByOrderReport> getStoreCashFlowReport();
+        long streamStoreCashFlowReport(Integer storeId, LocalDate startDate, LocalDate endDate,
+                        Consumer<StoreCashFlowByOrderReport> consumer);
 
-        List<StoreCashFlowByOrderReport> getStoreCashFlowReportByDateRange(LocalDate startDate, LocalDate endDate);
+        StoresByUserReport getStoresByUserReportByUserId(int userId);
 
-        List<StoreCashFlowByOrderReport> getStoreCashFlowReportByStoreId(int storeId);
+        long streamSystemCashFlowByOrderReport(LocalDate startDate, LocalDate endDate,
+                        Consumer<SystemCashFlowByOrderReport> consumer);
 
-        List<StoreCashFlowByOrderReport> getStoreCashFlowReportByStoreIdAndDateRange(int storeId,
-                        LocalDate startDate,
+        List<SystemCashFlowRevenueReport> getSystemCashFlowRevenueReportByDateRange(LocalDate startDate,
                         LocalDate endDate);
 
-        List<StoreCashFlowRevenueReport> getStoreCashFlowRevenueReport();
+        ReportPageDTO getReportPage(ReportTypeEnum reportType, Integer scopeId, LocalDate startDate, LocalDate endDate,
+                        ReportPageRequestDTO page);
 
-        List<StoreCashFlowRevenueReport> getStoreCashFlowRevenueReportByDateRange(LocalDate startDate,
-                        LocalDate endDate);
+        List<Object> getReportPageRowsByStoreIdRange(ReportTypeEnum reportType, int fromStoreId, int toStoreId,
+                        LocalDate startDate, LocalDate endDate, ReportPageRequestDTO page);
 
-        List<StoreCashFlowRevenueReport> getStoreCashFlowRevenueReportByStoreId(int storeId);
+        int[] getStoreIdBounds();
 
-        List<StoreCashFlowRevenueReport> getStoreCashFlowRevenueReportByStoreIdAndDateRange(int storeId,
-                        LocalDate startDate, LocalDate endDate);
+        List<BestSellerDTO> getTopProducts(ReportPeriodEnum period, LocalDate periodStart, Integer storeId,
+                        int limit);
 
-        List<StoresByUserReport> getStoresByUserReport();
+        List<BestSellerDTO> getTopStores(ReportPeriodEnum period, LocalDate periodStart, int limit);
 
-        StoresByUserReport getStoresByUserReportByUserId(int userId);
+        List<Object[]> getProductSales(ReportPeriodEnum period, LocalDate periodStart);
 
-        List<SystemCashFlowByOrderReport> getSystemCashFlowByOrderReport();
+        void updateOrdersReport(int storeId, int previousOrderStatusId, int orderStatusId);
 
-        List<SystemCashFlowByOrderReport> getSystemCashFlowByOrderReportByDateRange(LocalDate startDate,
-                        LocalDate endDate);
+        void refreshStoreReports(int storeId);
 
-        List<SystemCashFlowRevenueReport> getSystemCashFlowRevenueReport();
+        void updateUsersCountReport(int roleId, int delta);
 
-        List<SystemCashFlowRevenueReport> getSystemCashFlowRevenueReportByDateRange(LocalDate startDate,
-                        LocalDate endDate);
+        void addStoreCashFlowToReports(int storeCashFlowId);
+
+        void addSystemCashFlowToReports(int systemCashFlowId);
 
-        List<UsersCountReport> getUsersCountReport();
+        void addProductSaleToReports(int storeId, int productId, int quantity, LocalDate date);
 
-        List<StoresCountReport> getStoresCountReport();
+        void rebuildReports();
 }
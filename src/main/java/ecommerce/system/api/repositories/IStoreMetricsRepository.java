@@ -0,0 +1,22 @@
+package ecommerce.system.api.repositories;
+
+import ecommerce.system.api.enums.StoreMetricEnum;
+import ecommerce.system.api.tools.HyperLogLog;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface IStoreMetricsRepository {
+
+    List<Object[]> getSketches(int storeId, LocalDate startDate, LocalDate endDate);
+
+    void mergeSketch(int storeId, StoreMetricEnum metric, LocalDate day, HyperLogLog sketch);
+
+    void replaceSketch(int storeId, StoreMetricEnum metric, LocalDate day, HyperLogLog sketch);
+
+    List<Integer> getStoreIdsWithOrders(LocalDate day);
+
+    List<Integer> getCustomerIds(int storeId, LocalDate day);
+
+    List<Integer> getProductIds(int storeId, LocalDate day);
+}
@@ -0,0 +1,17 @@
+package ecommerce.system.api.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ITokenRevocationRepository {
+
+    void revokeToken(String tokenId, String subject, LocalDateTime expirationDate);
+
+    void revokeUser(String subject, LocalDateTime notBefore);
+
+    List<Object[]> getRevokedTokens(LocalDateTime now);
+
+    List<Object[]> getRevokedUsers(LocalDateTime notBeforeCutoff);
+
+    int deleteExpired(LocalDateTime now, LocalDateTime notBeforeCutoff);
+}
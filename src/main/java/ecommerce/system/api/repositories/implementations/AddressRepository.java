@@ -4,8 +4,8 @@ import ecommerce.system.api.models.Address;
 import ecommerce.system.api.models.UserAddress;
 import ecommerce.system.api.models.embedded.UserAddressKey;
 import ecommerce.system.api.repositories.IAddressRepository;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import ecommerce.system.api.tools.RepositoryLookup;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.*;
@@ -17,11 +17,16 @@ import java.util.List;
 @Transactional(rollbackOn = { Exception.class })
 public class AddressRepository implements IAddressRepository {
 
-    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final RepositoryLookup repositoryLookup;
 
     @PersistenceContext
     EntityManager entityManager;
 
+    @Autowired
+    public AddressRepository(RepositoryLookup repositoryLookup) {
+        this.repositoryLookup = repositoryLookup;
+    }
+
     @Override
     public int create(Address object) {
 
@@ -43,21 +48,11 @@ public class AddressRepository implements IAddressRepository {
     @Override
     public Address getById(int id) {
 
-        try {
-
-            String query = "FROM Address a WHERE a.active = true AND a.addressId = :addressId";
-            TypedQuery<Address> result = this.entityManager.createQuery(query, Address.class)
-                    .setParameter("addressId", id);
-            Address address = result.getSingleResult();
-
-            return address;
-
-        } catch (NoResultException nre) {
-
-            logger.error(nre.getMessage());
+        String query = "FROM Address a WHERE a.active = true AND a.addressId = :addressId";
+        TypedQuery<Address> result = this.entityManager.createQuery(query, Address.class)
+                .setParameter("addressId", id);
 
-            return null;
-        }
+        return this.repositoryLookup.findFirst(result, "Address with addressId").orElse(null);
     }
 
     @Override
@@ -3,39 +3,119 @@ package ecommerce.system.api.repositories.implementations;
 import ecommerce.system.api.models.StoreCashFlow;
 import ecommerce.system.api.models.SystemCashFlow;
 import ecommerce.system.api.repositories.ICashFlowRepository;
+import ecommerce.system.api.repositories.IReportRepository;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
 import javax.transaction.Transactional;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 @Transactional(rollbackOn = { Exception.class })
 public class CashFlowRepository implements ICashFlowRepository {
 
+    private static final String STORE_CASH_FLOW_COLUMNS = "SELECT scf.pk_storeCashFlowId, scf.fk_storeId, scf.fk_orderId, scf.timestamp, scf.value "
+            + "FROM tb_storeCashFlow scf ";
+    private static final String SYSTEM_CASH_FLOW_COLUMNS = "SELECT scf.pk_systemCashFlowId, COALESCE(o.fk_storeId, oa.fk_storeId, 0), scf.fk_orderId, scf.timestamp, scf.value "
+            + "FROM tb_systemCashFlow scf LEFT JOIN tb_order o ON o.pk_orderId = scf.fk_orderId "
+            + "LEFT JOIN tb_orderArchive oa ON oa.pk_orderId = scf.fk_orderId ";
+
+    private final IReportRepository reportRepository;
+
     @PersistenceContext
     EntityManager entityManager;
 
+    @Autowired
+    public CashFlowRepository(IReportRepository reportRepository) {
+        this.reportRepository = reportRepository;
+    }
+
     @Override
-    public int createSystemCashFlowRecord(int orderId, double value) {
+    public int createSystemCashFlowRecord(int orderId, long value) {
 
         SystemCashFlow systemCashFlow = new SystemCashFlow(orderId, value, LocalDateTime.now());
 
         this.entityManager.persist(systemCashFlow);
         this.entityManager.flush();
 
+        this.reportRepository.addSystemCashFlowToReports(systemCashFlow.getSystemCashFlowId());
+
         return systemCashFlow.getSystemCashFlowId();
     }
 
     @Override
-    public int createStoreCashFlowRecord(int storeId, int orderId, double value) {
+    public int createStoreCashFlowRecord(int storeId, int orderId, long value) {
 
         StoreCashFlow storeCashFlow = new StoreCashFlow(storeId, orderId, value, LocalDateTime.now());
 
         this.entityManager.persist(storeCashFlow);
         this.entityManager.flush();
 
+        this.reportRepository.addStoreCashFlowToReports(storeCashFlow.getStoreCashFlowId());
+
         return storeCashFlow.getStoreCashFlowId();
     }
+
+    @Override
+    public void createCashFlowRecords(List<StoreCashFlow> storeCashFlows, List<SystemCashFlow> systemCashFlows) {
+
+        storeCashFlows.forEach((storeCashFlow) -> this.entityManager.persist(storeCashFlow));
+        systemCashFlows.forEach((systemCashFlow) -> this.entityManager.persist(systemCashFlow));
+
+        this.entityManager.flush();
+
+        storeCashFlows.forEach((storeCashFlow) -> this.reportRepository
+                .addStoreCashFlowToReports(storeCashFlow.getStoreCashFlowId()));
+        systemCashFlows.forEach((systemCashFlow) -> this.reportRepository
+                .addSystemCashFlowToReports(systemCashFlow.getSystemCashFlowId()));
+    }
+
+    @Override
+    public List<Object[]> getStoreCashFlowColumnsAfter(int lastStoreCashFlowId, int limit) {
+
+        String query = STORE_CASH_FLOW_COLUMNS + "WHERE scf.pk_storeCashFlowId > :lastId ORDER BY scf.pk_storeCashFlowId";
+
+        return this.getColumns(this.entityManager.createNativeQuery(query)
+                .setParameter("lastId", lastStoreCashFlowId)
+                .setMaxResults(limit));
+    }
+
+    @Override
+    public List<Object[]> getStoreCashFlowColumnsByIds(Collection<Integer> storeCashFlowIds) {
+
+        String query = STORE_CASH_FLOW_COLUMNS + "WHERE scf.pk_storeCashFlowId IN (:ids) ORDER BY scf.pk_storeCashFlowId";
+
+        return this.getColumns(this.entityManager.createNativeQuery(query)
+                .setParameter("ids", storeCashFlowIds));
+    }
+
+    @Override
+    public List<Object[]> getSystemCashFlowColumnsAfter(int lastSystemCashFlowId, int limit) {
+
+        String query = SYSTEM_CASH_FLOW_COLUMNS + "WHERE scf.pk_systemCashFlowId > :lastId ORDER BY scf.pk_systemCashFlowId";
+
+        return this.getColumns(this.entityManager.createNativeQuery(query)
+                .setParameter("lastId", lastSystemCashFlowId)
+                .setMaxResults(limit));
+    }
+
+    @Override
+    public List<Object[]> getSystemCashFlowColumnsByIds(Collection<Integer> systemCashFlowIds) {
+
+        String query = SYSTEM_CASH_FLOW_COLUMNS + "WHERE scf.pk_systemCashFlowId IN (:ids) ORDER BY scf.pk_systemCashFlowId";
+
+        return this.getColumns(this.entityManager.createNativeQuery(query)
+                .setParameter("ids", systemCashFlowIds));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> getColumns(Query query) {
+
+        return query.getResultList();
+    }
 }
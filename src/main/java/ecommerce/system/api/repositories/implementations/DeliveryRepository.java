@@ -1,6 +1,8 @@
 package ecommerce.system.api.repositories.implementations;
 
 import ecommerce.system.api.models.Delivery;
+import ecommerce.system.api.models.DeliveryRate;
+import ecommerce.system.api.models.DeliveryZonePrefix;
 import ecommerce.system.api.repositories.IDeliveryRepository;
 import org.springframework.stereotype.Repository;
 
@@ -26,6 +28,12 @@ public class DeliveryRepository implements IDeliveryRepository {
         return delivery.getDeliveryId();
     }
 
+    @Override
+    public Delivery getDeliveryById(int deliveryId) {
+
+        return this.entityManager.find(Delivery.class, deliveryId);
+    }
+
     @Override
     public List<Delivery> getDeliveriesByOrderId(int orderId) {
 
@@ -68,4 +76,22 @@ public class DeliveryRepository implements IDeliveryRepository {
         delivery.setSuccess(status);
         return true;
     }
+
+    @Override
+    public List<DeliveryZonePrefix> getDeliveryZonePrefixes() {
+
+        String query = "FROM DeliveryZonePrefix dzp";
+        TypedQuery<DeliveryZonePrefix> result = this.entityManager.createQuery(query, DeliveryZonePrefix.class);
+
+        return result.getResultList();
+    }
+
+    @Override
+    public List<DeliveryRate> getDeliveryRates() {
+
+        String query = "FROM DeliveryRate dr";
+        TypedQuery<DeliveryRate> result = this.entityManager.createQuery(query, DeliveryRate.class);
+
+        return result.getResultList();
+    }
 }
@@ -0,0 +1,98 @@
+package ecommerce.system.api.repositories.implementations;
+
+import ecommerce.system.api.models.OrderEvent;
+import ecommerce.system.api.models.OrderProjectionCheckpoint;
+import ecommerce.system.api.repositories.IOrderEventRepository;
+import ecommerce.system.api.tools.NativeStatements;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@Transactional(rollbackOn = { Exception.class })
+public class OrderEventRepository implements IOrderEventRepository {
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Override
+    public long appendEvent(OrderEvent event) {
+
+        this.entityManager.persist(event);
+        this.entityManager.flush();
+
+        return event.getOrderEventId();
+    }
+
+    @Override
+    public List<OrderEvent> getEventsAfter(long lastEventId, int limit) {
+
+        String query = "FROM OrderEvent e WHERE e.orderEventId > :lastEventId ORDER BY e.orderEventId ASC";
+        TypedQuery<OrderEvent> result = this.entityManager.createQuery(query, OrderEvent.class)
+                .setParameter("lastEventId", lastEventId)
+                .setMaxResults(limit);
+
+        return result.getResultList();
+    }
+
+    @Override
+    public List<OrderEvent> lockEventsByIds(List<Long> orderEventIds) {
+
+        String query = "FROM OrderEvent e WHERE e.orderEventId IN (:orderEventIds) ORDER BY e.orderEventId ASC";
+        TypedQuery<OrderEvent> result = this.entityManager.createQuery(query, OrderEvent.class)
+                .setParameter("orderEventIds", orderEventIds)
+                .setLockMode(LockModeType.PESSIMISTIC_READ);
+
+        return result.getResultList();
+    }
+
+    @Override
+    public List<OrderEvent> getEventsByOrderSummaryId(int orderSummaryId) {
+
+        String query = "FROM OrderEvent e WHERE e.orderSummaryId = :orderSummaryId ORDER BY e.orderEventId ASC";
+        TypedQuery<OrderEvent> result = this.entityManager.createQuery(query, OrderEvent.class)
+                .setParameter("orderSummaryId", orderSummaryId);
+        List<OrderEvent> entities = result.getResultList();
+
+        if (entities == null || entities.isEmpty()) {
+            return null;
+        }
+
+        return entities;
+    }
+
+    @Override
+    public long lockCheckpoint(String projectionName) {
+
+        OrderProjectionCheckpoint checkpoint = this.entityManager.find(OrderProjectionCheckpoint.class,
+                projectionName, LockModeType.PESSIMISTIC_WRITE);
+
+        if (checkpoint != null) {
+            return checkpoint.getLastEventId();
+        }
+
+        String insert = "INSERT IGNORE INTO tb_orderProjectionCheckpoint (pk_projectionName, lastEventId, lastUpdate) "
+                + "VALUES (:projectionName, 0, :lastUpdate)";
+        NativeStatements.update(this.entityManager, insert)
+                .setParameter("projectionName", projectionName)
+                .setParameter("lastUpdate", LocalDateTime.now())
+                .executeUpdate();
+
+        checkpoint = this.entityManager.find(OrderProjectionCheckpoint.class, projectionName,
+                LockModeType.PESSIMISTIC_WRITE);
+
+        return checkpoint.getLastEventId();
+    }
+
+    @Override
+    public void saveCheckpoint(String projectionName, long lastEventId) {
+
+        this.entityManager.merge(new OrderProjectionCheckpoint(projectionName, lastEventId, LocalDateTime.now()));
+    }
+}
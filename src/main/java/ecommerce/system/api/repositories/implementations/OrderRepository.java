@@ -1,32 +1,51 @@
 package ecommerce.system.api.repositories.implementations;
 
 import ecommerce.system.api.dto.OrderItemDTO;
+import ecommerce.system.api.enums.OrderStatusEnum;
 import ecommerce.system.api.models.Order;
+import ecommerce.system.api.models.OrderArchive;
 import ecommerce.system.api.models.OrderSummary;
+import ecommerce.system.api.models.OrderSummaryArchive;
 import ecommerce.system.api.models.ProductOrder;
+import ecommerce.system.api.models.ProductOrderArchive;
 import ecommerce.system.api.models.embedded.ProductOrderKey;
 import ecommerce.system.api.repositories.IOrderRepository;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import ecommerce.system.api.repositories.IReportRepository;
+import ecommerce.system.api.tools.NativeStatements;
+import ecommerce.system.api.tools.RepositoryLookup;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
-import javax.persistence.NoResultException;
 import javax.persistence.PersistenceContext;
 import javax.persistence.TypedQuery;
 import javax.transaction.Transactional;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Repository
 @Transactional(rollbackOn = { Exception.class })
 public class OrderRepository implements IOrderRepository {
 
-    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final IReportRepository reportRepository;
+    private final RepositoryLookup repositoryLookup;
 
     @PersistenceContext
     EntityManager entityManager;
 
+    @Autowired
+    public OrderRepository(IReportRepository reportRepository, RepositoryLookup repositoryLookup) {
+        this.reportRepository = reportRepository;
+        this.repositoryLookup = repositoryLookup;
+    }
+
     @Override
     public int createOrder(Order order, int storeId) {
 
@@ -50,43 +69,81 @@ public class OrderRepository implements IOrderRepository {
     }
 
     @Override
-    public void createProductOrder(int productId, int orderId, int quantity) {
+    public void createProductOrder(int storeId, int productId, int orderId, int quantity, LocalDate saleDate) {
 
         ProductOrderKey productOrderKey = new ProductOrderKey(productId, orderId);
         ProductOrder productOrder = new ProductOrder(productOrderKey, quantity);
 
         this.entityManager.persist(productOrder);
+
+        this.reportRepository.addProductSaleToReports(storeId, productId, quantity, saleDate);
     }
 
     @Override
     public List<Order> getOrdersByStoreId(int storeId) {
 
+        return this.getOrdersByStoreId(storeId, false);
+    }
+
+    @Override
+    public List<Order> getOrdersByStoreId(int storeId, boolean includeArchived) {
+
         String query = "FROM Order o WHERE o.storeId = :storeId";
         TypedQuery<Order> result = this.entityManager.createQuery(query, Order.class)
                 .setParameter("storeId", storeId);
-        List<Order> entities = result.getResultList();
-
-        if (entities == null || entities.isEmpty()) {
-            return null;
-        }
+        List<Order> entities = new ArrayList<>(result.getResultList());
 
         (entities).forEach((entity) -> {
             List<OrderItemDTO> itens = this.getItensByOrderId(entity.getOrderId());
             entity.setItens(itens);
         });
 
+        if (includeArchived) {
+
+            String archiveQuery = "FROM OrderArchive o WHERE o.storeId = :storeId";
+            TypedQuery<OrderArchive> archiveResult = this.entityManager
+                    .createQuery(archiveQuery, OrderArchive.class)
+                    .setParameter("storeId", storeId);
+
+            (archiveResult.getResultList()).forEach((archivedEntity) -> {
+                Order order = new Order(archivedEntity);
+                order.setItens(this.getArchivedItensByOrderId(archivedEntity.getOrderId()));
+                entities.add(order);
+            });
+        }
+
+        if (entities.isEmpty()) {
+            return null;
+        }
+
         return entities;
     }
 
     @Override
     public List<Order> getOrdersByProductId(int productId) {
 
+        return this.getOrdersByProductId(productId, false);
+    }
+
+    @Override
+    public List<Order> getOrdersByProductId(int productId, boolean includeArchived) {
+
         String query = "SELECT o FROM Order o, ProductOrder po WHERE o.orderId = po.id.orderId AND po.id.productId = :productId";
         TypedQuery<Order> result = this.entityManager.createQuery(query, Order.class)
                 .setParameter("productId", productId);
-        List<Order> entities = result.getResultList();
+        List<Order> entities = new ArrayList<>(result.getResultList());
 
-        if (entities == null || entities.isEmpty()) {
+        if (includeArchived) {
+
+            String archiveQuery = "SELECT o FROM OrderArchive o, ProductOrderArchive po WHERE o.orderId = po.id.orderId AND po.id.productId = :productId";
+            TypedQuery<OrderArchive> archiveResult = this.entityManager
+                    .createQuery(archiveQuery, OrderArchive.class)
+                    .setParameter("productId", productId);
+
+            (archiveResult.getResultList()).forEach((archivedEntity) -> entities.add(new Order(archivedEntity)));
+        }
+
+        if (entities.isEmpty()) {
             return null;
         }
 
@@ -101,10 +158,6 @@ public class OrderRepository implements IOrderRepository {
                 .setParameter("userId", userId);
         List<OrderSummary> entities = result.getResultList();
 
-        if (entities == null || entities.isEmpty()) {
-            return null;
-        }
-
         List<Order> orders = new ArrayList<>();
         (entities).forEach((entity) -> {
             Order order = new Order(entity);
@@ -112,6 +165,21 @@ public class OrderRepository implements IOrderRepository {
             orders.add(order);
         });
 
+        String archiveQuery = "FROM OrderSummaryArchive os WHERE os.userId = :userId";
+        TypedQuery<OrderSummaryArchive> archiveResult = this.entityManager
+                .createQuery(archiveQuery, OrderSummaryArchive.class)
+                .setParameter("userId", userId);
+
+        (archiveResult.getResultList()).forEach((archivedEntity) -> {
+            Order order = new Order(archivedEntity);
+            order.setItens(this.getArchivedItensByOrderSummaryId(archivedEntity.getOrderSummaryId()));
+            orders.add(order);
+        });
+
+        if (orders.isEmpty()) {
+            return null;
+        }
+
         return orders;
     }
 
@@ -124,7 +192,7 @@ public class OrderRepository implements IOrderRepository {
         List<Order> entities = result.getResultList();
 
         if (entities == null || entities.isEmpty()) {
-            return null;
+            return this.getArchivedOrdersByOrderSummaryId(orderSummaryId);
         }
 
         return entities;
@@ -133,48 +201,143 @@ public class OrderRepository implements IOrderRepository {
     @Override
     public Order getOrderById(int orderId) {
 
-        try {
+        String query = "FROM Order o WHERE o.orderId = :orderId";
+        TypedQuery<Order> result = this.entityManager.createQuery(query, Order.class)
+                .setParameter("orderId", orderId)
+                .setMaxResults(1);
 
-            String query = "FROM Order o WHERE o.orderId = :orderId";
-            TypedQuery<Order> result = this.entityManager.createQuery(query, Order.class)
-                    .setParameter("orderId", orderId);
+        List<Order> entities = result.getResultList();
 
-            Order entity = result.getSingleResult();
+        if (!entities.isEmpty()) {
 
+            Order entity = entities.get(0);
             entity.setItens(this.getItensByOrderId(entity.getOrderId()));
 
             return entity;
+        }
 
-        } catch (NoResultException nre) {
+        OrderArchive archivedEntity = this.entityManager.find(OrderArchive.class, orderId);
 
-            logger.error(nre.getMessage());
+        if (archivedEntity == null) {
+            this.repositoryLookup.logMiss("Order or OrderArchive with orderId");
 
             return null;
         }
+
+        Order order = new Order(archivedEntity);
+        order.setItens(this.getArchivedItensByOrderId(orderId));
+
+        return order;
     }
 
     @Override
     public Order getOrderSummaryById(int orderSummaryId) {
 
-        try {
+        String query = "FROM OrderSummary os WHERE os.orderSummaryId = :orderSummaryId";
+        TypedQuery<OrderSummary> result = this.entityManager.createQuery(query, OrderSummary.class)
+                .setParameter("orderSummaryId", orderSummaryId)
+                .setMaxResults(1);
 
-            String query = "FROM OrderSummary os WHERE os.orderSummaryId = :orderSummaryId";
-            TypedQuery<OrderSummary> result = this.entityManager.createQuery(query, OrderSummary.class)
-                    .setParameter("orderSummaryId", orderSummaryId);
+        List<OrderSummary> entities = result.getResultList();
 
-            OrderSummary entity = result.getSingleResult();
+        if (!entities.isEmpty()) {
 
-            Order order = new Order(entity);
-            order.setItens(this.getItensByOrderSummaryId(entity.getOrderSummaryId()));
+            Order order = new Order(entities.get(0));
+            order.setItens(this.getItensByOrderSummaryId(orderSummaryId));
 
             return order;
+        }
 
-        } catch (NoResultException nre) {
+        OrderSummaryArchive archivedEntity = this.entityManager.find(OrderSummaryArchive.class, orderSummaryId);
 
-            logger.error(nre.getMessage());
+        if (archivedEntity == null) {
+            this.repositoryLookup.logMiss("OrderSummary or OrderSummaryArchive with orderSummaryId");
 
             return null;
         }
+
+        Order order = new Order(archivedEntity);
+        order.setItens(this.getArchivedItensByOrderSummaryId(orderSummaryId));
+
+        return order;
+    }
+
+    @Override
+    public int getOrderSummaryIdByOrderId(int orderId) {
+
+        String query = "SELECT o.orderSummaryId FROM Order o WHERE o.orderId = :orderId";
+        TypedQuery<Integer> result = this.entityManager.createQuery(query, Integer.class)
+                .setParameter("orderId", orderId);
+        List<Integer> orderSummaryIds = result.getResultList();
+
+        if (orderSummaryIds.isEmpty()) {
+
+            OrderArchive archivedEntity = this.entityManager.find(OrderArchive.class, orderId);
+
+            return archivedEntity == null ? 0 : archivedEntity.getOrderSummaryId();
+        }
+
+        return orderSummaryIds.get(0);
+    }
+
+    @Override
+    public List<Integer> getProductIdsByOrderId(int orderId) {
+
+        String query = "SELECT po.id.productId FROM ProductOrder po WHERE po.id.orderId = :orderId";
+        TypedQuery<Integer> result = this.entityManager.createQuery(query, Integer.class)
+                .setParameter("orderId", orderId);
+
+        return result.getResultList();
+    }
+
+    @Override
+    public Map<Integer, Long> getOpenOrderCountsByStore() {
+
+        String query = "SELECT o.storeId, COUNT(o.orderId) FROM Order o WHERE o.orderStatusId <> :finished GROUP BY o.storeId";
+        TypedQuery<Object[]> result = this.entityManager.createQuery(query, Object[].class)
+                .setParameter("finished", OrderStatusEnum.FINISHED.getId());
+
+        Map<Integer, Long> counts = new HashMap<>();
+        (result.getResultList()).forEach((row) -> counts.put((Integer) row[0], (Long) row[1]));
+
+        return counts;
+    }
+
+    @Override
+    public Map<Integer, Long> getOpenOrderCountsByProduct() {
+
+        String query = "SELECT po.id.productId, COUNT(DISTINCT o.orderId) FROM Order o, ProductOrder po WHERE o.orderId = po.id.orderId AND o.orderStatusId <> :finished GROUP BY po.id.productId";
+        TypedQuery<Object[]> result = this.entityManager.createQuery(query, Object[].class)
+                .setParameter("finished", OrderStatusEnum.FINISHED.getId());
+
+        Map<Integer, Long> counts = new HashMap<>();
+        (result.getResultList()).forEach((row) -> counts.put((Integer) row[0], (Long) row[1]));
+
+        return counts;
+    }
+
+    @Override
+    public boolean hasOpenOrdersByStoreId(int storeId) {
+
+        String query = "SELECT o.orderId FROM Order o WHERE o.storeId = :storeId AND o.orderStatusId <> :finished";
+        TypedQuery<Integer> result = this.entityManager.createQuery(query, Integer.class)
+                .setParameter("storeId", storeId)
+                .setParameter("finished", OrderStatusEnum.FINISHED.getId())
+                .setMaxResults(1);
+
+        return !result.getResultList().isEmpty();
+    }
+
+    @Override
+    public boolean hasOpenOrdersByProductId(int productId) {
+
+        String query = "SELECT o.orderId FROM Order o, ProductOrder po WHERE o.orderId = po.id.orderId AND po.id.productId = :productId AND o.orderStatusId <> :finished";
+        TypedQuery<Integer> result = this.entityManager.createQuery(query, Integer.class)
+                .setParameter("productId", productId)
+                .setParameter("finished", OrderStatusEnum.FINISHED.getId())
+                .setMaxResults(1);
+
+        return !result.getResultList().isEmpty();
     }
 
     @Override
@@ -207,6 +370,158 @@ public class OrderRepository implements IOrderRepository {
         return true;
     }
 
+    @Override
+    public boolean updateOrderSummaryStatus(int orderSummaryId, int expectedOrderStatusId, int orderStatusId,
+            LocalDateTime lastUpdate) {
+
+        String query = "UPDATE OrderSummary os SET os.orderStatusId = :orderStatusId, os.lastUpdate = :lastUpdate WHERE os.orderSummaryId = :orderSummaryId AND os.orderStatusId = :expectedOrderStatusId";
+
+        return this.entityManager.createQuery(query)
+                .setParameter("orderStatusId", orderStatusId)
+                .setParameter("lastUpdate", lastUpdate)
+                .setParameter("orderSummaryId", orderSummaryId)
+                .setParameter("expectedOrderStatusId", expectedOrderStatusId)
+                .executeUpdate() == 1;
+    }
+
+    @Override
+    public List<Integer> getArchivableOrderSummaryIds(LocalDateTime threshold, int limit) {
+
+        String query = "SELECT os.orderSummaryId FROM OrderSummary os WHERE os.orderStatusId = :finished AND os.lastUpdate < :threshold AND NOT EXISTS (SELECT o.orderId FROM Order o WHERE o.orderSummaryId = os.orderSummaryId AND o.orderStatusId <> :finished) ORDER BY os.orderSummaryId ASC";
+        TypedQuery<Integer> result = this.entityManager.createQuery(query, Integer.class)
+                .setParameter("finished", OrderStatusEnum.FINISHED.getId())
+                .setParameter("threshold", threshold)
+                .setMaxResults(limit);
+
+        return result.getResultList();
+    }
+
+    @Override
+    public int archiveOrderSummaries(List<Integer> orderSummaryIds, LocalDateTime threshold) {
+
+        if (orderSummaryIds == null || orderSummaryIds.isEmpty()) {
+            return 0;
+        }
+
+        this.entityManager.flush();
+
+        // The candidates were read without locks, so re-check them under FOR UPDATE before copying and deleting
+        List<Integer> archivableIds = this.lockArchivableOrderSummaryIds(orderSummaryIds, threshold);
+
+        if (archivableIds.isEmpty()) {
+            return 0;
+        }
+
+        this.executeArchiveStatement("INSERT INTO tb_orderSummaryArchive (pk_orderSummaryId, fk_userId, fk_paymentMethodId, totalPrice, totalDiscountPercentage, finalPrice, installment, creationDate, lastUpdate, fk_orderStatusId, archiveDate) SELECT pk_orderSummaryId, fk_userId, fk_paymentMethodId, totalPrice, totalDiscountPercentage, finalPrice, installment, creationDate, lastUpdate, fk_orderStatusId, NOW() FROM tb_orderSummary WHERE pk_orderSummaryId IN (:orderSummaryIds)", archivableIds);
+        this.executeArchiveStatement("INSERT INTO tb_orderArchive (pk_orderId, fk_orderSummaryId, fk_storeId, totalPrice, totalDiscountPercentage, finalPrice, creationDate, lastUpdate, fk_orderStatusId, archiveDate) SELECT pk_orderId, fk_orderSummaryId, fk_storeId, totalPrice, totalDiscountPercentage, finalPrice, creationDate, lastUpdate, fk_orderStatusId, NOW() FROM tb_order WHERE fk_orderSummaryId IN (:orderSummaryIds)", archivableIds);
+        this.executeArchiveStatement("INSERT INTO tb_productOrderArchive (pk_fk_productId, pk_fk_orderId, quantity) SELECT po.pk_fk_productId, po.pk_fk_orderId, po.quantity FROM tb_product_order po INNER JOIN tb_order o ON o.pk_orderId = po.pk_fk_orderId WHERE o.fk_orderSummaryId IN (:orderSummaryIds)", archivableIds);
+        this.executeArchiveStatement("INSERT INTO tb_deliveryArchive (pk_deliveryId, fk_deliveryServiceId, fk_orderId, fk_senderAddressId, fk_receiverAddressId, price, isSuccess) SELECT d.pk_deliveryId, d.fk_deliveryServiceId, d.fk_orderId, d.fk_senderAddressId, d.fk_receiverAddressId, d.price, d.isSuccess FROM tb_delivery d INNER JOIN tb_order o ON o.pk_orderId = d.fk_orderId WHERE o.fk_orderSummaryId IN (:orderSummaryIds)", archivableIds);
+
+        this.executeArchiveStatement("DELETE d FROM tb_delivery d INNER JOIN tb_order o ON o.pk_orderId = d.fk_orderId WHERE o.fk_orderSummaryId IN (:orderSummaryIds)", archivableIds);
+        this.executeArchiveStatement("DELETE po FROM tb_product_order po INNER JOIN tb_order o ON o.pk_orderId = po.pk_fk_orderId WHERE o.fk_orderSummaryId IN (:orderSummaryIds)", archivableIds);
+        this.executeArchiveStatement("DELETE FROM tb_order WHERE fk_orderSummaryId IN (:orderSummaryIds)", archivableIds);
+        int archived = this.executeArchiveStatement("DELETE FROM tb_orderSummary WHERE pk_orderSummaryId IN (:orderSummaryIds)", archivableIds);
+
+        this.entityManager.clear();
+
+        return archived;
+    }
+
+    private List<Integer> lockArchivableOrderSummaryIds(List<Integer> orderSummaryIds, LocalDateTime threshold) {
+
+        String summaryQuery = "SELECT os.pk_orderSummaryId FROM tb_orderSummary os WHERE os.pk_orderSummaryId IN (:orderSummaryIds) AND os.fk_orderStatusId = :finished AND os.lastUpdate < :threshold FOR UPDATE";
+
+        @SuppressWarnings("unchecked")
+        List<Number> summaryRows = this.entityManager.createNativeQuery(summaryQuery)
+                .setParameter("orderSummaryIds", orderSummaryIds)
+                .setParameter("finished", OrderStatusEnum.FINISHED.getId())
+                .setParameter("threshold", threshold)
+                .getResultList();
+
+        Set<Integer> lockedIds = new HashSet<>();
+        summaryRows.forEach((row) -> lockedIds.add(row.intValue()));
+
+        if (lockedIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        String orderQuery = "SELECT o.fk_orderSummaryId, o.fk_orderStatusId FROM tb_order o WHERE o.fk_orderSummaryId IN (:orderSummaryIds) FOR UPDATE";
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> orderRows = this.entityManager.createNativeQuery(orderQuery)
+                .setParameter("orderSummaryIds", lockedIds)
+                .getResultList();
+
+        for (Object[] row : orderRows) {
+            if (((Number) row[1]).intValue() != OrderStatusEnum.FINISHED.getId()) {
+                lockedIds.remove(((Number) row[0]).intValue());
+            }
+        }
+
+        List<Integer> archivableIds = new ArrayList<>(lockedIds);
+        Collections.sort(archivableIds);
+
+        return archivableIds;
+    }
+
+    private int executeArchiveStatement(String statement, List<Integer> orderSummaryIds) {
+
+        return NativeStatements.update(this.entityManager, statement)
+                .setParameter("orderSummaryIds", orderSummaryIds)
+                .executeUpdate();
+    }
+
+    private List<Order> getArchivedOrdersByOrderSummaryId(int orderSummaryId) {
+
+        String query = "FROM OrderArchive o WHERE o.orderSummaryId = :orderSummaryId ORDER BY o.orderId ASC";
+        TypedQuery<OrderArchive> result = this.entityManager.createQuery(query, OrderArchive.class)
+                .setParameter("orderSummaryId", orderSummaryId);
+        List<OrderArchive> entities = result.getResultList();
+
+        if (entities == null || entities.isEmpty()) {
+            return null;
+        }
+
+        List<Order> orders = new ArrayList<>();
+        (entities).forEach((entity) -> orders.add(new Order(entity)));
+
+        return orders;
+    }
+
+    private List<OrderItemDTO> getArchivedItensByOrderId(int orderId) {
+
+        String query = "FROM ProductOrderArchive po WHERE po.id.orderId = :orderId";
+        TypedQuery<ProductOrderArchive> result = this.entityManager.createQuery(query, ProductOrderArchive.class)
+                .setParameter("orderId", orderId);
+        List<ProductOrderArchive> entities = result.getResultList();
+
+        if (entities == null || entities.isEmpty()) {
+            return null;
+        }
+
+        ArrayList<OrderItemDTO> itens = new ArrayList<>();
+        (entities).forEach((item) -> itens.add(item.toDTO()));
+
+        return itens;
+    }
+
+    private List<OrderItemDTO> getArchivedItensByOrderSummaryId(int orderSummaryId) {
+
+        String query = "SELECT po FROM ProductOrderArchive po, OrderArchive o WHERE o.orderId = po.id.orderId AND o.orderSummaryId = :orderSummaryId";
+        TypedQuery<ProductOrderArchive> result = this.entityManager.createQuery(query, ProductOrderArchive.class)
+                .setParameter("orderSummaryId", orderSummaryId);
+        List<ProductOrderArchive> entities = result.getResultList();
+
+        if (entities == null || entities.isEmpty()) {
+            return null;
+        }
+
+        ArrayList<OrderItemDTO> itens = new ArrayList<>();
+        (entities).forEach((item) -> itens.add(item.toDTO()));
+
+        return itens;
+    }
+
     private List<OrderItemDTO> getItensByOrderId(int orderId) {
 
         String query = "FROM ProductOrder po WHERE po.id.orderId = :orderId";
@@ -0,0 +1,52 @@
+package ecommerce.system.api.repositories.implementations;
+
+import ecommerce.system.api.models.OrderState;
+import ecommerce.system.api.repositories.IOrderStateRepository;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import javax.transaction.Transactional;
+import java.util.List;
+
+@Repository
+@Transactional(rollbackOn = { Exception.class })
+public class OrderStateRepository implements IOrderStateRepository {
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Override
+    public void saveOrderState(OrderState orderState) {
+
+        this.entityManager.merge(orderState);
+    }
+
+    @Override
+    public OrderState getOrderStateById(int orderId) {
+
+        return this.entityManager.find(OrderState.class, orderId);
+    }
+
+    @Override
+    public List<OrderState> getOrderStatesByOrderSummaryId(int orderSummaryId) {
+
+        String query = "FROM OrderState os WHERE os.orderSummaryId = :orderSummaryId ORDER BY os.orderId ASC";
+        TypedQuery<OrderState> result = this.entityManager.createQuery(query, OrderState.class)
+                .setParameter("orderSummaryId", orderSummaryId);
+        List<OrderState> entities = result.getResultList();
+
+        if (entities == null || entities.isEmpty()) {
+            return null;
+        }
+
+        return entities;
+    }
+
+    @Override
+    public void deleteAll() {
+
+        this.entityManager.createQuery("DELETE FROM OrderState").executeUpdate();
+    }
+}
@@ -1,7 +1,9 @@
 package ecommerce.system.api.repositories.implementations;
 
+import ecommerce.system.api.configuration.CacheRegions;
 import ecommerce.system.api.models.PaymentMethod;
 import ecommerce.system.api.repositories.IPaymentMethodRepository;
+import org.hibernate.annotations.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
@@ -21,7 +23,9 @@ public class PaymentMethodRepository implements IPaymentMethodRepository {
     public List<PaymentMethod> getPaymentMethods() {
 
         String query = "FROM PaymentMethod pm WHERE pm.enable = true";
-        TypedQuery<PaymentMethod> result = this.entityManager.createQuery(query, PaymentMethod.class);
+        TypedQuery<PaymentMethod> result = this.entityManager.createQuery(query, PaymentMethod.class)
+                .setHint(QueryHints.CACHEABLE, true)
+                .setHint(QueryHints.CACHE_REGION, CacheRegions.CATALOG_QUERIES);
         List<PaymentMethod> entities = result.getResultList();
 
         if (entities == null || entities.isEmpty()) {
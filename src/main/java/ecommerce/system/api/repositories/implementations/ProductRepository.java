@@ -1,13 +1,14 @@
 package ecommerce.system.api.repositories.implementations;
 
+import ecommerce.system.api.configuration.CacheRegions;
 import ecommerce.system.api.models.*;
 import ecommerce.system.api.models.embedded.ProductDetailKey;
 import ecommerce.system.api.repositories.IProductDetailRepository;
 import ecommerce.system.api.repositories.IProductRepository;
 import ecommerce.system.api.repositories.IProductSubtypeRepository;
 import ecommerce.system.api.repositories.IProductTypeRepository;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import ecommerce.system.api.tools.RepositoryLookup;
+import org.hibernate.annotations.QueryHints;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
@@ -21,20 +22,22 @@ import java.util.List;
 @Transactional(rollbackOn = { Exception.class })
 public class ProductRepository implements IProductRepository {
 
-    private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final IProductDetailRepository detailRepository;
     private final IProductSubtypeRepository productSubtypeRepository;
     private final IProductTypeRepository productTypeRepository;
+    private final RepositoryLookup repositoryLookup;
 
     @PersistenceContext
     EntityManager entityManager;
 
     @Autowired
     public ProductRepository(IProductDetailRepository detailRepository,
-            IProductSubtypeRepository productSubtypeRepository, IProductTypeRepository productTypeRepository) {
+            IProductSubtypeRepository productSubtypeRepository, IProductTypeRepository productTypeRepository,
+            RepositoryLookup repositoryLookup) {
         this.detailRepository = detailRepository;
         this.productSubtypeRepository = productSubtypeRepository;
         this.productTypeRepository = productTypeRepository;
+        this.repositoryLookup = repositoryLookup;
     }
 
     @Override
@@ -131,31 +134,27 @@ public class ProductRepository implements IProductRepository {
     @Override
     public Product getProductById(int id) {
 
-        try {
-
-            String query = "FROM Product p WHERE p.active = true AND p.productId = :productId";
-            TypedQuery<Product> result = this.entityManager.createQuery(query, Product.class)
-                    .setParameter("productId", id);
-            Product entity = result.getSingleResult();
-
-            ProductType productType = this.productTypeRepository.getById(entity.getProductTypeId());
-            ProductSubtype productSubtype = this.productSubtypeRepository.getById(entity.getProductSubtypeId());
-            List<ProductDetail> details = this.detailRepository.getDetailsByProductId(entity.getProductId());
-            List<ProductImage> images = this.getImagesByProductId(entity.getProductId());
+        String query = "FROM Product p WHERE p.active = true AND p.productId = :productId";
+        TypedQuery<Product> result = this.entityManager.createQuery(query, Product.class)
+                .setParameter("productId", id);
 
-            entity.setDetails(details);
-            entity.setImages(images);
-            entity.setProductType(productType);
-            entity.setProductSubtype(productSubtype);
+        Product entity = this.repositoryLookup.findFirst(result, "Product with productId").orElse(null);
 
-            return entity;
+        if (entity == null) {
+            return null;
+        }
 
-        } catch (NoResultException nre) {
+        ProductType productType = this.productTypeRepository.getById(entity.getProductTypeId());
+        ProductSubtype productSubtype = this.productSubtypeRepository.getById(entity.getProductSubtypeId());
+        List<ProductDetail> details = this.detailRepository.getDetailsByProductId(entity.getProductId());
+        List<ProductImage> images = this.getImagesByProductId(entity.getProductId());
 
-            logger.error(nre.getMessage());
+        entity.setDetails(details);
+        entity.setImages(images);
+        entity.setProductType(productType);
+        entity.setProductSubtype(productSubtype);
 
-            return null;
-        }
+        return entity;
     }
 
     @Override
@@ -164,7 +163,9 @@ public class ProductRepository implements IProductRepository {
         String query = "SELECT pdl FROM ProductDetailLabel pdl, DetailLabelProductSubtypeEntity dlps WHERE dlps.id.detailLabelId = pdl.detailLabelId AND dlps.id.productSubtypeId = :productSubtypeId ORDER BY pdl.detailLabelId ASC";
         TypedQuery<ProductDetailLabel> result = this.entityManager
                 .createQuery(query, ProductDetailLabel.class)
-                .setParameter("productSubtypeId", productSubtypeId);
+                .setParameter("productSubtypeId", productSubtypeId)
+                .setHint(QueryHints.CACHEABLE, true)
+                .setHint(QueryHints.CACHE_REGION, CacheRegions.CATALOG_QUERIES);
         List<ProductDetailLabel> entities = result.getResultList();
 
         if (entities == null || entities.isEmpty()) {
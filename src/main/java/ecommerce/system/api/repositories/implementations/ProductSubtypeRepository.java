@@ -1,7 +1,9 @@
 package ecommerce.system.api.repositories.implementations;
 
+import ecommerce.system.api.configuration.CacheRegions;
 import ecommerce.system.api.models.ProductSubtype;
 import ecommerce.system.api.repositories.IProductSubtypeRepository;
+import org.hibernate.annotations.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
@@ -22,7 +24,9 @@ public class ProductSubtypeRepository implements IProductSubtypeRepository {
 
         String query = "FROM ProductSubtype p WHERE p.productTypeId = :productTypeId ORDER BY p.productTypeId ASC";
         TypedQuery<ProductSubtype> result = this.entityManager.createQuery(query, ProductSubtype.class)
-                .setParameter("productTypeId", productTypeId);
+                .setParameter("productTypeId", productTypeId)
+                .setHint(QueryHints.CACHEABLE, true)
+                .setHint(QueryHints.CACHE_REGION, CacheRegions.CATALOG_QUERIES);
         List<ProductSubtype> entities = result.getResultList();
 
         if (entities == null || entities.isEmpty()) {
@@ -1,7 +1,9 @@
 package ecommerce.system.api.repositories.implementations;
 
+import ecommerce.system.api.configuration.CacheRegions;
 import ecommerce.system.api.models.ProductType;
 import ecommerce.system.api.repositories.IProductTypeRepository;
+import org.hibernate.annotations.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
@@ -21,7 +23,9 @@ public class ProductTypeRepository implements IProductTypeRepository {
     public List<ProductType> getAll() {
 
         String query = "FROM ProductType p ORDER BY p.productTypeId ASC";
-        TypedQuery<ProductType> result = this.entityManager.createQuery(query, ProductType.class);
+        TypedQuery<ProductType> result = this.entityManager.createQuery(query, ProductType.class)
+                .setHint(QueryHints.CACHEABLE, true)
+                .setHint(QueryHints.CACHE_REGION, CacheRegions.CATALOG_QUERIES);
         List<ProductType> entities = result.getResultList();
 
         if (entities == null || entities.isEmpty()) {
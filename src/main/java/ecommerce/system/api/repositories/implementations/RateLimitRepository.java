@@ -0,0 +1,62 @@
+package ecommerce.system.api.repositories.implementations;
+
+import ecommerce.system.api.repositories.IRateLimitRepository;
+import ecommerce.system.api.tools.NativeStatements;
+import ecommerce.system.api.tools.TokenBucket;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.transaction.Transactional;
+
+@Repository
+@Transactional(rollbackOn = { Exception.class })
+public class RateLimitRepository implements IRateLimitRepository {
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Override
+    public long tryConsume(String key, int capacity, int refillPerMinute, long now) {
+
+        String insert = "INSERT IGNORE INTO tb_rateLimitBucket (bucketKey, tokens, capacity, refillPerMinute, lastRefill) "
+                + "VALUES (:bucketKey, :capacity, :capacity, :refillPerMinute, :now)";
+        NativeStatements.update(this.entityManager, insert)
+                .setParameter("bucketKey", key)
+                .setParameter("capacity", capacity)
+                .setParameter("refillPerMinute", refillPerMinute)
+                .setParameter("now", now)
+                .executeUpdate();
+
+        String select = "SELECT b.tokens, b.lastRefill FROM tb_rateLimitBucket b WHERE b.bucketKey = :bucketKey FOR UPDATE";
+        Object[] row = (Object[]) this.entityManager.createNativeQuery(select)
+                .setParameter("bucketKey", key)
+                .getSingleResult();
+
+        TokenBucket bucket = new TokenBucket(((Number) row[0]).doubleValue(), ((Number) row[1]).longValue());
+        long wait = bucket.tryConsume(capacity, refillPerMinute, now);
+
+        String update = "UPDATE tb_rateLimitBucket SET tokens = :tokens, capacity = :capacity, "
+                + "refillPerMinute = :refillPerMinute, lastRefill = :lastRefill WHERE bucketKey = :bucketKey";
+        NativeStatements.update(this.entityManager, update)
+                .setParameter("tokens", bucket.getTokens())
+                .setParameter("capacity", capacity)
+                .setParameter("refillPerMinute", refillPerMinute)
+                .setParameter("lastRefill", bucket.getLastRefill())
+                .setParameter("bucketKey", key)
+                .executeUpdate();
+
+        return wait;
+    }
+
+    @Override
+    public int evictFull(long now) {
+
+        String query = "DELETE FROM tb_rateLimitBucket WHERE refillPerMinute > 0 "
+                + "AND tokens + (:now - lastRefill) * refillPerMinute / 60000 >= capacity";
+
+        return NativeStatements.update(this.entityManager, query)
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+}
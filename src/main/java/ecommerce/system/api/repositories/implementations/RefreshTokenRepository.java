@@ -0,0 +1,86 @@
+package ecommerce.system.api.repositories.implementations;
+
+import ecommerce.system.api.models.RefreshToken;
+import ecommerce.system.api.repositories.IRefreshTokenRepository;
+import ecommerce.system.api.tools.RepositoryLookup;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+
+@Repository
+@Transactional(rollbackOn = { Exception.class })
+public class RefreshTokenRepository implements IRefreshTokenRepository {
+
+    private final RepositoryLookup repositoryLookup;
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Autowired
+    public RefreshTokenRepository(RepositoryLookup repositoryLookup) {
+        this.repositoryLookup = repositoryLookup;
+    }
+
+    @Override
+    public void create(RefreshToken refreshToken) {
+
+        this.entityManager.persist(refreshToken);
+    }
+
+    @Override
+    public RefreshToken getByTokenHash(String tokenHash) {
+
+        String query = "FROM RefreshToken r WHERE r.tokenHash = :tokenHash";
+        TypedQuery<RefreshToken> result = this.entityManager.createQuery(query, RefreshToken.class)
+                .setParameter("tokenHash", tokenHash);
+
+        return this.repositoryLookup.findFirst(result, "RefreshToken with tokenHash").orElse(null);
+    }
+
+    @Override
+    public boolean markAsUsed(String tokenHash, LocalDateTime usedDate) {
+
+        String query = "UPDATE RefreshToken r SET r.usedDate = :usedDate WHERE r.tokenHash = :tokenHash "
+                + "AND r.usedDate IS NULL AND r.revoked = false AND r.expirationDate > :usedDate";
+
+        return this.entityManager.createQuery(query)
+                .setParameter("usedDate", usedDate)
+                .setParameter("tokenHash", tokenHash)
+                .executeUpdate() == 1;
+    }
+
+    @Override
+    public int revokeFamily(String familyId) {
+
+        String query = "UPDATE RefreshToken r SET r.revoked = true WHERE r.familyId = :familyId AND r.revoked = false";
+
+        return this.entityManager.createQuery(query)
+                .setParameter("familyId", familyId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int revokeByUserId(int userId) {
+
+        String query = "UPDATE RefreshToken r SET r.revoked = true WHERE r.userId = :userId AND r.revoked = false";
+
+        return this.entityManager.createQuery(query)
+                .setParameter("userId", userId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime expirationDate) {
+
+        String query = "DELETE FROM RefreshToken r WHERE r.expirationDate < :expirationDate";
+
+        return this.entityManager.createQuery(query)
+                .setParameter("expirationDate", expirationDate)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,75 @@
+package ecommerce.system.api.repositories.implementations;
+
+import ecommerce.system.api.models.ReportJob;
+import ecommerce.system.api.repositories.IReportJobRepository;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@Transactional(rollbackOn = { Exception.class })
+public class ReportJobRepository implements IReportJobRepository {
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Override
+    public void createJob(ReportJob reportJob) {
+
+        this.entityManager.persist(reportJob);
+        this.entityManager.flush();
+    }
+
+    @Override
+    public ReportJob getJobById(String reportJobId) {
+
+        return this.entityManager.find(ReportJob.class, reportJobId);
+    }
+
+    @Override
+    public List<ReportJob> getJobsByOwner(String owner) {
+
+        String query = "FROM ReportJob j WHERE j.owner = :owner ORDER BY j.creationDate DESC";
+        TypedQuery<ReportJob> result = this.entityManager.createQuery(query, ReportJob.class)
+                .setParameter("owner", owner);
+        List<ReportJob> entities = result.getResultList();
+
+        if (entities == null || entities.isEmpty()) {
+            return null;
+        }
+
+        return entities;
+    }
+
+    @Override
+    public List<ReportJob> getJobsByStatusIds(List<Integer> reportJobStatusIds) {
+
+        String query = "FROM ReportJob j WHERE j.reportJobStatusId IN (:reportJobStatusIds)";
+        TypedQuery<ReportJob> result = this.entityManager.createQuery(query, ReportJob.class)
+                .setParameter("reportJobStatusIds", reportJobStatusIds);
+
+        return result.getResultList();
+    }
+
+    @Override
+    public List<ReportJob> getJobsFinishedBefore(List<Integer> reportJobStatusIds, LocalDateTime finishDate) {
+
+        String query = "FROM ReportJob j WHERE j.reportJobStatusId IN (:reportJobStatusIds) AND j.finishDate < :finishDate";
+        TypedQuery<ReportJob> result = this.entityManager.createQuery(query, ReportJob.class)
+                .setParameter("reportJobStatusIds", reportJobStatusIds)
+                .setParameter("finishDate", finishDate);
+
+        return result.getResultList();
+    }
+
+    @Override
+    public void updateJob(ReportJob reportJob) {
+
+        this.entityManager.merge(reportJob);
+    }
+}
@@ -1,364 +1,767 @@
 package ecommerce.system.api.repositories.implementations;
 
+import ecommerce.system.api.dto.BestSellerDTO;
+import ecommerce.system.api.dto.ReportPageDTO;
+import ecommerce.system.api.dto.ReportPageRequestDTO;
+import ecommerce.system.api.enums.ReportPeriodEnum;
+import ecommerce.system.api.enums.ReportTypeEnum;
 import ecommerce.system.api.models.*;
 import ecommerce.system.api.repositories.IReportRepository;
+import ecommerce.system.api.tools.BestSellerTracker;
+import ecommerce.system.api.tools.Money;
+import ecommerce.system.api.tools.NativeStatements;
+import ecommerce.system.api.tools.ReportCache;
+import ecommerce.system.api.tools.ReportPager;
+import ecommerce.system.api.tools.RepositoryLookup;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
-import javax.persistence.NoResultException;
 import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
 import javax.persistence.TypedQuery;
 import javax.transaction.Transactional;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 @Repository
 @Transactional(rollbackOn = { Exception.class })
 public class ReportRepository implements IReportRepository {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final BestSellerTracker bestSellerTracker;
+    private final ReportCache reportCache;
+    private final ReportPager reportPager;
+    private final RepositoryLookup repositoryLookup;
 
     @PersistenceContext
     EntityManager entityManager;
 
+    @Autowired
+    public ReportRepository(BestSellerTracker bestSellerTracker, ReportCache reportCache, ReportPager reportPager,
+            RepositoryLookup repositoryLookup) {
+        this.bestSellerTracker = bestSellerTracker;
+        this.reportCache = reportCache;
+        this.reportPager = reportPager;
+        this.repositoryLookup = repositoryLookup;
+    }
+
     @Override
-    public List<OrdersByStoreReport> getOrdersReport() {
+    public OrdersByStoreReport getOrdersReportByStoreId(int storeId) {
 
-        String query = "FROM OrdersByStoreReport o";
-        TypedQuery<OrdersByStoreReport> result = this.entityManager.createQuery(query,
-                OrdersByStoreReport.class);
-        List<OrdersByStoreReport> entities = result.getResultList();
+        String query = "FROM OrdersByStoreReport o WHERE o.storeId = :storeId";
+        TypedQuery<OrdersByStoreReport> result = this.entityManager
+                .createQuery(query, OrdersByStoreReport.class)
+                .setParameter("storeId", storeId);
 
-        if (entities == null || entities.isEmpty()) {
-            return null;
-        }
+        return this.repositoryLookup.findFirst(result, "OrdersByStoreReport with storeId").orElse(null);
+    }
 
-        return entities;
+    @Override
+    public ProductsByStoreReport getProductsReportByStoreId(int storeId) {
+
+        String query = "FROM ProductsByStoreReport p WHERE p.storeId = :storeId";
+        TypedQuery<ProductsByStoreReport> result = this.entityManager
+                .createQuery(query, ProductsByStoreReport.class)
+                .setParameter("storeId", storeId);
+
+        return this.repositoryLookup.findFirst(result, "ProductsByStoreReport with storeId").orElse(null);
     }
 
     @Override
-    public OrdersByStoreReport getOrdersReportByStoreId(int storeId) {
+    public long streamStoreCashFlowReport(Integer storeId, LocalDate startDate, LocalDate endDate,
+            Consumer<StoreCashFlowByOrderReport> consumer) {
 
-        try {
+        List<String> conditions = new ArrayList<>();
 
-            String query = "FROM OrdersByStoreReport o WHERE o.storeId = :storeId";
-            TypedQuery<OrdersByStoreReport> result = this.entityManager
-                    .createQuery(query, OrdersByStoreReport.class)
-                    .setParameter("storeId", storeId);
-            OrdersByStoreReport ordersByStoreReport = result.getSingleResult();
+        if (storeId != null) {
+            conditions.add("s.storeId = :storeId");
+        }
 
-            return ordersByStoreReport;
+        if (startDate != null) {
+            conditions.add("s.timestamp >= :startDate AND s.timestamp < :endDate");
+        }
 
-        } catch (NoResultException nre) {
+        String query = "FROM StoreCashFlowReport s"
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + " ORDER BY s.timestamp";
+        org.hibernate.query.Query<StoreCashFlowByOrderReport> result = this.entityManager.unwrap(Session.class)
+                .createQuery(query, StoreCashFlowByOrderReport.class);
 
-            logger.error(nre.getMessage());
+        if (storeId != null) {
+            result.setParameter("storeId", storeId);
+        }
 
-            return null;
+        if (startDate != null) {
+            result.setParameter("startDate", startDate.atStartOfDay())
+                    .setParameter("endDate", endDate.plusDays(1).atStartOfDay());
         }
+
+        return this.scroll(result, consumer);
     }
 
     @Override
-    public List<ProductsByStoreReport> getProductsReport() {
+    public StoresByUserReport getStoresByUserReportByUserId(int userId) {
 
-        String query = "FROM ProductsByStoreReport p";
-        TypedQuery<ProductsByStoreReport> result = this.entityManager.createQuery(query,
-                ProductsByStoreReport.class);
-        List<ProductsByStoreReport> entities = result.getResultList();
+        String query = "FROM StoresByUserReport s WHERE s.userId = :userId";
+        TypedQuery<StoresByUserReport> result = this.entityManager
+                .createQuery(query, StoresByUserReport.class)
+                .setParameter("userId", userId);
 
-        if (entities == null || entities.isEmpty()) {
-            return null;
+        return this.repositoryLookup.findFirst(result, "StoresByUserReport with userId").orElse(null);
+    }
+
+    @Override
+    public long streamSystemCashFlowByOrderReport(LocalDate startDate, LocalDate endDate,
+            Consumer<SystemCashFlowByOrderReport> consumer) {
+
+        String query = "FROM SystemCashFlowByOrderReport s"
+                + (startDate != null ? " WHERE s.timestamp >= :startDate AND s.timestamp < :endDate" : "")
+                + " ORDER BY s.timestamp";
+        org.hibernate.query.Query<SystemCashFlowByOrderReport> result = this.entityManager.unwrap(Session.class)
+                .createQuery(query, SystemCashFlowByOrderReport.class);
+
+        if (startDate != null) {
+            result.setParameter("startDate", startDate.atStartOfDay())
+                    .setParameter("endDate", endDate.plusDays(1).atStartOfDay());
         }
 
-        return entities;
+        return this.scroll(result, consumer);
     }
 
     @Override
-    public ProductsByStoreReport getProductsReportByStoreId(int storeId) {
-
-        try {
+    public List<SystemCashFlowRevenueReport> getSystemCashFlowRevenueReportByDateRange(LocalDate startDate,
+            LocalDate endDate) {
 
-            String query = "FROM ProductsByStoreReport p WHERE p.storeId = :storeId";
-            TypedQuery<ProductsByStoreReport> result = this.entityManager
-                    .createQuery(query, ProductsByStoreReport.class)
-                    .setParameter("storeId", storeId);
-            ProductsByStoreReport productsByStoreReport = result.getSingleResult();
+        Map<ReportPeriodEnum, List<LocalDate>> buckets = this.getRollupBuckets(startDate, endDate.plusDays(1));
 
-            return productsByStoreReport;
+        if (buckets.isEmpty()) {
+            return null;
+        }
 
-        } catch (NoResultException nre) {
+        String query = "SELECT SUM(r.revenue), MAX(r.lastTransaction) FROM tb_systemRevenueRollup r WHERE "
+                + this.getRollupBucketsCondition(buckets) + " HAVING COUNT(*) > 0";
+        Query result = this.entityManager.createNativeQuery(query);
+        this.setRollupBucketsParameters(result, buckets);
 
-            logger.error(nre.getMessage());
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = result.getResultList();
 
+        if (rows == null || rows.isEmpty()) {
             return null;
         }
+
+        List<SystemCashFlowRevenueReport> reports = new ArrayList<>();
+
+        for (Object[] row : rows) {
+            reports.add(new SystemCashFlowRevenueReport(
+                    UUID.nameUUIDFromBytes(("system:" + startDate + ":" + endDate).getBytes(StandardCharsets.UTF_8)),
+                    Money.of((BigDecimal) row[0]), ((Timestamp) row[1]).toLocalDateTime()));
+        }
+
+        return reports;
     }
 
     @Override
-    public List<StoreCashFlowByOrderReport> getStoreCashFlowReport() {
+    public ReportPageDTO getReportPage(ReportTypeEnum reportType, Integer scopeId, LocalDate startDate,
+            LocalDate endDate, ReportPageRequestDTO page) {
 
-        String query = "FROM StoreCashFlowReport s";
-        TypedQuery<StoreCashFlowByOrderReport> result = this.entityManager.createQuery(query,
-                StoreCashFlowByOrderReport.class);
-        List<StoreCashFlowByOrderReport> entities = result.getResultList();
+        ReportPager.Spec spec = this.reportPager.getSpec(reportType);
 
-        if (entities == null || entities.isEmpty()) {
-            return null;
+        if (startDate != null && reportType == ReportTypeEnum.STORE_CASH_FLOW_REVENUE) {
+            return this.reportPager.page(spec, this.getStoreRevenueFromRollups(scopeId, startDate, endDate), page);
         }
 
-        return entities;
+        if (startDate != null && reportType == ReportTypeEnum.SYSTEM_CASH_FLOW_REVENUE) {
+            return this.reportPager.page(spec, this.getSystemCashFlowRevenueReportByDateRange(startDate, endDate),
+                    page);
+        }
+
+        return this.reportPager.toPage(spec, page, this.getPageRows(spec, scopeId, null, startDate, endDate, page));
     }
 
     @Override
-    public List<StoreCashFlowByOrderReport> getStoreCashFlowReportByDateRange(LocalDate startDate,
-            LocalDate endDate) {
+    public List<Object> getReportPageRowsByStoreIdRange(ReportTypeEnum reportType, int fromStoreId, int toStoreId,
+            LocalDate startDate, LocalDate endDate, ReportPageRequestDTO page) {
 
-        String query = "FROM StoreCashFlowReport s WHERE CAST(s.timestamp as LocalDate) BETWEEN :startDate AND :endDate";
-        TypedQuery<StoreCashFlowByOrderReport> result = this.entityManager
-                .createQuery(query, StoreCashFlowByOrderReport.class)
-                .setParameter("startDate", startDate)
-                .setParameter("endDate", endDate);
-        List<StoreCashFlowByOrderReport> entities = result.getResultList();
+        return this.getPageRows(this.reportPager.getSpec(reportType), null, new int[] { fromStoreId, toStoreId },
+                startDate, endDate, page);
+    }
 
-        if (entities == null || entities.isEmpty()) {
+    @Override
+    public int[] getStoreIdBounds() {
+
+        Object[] bounds = (Object[]) this.entityManager
+                .createNativeQuery("SELECT MIN(s.pk_storeId), MAX(s.pk_storeId) FROM tb_store s")
+                .getSingleResult();
+
+        if (bounds[0] == null) {
             return null;
         }
 
-        return entities;
+        return new int[] { ((Number) bounds[0]).intValue(), ((Number) bounds[1]).intValue() };
     }
 
     @Override
-    public List<StoreCashFlowByOrderReport> getStoreCashFlowReportByStoreId(int storeId) {
+    public List<BestSellerDTO> getTopProducts(ReportPeriodEnum period, LocalDate periodStart, Integer storeId,
+            int limit) {
+
+        String query = "SELECT r.storeId, r.productId, r.quantity FROM tb_productSalesRollup r "
+                + "WHERE r.periodId = :periodId AND r.periodStart = :periodStart"
+                + (storeId != null ? " AND r.storeId = :storeId" : "")
+                + " ORDER BY r.quantity DESC, r.productId";
+        Query result = this.entityManager.createNativeQuery(query)
+                .setParameter("periodId", period.getId())
+                .setParameter("periodStart", periodStart)
+                .setMaxResults(limit);
+
+        if (storeId != null) {
+            result.setParameter("storeId", storeId);
+        }
 
-        String query = "FROM StoreCashFlowReport s WHERE s.storeId = :storeId";
-        TypedQuery<StoreCashFlowByOrderReport> result = this.entityManager
-                .createQuery(query, StoreCashFlowByOrderReport.class)
-                .setParameter("storeId", storeId);
-        List<StoreCashFlowByOrderReport> entities = result.getResultList();
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = result.getResultList();
 
-        if (entities == null || entities.isEmpty()) {
+        if (rows == null || rows.isEmpty()) {
             return null;
         }
 
-        return entities;
+        List<BestSellerDTO> products = new ArrayList<>();
+
+        for (Object[] row : rows) {
+            products.add(new BestSellerDTO(((Number) row[0]).intValue(), ((Number) row[1]).intValue(),
+                    ((Number) row[2]).longValue()));
+        }
+
+        return products;
     }
 
     @Override
-    public List<StoreCashFlowByOrderReport> getStoreCashFlowReportByStoreIdAndDateRange(int storeId,
-            LocalDate startDate, LocalDate endDate) {
-
-        String query = "FROM StoreCashFlowReport s WHERE CAST(s.timestamp as LocalDate) BETWEEN :startDate AND :endDate AND s.storeId = :storeId";
-        TypedQuery<StoreCashFlowByOrderReport> result = this.entityManager
-                .createQuery(query, StoreCashFlowByOrderReport.class)
-                .setParameter("startDate", startDate)
-                .setParameter("endDate", endDate)
-                .setParameter("storeId", storeId);
-        List<StoreCashFlowByOrderReport> entities = result.getResultList();
+    public List<BestSellerDTO> getTopStores(ReportPeriodEnum period, LocalDate periodStart, int limit) {
 
-        if (entities == null || entities.isEmpty()) {
+        String query = "SELECT r.storeId, r.quantity FROM tb_storeSalesRollup r "
+                + "WHERE r.periodId = :periodId AND r.periodStart = :periodStart ORDER BY r.quantity DESC, r.storeId";
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = this.entityManager.createNativeQuery(query)
+                .setParameter("periodId", period.getId())
+                .setParameter("periodStart", periodStart)
+                .setMaxResults(limit)
+                .getResultList();
+
+        if (rows == null || rows.isEmpty()) {
             return null;
         }
 
-        return entities;
+        List<BestSellerDTO> stores = new ArrayList<>();
+
+        for (Object[] row : rows) {
+            stores.add(new BestSellerDTO(((Number) row[0]).intValue(), null, ((Number) row[1]).longValue()));
+        }
+
+        return stores;
     }
 
     @Override
-    public List<StoreCashFlowRevenueReport> getStoreCashFlowRevenueReport() {
+    public List<Object[]> getProductSales(ReportPeriodEnum period, LocalDate periodStart) {
 
-        String query = "FROM StoreCashFlowRevenueReport s";
-        TypedQuery<StoreCashFlowRevenueReport> result = this.entityManager.createQuery(query,
-                StoreCashFlowRevenueReport.class);
-        List<StoreCashFlowRevenueReport> entities = result.getResultList();
+        String query = "SELECT r.productId, r.storeId, r.quantity FROM tb_productSalesRollup r "
+                + "WHERE r.periodId = :periodId AND r.periodStart = :periodStart";
 
-        if (entities == null || entities.isEmpty()) {
-            return null;
-        }
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = this.entityManager.createNativeQuery(query)
+                .setParameter("periodId", period.getId())
+                .setParameter("periodStart", periodStart)
+                .getResultList();
 
-        return entities;
+        return rows;
     }
 
     @Override
-    public List<StoreCashFlowRevenueReport> getStoreCashFlowRevenueReportByDateRange(LocalDate startDate,
-            LocalDate endDate) {
-
-        String query = "FROM StoreCashFlowRevenueReport s WHERE CAST(s.timestamp as LocalDate) BETWEEN :startDate AND :endDate";
-        TypedQuery<StoreCashFlowRevenueReport> result = this.entityManager
-                .createQuery(query, StoreCashFlowRevenueReport.class)
-                .setParameter("startDate", startDate)
-                .setParameter("endDate", endDate);
-        List<StoreCashFlowRevenueReport> entities = result.getResultList();
+    public void updateOrdersReport(int storeId, int previousOrderStatusId, int orderStatusId) {
+
+        String ensureRow = "INSERT IGNORE INTO tb_reportOrdersByStore (id, storeId, storeName, orders, receivedOrders, paidOrders, sentOrders, finishedOrders) SELECT UUID(), s.pk_storeId, s.name, 0, 0, 0, 0, 0 FROM tb_store s WHERE s.pk_storeId = :storeId";
+        NativeStatements.update(this.entityManager, ensureRow)
+                .setParameter("storeId", storeId)
+                .executeUpdate();
+
+        String update = "UPDATE tb_reportOrdersByStore SET "
+                + "orders = orders + IF(:previous = 0, 1, 0), "
+                + "receivedOrders = receivedOrders + IF(:current = 1, 1, 0) - IF(:previous = 1, 1, 0), "
+                + "paidOrders = paidOrders + IF(:current = 2, 1, 0) - IF(:previous = 2, 1, 0), "
+                + "sentOrders = sentOrders + IF(:current = 3, 1, 0) - IF(:previous = 3, 1, 0), "
+                + "finishedOrders = finishedOrders + IF(:current = 4, 1, 0) - IF(:previous = 4, 1, 0) "
+                + "WHERE storeId = :storeId";
+        NativeStatements.update(this.entityManager, update)
+                .setParameter("previous", previousOrderStatusId)
+                .setParameter("current", orderStatusId)
+                .setParameter("storeId", storeId)
+                .executeUpdate();
+
+        this.reportCache.invalidate(ReportTypeEnum.ORDERS, storeId);
+    }
 
-        if (entities == null || entities.isEmpty()) {
-            return null;
+    @Override
+    public void refreshStoreReports(int storeId) {
+
+        List<Number> previousProducts = this.getActiveProductsByStore(storeId, " FOR UPDATE");
+
+        NativeStatements.update(this.entityManager, "DELETE FROM tb_reportProductsByStore WHERE storeId = :storeId")
+                .setParameter("storeId", storeId)
+                .executeUpdate();
+
+        String products = "INSERT INTO tb_reportProductsByStore (id, storeId, storeName, products, activeProducts) "
+                + "SELECT UUID(), s.pk_storeId, s.name, COUNT(IF(p.isActive = true, 1, null)), COUNT(IF(p.quantity > 0 AND p.isActive = true, 1, null)) "
+                + "FROM tb_product p INNER JOIN tb_store s ON s.pk_storeId = p.fk_storeId "
+                + "WHERE s.isActive = true AND s.pk_storeId = :storeId GROUP BY s.pk_storeId";
+        NativeStatements.update(this.entityManager, products)
+                .setParameter("storeId", storeId)
+                .executeUpdate();
+
+        String storeName = "UPDATE tb_reportOrdersByStore r INNER JOIN tb_store s ON s.pk_storeId = r.storeId SET r.storeName = s.name WHERE r.storeId = :storeId";
+        NativeStatements.update(this.entityManager, storeName)
+                .setParameter("storeId", storeId)
+                .executeUpdate();
+
+        String deleteStoresByUser = "DELETE FROM tb_reportStoresByUser WHERE userId IN (SELECT su.pk_fk_userId FROM tb_store_user su WHERE su.pk_fk_storeId = :storeId)";
+        NativeStatements.update(this.entityManager, deleteStoresByUser)
+                .setParameter("storeId", storeId)
+                .executeUpdate();
+
+        String storesByUser = "INSERT INTO tb_reportStoresByUser (id, userId, stores, activeStores) "
+                + "SELECT UUID(), su.pk_fk_userId, COUNT(IF(s.isActive = true, 1, null)), COUNT(IF(r.activeProducts > 0, 1, null)) "
+                + "FROM tb_store s INNER JOIN tb_store_user su ON su.pk_fk_storeId = s.pk_storeId "
+                + "INNER JOIN tb_reportProductsByStore r ON r.storeId = s.pk_storeId "
+                + "WHERE su.pk_fk_userId IN (SELECT sus.pk_fk_userId FROM tb_store_user sus WHERE sus.pk_fk_storeId = :storeId) "
+                + "GROUP BY su.pk_fk_userId";
+        NativeStatements.update(this.entityManager, storesByUser)
+                .setParameter("storeId", storeId)
+                .executeUpdate();
+
+        List<Number> currentProducts = this.getActiveProductsByStore(storeId, "");
+
+        String storesCount = "UPDATE tb_reportStoresCount SET stores = stores + :stores, activeStores = activeStores + :activeStores";
+        int updated = NativeStatements.update(this.entityManager, storesCount)
+                .setParameter("stores", currentProducts.size() - previousProducts.size())
+                .setParameter("activeStores", this.countActiveStores(currentProducts) - this.countActiveStores(previousProducts))
+                .executeUpdate();
+
+        if (updated == 0) {
+            NativeStatements.update(this.entityManager,
+                    "INSERT INTO tb_reportStoresCount (id, stores, activeStores) SELECT id, stores, activeStores FROM vw_storesCountByStatus")
+                    .executeUpdate();
         }
 
-        return entities;
+        this.reportCache.invalidate(ReportTypeEnum.ORDERS, storeId);
+        this.reportCache.invalidate(ReportTypeEnum.PRODUCTS, storeId);
+        this.reportCache.invalidate(ReportTypeEnum.STORES_BY_USER, null);
+        this.reportCache.invalidate(ReportTypeEnum.STORES_COUNT, null);
     }
 
     @Override
-    public List<StoreCashFlowRevenueReport> getStoreCashFlowRevenueReportByStoreId(int storeId) {
+    public void updateUsersCountReport(int roleId, int delta) {
+
+        String update = "UPDATE tb_reportUsersCount SET "
+                + "users = users + :delta, "
+                + "admins = admins + IF(:roleId = 1, :delta, 0), "
+                + "storeAdmins = storeAdmins + IF(:roleId = 2, :delta, 0), "
+                + "customers = customers + IF(:roleId = 3, :delta, 0)";
+        int updated = NativeStatements.update(this.entityManager, update)
+                .setParameter("delta", delta)
+                .setParameter("roleId", roleId)
+                .executeUpdate();
+
+        if (updated == 0) {
+            NativeStatements.update(this.entityManager,
+                    "INSERT INTO tb_reportUsersCount (id, users, admins, storeAdmins, customers) SELECT id, users, admins, storeAdmins, customers FROM vw_usersCountByRole")
+                    .executeUpdate();
+        }
 
-        String query = "FROM StoreCashFlowRevenueReport s WHERE s.storeId = :storeId";
-        TypedQuery<StoreCashFlowRevenueReport> result = this.entityManager
-                .createQuery(query, StoreCashFlowRevenueReport.class)
-                .setParameter("storeId", storeId);
-        List<StoreCashFlowRevenueReport> entities = result.getResultList();
+        this.reportCache.invalidate(ReportTypeEnum.USERS_COUNT, null);
+    }
 
-        if (entities == null || entities.isEmpty()) {
-            return null;
-        }
+    @Override
+    public void addStoreCashFlowToReports(int storeCashFlowId) {
+
+        String byOrder = "INSERT INTO tb_reportStoreCashFlowByOrder (id, storeId, orderId, value, productId, productName, productQuantity, timestamp) "
+                + "SELECT UUID(), scf.fk_storeId, scf.fk_orderId, scf.value, p.pk_productId, p.name, po.quantity, scf.timestamp "
+                + "FROM tb_storeCashFlow scf INNER JOIN tb_product_order po ON po.pk_fk_orderId = scf.fk_orderId "
+                + "INNER JOIN tb_product p ON p.pk_productId = po.pk_fk_productId "
+                + "WHERE scf.pk_storeCashFlowId = :storeCashFlowId";
+        NativeStatements.update(this.entityManager, byOrder)
+                .setParameter("storeCashFlowId", storeCashFlowId)
+                .executeUpdate();
+
+        String revenue = "INSERT INTO tb_reportStoreCashFlowRevenue (id, storeId, revenue, timestamp) "
+                + "SELECT UUID(), scf.fk_storeId, scf.value, scf.timestamp FROM tb_storeCashFlow scf WHERE scf.pk_storeCashFlowId = :storeCashFlowId "
+                + "ON DUPLICATE KEY UPDATE revenue = tb_reportStoreCashFlowRevenue.revenue + VALUES(revenue), timestamp = VALUES(timestamp)";
+        NativeStatements.update(this.entityManager, revenue)
+                .setParameter("storeCashFlowId", storeCashFlowId)
+                .executeUpdate();
+
+        String rollup = "INSERT INTO tb_storeRevenueRollup (periodId, storeId, periodStart, revenue, transactions, lastTransaction) "
+                + "SELECT r.periodId, r.storeId, r.periodStart, r.revenue, 1, r.lastTransaction FROM ("
+                + "SELECT :day AS periodId, scf.fk_storeId AS storeId, DATE(scf.timestamp) AS periodStart, scf.value AS revenue, scf.timestamp AS lastTransaction FROM tb_storeCashFlow scf WHERE scf.pk_storeCashFlowId = :storeCashFlowId "
+                + "UNION ALL SELECT :week, scf.fk_storeId, DATE(scf.timestamp) - INTERVAL WEEKDAY(scf.timestamp) DAY, scf.value, scf.timestamp FROM tb_storeCashFlow scf WHERE scf.pk_storeCashFlowId = :storeCashFlowId "
+                + "UNION ALL SELECT :month, scf.fk_storeId, DATE(scf.timestamp) - INTERVAL (DAYOFMONTH(scf.timestamp) - 1) DAY, scf.value, scf.timestamp FROM tb_storeCashFlow scf WHERE scf.pk_storeCashFlowId = :storeCashFlowId"
+                + ") r ON DUPLICATE KEY UPDATE revenue = tb_storeRevenueRollup.revenue + VALUES(revenue), "
+                + "transactions = tb_storeRevenueRollup.transactions + 1, lastTransaction = GREATEST(tb_storeRevenueRollup.lastTransaction, VALUES(lastTransaction))";
+        NativeStatements.update(this.entityManager, rollup)
+                .setParameter("day", ReportPeriodEnum.DAY.getId())
+                .setParameter("week", ReportPeriodEnum.WEEK.getId())
+                .setParameter("month", ReportPeriodEnum.MONTH.getId())
+                .setParameter("storeCashFlowId", storeCashFlowId)
+                .executeUpdate();
+
+        StoreCashFlow storeCashFlow = this.entityManager.find(StoreCashFlow.class, storeCashFlowId);
+        Integer storeId = storeCashFlow == null ? null : storeCashFlow.getStoreId();
+
+        this.reportCache.invalidateOpenRanges(ReportTypeEnum.STORE_CASH_FLOW, storeId);
+        this.reportCache.invalidateOpenRanges(ReportTypeEnum.STORE_CASH_FLOW_REVENUE, storeId);
+    }
 
-        return entities;
+    @Override
+    public void addSystemCashFlowToReports(int systemCashFlowId) {
+
+        String byOrder = "INSERT INTO tb_reportSystemCashFlowByOrder (id, orderId, storeId, storeName, value, timestamp) "
+                + "SELECT UUID(), scf.fk_orderId, s.pk_storeId, s.name, scf.value, scf.timestamp "
+                + "FROM tb_systemCashFlow scf INNER JOIN tb_order o ON o.pk_orderId = scf.fk_orderId "
+                + "INNER JOIN tb_store s ON s.pk_storeId = o.fk_storeId "
+                + "WHERE scf.pk_systemCashFlowId = :systemCashFlowId";
+        NativeStatements.update(this.entityManager, byOrder)
+                .setParameter("systemCashFlowId", systemCashFlowId)
+                .executeUpdate();
+
+        String revenue = "INSERT INTO tb_reportSystemCashFlowRevenue (id, revenue, timestamp) "
+                + "SELECT UUID(), scf.value, scf.timestamp FROM tb_systemCashFlow scf WHERE scf.pk_systemCashFlowId = :systemCashFlowId "
+                + "ON DUPLICATE KEY UPDATE revenue = tb_reportSystemCashFlowRevenue.revenue + VALUES(revenue)";
+        NativeStatements.update(this.entityManager, revenue)
+                .setParameter("systemCashFlowId", systemCashFlowId)
+                .executeUpdate();
+
+        String rollup = "INSERT INTO tb_systemRevenueRollup (periodId, periodStart, revenue, transactions, lastTransaction) "
+                + "SELECT r.periodId, r.periodStart, r.revenue, 1, r.lastTransaction FROM ("
+                + "SELECT :day AS periodId, DATE(scf.timestamp) AS periodStart, scf.value AS revenue, scf.timestamp AS lastTransaction FROM tb_systemCashFlow scf WHERE scf.pk_systemCashFlowId = :systemCashFlowId "
+                + "UNION ALL SELECT :week, DATE(scf.timestamp) - INTERVAL WEEKDAY(scf.timestamp) DAY, scf.value, scf.timestamp FROM tb_systemCashFlow scf WHERE scf.pk_systemCashFlowId = :systemCashFlowId "
+                + "UNION ALL SELECT :month, DATE(scf.timestamp) - INTERVAL (DAYOFMONTH(scf.timestamp) - 1) DAY, scf.value, scf.timestamp FROM tb_systemCashFlow scf WHERE scf.pk_systemCashFlowId = :systemCashFlowId"
+                + ") r ON DUPLICATE KEY UPDATE revenue = tb_systemRevenueRollup.revenue + VALUES(revenue), "
+                + "transactions = tb_systemRevenueRollup.transactions + 1, lastTransaction = GREATEST(tb_systemRevenueRollup.lastTransaction, VALUES(lastTransaction))";
+        NativeStatements.update(this.entityManager, rollup)
+                .setParameter("day", ReportPeriodEnum.DAY.getId())
+                .setParameter("week", ReportPeriodEnum.WEEK.getId())
+                .setParameter("month", ReportPeriodEnum.MONTH.getId())
+                .setParameter("systemCashFlowId", systemCashFlowId)
+                .executeUpdate();
+
+        this.reportCache.invalidateOpenRanges(ReportTypeEnum.SYSTEM_CASH_FLOW, null);
+        this.reportCache.invalidateOpenRanges(ReportTypeEnum.SYSTEM_CASH_FLOW_REVENUE, null);
     }
 
     @Override
-    public List<StoreCashFlowRevenueReport> getStoreCashFlowRevenueReportByStoreIdAndDateRange(int storeId,
-            LocalDate startDate, LocalDate endDate) {
-
-        String query = "FROM StoreCashFlowRevenueReport s WHERE CAST(s.timestamp as LocalDate) BETWEEN :startDate AND :endDate AND s.storeId = :storeId";
-        TypedQuery<StoreCashFlowRevenueReport> result = this.entityManager
-                .createQuery(query, StoreCashFlowRevenueReport.class)
-                .setParameter("startDate", startDate)
-                .setParameter("endDate", endDate)
-                .setParameter("storeId", storeId);
-        List<StoreCashFlowRevenueReport> entities = result.getResultList();
+    public void addProductSaleToReports(int storeId, int productId, int quantity, LocalDate date) {
+
+        String products = "INSERT INTO tb_productSalesRollup (periodId, periodStart, productId, storeId, quantity) "
+                + "VALUES (:day, :dayStart, :productId, :storeId, :quantity), "
+                + "(:week, :weekStart, :productId, :storeId, :quantity), "
+                + "(:month, :monthStart, :productId, :storeId, :quantity) "
+                + "ON DUPLICATE KEY UPDATE quantity = tb_productSalesRollup.quantity + VALUES(quantity)";
+        this.setSalesRollupParameters(NativeStatements.update(this.entityManager, products), storeId, quantity, date)
+                .setParameter("productId", productId)
+                .executeUpdate();
+
+        String stores = "INSERT INTO tb_storeSalesRollup (periodId, periodStart, storeId, quantity) "
+                + "VALUES (:day, :dayStart, :storeId, :quantity), "
+                + "(:week, :weekStart, :storeId, :quantity), "
+                + "(:month, :monthStart, :storeId, :quantity) "
+                + "ON DUPLICATE KEY UPDATE quantity = tb_storeSalesRollup.quantity + VALUES(quantity)";
+        this.setSalesRollupParameters(NativeStatements.update(this.entityManager, stores), storeId, quantity, date)
+                .executeUpdate();
+
+        this.bestSellerTracker.recordSale(storeId, productId, quantity, date);
+    }
 
-        if (entities == null || entities.isEmpty()) {
-            return null;
+    @Override
+    public void rebuildReports() {
+
+        String[][] reports = {
+                { "tb_reportOrdersByStore", "id, storeId, storeName, orders, receivedOrders, paidOrders, sentOrders, finishedOrders", "vw_ordersByStoreAndStatus" },
+                { "tb_reportProductsByStore", "id, storeId, storeName, products, activeProducts", "vw_productsByStoreAndStatus" },
+                { "tb_reportStoresByUser", "id, userId, stores, activeStores", "vw_storesByUserAndStatus" },
+                { "tb_reportStoresCount", "id, stores, activeStores", "vw_storesCountByStatus" },
+                { "tb_reportUsersCount", "id, users, admins, storeAdmins, customers", "vw_usersCountByRole" },
+                { "tb_reportStoreCashFlowByOrder", "id, storeId, orderId, value, productId, productName, productQuantity, timestamp", "vw_storeCashFlowByOrder" },
+                { "tb_reportStoreCashFlowRevenue", "id, storeId, revenue, timestamp", "vw_storeCashFlowRevenue" },
+                { "tb_reportSystemCashFlowByOrder", "id, orderId, storeId, storeName, value, timestamp", "vw_systemCashFlowByOrder" },
+                { "tb_reportSystemCashFlowRevenue", "id, revenue, timestamp", "vw_systemCashFlowRevenue" } };
+
+        for (String[] report : reports) {
+
+            NativeStatements.update(this.entityManager, "DELETE FROM " + report[0]).executeUpdate();
+            NativeStatements.update(this.entityManager,
+                    "INSERT INTO " + report[0] + " (" + report[1] + ") SELECT " + report[1] + " FROM " + report[2])
+                    .executeUpdate();
         }
 
-        return entities;
+        this.rebuildRevenueRollups("tb_storeRevenueRollup", "tb_storeCashFlow", "scf.fk_storeId, ");
+        this.rebuildRevenueRollups("tb_systemRevenueRollup", "tb_systemCashFlow", "");
+        this.rebuildSalesRollups();
+
+        this.entityManager.clear();
+
+        this.reportCache.clear();
+
+        logger.info("Report tables rebuilt from the report views");
     }
 
-    @Override
-    public List<StoresByUserReport> getStoresByUserReport() {
+    private List<Object> getPageRows(ReportPager.Spec spec, Integer scopeId, int[] storeIdRange,
+            LocalDate startDate, LocalDate endDate, ReportPageRequestDTO page) {
 
-        String query = "FROM StoresByUserReport s";
-        TypedQuery<StoresByUserReport> result = this.entityManager.createQuery(query,
-                StoresByUserReport.class);
-        List<StoresByUserReport> entities = result.getResultList();
+        String sortField = "r." + page.getSortField();
+        String direction = page.isDescending() ? " DESC" : " ASC";
+        Object[] cursor = this.reportPager.decodeCursor(spec, page);
+        List<String> conditions = new ArrayList<>();
 
-        if (entities == null || entities.isEmpty()) {
-            return null;
+        if (scopeId != null) {
+            conditions.add("r." + spec.getScopeField() + " = :scopeId");
         }
 
-        return entities;
-    }
+        if (storeIdRange != null) {
+            conditions.add("r.storeId >= :fromStoreId AND r.storeId < :toStoreId");
+        }
 
-    @Override
-    public StoresByUserReport getStoresByUserReportByUserId(int userId) {
+        if (startDate != null) {
+            conditions.add("r.timestamp >= :startDate AND r.timestamp < :endDate");
+        }
 
-        try {
+        if (cursor != null) {
+            String comparison = page.isDescending() ? " < " : " > ";
+            conditions.add("(" + sortField + comparison + ":cursorValue OR (" + sortField + " = :cursorValue AND r.id"
+                    + comparison + ":cursorId))");
+        }
 
-            String query = "FROM StoresByUserReport s WHERE s.userId = :userId";
-            TypedQuery<StoresByUserReport> result = this.entityManager
-                    .createQuery(query, StoresByUserReport.class)
-                    .setParameter("userId", userId);
-            StoresByUserReport storesByUserReport = result.getSingleResult();
+        List<String> selectedFields = page.isProjected() ? this.reportPager.getSelectedFields(page) : null;
+        String query = "SELECT " + (selectedFields == null ? "r" : "r." + String.join(", r.", selectedFields))
+                + " FROM " + spec.getEntityName() + " r"
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + " ORDER BY " + sortField + direction + ", r.id" + direction;
+        Query result = this.entityManager.createQuery(query).setMaxResults(page.getLimit() + 1);
 
-            return storesByUserReport;
+        if (scopeId != null) {
+            result.setParameter("scopeId", scopeId);
+        }
 
-        } catch (NoResultException nre) {
+        if (storeIdRange != null) {
+            result.setParameter("fromStoreId", storeIdRange[0]).setParameter("toStoreId", storeIdRange[1]);
+        }
 
-            logger.error(nre.getMessage());
+        if (startDate != null) {
+            result.setParameter("startDate", startDate.atStartOfDay())
+                    .setParameter("endDate", endDate.plusDays(1).atStartOfDay());
+        }
 
-            return null;
+        if (cursor != null) {
+            result.setParameter("cursorValue", cursor[0]).setParameter("cursorId", cursor[1]);
         }
+
+        @SuppressWarnings("unchecked")
+        List<Object> rows = result.getResultList();
+
+        return rows;
     }
 
-    @Override
-    public List<SystemCashFlowByOrderReport> getSystemCashFlowByOrderReport() {
+    private List<Number> getActiveProductsByStore(int storeId, String lock) {
 
-        String query = "FROM SystemCashFlowByOrderReport s";
-        TypedQuery<SystemCashFlowByOrderReport> result = this.entityManager.createQuery(query,
-                SystemCashFlowByOrderReport.class);
-        List<SystemCashFlowByOrderReport> entities = result.getResultList();
+        @SuppressWarnings("unchecked")
+        List<Number> rows = this.entityManager
+                .createNativeQuery("SELECT r.activeProducts FROM tb_reportProductsByStore r WHERE r.storeId = :storeId" + lock)
+                .setParameter("storeId", storeId)
+                .getResultList();
 
-        if (entities == null || entities.isEmpty()) {
-            return null;
-        }
+        return rows;
+    }
 
-        return entities;
+    private int countActiveStores(List<Number> activeProducts) {
+
+        return (int) activeProducts.stream().filter((products) -> products.intValue() > 0).count();
     }
 
-    @Override
-    public List<SystemCashFlowByOrderReport> getSystemCashFlowByOrderReportByDateRange(LocalDate startDate,
-            LocalDate endDate) {
+    private <T> long scroll(org.hibernate.query.Query<T> query, Consumer<T> consumer) {
 
-        String query = "FROM SystemCashFlowByOrderReport s WHERE CAST(s.timestamp as LocalDate) BETWEEN :startDate AND :endDate";
-        TypedQuery<SystemCashFlowByOrderReport> result = this.entityManager
-                .createQuery(query, SystemCashFlowByOrderReport.class)
-                .setParameter("startDate", startDate)
-                .setParameter("endDate", endDate);
-        List<SystemCashFlowByOrderReport> entities = result.getResultList();
+        Session session = this.entityManager.unwrap(Session.class);
+        long rows = 0;
 
-        if (entities == null || entities.isEmpty()) {
-            return null;
+        try (ScrollableResults results = query
+                .setReadOnly(true)
+                .setCacheable(false)
+                .setFetchSize(Integer.MIN_VALUE)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+
+            while (results.next()) {
+
+                @SuppressWarnings("unchecked")
+                T row = (T) results.get(0);
+
+                consumer.accept(row);
+                session.evict(row);
+                rows++;
+            }
         }
 
-        return entities;
+        return rows;
     }
 
-    @Override
-    public List<SystemCashFlowRevenueReport> getSystemCashFlowRevenueReport() {
+    private void rebuildRevenueRollups(String rollupTable, String cashFlowTable, String storeColumn) {
 
-        String query = "FROM SystemCashFlowRevenueReport s";
-        TypedQuery<SystemCashFlowRevenueReport> result = this.entityManager.createQuery(query,
-                SystemCashFlowRevenueReport.class);
-        List<SystemCashFlowRevenueReport> entities = result.getResultList();
+        NativeStatements.update(this.entityManager, "DELETE FROM " + rollupTable).executeUpdate();
 
-        if (entities == null || entities.isEmpty()) {
-            return null;
+        String[] periodStarts = { "DATE(scf.timestamp)", "DATE(scf.timestamp) - INTERVAL WEEKDAY(scf.timestamp) DAY",
+                "DATE(scf.timestamp) - INTERVAL (DAYOFMONTH(scf.timestamp) - 1) DAY" };
+        ReportPeriodEnum[] periods = { ReportPeriodEnum.DAY, ReportPeriodEnum.WEEK, ReportPeriodEnum.MONTH };
+
+        for (int i = 0; i < periods.length; i++) {
+
+            String query = "INSERT INTO " + rollupTable + " (periodId, " + storeColumn.replace("scf.fk_", "")
+                    + "periodStart, revenue, transactions, lastTransaction) SELECT " + periods[i].getId() + ", "
+                    + storeColumn + periodStarts[i] + ", SUM(scf.value), COUNT(*), MAX(scf.timestamp) FROM "
+                    + cashFlowTable + " scf GROUP BY " + storeColumn + periodStarts[i];
+            NativeStatements.update(this.entityManager, query).executeUpdate();
         }
+    }
+
+    private void rebuildSalesRollups() {
+
+        NativeStatements.update(this.entityManager, "DELETE FROM tb_productSalesRollup").executeUpdate();
+        NativeStatements.update(this.entityManager, "DELETE FROM tb_storeSalesRollup").executeUpdate();
+
+        String sales = "(SELECT po.pk_fk_productId AS productId, o.fk_storeId AS storeId, po.quantity, o.creationDate "
+                + "FROM tb_product_order po INNER JOIN tb_order o ON o.pk_orderId = po.pk_fk_orderId UNION ALL "
+                + "SELECT poa.pk_fk_productId, oa.fk_storeId, poa.quantity, oa.creationDate "
+                + "FROM tb_productOrderArchive poa INNER JOIN tb_orderArchive oa ON oa.pk_orderId = poa.pk_fk_orderId) s";
+        String[] periodStarts = { "DATE(s.creationDate)", "DATE(s.creationDate) - INTERVAL WEEKDAY(s.creationDate) DAY",
+                "DATE(s.creationDate) - INTERVAL (DAYOFMONTH(s.creationDate) - 1) DAY" };
+        ReportPeriodEnum[] periods = { ReportPeriodEnum.DAY, ReportPeriodEnum.WEEK, ReportPeriodEnum.MONTH };
 
-        return entities;
+        for (int i = 0; i < periods.length; i++) {
+
+            String query = "INSERT INTO tb_productSalesRollup (periodId, periodStart, productId, storeId, quantity) SELECT "
+                    + periods[i].getId() + ", " + periodStarts[i] + ", s.productId, s.storeId, SUM(s.quantity) FROM "
+                    + sales + " GROUP BY " + periodStarts[i] + ", s.productId, s.storeId";
+            NativeStatements.update(this.entityManager, query).executeUpdate();
+        }
+
+        NativeStatements.update(this.entityManager,
+                "INSERT INTO tb_storeSalesRollup (periodId, periodStart, storeId, quantity) SELECT periodId, periodStart, storeId, SUM(quantity) FROM tb_productSalesRollup GROUP BY periodId, periodStart, storeId")
+                .executeUpdate();
     }
 
-    @Override
-    public List<SystemCashFlowRevenueReport> getSystemCashFlowRevenueReportByDateRange(LocalDate startDate,
+    private Query setSalesRollupParameters(Query query, int storeId, int quantity, LocalDate date) {
+
+        return query
+                .setParameter("day", ReportPeriodEnum.DAY.getId())
+                .setParameter("dayStart", ReportPeriodEnum.DAY.getPeriodStart(date))
+                .setParameter("week", ReportPeriodEnum.WEEK.getId())
+                .setParameter("weekStart", ReportPeriodEnum.WEEK.getPeriodStart(date))
+                .setParameter("month", ReportPeriodEnum.MONTH.getId())
+                .setParameter("monthStart", ReportPeriodEnum.MONTH.getPeriodStart(date))
+                .setParameter("storeId", storeId)
+                .setParameter("quantity", quantity);
+    }
+
+    private List<StoreCashFlowRevenueReport> getStoreRevenueFromRollups(Integer storeId, LocalDate startDate,
             LocalDate endDate) {
 
-        String query = "FROM SystemCashFlowRevenueReport s WHERE CAST(s.timestamp as LocalDate) BETWEEN :startDate AND :endDate";
-        TypedQuery<SystemCashFlowRevenueReport> result = this.entityManager
-                .createQuery(query, SystemCashFlowRevenueReport.class)
-                .setParameter("startDate", startDate)
-                .setParameter("endDate", endDate);
-        List<SystemCashFlowRevenueReport> entities = result.getResultList();
+        Map<ReportPeriodEnum, List<LocalDate>> buckets = this.getRollupBuckets(startDate, endDate.plusDays(1));
 
-        if (entities == null || entities.isEmpty()) {
+        if (buckets.isEmpty()) {
             return null;
         }
 
-        return entities;
-    }
+        String query = "SELECT r.storeId, SUM(r.revenue), MAX(r.lastTransaction) FROM tb_storeRevenueRollup r WHERE ("
+                + this.getRollupBucketsCondition(buckets) + ")" + (storeId != null ? " AND r.storeId = :storeId" : "")
+                + " GROUP BY r.storeId";
+        Query result = this.entityManager.createNativeQuery(query);
+        this.setRollupBucketsParameters(result, buckets);
 
-    @Override
-    public List<UsersCountReport> getUsersCountReport() {
+        if (storeId != null) {
+            result.setParameter("storeId", storeId);
+        }
 
-        String query = "FROM UsersCountReport u";
-        TypedQuery<UsersCountReport> result = this.entityManager.createQuery(query, UsersCountReport.class);
-        List<UsersCountReport> entities = result.getResultList();
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = result.getResultList();
 
-        if (entities == null || entities.isEmpty()) {
+        if (rows == null || rows.isEmpty()) {
             return null;
         }
 
-        return entities;
+        List<StoreCashFlowRevenueReport> reports = new ArrayList<>();
+
+        for (Object[] row : rows) {
+            reports.add(new StoreCashFlowRevenueReport(
+                    UUID.nameUUIDFromBytes(("store:" + row[0] + ":" + startDate + ":" + endDate)
+                            .getBytes(StandardCharsets.UTF_8)),
+                    ((Number) row[0]).intValue(), Money.of((BigDecimal) row[1]),
+                    ((Timestamp) row[2]).toLocalDateTime()));
+        }
+
+        return reports;
     }
 
-    @Override
-    public List<StoresCountReport> getStoresCountReport() {
+    private Map<ReportPeriodEnum, List<LocalDate>> getRollupBuckets(LocalDate startDate, LocalDate endDate) {
 
-        String query = "FROM StoresCountReport s";
-        TypedQuery<StoresCountReport> result = this.entityManager.createQuery(query,
-                StoresCountReport.class);
-        List<StoresCountReport> entities = result.getResultList();
+        Map<ReportPeriodEnum, List<LocalDate>> buckets = new EnumMap<>(ReportPeriodEnum.class);
+        LocalDate cursor = startDate;
 
-        if (entities == null || entities.isEmpty()) {
-            return null;
+        while (cursor.isBefore(endDate)) {
+
+            LocalDate nextMonth = ReportPeriodEnum.MONTH.getNextPeriodStart(ReportPeriodEnum.MONTH.getPeriodStart(cursor));
+            LocalDate weekLimit = ReportPeriodEnum.MONTH.getNextPeriodStart(nextMonth).isAfter(endDate)
+                    ? endDate
+                    : nextMonth;
+
+            ReportPeriodEnum period = ReportPeriodEnum.DAY;
+
+            if (cursor.getDayOfMonth() == 1 && !nextMonth.isAfter(endDate)) {
+                period = ReportPeriodEnum.MONTH;
+            } else if (ReportPeriodEnum.WEEK.getPeriodStart(cursor).equals(cursor)
+                    && !ReportPeriodEnum.WEEK.getNextPeriodStart(cursor).isAfter(weekLimit)) {
+                period = ReportPeriodEnum.WEEK;
+            }
+
+            buckets.computeIfAbsent(period, (key) -> new ArrayList<>()).add(cursor);
+            cursor = period.getNextPeriodStart(cursor);
         }
 
-        return entities;
+        return buckets;
+    }
+
+    private String getRollupBucketsCondition(Map<ReportPeriodEnum, List<LocalDate>> buckets) {
+
+        List<String> conditions = new ArrayList<>();
+
+        for (ReportPeriodEnum period : buckets.keySet()) {
+            conditions.add("(r.periodId = " + period.getId() + " AND r.periodStart IN (:periodStarts" + period.getId() + "))");
+        }
+
+        return String.join(" OR ", conditions);
+    }
+
+    private void setRollupBucketsParameters(Query query, Map<ReportPeriodEnum, List<LocalDate>> buckets) {
+
+        for (Map.Entry<ReportPeriodEnum, List<LocalDate>> bucket : buckets.entrySet()) {
+            query.setParameter("periodStarts" + bucket.getKey().getId(), bucket.getValue());
+        }
     }
 }
@@ -0,0 +1,132 @@
+package ecommerce.system.api.repositories.implementations;
+
+import ecommerce.system.api.enums.StoreMetricEnum;
+import ecommerce.system.api.repositories.IStoreMetricsRepository;
+import ecommerce.system.api.tools.HyperLogLog;
+import ecommerce.system.api.tools.NativeStatements;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import javax.transaction.Transactional;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@Transactional(rollbackOn = { Exception.class })
+public class StoreMetricsRepository implements IStoreMetricsRepository {
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Override
+    public List<Object[]> getSketches(int storeId, LocalDate startDate, LocalDate endDate) {
+
+        String query = "SELECT s.metricId, s.day, s.sketch FROM tb_storeDailySketch s "
+                + "WHERE s.storeId = :storeId AND s.day >= :startDate AND s.day <= :endDate";
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = this.entityManager.createNativeQuery(query)
+                .setParameter("storeId", storeId)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .getResultList();
+
+        if (rows == null || rows.isEmpty()) {
+            return null;
+        }
+
+        return rows;
+    }
+
+    @Override
+    public void mergeSketch(int storeId, StoreMetricEnum metric, LocalDate day, HyperLogLog sketch) {
+
+        String query = "SELECT s.sketch FROM tb_storeDailySketch s "
+                + "WHERE s.storeId = :storeId AND s.metricId = :metricId AND s.day = :day FOR UPDATE";
+
+        @SuppressWarnings("unchecked")
+        List<byte[]> rows = this.entityManager.createNativeQuery(query)
+                .setParameter("storeId", storeId)
+                .setParameter("metricId", metric.getId())
+                .setParameter("day", day)
+                .getResultList();
+
+        HyperLogLog merged = rows.isEmpty() ? new HyperLogLog() : HyperLogLog.fromBytes(rows.get(0));
+        merged.merge(sketch);
+
+        this.replaceSketch(storeId, metric, day, merged);
+    }
+
+    @Override
+    public void replaceSketch(int storeId, StoreMetricEnum metric, LocalDate day, HyperLogLog sketch) {
+
+        String query = "INSERT INTO tb_storeDailySketch (storeId, metricId, day, sketch, lastUpdate) "
+                + "VALUES (:storeId, :metricId, :day, :sketch, :lastUpdate) "
+                + "ON DUPLICATE KEY UPDATE sketch = VALUES(sketch), lastUpdate = VALUES(lastUpdate)";
+        NativeStatements.update(this.entityManager, query)
+                .setParameter("storeId", storeId)
+                .setParameter("metricId", metric.getId())
+                .setParameter("day", day)
+                .setParameter("sketch", sketch.toBytes())
+                .setParameter("lastUpdate", LocalDateTime.now())
+                .executeUpdate();
+    }
+
+    @Override
+    public List<Integer> getStoreIdsWithOrders(LocalDate day) {
+
+        String query = "SELECT o.fk_storeId FROM tb_order o WHERE o.creationDate >= :day AND o.creationDate < :nextDay "
+                + "UNION SELECT oa.fk_storeId FROM tb_orderArchive oa WHERE oa.creationDate >= :day AND oa.creationDate < :nextDay";
+
+        return this.getIds(query, null, day);
+    }
+
+    @Override
+    public List<Integer> getCustomerIds(int storeId, LocalDate day) {
+
+        String query = "SELECT os.fk_userId FROM tb_order o "
+                + "INNER JOIN tb_orderSummary os ON os.pk_orderSummaryId = o.fk_orderSummaryId "
+                + "WHERE o.fk_storeId = :storeId AND o.creationDate >= :day AND o.creationDate < :nextDay "
+                + "UNION SELECT osa.fk_userId FROM tb_orderArchive oa "
+                + "INNER JOIN tb_orderSummaryArchive osa ON osa.pk_orderSummaryId = oa.fk_orderSummaryId "
+                + "WHERE oa.fk_storeId = :storeId AND oa.creationDate >= :day AND oa.creationDate < :nextDay";
+
+        return this.getIds(query, storeId, day);
+    }
+
+    @Override
+    public List<Integer> getProductIds(int storeId, LocalDate day) {
+
+        String query = "SELECT po.pk_fk_productId FROM tb_order o "
+                + "INNER JOIN tb_product_order po ON po.pk_fk_orderId = o.pk_orderId "
+                + "WHERE o.fk_storeId = :storeId AND o.creationDate >= :day AND o.creationDate < :nextDay "
+                + "UNION SELECT poa.pk_fk_productId FROM tb_orderArchive oa "
+                + "INNER JOIN tb_productOrderArchive poa ON poa.pk_fk_orderId = oa.pk_orderId "
+                + "WHERE oa.fk_storeId = :storeId AND oa.creationDate >= :day AND oa.creationDate < :nextDay";
+
+        return this.getIds(query, storeId, day);
+    }
+
+    private List<Integer> getIds(String query, Integer storeId, LocalDate day) {
+
+        Query result = this.entityManager.createNativeQuery(query)
+                .setParameter("day", day.atStartOfDay())
+                .setParameter("nextDay", day.plusDays(1).atStartOfDay());
+
+        if (storeId != null) {
+            result.setParameter("storeId", storeId);
+        }
+
+        List<Integer> ids = new ArrayList<>();
+
+        for (Object id : result.getResultList()) {
+            ids.add(((Number) id).intValue());
+        }
+
+        return ids;
+    }
+}
@@ -1,15 +1,16 @@
 package ecommerce.system.api.repositories.implementations;
 
+import ecommerce.system.api.configuration.CacheRegions;
 import ecommerce.system.api.models.Store;
 import ecommerce.system.api.models.StoreUser;
 import ecommerce.system.api.models.embedded.StoreUserKey;
 import ecommerce.system.api.repositories.IStoreRepository;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import ecommerce.system.api.tools.RepositoryLookup;
+import org.hibernate.annotations.QueryHints;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
-import javax.persistence.NoResultException;
 import javax.persistence.PersistenceContext;
 import javax.persistence.TypedQuery;
 import javax.transaction.Transactional;
@@ -20,11 +21,16 @@ import java.util.List;
 @Transactional(rollbackOn = { Exception.class })
 public class StoreRepository implements IStoreRepository {
 
-    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final RepositoryLookup repositoryLookup;
 
     @PersistenceContext
     EntityManager entityManager;
 
+    @Autowired
+    public StoreRepository(RepositoryLookup repositoryLookup) {
+        this.repositoryLookup = repositoryLookup;
+    }
+
     @Override
     public int create(Store object) {
 
@@ -47,7 +53,9 @@ public class StoreRepository implements IStoreRepository {
     public List<Store> getAllStores() {
 
         String query = "FROM Store s WHERE s.active = true ORDER BY s.storeId ASC";
-        TypedQuery<Store> result = this.entityManager.createQuery(query, Store.class);
+        TypedQuery<Store> result = this.entityManager.createQuery(query, Store.class)
+                .setHint(QueryHints.CACHEABLE, true)
+                .setHint(QueryHints.CACHE_REGION, CacheRegions.STORE_QUERIES);
         List<Store> entities = result.getResultList();
 
         if (entities == null || entities.isEmpty()) {
@@ -62,7 +70,9 @@ public class StoreRepository implements IStoreRepository {
 
         String query = "SELECT s FROM Store s, StoreUser su WHERE s.storeId = su.id.storeId AND su.id.userId = :userId AND s.active = true ORDER BY s.storeId ASC";
         TypedQuery<Store> result = this.entityManager.createQuery(query, Store.class)
-                .setParameter("userId", userId);
+                .setParameter("userId", userId)
+                .setHint(QueryHints.CACHEABLE, true)
+                .setHint(QueryHints.CACHE_REGION, CacheRegions.STORE_QUERIES);
         List<Store> entities = result.getResultList();
 
         if (entities == null || entities.isEmpty()) {
@@ -90,41 +100,23 @@ public class StoreRepository implements IStoreRepository {
     @Override
     public Store getById(int id) {
 
-        try {
-
-            String query = "FROM Store s WHERE s.active = true AND s.storeId = :storeId";
-            TypedQuery<Store> result = this.entityManager.createQuery(query, Store.class)
-                    .setParameter("storeId", id);
-            Store store = result.getSingleResult();
-
-            return store;
-
-        } catch (NoResultException nre) {
-
-            logger.error(nre.getMessage());
+        String query = "FROM Store s WHERE s.active = true AND s.storeId = :storeId";
+        TypedQuery<Store> result = this.entityManager.createQuery(query, Store.class)
+                .setParameter("storeId", id)
+                .setHint(QueryHints.CACHEABLE, true)
+                .setHint(QueryHints.CACHE_REGION, CacheRegions.STORE_QUERIES);
 
-            return null;
-        }
+        return this.repositoryLookup.findFirst(result, "Store with storeId").orElse(null);
     }
 
     @Override
     public Store getStoreByProductId(int productId) {
 
-        try {
-
-            String query = "SELECT s FROM Store s, ProductEntity p WHERE p.storeId = s.storeId AND p.productId = :productId";
-            TypedQuery<Store> result = this.entityManager.createQuery(query, Store.class)
-                    .setParameter("productId", productId);
-            Store store = result.getSingleResult();
-
-            return store;
-
-        } catch (NoResultException nre) {
-
-            logger.error(nre.getMessage());
+        String query = "SELECT s FROM Store s, ProductEntity p WHERE p.storeId = s.storeId AND p.productId = :productId";
+        TypedQuery<Store> result = this.entityManager.createQuery(query, Store.class)
+                .setParameter("productId", productId);
 
-            return null;
-        }
+        return this.repositoryLookup.findFirst(result, "Store with productId").orElse(null);
     }
 
     @Override
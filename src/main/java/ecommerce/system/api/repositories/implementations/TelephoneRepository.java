@@ -4,8 +4,8 @@ import ecommerce.system.api.models.Telephone;
 import ecommerce.system.api.models.UserTelephone;
 import ecommerce.system.api.models.embedded.UserTelephoneKey;
 import ecommerce.system.api.repositories.ITelephoneRepository;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import ecommerce.system.api.tools.RepositoryLookup;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.*;
@@ -17,11 +17,16 @@ import java.util.List;
 @Transactional(rollbackOn = { Exception.class })
 public class TelephoneRepository implements ITelephoneRepository {
 
-    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final RepositoryLookup repositoryLookup;
 
     @PersistenceContext
     EntityManager entityManager;
 
+    @Autowired
+    public TelephoneRepository(RepositoryLookup repositoryLookup) {
+        this.repositoryLookup = repositoryLookup;
+    }
+
     @Override
     public int create(Telephone object) {
 
@@ -43,21 +48,11 @@ public class TelephoneRepository implements ITelephoneRepository {
     @Override
     public Telephone getById(int id) {
 
-        try {
-
-            String query = "FROM Telephone t WHERE t.active = true AND t.telephoneId = :telephoneId";
-            TypedQuery<Telephone> result = this.entityManager.createQuery(query, Telephone.class)
-                    .setParameter("telephoneId", id);
-            Telephone telephone = result.getSingleResult();
-
-            return telephone;
-
-        } catch (NoResultException nre) {
-
-            logger.error(nre.getMessage());
+        String query = "FROM Telephone t WHERE t.active = true AND t.telephoneId = :telephoneId";
+        TypedQuery<Telephone> result = this.entityManager.createQuery(query, Telephone.class)
+                .setParameter("telephoneId", id);
 
-            return null;
-        }
+        return this.repositoryLookup.findFirst(result, "Telephone with telephoneId").orElse(null);
     }
 
     @Override
@@ -0,0 +1,82 @@
+package ecommerce.system.api.repositories.implementations;
+
+import ecommerce.system.api.repositories.ITokenRevocationRepository;
+import ecommerce.system.api.tools.NativeStatements;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@Transactional(rollbackOn = { Exception.class })
+public class TokenRevocationRepository implements ITokenRevocationRepository {
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Override
+    public void revokeToken(String tokenId, String subject, LocalDateTime expirationDate) {
+
+        String query = "INSERT IGNORE INTO tb_revokedToken (pk_tokenId, subject, expirationDate) "
+                + "VALUES (:tokenId, :subject, :expirationDate)";
+        NativeStatements.update(this.entityManager, query)
+                .setParameter("tokenId", tokenId)
+                .setParameter("subject", subject)
+                .setParameter("expirationDate", expirationDate)
+                .executeUpdate();
+    }
+
+    @Override
+    public void revokeUser(String subject, LocalDateTime notBefore) {
+
+        String query = "INSERT INTO tb_revokedUser (pk_subject, notBefore) VALUES (:subject, :notBefore) "
+                + "ON DUPLICATE KEY UPDATE notBefore = GREATEST(notBefore, VALUES(notBefore))";
+        NativeStatements.update(this.entityManager, query)
+                .setParameter("subject", subject)
+                .setParameter("notBefore", notBefore)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<Object[]> getRevokedTokens(LocalDateTime now) {
+
+        String query = "SELECT r.pk_tokenId, r.expirationDate FROM tb_revokedToken r WHERE r.expirationDate >= :now";
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = this.entityManager.createNativeQuery(query)
+                .setParameter("now", now)
+                .getResultList();
+
+        return rows;
+    }
+
+    @Override
+    public List<Object[]> getRevokedUsers(LocalDateTime notBeforeCutoff) {
+
+        String query = "SELECT r.pk_subject, r.notBefore FROM tb_revokedUser r WHERE r.notBefore >= :notBeforeCutoff";
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = this.entityManager.createNativeQuery(query)
+                .setParameter("notBeforeCutoff", notBeforeCutoff)
+                .getResultList();
+
+        return rows;
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now, LocalDateTime notBeforeCutoff) {
+
+        int deleted = NativeStatements.update(this.entityManager, "DELETE FROM tb_revokedToken WHERE expirationDate < :now")
+                .setParameter("now", now)
+                .executeUpdate();
+
+        deleted += NativeStatements.update(this.entityManager, "DELETE FROM tb_revokedUser WHERE notBefore < :notBeforeCutoff")
+                .setParameter("notBeforeCutoff", notBeforeCutoff)
+                .executeUpdate();
+
+        return deleted;
+    }
+}
@@ -1,10 +1,14 @@
 package ecommerce.system.api.repositories.implementations;
 
+import ecommerce.system.api.configuration.CacheRegions;
 import ecommerce.system.api.dto.CredentialsDTO;
 import ecommerce.system.api.models.User;
 import ecommerce.system.api.repositories.IUserRepository;
+import ecommerce.system.api.tools.RepositoryLookup;
+import org.hibernate.annotations.QueryHints;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.*;
@@ -17,10 +21,16 @@ import java.util.List;
 public class UserRepository implements IUserRepository {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final RepositoryLookup repositoryLookup;
 
     @PersistenceContext
     EntityManager entityManager;
 
+    @Autowired
+    public UserRepository(RepositoryLookup repositoryLookup) {
+        this.repositoryLookup = repositoryLookup;
+    }
+
     @Override
     public int create(User object) {
 
@@ -47,21 +57,13 @@ public class UserRepository implements IUserRepository {
     @Override
     public User getById(int id) {
 
-        try {
-
-            String query = "FROM User u WHERE u.active = true AND u.userId = :userId";
-            TypedQuery<User> result = this.entityManager.createQuery(query, User.class)
-                    .setParameter("userId", id);
-            User user = result.getSingleResult();
-
-            return user;
-
-        } catch (NoResultException nre) {
-
-            logger.error(nre.getMessage());
+        String query = "FROM User u WHERE u.active = true AND u.userId = :userId";
+        TypedQuery<User> result = this.entityManager.createQuery(query, User.class)
+                .setParameter("userId", id)
+                .setHint(QueryHints.CACHEABLE, true)
+                .setHint(QueryHints.CACHE_REGION, CacheRegions.USER_QUERIES);
 
-            return null;
-        }
+        return this.repositoryLookup.findFirst(result, "User with userId").orElse(null);
     }
 
     @Override
@@ -99,68 +101,40 @@ public class UserRepository implements IUserRepository {
     @Override
     public User getUserByDocumentNumber(String documentNumber) {
 
-        try {
-
-            String query = "FROM User u WHERE u.documentNumber = :documentNumber";
-            TypedQuery<User> result = this.entityManager.createQuery(query, User.class)
-                    .setParameter("documentNumber", documentNumber);
-
-            User user = result.getSingleResult();
-
-            return user;
-
-        } catch (NoResultException nre) {
-
-            logger.error(nre.getMessage());
+        String query = "FROM User u WHERE u.documentNumber = :documentNumber";
+        TypedQuery<User> result = this.entityManager.createQuery(query, User.class)
+                .setParameter("documentNumber", documentNumber);
 
-            return null;
-        }
+        return this.repositoryLookup.findFirst(result, "User with documentNumber").orElse(null);
     }
 
     @Override
     public User getUserByEmail(String email) {
 
-        try {
-
-            String query = "FROM User u WHERE u.email = :email AND u.active = true";
-            TypedQuery<User> result = this.entityManager.createQuery(query, User.class)
-                    .setParameter("email", email);
-
-            User user = result.getSingleResult();
-
-            return user;
-
-        } catch (NoResultException nre) {
-
-            logger.error(nre.getMessage());
+        String query = "FROM User u WHERE u.email = :email AND u.active = true";
+        TypedQuery<User> result = this.entityManager.createQuery(query, User.class)
+                .setParameter("email", email)
+                .setHint(QueryHints.CACHEABLE, true)
+                .setHint(QueryHints.CACHE_REGION, CacheRegions.USER_QUERIES);
 
-            return null;
-        }
+        return this.repositoryLookup.findFirst(result, "User with email").orElse(null);
     }
 
     @Override
     public User getUserByCredentials(CredentialsDTO credentials) {
 
-        try {
-
-            String query = "FROM User u WHERE u.email = :email AND u.password = :password AND u.active = true";
-            TypedQuery<User> result = this.entityManager.createQuery(query, User.class)
-                    .setParameter("email", credentials.getEmail())
-                    .setParameter("password", credentials.getPassword());
+        String query = "FROM User u WHERE u.email = :email AND u.password = :password AND u.active = true";
+        TypedQuery<User> result = this.entityManager.createQuery(query, User.class)
+                .setParameter("email", credentials.getEmail())
+                .setParameter("password", credentials.getPassword());
 
-            User user = result.getSingleResult();
+        User user = this.repositoryLookup.findFirst(result, "User matching the given credentials").orElse(null);
 
+        if (user != null) {
             logger.info("Credentials succesfully checked for user with id " + user.getUserId());
-
-            return user;
-
-        } catch (NoResultException nre) {
-
-            logger.warn("Failed credentials check for e-mail " + credentials.getEmail());
-            logger.error(nre.getMessage());
-
-            return null;
         }
+
+        return user;
     }
 
     @Override
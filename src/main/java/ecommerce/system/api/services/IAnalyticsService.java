@@ -0,0 +1,21 @@
+package ecommerce.system.api.services;
+
+import ecommerce.system.api.dto.CashFlowAggregateDTO;
+import ecommerce.system.api.enums.CashFlowLedgerEnum;
+import ecommerce.system.api.enums.ReportPeriodEnum;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public interface IAnalyticsService {
+
+    void loadCashFlowColumns();
+
+    void tailCashFlowColumns();
+
+    List<CashFlowAggregateDTO> aggregateCashFlow(CashFlowLedgerEnum ledger, Integer storeId, LocalDate startDate,
+            LocalDate endDate, boolean groupByStore, ReportPeriodEnum period);
+
+    Map<String, Object> getStatus();
+}
@@ -8,6 +8,11 @@ import java.security.NoSuchAlgorithmException;
 public interface IAuthenticationService {
 
     TokenDTO authenticateUser(CredentialsDTO credentials) throws NoSuchAlgorithmException;
+    TokenDTO refreshToken(String refreshToken) throws NoSuchAlgorithmException;
+    void logout(String accessToken, String refreshToken) throws NoSuchAlgorithmException;
+    void revokeUserSessions(int userId, String email);
+    void deleteExpiredRefreshTokens();
     boolean isLoggedUser(int userId);
     boolean isNotSystemAdmin();
+    String getLoggedUserEmail();
 }
@@ -1,5 +1,6 @@
 package ecommerce.system.api.services;
 
+import ecommerce.system.api.exceptions.InvalidOperationException;
 import ecommerce.system.api.models.Delivery;
 
 import java.util.List;
@@ -8,7 +9,9 @@ public interface IDeliveryService {
 
     int createDelivery(Delivery delivery);
 
-    double getDeliveryPrice();
+    Delivery quoteDelivery(int senderAddressId, int receiverAddressId) throws InvalidOperationException;
+
+    void reloadDeliveryRates();
 
     List<Delivery> getDeliveriesByOrderId(int orderId);
 
@@ -0,0 +1,6 @@
+package ecommerce.system.api.services;
+
+public interface IOrderArchiveService {
+
+    int archiveFinishedOrders();
+}
@@ -0,0 +1,19 @@
+package ecommerce.system.api.services;
+
+import ecommerce.system.api.enums.OrderEventTypeEnum;
+import ecommerce.system.api.exceptions.InvalidOperationException;
+import ecommerce.system.api.models.OrderEvent;
+
+import java.util.List;
+import java.util.Map;
+
+public interface IOrderEventService {
+
+    long appendEvent(OrderEventTypeEnum eventType, int orderSummaryId, int orderId, Map<String, Object> payload);
+
+    List<OrderEvent> getEventsByOrderSummaryId(int orderSummaryId);
+
+    void catchUpProjections();
+
+    long replayProjection(String projectionName) throws InvalidOperationException;
+}
@@ -0,0 +1,14 @@
+package ecommerce.system.api.services;
+
+import ecommerce.system.api.models.OrderEvent;
+
+import java.util.Map;
+
+public interface IOrderProjection {
+
+    String getName();
+
+    void apply(OrderEvent event, Map<String, Object> payload);
+
+    void reset();
+}
@@ -4,6 +4,7 @@ import ecommerce.system.api.dto.PaymentDTO;
 import ecommerce.system.api.models.Order;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface IOrderService {
 
@@ -11,8 +12,16 @@ public interface IOrderService {
 
     List<Order> getOrdersByStoreId(int storeId);
 
+    List<Order> getOrdersByStoreId(int storeId, boolean includeArchived);
+
     List<Order> getOrdersByProductId(int productId);
 
+    boolean hasOpenOrdersByStoreId(int storeId);
+
+    boolean hasOpenOrdersByProductId(int productId);
+
+    void reconcileOpenOrderCounters();
+
     List<Order> getOrderSummariesByUserId(int userId);
 
     Order getOrderById(int orderId);
@@ -21,5 +30,5 @@ public interface IOrderService {
 
     void updateOrderStatus(int orderSummaryid, int orderStatusId) throws Exception;
 
-    void payOrder(int orderSummaryid, PaymentDTO paymentInfo) throws Exception;
+    CompletableFuture<Void> payOrder(int orderSummaryid, PaymentDTO paymentInfo) throws Exception;
 }
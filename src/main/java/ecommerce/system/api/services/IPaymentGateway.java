@@ -0,0 +1,15 @@
+package ecommerce.system.api.services;
+
+import ecommerce.system.api.exceptions.InvalidOperationException;
+import ecommerce.system.api.models.PaymentMethod;
+
+public interface IPaymentGateway {
+
+    String getName();
+
+    String authorize(PaymentMethod paymentMethod, long value) throws InvalidOperationException;
+
+    boolean capture(String authorizationId, long value) throws InvalidOperationException;
+
+    void voidAuthorization(String authorizationId) throws InvalidOperationException;
+}
@@ -3,7 +3,11 @@ package ecommerce.system.api.services;
 import ecommerce.system.api.dto.PaymentMethodDTO;
 import ecommerce.system.api.exceptions.InvalidOperationException;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface IPaymentService {
 
-    boolean pay(PaymentMethodDTO data, double value) throws InvalidOperationException;
+    CompletableFuture<String> pay(PaymentMethodDTO data, long value) throws InvalidOperationException;
+
+    void voidPayment(String authorizationId);
 }
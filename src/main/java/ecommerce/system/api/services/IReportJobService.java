@@ -0,0 +1,20 @@
+package ecommerce.system.api.services;
+
+import ecommerce.system.api.exceptions.InvalidOperationException;
+import ecommerce.system.api.models.ReportJob;
+
+import java.io.File;
+import java.util.List;
+
+public interface IReportJobService {
+
+    String submitJob(ReportJob reportJob) throws InvalidOperationException;
+
+    ReportJob getJobById(String reportJobId) throws InvalidOperationException;
+
+    List<ReportJob> getJobsByLoggedUser();
+
+    File getJobResultFile(String reportJobId) throws InvalidOperationException;
+
+    int deleteExpiredResults();
+}
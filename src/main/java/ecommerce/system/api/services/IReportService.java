@@ -1,55 +1,54 @@
 package ecommerce.system.api.services;
 
+import ecommerce.system.api.dto.BestSellerDTO;
+import ecommerce.system.api.dto.ReportPageDTO;
+import ecommerce.system.api.dto.ReportPageRequestDTO;
+import ecommerce.system.api.enums.ReportExportFormatEnum;
+import ecommerce.system.api.enums.ReportPeriodEnum;
+import ecommerce.system.api.enums.ReportTypeEnum;
+import ecommerce.system.api.exceptions.InvalidOperationException;
 import ecommerce.system.api.models.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface IReportService {
 
-        List<OrdersByStoreReport> getOrdersReport();
-
         OrdersByStoreReport getOrdersReportByStoreId(int storeId);
 
-        List<ProductsByStoreReport> getProductsReport();
-
         ProductsByStoreReport getProductsReportByStoreId(int storeId);
 
-        List<StoreCashFlowByOrderReport> getStoreCashFlowReport();
-
-        List<StoreCashFlowByOrderReport> getStoreCashFlowReportByDateRange(LocalDate startDate, LocalDate endDate);
-
-        List<StoreCashFlowByOrderReport> getStoreCashFlowReportByStoreId(int storeId);
+        long streamStoreCashFlowReport(Integer storeId, LocalDate startDate, LocalDate endDate,
+                        Consumer<StoreCashFlowByOrderReport> consumer);
 
-        List<StoreCashFlowByOrderReport> getStoreCashFlowReportByStoreIdAndDateRange(int storeId,
-                        LocalDate startDate,
-                        LocalDate endDate);
+        long exportStoreCashFlowReport(Integer storeId, LocalDate startDate, LocalDate endDate,
+                        ReportExportFormatEnum format, boolean gzip, OutputStream outputStream) throws IOException;
 
-        List<StoreCashFlowRevenueReport> getStoreCashFlowRevenueReport();
-
-        List<StoreCashFlowRevenueReport> getStoreCashFlowRevenueReportByDateRange(LocalDate startDate,
-                        LocalDate endDate);
-
-        List<StoreCashFlowRevenueReport> getStoreCashFlowRevenueReportByStoreId(int storeId);
+        StoresByUserReport getStoresByUserReportByUserId(int userId);
 
-        List<StoreCashFlowRevenueReport> getStoreCashFlowRevenueReportByStoreIdAndDateRange(int storeId,
-                        LocalDate startDate, LocalDate endDate);
+        long streamSystemCashFlowByOrderReport(LocalDate startDate, LocalDate endDate,
+                        Consumer<SystemCashFlowByOrderReport> consumer);
 
-        List<StoresByUserReport> getStoresByUserReport();
+        long exportSystemCashFlowByOrderReport(LocalDate startDate, LocalDate endDate, ReportExportFormatEnum format,
+                        boolean gzip, OutputStream outputStream) throws IOException;
 
-        StoresByUserReport getStoresByUserReportByUserId(int userId);
+        ReportPageDTO getReportPage(ReportTypeEnum reportType, Integer scopeId, LocalDate startDate, LocalDate endDate,
+                        ReportPageRequestDTO page) throws InvalidOperationException;
 
-        List<SystemCashFlowByOrderReport> getSystemCashFlowByOrderReport();
+        List<BestSellerDTO> getBestSellingProducts(ReportPeriodEnum period, LocalDate date, Integer storeId,
+                        int limit);
 
-        List<SystemCashFlowByOrderReport> getSystemCashFlowByOrderReportByDateRange(LocalDate startDate,
-                        LocalDate endDate);
+        List<BestSellerDTO> getBestSellingStores(ReportPeriodEnum period, LocalDate date, int limit);
 
-        List<SystemCashFlowRevenueReport> getSystemCashFlowRevenueReport();
+        void reloadBestSellers();
 
-        List<SystemCashFlowRevenueReport> getSystemCashFlowRevenueReportByDateRange(LocalDate startDate,
-                        LocalDate endDate);
+        Map<String, Object> getBestSellersStatus();
 
-        List<UsersCountReport> getUsersCountReport();
+        void rebuildReports();
 
-        List<StoresCountReport> getStoresCountReport();
+        Map<String, Object> getCacheStatistics();
 }
@@ -0,0 +1,24 @@
+package ecommerce.system.api.services;
+
+import ecommerce.system.api.dto.StoreMetricsDTO;
+import ecommerce.system.api.enums.ReportPeriodEnum;
+import ecommerce.system.api.exceptions.InvalidOperationException;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface IStoreMetricsService {
+
+    void recordOrder(int storeId, int customerId, Collection<Integer> productIds, LocalDate day);
+
+    void flushSketches();
+
+    List<StoreMetricsDTO> getStoreMetrics(int storeId, LocalDate startDate, LocalDate endDate,
+            ReportPeriodEnum period) throws InvalidOperationException;
+
+    Map<String, Object> reconcile(LocalDate day);
+
+    Map<String, Object> getReconciliationStatus();
+}
@@ -0,0 +1,17 @@
+package ecommerce.system.api.services;
+
+import java.util.Date;
+import java.util.Map;
+
+public interface ITokenRevocationService {
+
+    void revokeToken(String tokenId, String subject, Date expiration);
+
+    void revokeUser(String subject);
+
+    boolean isRevoked(String tokenId, String subject, Date issuedAt);
+
+    void reloadRevocations();
+
+    Map<String, Object> getStatus();
+}
@@ -0,0 +1,173 @@
+package ecommerce.system.api.services.implementations;
+
+import ecommerce.system.api.dto.CashFlowAggregateDTO;
+import ecommerce.system.api.enums.CashFlowLedgerEnum;
+import ecommerce.system.api.enums.ReportPeriodEnum;
+import ecommerce.system.api.repositories.ICashFlowRepository;
+import ecommerce.system.api.services.IAnalyticsService;
+import ecommerce.system.api.tools.CashFlowColumnStore;
+import ecommerce.system.api.tools.Money;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class AnalyticsService implements IAnalyticsService {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final ICashFlowRepository cashFlowRepository;
+    private final CashFlowColumnStore cashFlowColumnStore;
+    private final Map<CashFlowLedgerEnum, Integer> lastIds = new EnumMap<>(CashFlowLedgerEnum.class);
+    private final Map<CashFlowLedgerEnum, Map<Integer, Long>> pendingIds = new EnumMap<>(CashFlowLedgerEnum.class);
+    private volatile boolean loaded;
+
+    @Value("${application.analytics.batch-size:50000}")
+    private int batchSize;
+
+    @Value("${application.analytics.gap-timeout-ms:60000}")
+    private long gapTimeout;
+
+    @Autowired
+    public AnalyticsService(ICashFlowRepository cashFlowRepository, CashFlowColumnStore cashFlowColumnStore) {
+        this.cashFlowRepository = cashFlowRepository;
+        this.cashFlowColumnStore = cashFlowColumnStore;
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadCashFlowColumns() {
+
+        long start = System.currentTimeMillis();
+
+        for (CashFlowLedgerEnum ledger : CashFlowLedgerEnum.values()) {
+            this.cashFlowColumnStore.clear(ledger);
+            this.lastIds.put(ledger, 0);
+            this.pendingIds.put(ledger, new LinkedHashMap<>());
+
+            while (this.appendAfterLastId(ledger) == this.batchSize) {
+                logger.debug("Loaded " + this.cashFlowColumnStore.getRowCount(ledger) + " " + ledger + " cash flow rows");
+            }
+        }
+
+        this.loaded = true;
+
+        logger.info("Cash flow columns loaded in " + (System.currentTimeMillis() - start) + " ms: "
+                + this.cashFlowColumnStore.getRowCount(CashFlowLedgerEnum.STORE) + " store rows, "
+                + this.cashFlowColumnStore.getRowCount(CashFlowLedgerEnum.SYSTEM) + " system rows");
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${application.analytics.tail-interval-ms:1000}")
+    public synchronized void tailCashFlowColumns() {
+
+        if (!this.loaded) {
+            return;
+        }
+
+        try {
+            for (CashFlowLedgerEnum ledger : CashFlowLedgerEnum.values()) {
+                this.appendPendingIds(ledger);
+                this.appendAfterLastId(ledger);
+            }
+
+        } catch (Exception e) {
+            logger.error("Cash flow tailing failed: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public List<CashFlowAggregateDTO> aggregateCashFlow(CashFlowLedgerEnum ledger, Integer storeId,
+            LocalDate startDate, LocalDate endDate, boolean groupByStore, ReportPeriodEnum period) {
+
+        return this.cashFlowColumnStore.aggregate(ledger, storeId, startDate, endDate, groupByStore, period);
+    }
+
+    @Override
+    public synchronized Map<String, Object> getStatus() {
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("loaded", this.loaded);
+
+        for (CashFlowLedgerEnum ledger : CashFlowLedgerEnum.values()) {
+
+            Map<String, Object> ledgerStatus = new LinkedHashMap<>();
+            ledgerStatus.put("rows", this.cashFlowColumnStore.getRowCount(ledger));
+            ledgerStatus.put("lastId", this.lastIds.get(ledger));
+            ledgerStatus.put("pendingIds", this.pendingIds.containsKey(ledger) ? this.pendingIds.get(ledger).size() : 0);
+
+            status.put(ledger.name().toLowerCase(), ledgerStatus);
+        }
+
+        return status;
+    }
+
+    private int appendAfterLastId(CashFlowLedgerEnum ledger) {
+
+        int lastId = this.lastIds.get(ledger);
+        List<Object[]> rows = ledger == CashFlowLedgerEnum.STORE
+                ? this.cashFlowRepository.getStoreCashFlowColumnsAfter(lastId, this.batchSize)
+                : this.cashFlowRepository.getSystemCashFlowColumnsAfter(lastId, this.batchSize);
+
+        Map<Integer, Long> pending = this.pendingIds.get(ledger);
+        long now = System.currentTimeMillis();
+
+        for (Object[] row : rows) {
+
+            int id = ((Number) row[0]).intValue();
+
+            // Rows older than the gap timeout cannot have an in-flight transaction below them
+            if (this.loaded || ((Timestamp) row[3]).getTime() >= now - this.gapTimeout) {
+                for (int missingId = lastId + 1; missingId < id; missingId++) {
+                    pending.put(missingId, now);
+                }
+            }
+
+            this.append(ledger, row);
+            lastId = id;
+        }
+
+        this.lastIds.put(ledger, lastId);
+
+        return rows.size();
+    }
+
+    private void appendPendingIds(CashFlowLedgerEnum ledger) {
+
+        Map<Integer, Long> pending = this.pendingIds.get(ledger);
+
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = ledger == CashFlowLedgerEnum.STORE
+                ? this.cashFlowRepository.getStoreCashFlowColumnsByIds(pending.keySet())
+                : this.cashFlowRepository.getSystemCashFlowColumnsByIds(pending.keySet());
+
+        for (Object[] row : rows) {
+            this.append(ledger, row);
+            pending.remove(((Number) row[0]).intValue());
+        }
+
+        long expiredBefore = System.currentTimeMillis() - this.gapTimeout;
+        pending.values().removeIf((firstSeen) -> firstSeen < expiredBefore);
+    }
+
+    private void append(CashFlowLedgerEnum ledger, Object[] row) {
+
+        this.cashFlowColumnStore.append(ledger, ((Number) row[1]).intValue(), ((Number) row[2]).intValue(),
+                ((Timestamp) row[3]).toLocalDateTime().toLocalDate(), Money.of((BigDecimal) row[4]));
+    }
+}
@@ -2,34 +2,53 @@ package ecommerce.system.api.services.implementations;
 
 import ecommerce.system.api.dto.CredentialsDTO;
 import ecommerce.system.api.dto.TokenDTO;
+import ecommerce.system.api.models.RefreshToken;
 import ecommerce.system.api.models.User;
+import ecommerce.system.api.repositories.IRefreshTokenRepository;
 import ecommerce.system.api.repositories.IUserRepository;
 import ecommerce.system.api.services.IAuthenticationService;
+import ecommerce.system.api.services.ITokenRevocationService;
 import ecommerce.system.api.tools.JwtHandler;
+import ecommerce.system.api.tools.RefreshTokenHandler;
 import ecommerce.system.api.tools.SHAEncoder;
+import io.jsonwebtoken.Claims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Service
 public class AuthenticationService implements IAuthenticationService {
 
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final IRefreshTokenRepository refreshTokenRepository;
+    private final ITokenRevocationService tokenRevocationService;
     private final IUserRepository userRepository;
     private final JwtHandler jwtHandler;
+    private final RefreshTokenHandler refreshTokenHandler;
     private final SHAEncoder shaEncoder;
 
     @Autowired
     public AuthenticationService(
+            IRefreshTokenRepository refreshTokenRepository,
+            ITokenRevocationService tokenRevocationService,
             IUserRepository userRepository,
             JwtHandler jwtHandler,
+            RefreshTokenHandler refreshTokenHandler,
             SHAEncoder shaEncoder) {
 
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.tokenRevocationService = tokenRevocationService;
         this.userRepository = userRepository;
         this.jwtHandler = jwtHandler;
+        this.refreshTokenHandler = refreshTokenHandler;
         this.shaEncoder = shaEncoder;
     }
 
@@ -43,15 +62,82 @@ public class AuthenticationService implements IAuthenticationService {
 
         if (user != null) {
 
-            String token = this.jwtHandler.getToken(user.getEmail());
-            LocalDateTime expirationDate = this.jwtHandler.getExpirationFromToken(token);
-
-            return new TokenDTO(token, expirationDate, user.getRoleId(), user.getUserId());
+            return this.issueTokens(user.getUserId(), user.getEmail(), user.getRoleId(),
+                    UUID.randomUUID().toString());
         }
 
         return null;
     }
 
+    @Override
+    public TokenDTO refreshToken(String refreshToken) throws NoSuchAlgorithmException {
+
+        if (refreshToken == null || refreshToken.isEmpty()) {
+            return null;
+        }
+
+        String tokenHash = this.refreshTokenHandler.hash(refreshToken);
+
+        boolean used = this.refreshTokenRepository.markAsUsed(tokenHash, LocalDateTime.now());
+        RefreshToken current = this.refreshTokenRepository.getByTokenHash(tokenHash);
+
+        if (current == null) {
+            return null;
+        }
+
+        if (!used) {
+
+            if (current.getUsedDate() != null || current.isRevoked()) {
+
+                logger.warn("Refresh token reuse detected for user " + current.getUserId()
+                        + ", revoking token family " + current.getFamilyId());
+
+                this.refreshTokenRepository.revokeFamily(current.getFamilyId());
+            }
+
+            return null;
+        }
+
+        return this.issueTokens(current.getUserId(), current.getEmail(), current.getRoleId(),
+                current.getFamilyId());
+    }
+
+    @Override
+    public void logout(String accessToken, String refreshToken) throws NoSuchAlgorithmException {
+
+        Claims claims = this.jwtHandler.getClaims(accessToken);
+
+        this.tokenRevocationService.revokeToken(claims.getId(), claims.getSubject(), claims.getExpiration());
+
+        if (refreshToken != null && !refreshToken.isEmpty()) {
+
+            RefreshToken current = this.refreshTokenRepository.getByTokenHash(this.refreshTokenHandler.hash(refreshToken));
+
+            if (current != null && current.getEmail().equals(claims.getSubject())) {
+                this.refreshTokenRepository.revokeFamily(current.getFamilyId());
+            }
+        }
+    }
+
+    @Override
+    public void revokeUserSessions(int userId, String email) {
+
+        this.refreshTokenRepository.revokeByUserId(userId);
+
+        this.tokenRevocationService.revokeUser(email);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${token.refresh-cleanup-interval-ms:3600000}")
+    public void deleteExpiredRefreshTokens() {
+
+        int deleted = this.refreshTokenRepository.deleteExpired(LocalDateTime.now());
+
+        if (deleted > 0) {
+            logger.info("Deleted " + deleted + " expired refresh tokens");
+        }
+    }
+
     @Override
     public boolean isLoggedUser(int userId) {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
@@ -69,4 +155,26 @@ public class AuthenticationService implements IAuthenticationService {
         return authentication.getAuthorities().stream()
                 .noneMatch(r -> r.getAuthority().equals("ROLE_system_admin"));
     }
+
+    @Override
+    public String getLoggedUserEmail() {
+
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
+
+    private TokenDTO issueTokens(int userId, String email, int roleId, String familyId)
+            throws NoSuchAlgorithmException {
+
+        String token = this.jwtHandler.getToken(email);
+        LocalDateTime expirationDate = this.jwtHandler.getExpirationFromToken(token);
+
+        String refreshToken = this.refreshTokenHandler.generateToken();
+        LocalDateTime creationDate = LocalDateTime.now();
+        LocalDateTime refreshExpiration = this.refreshTokenHandler.getExpiration(creationDate);
+
+        this.refreshTokenRepository.create(new RefreshToken(this.refreshTokenHandler.hash(refreshToken), familyId,
+                userId, email, roleId, creationDate, refreshExpiration));
+
+        return new TokenDTO(token, expirationDate, roleId, userId, refreshToken, refreshExpiration);
+    }
 }
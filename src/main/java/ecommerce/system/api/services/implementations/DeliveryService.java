@@ -1,19 +1,58 @@
 package ecommerce.system.api.services.implementations;
 
+import ecommerce.system.api.enums.OrderEventTypeEnum;
+import ecommerce.system.api.exceptions.InvalidOperationException;
+import ecommerce.system.api.models.Address;
 import ecommerce.system.api.models.Delivery;
+import ecommerce.system.api.repositories.IAddressRepository;
 import ecommerce.system.api.repositories.IDeliveryRepository;
+import ecommerce.system.api.repositories.IOrderRepository;
 import ecommerce.system.api.services.IDeliveryService;
+import ecommerce.system.api.services.IOrderEventService;
+import ecommerce.system.api.tools.DeliveryRateTable;
+import ecommerce.system.api.tools.Money;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class DeliveryService implements IDeliveryService {
 
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final IAddressRepository addressRepository;
     private final IDeliveryRepository deliveryRepository;
+    private final IOrderEventService orderEventService;
+    private final IOrderRepository orderRepository;
+    private final DeliveryRateTable deliveryRateTable;
+    private final TransactionTemplate transactionTemplate;
 
-    public DeliveryService(IDeliveryRepository deliveryRepository) {
+    @Value("${application.delivery.default-service-id:1}")
+    private int defaultDeliveryServiceId;
+
+    @Value("${application.delivery.default-price:10.00}")
+    private String defaultPrice;
+
+    public DeliveryService(
+            IAddressRepository addressRepository,
+            IDeliveryRepository deliveryRepository,
+            IOrderEventService orderEventService,
+            IOrderRepository orderRepository,
+            DeliveryRateTable deliveryRateTable,
+            TransactionTemplate transactionTemplate) {
+        this.addressRepository = addressRepository;
         this.deliveryRepository = deliveryRepository;
+        this.orderEventService = orderEventService;
+        this.orderRepository = orderRepository;
+        this.deliveryRateTable = deliveryRateTable;
+        this.transactionTemplate = transactionTemplate;
     }
 
     @Override
@@ -25,9 +64,49 @@ public class DeliveryService implements IDeliveryService {
     }
 
     @Override
-    public double getDeliveryPrice() {
+    public Delivery quoteDelivery(int senderAddressId, int receiverAddressId) throws InvalidOperationException {
+
+        Address senderAddress = this.addressRepository.getById(senderAddressId);
+        Address receiverAddress = this.addressRepository.getById(receiverAddressId);
+
+        if (senderAddress == null || receiverAddress == null) {
+            throw new InvalidOperationException("Endereço de entrega inválido!");
+        }
+
+        Delivery delivery = new Delivery();
+        delivery.setSenderAddressId(senderAddressId);
+        delivery.setReceiverAddressId(receiverAddressId);
+
+        int deliveryServiceId = this.deliveryRateTable
+                .getCheapestDeliveryServiceId(senderAddress.getPostalCode(), receiverAddress.getPostalCode());
+
+        if (deliveryServiceId < 0) {
+
+            logger.warn("No delivery rate from postal code " + senderAddress.getPostalCode() + " to "
+                    + receiverAddress.getPostalCode() + ", using the default delivery price");
+
+            delivery.setDeliveryServiceId(this.defaultDeliveryServiceId);
+            delivery.setPrice(Money.of(this.defaultPrice));
+
+            return delivery;
+        }
+
+        delivery.setDeliveryServiceId(deliveryServiceId);
+        delivery.setPrice(this.deliveryRateTable.getPrice(deliveryServiceId, senderAddress.getPostalCode(),
+                receiverAddress.getPostalCode()));
 
-        return 10.00;
+        return delivery;
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void reloadDeliveryRates() {
+
+        this.deliveryRateTable.load(this.deliveryRepository.getDeliveryZonePrefixes(),
+                this.deliveryRepository.getDeliveryRates());
+
+        logger.info("Delivery rate tables loaded with " + this.deliveryRateTable.getZoneCount() + " zones and "
+                + this.deliveryRateTable.getRateCount() + " rates");
     }
 
     @Override
@@ -39,6 +118,24 @@ public class DeliveryService implements IDeliveryService {
     @Override
     public void updateDeliveryStatus(int deliveryId, boolean status) {
 
-        this.deliveryRepository.updateDeliveryStatus(deliveryId, status);
+        this.transactionTemplate.execute(transactionStatus -> {
+
+            if (!this.deliveryRepository.updateDeliveryStatus(deliveryId, status)) {
+                return null;
+            }
+
+            Delivery delivery = this.deliveryRepository.getDeliveryById(deliveryId);
+            int orderSummaryId = this.orderRepository.getOrderSummaryIdByOrderId(delivery.getOrderId());
+
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("deliveryId", deliveryId);
+            payload.put("deliveryServiceId", delivery.getDeliveryServiceId());
+            payload.put("success", status);
+
+            this.orderEventService.appendEvent(OrderEventTypeEnum.DELIVERY_UPDATED, orderSummaryId,
+                    delivery.getOrderId(), payload);
+
+            return null;
+        });
     }
 }
@@ -0,0 +1,60 @@
+package ecommerce.system.api.services.implementations;
+
+import ecommerce.system.api.repositories.IOrderRepository;
+import ecommerce.system.api.services.IOrderArchiveService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+public class OrderArchiveService implements IOrderArchiveService {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final IOrderRepository orderRepository;
+
+    @Value("${application.order-archive.threshold-days:180}")
+    private int thresholdDays;
+
+    @Value("${application.order-archive.batch-size:200}")
+    private int batchSize;
+
+    @Autowired
+    public OrderArchiveService(IOrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    @Override
+    public synchronized int archiveFinishedOrders() {
+
+        LocalDateTime threshold = LocalDateTime.now().minusDays(this.thresholdDays);
+        int archived = 0;
+        List<Integer> orderSummaryIds;
+
+        do {
+            orderSummaryIds = this.orderRepository.getArchivableOrderSummaryIds(threshold, this.batchSize);
+            archived += this.orderRepository.archiveOrderSummaries(orderSummaryIds, threshold);
+
+        } while (orderSummaryIds.size() == this.batchSize);
+
+        logger.info("Archived " + archived + " finished orders last updated before " + threshold);
+
+        return archived;
+    }
+
+    @Scheduled(cron = "${application.order-archive.cron:0 0 3 * * *}")
+    public void archiveFinishedOrdersJob() {
+
+        try {
+            this.archiveFinishedOrders();
+
+        } catch (Exception e) {
+            logger.error("Order archival failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package ecommerce.system.api.services.implementations;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ecommerce.system.api.enums.OrderEventTypeEnum;
+import ecommerce.system.api.exceptions.InvalidOperationException;
+import ecommerce.system.api.models.OrderEvent;
+import ecommerce.system.api.repositories.IOrderEventRepository;
+import ecommerce.system.api.services.IOrderEventService;
+import ecommerce.system.api.services.IOrderProjection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class OrderEventService implements IOrderEventService {
+
+    private static final int REPLAY_BATCH_SIZE = 500;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final IOrderEventRepository orderEventRepository;
+    private final List<IOrderProjection> projections;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate projectionTransaction;
+
+    @Autowired
+    public OrderEventService(
+            IOrderEventRepository orderEventRepository,
+            List<IOrderProjection> projections,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
+        this.orderEventRepository = orderEventRepository;
+        this.projections = projections;
+        this.objectMapper = objectMapper;
+
+        this.projectionTransaction = new TransactionTemplate(transactionManager);
+        this.projectionTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public long appendEvent(OrderEventTypeEnum eventType, int orderSummaryId, int orderId,
+            Map<String, Object> payload) {
+
+        String serializedPayload;
+
+        try {
+            serializedPayload = this.objectMapper.writeValueAsString(payload);
+
+        } catch (JsonProcessingException jpe) {
+            throw new IllegalArgumentException("Invalid payload for order event " + eventType.getName(), jpe);
+        }
+
+        OrderEvent event = new OrderEvent(eventType.getId(), orderSummaryId, orderId, serializedPayload,
+                LocalDateTime.now());
+
+        return this.orderEventRepository.appendEvent(event);
+    }
+
+    @Override
+    public List<OrderEvent> getEventsByOrderSummaryId(int orderSummaryId) {
+
+        return this.orderEventRepository.getEventsByOrderSummaryId(orderSummaryId);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${application.order-events.catch-up-interval-ms:1000}")
+    public void catchUpProjections() {
+
+        for (IOrderProjection projection : this.projections) {
+            this.catchUp(projection);
+        }
+    }
+
+    @Override
+    public long replayProjection(String projectionName) throws InvalidOperationException {
+
+        IOrderProjection projection = this.projections.stream()
+                .filter(p -> p.getName().equals(projectionName))
+                .findFirst()
+                .orElseThrow(() -> new InvalidOperationException("Projeção não encontrada!"));
+
+        logger.info("Replaying order event log into projection " + projectionName);
+
+        this.projectionTransaction.execute(status -> {
+
+            this.orderEventRepository.lockCheckpoint(projectionName);
+            projection.reset();
+            this.orderEventRepository.saveCheckpoint(projectionName, 0);
+
+            return null;
+        });
+
+        return this.catchUp(projection);
+    }
+
+    private long catchUp(IOrderProjection projection) {
+
+        long applied = 0;
+        Integer batch;
+
+        do {
+            try {
+                batch = this.projectionTransaction.execute(status -> this.applyBatch(projection));
+
+            } catch (Exception e) {
+
+                logger.error("Projection " + projection.getName() + " failed while catching up: " + e.getMessage());
+
+                return applied;
+            }
+
+            applied += batch;
+
+        } while (batch >= REPLAY_BATCH_SIZE);
+
+        return applied;
+    }
+
+    private int applyBatch(IOrderProjection projection) {
+
+        long lastEventId = this.orderEventRepository.lockCheckpoint(projection.getName());
+        List<OrderEvent> events = this.resolveGaps(lastEventId,
+                this.orderEventRepository.getEventsAfter(lastEventId, REPLAY_BATCH_SIZE));
+        int applied = 0;
+
+        for (OrderEvent event : events) {
+
+            projection.apply(event, this.readPayload(event));
+
+            lastEventId = event.getOrderEventId();
+            applied++;
+        }
+
+        if (applied > 0) {
+            this.orderEventRepository.saveCheckpoint(projection.getName(), lastEventId);
+        }
+
+        return applied;
+    }
+
+    private List<OrderEvent> resolveGaps(long lastEventId, List<OrderEvent> events) {
+
+        List<Long> missingIds = new ArrayList<>();
+        long expectedId = lastEventId + 1;
+
+        for (OrderEvent event : events) {
+
+            for (long missingId = expectedId; missingId < event.getOrderEventId(); missingId++) {
+                missingIds.add(missingId);
+            }
+
+            expectedId = event.getOrderEventId() + 1;
+        }
+
+        if (missingIds.isEmpty()) {
+            return events;
+        }
+
+        // A missing id is either still being written or rolled back; the locking read waits for its transaction
+        List<OrderEvent> resolved = new ArrayList<>(events);
+        resolved.addAll(this.orderEventRepository.lockEventsByIds(missingIds));
+        resolved.sort(Comparator.comparingLong(OrderEvent::getOrderEventId));
+
+        return resolved;
+    }
+
+    private Map<String, Object> readPayload(OrderEvent event) {
+
+        try {
+            return this.objectMapper.readValue(event.getPayload(), new TypeReference<Map<String, Object>>() {
+            });
+
+        } catch (IOException e) {
+            throw new IllegalStateException("Invalid payload on order event " + event.getOrderEventId(), e);
+        }
+    }
+}
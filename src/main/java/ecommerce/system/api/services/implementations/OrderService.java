@@ -2,58 +2,111 @@ package ecommerce.system.api.services.implementations;
 
 import ecommerce.system.api.dto.OrderItemDTO;
 import ecommerce.system.api.dto.PaymentDTO;
+import ecommerce.system.api.enums.OrderEventTypeEnum;
 import ecommerce.system.api.enums.OrderStatusEnum;
 import ecommerce.system.api.exceptions.InvalidOperationException;
 import ecommerce.system.api.models.*;
 import ecommerce.system.api.repositories.ICashFlowRepository;
 import ecommerce.system.api.repositories.IOrderRepository;
+import ecommerce.system.api.repositories.IReportRepository;
 import ecommerce.system.api.services.*;
+import ecommerce.system.api.tools.Money;
+import ecommerce.system.api.tools.OpenOrderCounter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
 
 @Service
 public class OrderService implements IOrderService {
 
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final IAlertService alertService;
     private final ICashFlowRepository cashFlowRepository;
     private final IDeliveryService deliveryService;
+    private final IOrderEventService orderEventService;
     private final IOrderRepository orderRepository;
     private final IPaymentService paymentService;
     private final IProductService productService;
+    private final IReportRepository reportRepository;
+    private final IStoreMetricsService storeMetricsService;
     private final IStoreService storeService;
     private final IUserService userService;
+    private final OpenOrderCounter openOrderCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService paymentExecutor;
+
+    @Value("${application.open-orders.confirm-with-database:false}")
+    private boolean confirmWithDatabase;
 
     @Autowired
     public OrderService(
             IAlertService alertService,
             ICashFlowRepository cashFlowRepositoy,
             IDeliveryService deliveryService,
+            IOrderEventService orderEventService,
             IOrderRepository orderRepository,
             IPaymentService paymentService,
             IProductService productService,
+            IReportRepository reportRepository,
+            IStoreMetricsService storeMetricsService,
             IStoreService storeService,
-            IUserService userService) {
+            IUserService userService,
+            OpenOrderCounter openOrderCounter,
+            TransactionTemplate transactionTemplate,
+            @Value("${application.payment.registration-threads:4}") int paymentRegistrationThreads) {
         this.alertService = alertService;
         this.cashFlowRepository = cashFlowRepositoy;
         this.deliveryService = deliveryService;
+        this.orderEventService = orderEventService;
         this.orderRepository = orderRepository;
         this.paymentService = paymentService;
         this.productService = productService;
+        this.reportRepository = reportRepository;
+        this.storeMetricsService = storeMetricsService;
         this.storeService = storeService;
         this.userService = userService;
+        this.openOrderCounter = openOrderCounter;
+        this.transactionTemplate = transactionTemplate;
+
+        // Registering a payment blocks on the database, so it must not run on the gateway bulkhead threads
+        AtomicInteger threadCount = new AtomicInteger();
+        this.paymentExecutor = Executors.newFixedThreadPool(paymentRegistrationThreads, (runnable) -> {
+            Thread thread = new Thread(runnable, "payment-registration-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.paymentExecutor.shutdown();
     }
 
     @Override
     public int createOrder(Order order) throws Exception {
 
         Map<Integer, List<Product>> productsByStore = new HashMap<>();
-        double totalPrice = 0;
+        long totalPrice = Money.ZERO;
 
         for (OrderItemDTO item : order.getItens()) {
             Product product = this.productService.getProductById(item.getProductId());
@@ -62,12 +115,11 @@ public class OrderService implements IOrderService {
                 throw new InvalidOperationException("Estoque insuficiente para o produto " + product.getName());
             }
 
-            totalPrice += product.getPrice() * item.getQuantity();
+            totalPrice = Money.add(totalPrice, Money.multiply(product.getPrice(), item.getQuantity()));
 
             List<Product> products = productsByStore.get(product.getStoreId());
 
             if (products == null) {
-                totalPrice += this.deliveryService.getDeliveryPrice();
                 products = new ArrayList<>();
             }
 
@@ -76,6 +128,16 @@ public class OrderService implements IOrderService {
             productsByStore.put(product.getStoreId(), products);
         }
 
+        Map<Integer, Delivery> deliveriesByStore = new HashMap<>();
+
+        for (Integer storeId : productsByStore.keySet()) {
+            Store store = this.storeService.getStoreById(storeId);
+            Delivery delivery = this.deliveryService.quoteDelivery(store.getAddressId(), order.getAddressId());
+
+            totalPrice = Money.add(totalPrice, delivery.getPrice());
+            deliveriesByStore.put(storeId, delivery);
+        }
+
         order.setTotalPrice(totalPrice);
         order.setTotalDiscountPercentage(0); // HARDCODED
         order.setFinalPrice(totalPrice);
@@ -84,13 +146,26 @@ public class OrderService implements IOrderService {
         order.setLastUpdate(null);
         order.setOrderStatusId(OrderStatusEnum.RECEIVED.getId());
 
-        int orderSummaryId = this.orderRepository.createOrderSummary(order);
+        Map<String, Object> summaryPayload = new HashMap<>();
+        summaryPayload.put("userId", order.getUserId());
+        summaryPayload.put("totalPrice", Money.toBigDecimal(totalPrice));
+        summaryPayload.put("stores", productsByStore.size());
+
+        int orderSummaryId = this.transactionTemplate.execute(status -> {
+
+            int createdOrderSummaryId = this.orderRepository.createOrderSummary(order);
+
+            this.orderEventService.appendEvent(OrderEventTypeEnum.ORDER_CREATED, createdOrderSummaryId, 0,
+                    summaryPayload);
+
+            return createdOrderSummaryId;
+        });
 
         User user = this.userService.getUserById(order.getUserId(), true);
 
         this.alertService.sendOrderAlert(orderSummaryId, OrderStatusEnum.RECEIVED.getName(), user);
 
-        this.createOrdersByStore(productsByStore, orderSummaryId, order.getAddressId());
+        this.createOrdersByStore(productsByStore, deliveriesByStore, orderSummaryId, order.getUserId());
 
         return orderSummaryId;
     }
@@ -101,12 +176,67 @@ public class OrderService implements IOrderService {
         return this.orderRepository.getOrdersByStoreId(storeId);
     }
 
+    @Override
+    public List<Order> getOrdersByStoreId(int storeId, boolean includeArchived) {
+
+        return this.orderRepository.getOrdersByStoreId(storeId, includeArchived);
+    }
+
     @Override
     public List<Order> getOrdersByProductId(int productId) {
 
         return this.orderRepository.getOrdersByProductId(productId);
     }
 
+    @Override
+    public boolean hasOpenOrdersByStoreId(int storeId) {
+
+        if (this.openOrderCounter.hasOpenOrdersByStoreId(storeId)) {
+            return true;
+        }
+
+        // Nodes sharing the database without sharing counters can opt into confirming a zero
+        return this.confirmWithDatabase && this.orderRepository.hasOpenOrdersByStoreId(storeId);
+    }
+
+    @Override
+    public boolean hasOpenOrdersByProductId(int productId) {
+
+        if (this.openOrderCounter.hasOpenOrdersByProductId(productId)) {
+            return true;
+        }
+
+        return this.confirmWithDatabase && this.orderRepository.hasOpenOrdersByProductId(productId);
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reconcileOpenOrderCounters() {
+
+        this.openOrderCounter.beginReset();
+
+        try {
+            this.openOrderCounter.reset(this.orderRepository.getOpenOrderCountsByStore(),
+                    this.orderRepository.getOpenOrderCountsByProduct());
+
+        } finally {
+            this.openOrderCounter.endReset();
+        }
+
+        logger.info("Open order counters reconciled with the database");
+    }
+
+    @Scheduled(fixedDelayString = "${application.open-orders.reconcile-interval-ms:600000}")
+    public void reconcileOpenOrderCountersJob() {
+
+        try {
+            this.reconcileOpenOrderCounters();
+
+        } catch (Exception e) {
+            logger.error("Open order counter reconciliation failed: " + e.getMessage());
+        }
+    }
+
     @Override
     public List<Order> getOrderSummariesByUserId(int userId) {
 
@@ -134,6 +264,10 @@ public class OrderService implements IOrderService {
             throw new InvalidOperationException("Pedido não encontrado!");
         }
 
+        if (orderSummary.isArchived()) {
+            throw new InvalidOperationException("Pedido arquivado! Não é possível atualizar o status.");
+        }
+
         List<Order> orders = this.orderRepository.getOrdersByOrderSummaryId(orderSummaryid);
 
         if (orders == null) {
@@ -144,7 +278,17 @@ public class OrderService implements IOrderService {
         orderSummary.setOrderStatusId(orderStatusId);
         orderSummary.setLastUpdate(LocalDateTime.now());
 
-        this.orderRepository.updateOrderSummary(orderSummary);
+        Map<String, Object> summaryPayload = new HashMap<>();
+        summaryPayload.put("orderStatusId", orderStatusId);
+
+        this.transactionTemplate.execute(status -> {
+
+            this.orderRepository.updateOrderSummary(orderSummary);
+            this.orderEventService.appendEvent(OrderEventTypeEnum.STATUS_CHANGED, orderSummaryid, 0,
+                    summaryPayload);
+
+            return null;
+        });
 
         User user = this.userService.getUserById(orderSummary.getUserId(), true);
 
@@ -153,15 +297,31 @@ public class OrderService implements IOrderService {
 
         for (Order order : orders) {
 
+            int previousOrderStatusId = order.getOrderStatusId();
+
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("previousOrderStatusId", previousOrderStatusId);
+            payload.put("orderStatusId", orderStatusId);
+
             order.setOrderStatusId(orderStatusId);
             order.setLastUpdate(LocalDateTime.now());
 
-            this.orderRepository.updateOrder(order);
+            this.transactionTemplate.execute(status -> {
+
+                this.orderRepository.updateOrder(order);
+                this.reportRepository.updateOrdersReport(order.getStoreId(), previousOrderStatusId, orderStatusId);
+                this.orderEventService.appendEvent(OrderEventTypeEnum.STATUS_CHANGED, orderSummaryid,
+                        order.getOrderId(), payload);
+
+                return null;
+            });
+
+            this.updateOpenOrderCounter(order, previousOrderStatusId, orderStatusId);
         }
     }
 
     @Override
-    public void payOrder(int orderSummaryid, PaymentDTO paymentInfo) throws Exception {
+    public CompletableFuture<Void> payOrder(int orderSummaryid, PaymentDTO paymentInfo) throws Exception {
 
         Order orderSummary = this.orderRepository.getOrderSummaryById(orderSummaryid);
 
@@ -169,6 +329,14 @@ public class OrderService implements IOrderService {
             throw new InvalidOperationException("Pedido não encontrado!");
         }
 
+        if (orderSummary.isArchived()) {
+            throw new InvalidOperationException("Pedido arquivado! Não é possível efetuar o pagamento.");
+        }
+
+        if (orderSummary.getOrderStatusId() != OrderStatusEnum.RECEIVED.getId()) {
+            throw new InvalidOperationException("Pedido já pago!");
+        }
+
         if (orderSummary.getTotalPrice() != paymentInfo.getValue()) {
             throw new InvalidOperationException("Valor do pagamento incorreto!");
         }
@@ -180,45 +348,118 @@ public class OrderService implements IOrderService {
                     "Pedido com dados comprometidos! Não foi possível efetuar o pagamento.");
         }
 
-        if (this.paymentService.pay(paymentInfo.getPaymentMethod(), paymentInfo.getValue())) {
+        return this.paymentService.pay(paymentInfo.getPaymentMethod(), paymentInfo.getValue())
+                .thenAcceptAsync((authorizationId) -> {
 
-            orderSummary.setOrderStatusId(OrderStatusEnum.PAID.getId());
-            orderSummary.setLastUpdate(LocalDateTime.now());
+                    List<Integer> previousOrderStatusIds;
 
-            this.orderRepository.updateOrderSummary(orderSummary);
+                    try {
+                        previousOrderStatusIds = this.registerPayment(orderSummaryid, orderSummary, orders,
+                                paymentInfo);
 
-            User user = this.userService.getUserById(orderSummary.getUserId(), true);
+                    } catch (Exception e) {
+                        this.paymentService.voidPayment(authorizationId);
+                        throw new CompletionException(e);
+                    }
 
-            this.alertService.sendOrderAlert(orderSummary.getOrderId(), OrderStatusEnum.PAID.getName(), user);
+                    this.notifyPayment(orderSummary, orders, previousOrderStatusIds);
+                }, this.paymentExecutor);
+    }
 
-            for (Order order : orders) {
+    private List<Integer> registerPayment(int orderSummaryId, Order orderSummary, List<Order> orders,
+            PaymentDTO paymentInfo) throws InvalidOperationException {
 
-                double commission = order.getTotalPrice() * 0.10; // HARDCODED
-                double storeProfit = order.getTotalPrice() - commission;
+        orderSummary.setOrderStatusId(OrderStatusEnum.PAID.getId());
+        orderSummary.setLastUpdate(LocalDateTime.now());
+
+        List<StoreCashFlow> storeCashFlows = new ArrayList<>();
+        List<SystemCashFlow> systemCashFlows = new ArrayList<>();
+        List<Map<String, Object>> payloads = new ArrayList<>();
+        List<Integer> previousOrderStatusIds = new ArrayList<>();
+
+        for (Order order : orders) {
+
+            long commission = Money.percentage(order.getTotalPrice(), 1000, RoundingMode.HALF_EVEN); // HARDCODED
+            long storeProfit = Money.subtract(order.getTotalPrice(), commission);
+
+            previousOrderStatusIds.add(order.getOrderStatusId());
+
+            order.setOrderStatusId(OrderStatusEnum.PAID.getId());
+            order.setLastUpdate(LocalDateTime.now());
+
+            storeCashFlows.add(new StoreCashFlow(order.getStoreId(), order.getOrderId(), storeProfit,
+                    LocalDateTime.now()));
+            systemCashFlows.add(new SystemCashFlow(order.getOrderId(), commission, LocalDateTime.now()));
+
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("paymentMethodId", paymentInfo.getPaymentMethod().getPaymentMethodId());
+            payload.put("value", Money.toBigDecimal(order.getTotalPrice()));
+            payload.put("commission", Money.toBigDecimal(commission));
+            payload.put("storeProfit", Money.toBigDecimal(storeProfit));
+            payloads.add(payload);
+        }
 
-                order.setOrderStatusId(OrderStatusEnum.PAID.getId());
-                order.setLastUpdate(LocalDateTime.now());
+        boolean registered = this.transactionTemplate.execute(status -> {
+
+            // Only one concurrent payment can move the summary out of RECEIVED
+            if (!this.orderRepository.updateOrderSummaryStatus(orderSummaryId, OrderStatusEnum.RECEIVED.getId(),
+                    OrderStatusEnum.PAID.getId(), orderSummary.getLastUpdate())) {
+                return false;
+            }
+
+            for (int i = 0; i < orders.size(); i++) {
+
+                Order order = orders.get(i);
 
                 this.orderRepository.updateOrder(order);
+                this.reportRepository.updateOrdersReport(order.getStoreId(), previousOrderStatusIds.get(i),
+                        OrderStatusEnum.PAID.getId());
+            }
+
+            this.cashFlowRepository.createCashFlowRecords(storeCashFlows, systemCashFlows);
 
-                this.cashFlowRepository.createStoreCashFlowRecord(order.getStoreId(), order.getOrderId(), storeProfit);
-                this.cashFlowRepository.createSystemCashFlowRecord(order.getOrderId(), commission);
+            for (int i = 0; i < orders.size(); i++) {
+                this.orderEventService.appendEvent(OrderEventTypeEnum.PAID, orderSummaryId,
+                        orders.get(i).getOrderId(), payloads.get(i));
             }
-        } else {
-            throw new InvalidOperationException("Erro inesperado ao efetuar o pagamento!");
+
+            return true;
+        });
+
+        if (!registered) {
+            throw new InvalidOperationException("Pedido já pago!");
         }
+
+        return previousOrderStatusIds;
     }
 
-    private void createOrdersByStore(Map<Integer, List<Product>> productsByStore, int orderSummaryId,
-            int addressId) throws Exception {
+    private void notifyPayment(Order orderSummary, List<Order> orders, List<Integer> previousOrderStatusIds) {
+
+        for (int i = 0; i < orders.size(); i++) {
+            this.updateOpenOrderCounter(orders.get(i), previousOrderStatusIds.get(i), OrderStatusEnum.PAID.getId());
+        }
+
+        try {
+            User user = this.userService.getUserById(orderSummary.getUserId(), true);
+
+            this.alertService.sendOrderAlert(orderSummary.getOrderId(), OrderStatusEnum.PAID.getName(), user);
+
+        } catch (Exception e) {
+            logger.error("Payment alert for order " + orderSummary.getOrderId() + " failed: " + e.getMessage());
+        }
+    }
+
+    private void createOrdersByStore(Map<Integer, List<Product>> productsByStore,
+            Map<Integer, Delivery> deliveriesByStore, int orderSummaryId, int userId) throws Exception {
 
         for (Map.Entry<Integer, List<Product>> entry : productsByStore.entrySet()) {
 
-            double totalPrice = this.deliveryService.getDeliveryPrice();
+            Delivery delivery = deliveriesByStore.get(entry.getKey());
+            long totalPrice = delivery.getPrice();
 
             for (Product product : entry.getValue()) {
 
-                totalPrice += product.getPrice() * product.getOrderQuantity();
+                totalPrice = Money.add(totalPrice, Money.multiply(product.getPrice(), product.getOrderQuantity()));
 
                 int productQuantity = product.getQuantity() - product.getOrderQuantity();
                 product.setQuantity(productQuantity);
@@ -243,21 +484,77 @@ public class OrderService implements IOrderService {
             order.setLastUpdate(null);
             order.setOrderStatusId(OrderStatusEnum.RECEIVED.getId());
 
-            int orderId = this.orderRepository.createOrder(order, entry.getKey());
+            List<Integer> productIds = new ArrayList<>();
 
             for (Product product : entry.getValue()) {
-                this.orderRepository.createProductOrder(product.getProductId(), orderId, product.getOrderQuantity());
+                productIds.add(product.getProductId());
             }
 
-            Store store = this.storeService.getStoreById(entry.getKey());
+            long orderTotalPrice = totalPrice;
+
+            this.transactionTemplate.execute(status -> {
+
+                int orderId = this.orderRepository.createOrder(order, entry.getKey());
+
+                Map<String, Object> orderPayload = new HashMap<>();
+                orderPayload.put("storeId", entry.getKey());
+                orderPayload.put("userId", userId);
+                orderPayload.put("totalPrice", Money.toBigDecimal(orderTotalPrice));
+
+                this.orderEventService.appendEvent(OrderEventTypeEnum.ORDER_CREATED, orderSummaryId, orderId,
+                        orderPayload);
+
+                for (Product product : entry.getValue()) {
+                    this.orderRepository.createProductOrder(entry.getKey(), product.getProductId(), orderId,
+                            product.getOrderQuantity(), order.getCreationDate().toLocalDate());
+
+                    Map<String, Object> stockPayload = new HashMap<>();
+                    stockPayload.put("productId", product.getProductId());
+                    stockPayload.put("quantity", product.getOrderQuantity());
+                    stockPayload.put("remainingQuantity", product.getQuantity());
+
+                    this.orderEventService.appendEvent(OrderEventTypeEnum.STOCK_RESERVED, orderSummaryId, orderId,
+                            stockPayload);
+                }
+
+                this.reportRepository.updateOrdersReport(entry.getKey(), 0, OrderStatusEnum.RECEIVED.getId());
+
+                delivery.setOrderId(orderId);
+
+                int deliveryId = this.deliveryService.createDelivery(delivery);
+
+                Map<String, Object> deliveryPayload = new HashMap<>();
+                deliveryPayload.put("deliveryId", deliveryId);
+                deliveryPayload.put("deliveryServiceId", delivery.getDeliveryServiceId());
+                deliveryPayload.put("success", false);
+
+                this.orderEventService.appendEvent(OrderEventTypeEnum.DELIVERY_UPDATED, orderSummaryId, orderId,
+                        deliveryPayload);
+
+                return null;
+            });
+
+            this.openOrderCounter.orderOpened(entry.getKey(), productIds);
+            this.storeMetricsService.recordOrder(entry.getKey(), userId, productIds,
+                    order.getCreationDate().toLocalDate());
+        }
+    }
 
-            Delivery delivery = new Delivery();
-            delivery.setDeliveryServiceId(1); // HARDCODED
-            delivery.setOrderId(orderId);
-            delivery.setSenderAddressId(store.getAddressId());
-            delivery.setReceiverAddressId(addressId);
+    private void updateOpenOrderCounter(Order order, int previousOrderStatusId, int orderStatusId) {
 
-            this.deliveryService.createDelivery(delivery);
+        boolean wasOpen = previousOrderStatusId != OrderStatusEnum.FINISHED.getId();
+        boolean isOpen = orderStatusId != OrderStatusEnum.FINISHED.getId();
+
+        if (wasOpen == isOpen) {
+            return;
+        }
+
+        List<Integer> productIds = this.orderRepository.getProductIdsByOrderId(order.getOrderId());
+
+        if (isOpen) {
+            this.openOrderCounter.orderOpened(order.getStoreId(), productIds);
+        } else {
+            this.openOrderCounter.orderClosed(order.getStoreId(), productIds);
         }
     }
 }
@@ -0,0 +1,106 @@
+package ecommerce.system.api.services.implementations;
+
+import ecommerce.system.api.enums.OrderEventTypeEnum;
+import ecommerce.system.api.enums.OrderStatusEnum;
+import ecommerce.system.api.models.OrderEvent;
+import ecommerce.system.api.models.OrderState;
+import ecommerce.system.api.repositories.IOrderStateRepository;
+import ecommerce.system.api.services.IOrderProjection;
+import ecommerce.system.api.tools.Money;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+@Service
+public class OrderStateProjection implements IOrderProjection {
+
+    private final IOrderStateRepository orderStateRepository;
+
+    @Autowired
+    public OrderStateProjection(IOrderStateRepository orderStateRepository) {
+        this.orderStateRepository = orderStateRepository;
+    }
+
+    @Override
+    public String getName() {
+
+        return "order-state";
+    }
+
+    @Override
+    public void apply(OrderEvent event, Map<String, Object> payload) {
+
+        OrderEventTypeEnum eventType = OrderEventTypeEnum.getEventTypeById(event.getEventTypeId());
+
+        if (eventType == null || event.getOrderId() == 0) {
+            return;
+        }
+
+        if (eventType == OrderEventTypeEnum.ORDER_CREATED) {
+
+            OrderState orderState = new OrderState(
+                    event.getOrderId(),
+                    event.getOrderSummaryId(),
+                    this.getInt(payload, "storeId"),
+                    this.getInt(payload, "userId"),
+                    OrderStatusEnum.RECEIVED.getId(),
+                    this.getMoney(payload, "totalPrice"),
+                    event.getTimestamp());
+
+            this.orderStateRepository.saveOrderState(orderState);
+
+            return;
+        }
+
+        OrderState orderState = this.orderStateRepository.getOrderStateById(event.getOrderId());
+
+        if (orderState == null) {
+            return;
+        }
+
+        switch (eventType) {
+            case STOCK_RESERVED:
+                orderState.setItems(orderState.getItems() + 1);
+                orderState.setReservedQuantity(orderState.getReservedQuantity() + this.getInt(payload, "quantity"));
+                break;
+            case PAID:
+                orderState.setPaidValue(this.getMoney(payload, "value"));
+                orderState.setOrderStatusId(OrderStatusEnum.PAID.getId());
+                break;
+            case STATUS_CHANGED:
+                orderState.setOrderStatusId(this.getInt(payload, "orderStatusId"));
+                break;
+            case DELIVERY_UPDATED:
+                orderState.setDeliveryId(this.getInt(payload, "deliveryId"));
+                orderState.setDelivered(Boolean.TRUE.equals(payload.get("success")));
+                break;
+            default:
+                return;
+        }
+
+        orderState.setLastUpdate(event.getTimestamp());
+
+        this.orderStateRepository.saveOrderState(orderState);
+    }
+
+    @Override
+    public void reset() {
+
+        this.orderStateRepository.deleteAll();
+    }
+
+    private int getInt(Map<String, Object> payload, String key) {
+
+        Object value = payload.get(key);
+
+        return value == null ? 0 : ((Number) value).intValue();
+    }
+
+    private long getMoney(Map<String, Object> payload, String key) {
+
+        Object value = payload.get(key);
+
+        return value == null ? Money.ZERO : Money.of(value.toString());
+    }
+}
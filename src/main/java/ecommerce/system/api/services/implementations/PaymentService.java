@@ -5,26 +5,222 @@ import ecommerce.system.api.enums.PaymentMethodEnum;
 import ecommerce.system.api.exceptions.InvalidOperationException;
 import ecommerce.system.api.models.CreditCard;
 import ecommerce.system.api.models.PaymentMethod;
+import ecommerce.system.api.services.IPaymentGateway;
 import ecommerce.system.api.services.IPaymentService;
+import ecommerce.system.api.tools.CircuitBreaker;
+import ecommerce.system.api.tools.Money;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 @Service
 public class PaymentService implements IPaymentService {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final Map<String, IPaymentGateway> gateways = new HashMap<>();
+    private final Map<String, ThreadPoolExecutor> bulkheads = new HashMap<>();
+    private final Map<String, CircuitBreaker> circuitBreakers = new HashMap<>();
+    private final Map<String, Long> timeouts = new HashMap<>();
+    private final ScheduledExecutorService timeoutScheduler = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+        Thread thread = new Thread(runnable, "payment-timeout");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${application.payment.gateway:simulated}")
+    private String gatewayName;
+
+    @Autowired
+    public PaymentService(List<IPaymentGateway> gateways, Environment environment) {
+
+        for (IPaymentGateway gateway : gateways) {
+
+            String name = gateway.getName();
+            String prefix = "application.payment." + name + ".";
+
+            int maxConcurrent = environment.getProperty(prefix + "max-concurrent", Integer.class, 10);
+            int queueSize = environment.getProperty(prefix + "queue-size", Integer.class, 50);
+            int failureThreshold = environment.getProperty(prefix + "failure-threshold", Integer.class, 5);
+            long openDuration = environment.getProperty(prefix + "open-ms", Long.class, 30000L);
+            long timeout = environment.getProperty(prefix + "timeout-ms", Long.class, 5000L);
+
+            AtomicInteger threadCount = new AtomicInteger();
+
+            this.gateways.put(name, gateway);
+            this.bulkheads.put(name, new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueSize), (runnable) -> {
+                        Thread thread = new Thread(runnable, "payment-" + name + "-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }));
+            this.circuitBreakers.put(name, new CircuitBreaker(failureThreshold, openDuration));
+            this.timeouts.put(name, timeout);
+        }
+    }
 
     @Override
-    public boolean pay(PaymentMethodDTO data, double value) throws InvalidOperationException {
+    public CompletableFuture<String> pay(PaymentMethodDTO data, long value) throws InvalidOperationException {
 
         PaymentMethod paymentMethod = this.paymentMethodFactory(data);
+        IPaymentGateway gateway = this.gateways.get(this.gatewayName);
+
+        if (gateway == null) {
+            throw new InvalidOperationException("Serviço de pagamento indisponível!");
+        }
+
+        CircuitBreaker circuitBreaker = this.circuitBreakers.get(this.gatewayName);
+
+        if (!circuitBreaker.allowRequest()) {
+            throw new InvalidOperationException(
+                    "Serviço de pagamento indisponível no momento! Tente novamente mais tarde.");
+        }
+
+        logger.info("Processing payment with value " + Money.format(value) + " and payment method " + paymentMethod.getName()
+                + " through gateway " + gateway.getName());
+
+        CompletableFuture<String> result = this
+                .callGateway(gateway.getName(), () -> gateway.authorize(paymentMethod, value),
+                        (authorizationId) -> this.voidAuthorization(gateway, authorizationId))
+                .thenCompose((authorizationId) -> this.capture(gateway, authorizationId, value));
+
+        result.whenComplete((authorizationId, throwable) -> {
+
+            Throwable cause = this.unwrap(throwable);
+
+            if (cause == null || cause instanceof InvalidOperationException) {
+                circuitBreaker.recordSuccess();
+            } else {
+                circuitBreaker.recordFailure();
+                logger.error("Payment gateway " + gateway.getName() + " failed: " + cause.getMessage());
+            }
+        });
+
+        return result.exceptionally((throwable) -> {
+
+            Throwable cause = this.unwrap(throwable);
+
+            if (cause instanceof InvalidOperationException) {
+                throw new CompletionException(cause);
+            }
+
+            throw new CompletionException(
+                    new InvalidOperationException("Erro inesperado ao efetuar o pagamento!"));
+        });
+    }
+
+    @Override
+    public void voidPayment(String authorizationId) {
+
+        IPaymentGateway gateway = this.gateways.get(this.gatewayName);
+
+        this.callGateway(gateway.getName(), () -> {
+            gateway.voidAuthorization(authorizationId);
+            return authorizationId;
+        }, null).whenComplete((voided, throwable) -> {
+            if (throwable != null) {
+                logger.error("Payment gateway " + gateway.getName() + " failed to void authorization "
+                        + authorizationId + ": " + this.unwrap(throwable).getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.bulkheads.values().forEach(ThreadPoolExecutor::shutdown);
+        this.timeoutScheduler.shutdown();
+    }
+
+    private CompletableFuture<String> capture(IPaymentGateway gateway, String authorizationId, long value) {
+
+        CompletableFuture<Boolean> capture = this.callGateway(gateway.getName(),
+                () -> gateway.capture(authorizationId, value), null);
+
+        return capture.handle((captured, throwable) -> {
+
+            if (throwable == null && captured) {
+                return authorizationId;
+            }
+
+            // A timed out capture may still go through at the gateway, so the authorization is released
+            this.voidPayment(authorizationId);
+
+            if (throwable != null) {
+                throw new CompletionException(this.unwrap(throwable));
+            }
+
+            throw new CompletionException(new InvalidOperationException("Pagamento não capturado pela operadora!"));
+        });
+    }
+
+    private void voidAuthorization(IPaymentGateway gateway, String authorizationId) {
+
+        logger.warn("Payment gateway " + gateway.getName() + " authorized " + authorizationId
+                + " after the timeout, voiding it");
+
+        this.voidPayment(authorizationId);
+    }
+
+    private <T> CompletableFuture<T> callGateway(String name, Callable<T> call, Consumer<T> lateResult) {
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+
+        try {
+            this.bulkheads.get(name).execute(() -> {
+                try {
+                    T result = call.call();
+
+                    if (!future.complete(result) && lateResult != null) {
+                        lateResult.accept(result);
+                    }
+
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(new InvalidOperationException(
+                    "Serviço de pagamento sobrecarregado! Tente novamente mais tarde."));
+            return future;
+        }
+
+        ScheduledFuture<?> timeout = this.timeoutScheduler.schedule(
+                () -> future.completeExceptionally(
+                        new IllegalStateException("Payment gateway " + name + " timed out")),
+                this.timeouts.get(name), TimeUnit.MILLISECONDS);
 
-        logger.info("Processing payment with value " + value + " and payment method " + paymentMethod.getName());
+        future.whenComplete((value, throwable) -> timeout.cancel(false));
+
+        return future;
+    }
+
+    private Throwable unwrap(Throwable throwable) {
+
+        while (throwable instanceof CompletionException && throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
 
-        return true;
+        return throwable;
     }
 
     private PaymentMethod paymentMethodFactory(PaymentMethodDTO data) throws InvalidOperationException {
@@ -1,12 +1,12 @@
 package ecommerce.system.api.services.implementations;
 
 import ecommerce.system.api.enums.MessagesEnum;
-import ecommerce.system.api.enums.OrderStatusEnum;
 import ecommerce.system.api.exceptions.InvalidOperationException;
 import ecommerce.system.api.models.*;
 import ecommerce.system.api.repositories.IProductRepository;
 import ecommerce.system.api.repositories.IProductSubtypeRepository;
 import ecommerce.system.api.repositories.IProductTypeRepository;
+import ecommerce.system.api.repositories.IReportRepository;
 import ecommerce.system.api.services.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
@@ -26,6 +26,7 @@ public class ProductService implements IProductService {
     private final IProductRepository productRepository;
     private final IProductTypeRepository productTypeRepository;
     private final IProductSubtypeRepository productSubtypeRepository;
+    private final IReportRepository reportRepository;
     private final IStoreService storeService;
     private final IUserService userService;
 
@@ -37,6 +38,7 @@ public class ProductService implements IProductService {
             IProductRepository productRepository,
             IProductTypeRepository productTypeRepository,
             IProductSubtypeRepository productSubtypeRepository,
+            IReportRepository reportRepository,
             IStoreService storeService,
             IUserService userService) {
         this.authenticationService = authenticationService;
@@ -45,6 +47,7 @@ public class ProductService implements IProductService {
         this.productRepository = productRepository;
         this.productTypeRepository = productTypeRepository;
         this.productSubtypeRepository = productSubtypeRepository;
+        this.reportRepository = reportRepository;
         this.storeService = storeService;
         this.userService = userService;
     }
@@ -62,6 +65,8 @@ public class ProductService implements IProductService {
             this.productRepository.createProductDetail(detail, productId);
         }
 
+        this.reportRepository.refreshStoreReports(product.getStoreId());
+
         return productId;
     }
 
@@ -205,6 +210,10 @@ public class ProductService implements IProductService {
         }
 
         this.productRepository.updateProduct(product);
+
+        if ((oldProduct.getQuantity() > 0) != (product.getQuantity() > 0)) {
+            this.reportRepository.refreshStoreReports(store.getStoreId());
+        }
     }
 
     @Override
@@ -239,17 +248,14 @@ public class ProductService implements IProductService {
             throw new InvalidOperationException(MessagesEnum.UNALLOWED.getMessage());
         }
 
-        List<Order> orders = this.orderService.getOrdersByProductId(productId);
-
-        for (Order order : orders) {
-
-            if (order.getOrderStatusId() != OrderStatusEnum.FINISHED.getId()) {
-                throw new InvalidOperationException(
-                        "Não é possível desativar um produto com pedidos em aberto. Caso queira removê-lo da loja antes, mude o quantidade em estoque para zero.");
-            }
+        if (this.orderService.hasOpenOrdersByProductId(productId)) {
+            throw new InvalidOperationException(
+                    "Não é possível desativar um produto com pedidos em aberto. Caso queira removê-lo da loja antes, mude o quantidade em estoque para zero.");
         }
 
         this.productRepository.deleteProduct(productId);
+
+        this.reportRepository.refreshStoreReports(store.getStoreId());
     }
 
     private List<ProductImage> getImagesByPaths(List<ProductImage> images) throws IOException {
@@ -0,0 +1,407 @@
+package ecommerce.system.api.services.implementations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ecommerce.system.api.enums.ReportExportFormatEnum;
+import ecommerce.system.api.enums.ReportJobStatusEnum;
+import ecommerce.system.api.enums.ReportTypeEnum;
+import ecommerce.system.api.exceptions.InvalidOperationException;
+import ecommerce.system.api.models.ReportJob;
+import ecommerce.system.api.repositories.IReportJobRepository;
+import ecommerce.system.api.services.IAuthenticationService;
+import ecommerce.system.api.services.IReportJobService;
+import ecommerce.system.api.services.IReportService;
+import ecommerce.system.api.tools.FairTaskQueue;
+import ecommerce.system.api.tools.ReportExportWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Service
+public class ReportJobService implements IReportJobService {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final IAuthenticationService authenticationService;
+    private final IReportJobRepository reportJobRepository;
+    private final IReportService reportService;
+    private final ObjectMapper objectMapper;
+    private final FairTaskQueue<String, ReportJobRun> queue = new FairTaskQueue<>();
+    private final Map<String, Integer> activeJobsByOwner = new HashMap<>();
+    private ExecutorService executor;
+
+    @Value("${application.report-jobs.directory:report-jobs}")
+    private String directory;
+
+    @Value("${application.report-jobs.workers:2}")
+    private int workers;
+
+    @Value("${application.report-jobs.max-active-jobs:50}")
+    private int maxActiveJobs;
+
+    @Value("${application.report-jobs.max-active-jobs-per-user:3}")
+    private int maxActiveJobsPerUser;
+
+    @Value("${application.report-jobs.retention-hours:24}")
+    private int retentionHours;
+
+    @Value("${application.report-export.buffer-size:8192}")
+    private int bufferSize;
+
+    @Autowired
+    public ReportJobService(
+            IAuthenticationService authenticationService,
+            IReportJobRepository reportJobRepository,
+            IReportService reportService,
+            ObjectMapper objectMapper) {
+        this.authenticationService = authenticationService;
+        this.reportJobRepository = reportJobRepository;
+        this.reportService = reportService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String submitJob(ReportJob reportJob) throws InvalidOperationException {
+
+        ReportTypeEnum reportType = ReportTypeEnum.getReportTypeById(reportJob.getReportTypeId());
+
+        if (reportType != ReportTypeEnum.STORE_CASH_FLOW && reportType != ReportTypeEnum.SYSTEM_CASH_FLOW) {
+            throw new InvalidOperationException("Tipo de relatório não suportado para processamento em segundo plano!");
+        }
+
+        ReportExportFormatEnum format = ReportExportFormatEnum.getFormatByName(reportJob.getFormat());
+
+        if (format == null) {
+            throw new InvalidOperationException("Formato de exportação inválido!");
+        }
+
+        if (reportJob.getStartDate() == null || reportJob.getEndDate() == null
+                || reportJob.getEndDate().isBefore(reportJob.getStartDate())) {
+            throw new InvalidOperationException("Período inválido!");
+        }
+
+        String owner = this.authenticationService.getLoggedUserEmail();
+        List<LocalDate[]> chunks = this.getMonthlyChunks(reportJob.getStartDate(), reportJob.getEndDate());
+
+        reportJob.setReportJobId(UUID.randomUUID().toString());
+        reportJob.setOwner(owner);
+        reportJob.setFormat(format.getName());
+        reportJob.setStoreId(reportType == ReportTypeEnum.STORE_CASH_FLOW ? reportJob.getStoreId() : null);
+        reportJob.setReportJobStatusId(ReportJobStatusEnum.QUEUED.getId());
+        reportJob.setTotalChunks(chunks.size());
+        reportJob.setCompletedChunks(0);
+        reportJob.setRows(0);
+        reportJob.setFileSize(0);
+        reportJob.setFilePath(null);
+        reportJob.setErrorMessage(null);
+        reportJob.setCreationDate(LocalDateTime.now());
+        reportJob.setLastUpdate(null);
+        reportJob.setFinishDate(null);
+
+        synchronized (this.activeJobsByOwner) {
+
+            int activeJobs = this.activeJobsByOwner.values().stream().mapToInt(Integer::intValue).sum();
+
+            if (activeJobs >= this.maxActiveJobs
+                    || this.activeJobsByOwner.getOrDefault(owner, 0) >= this.maxActiveJobsPerUser) {
+                throw new InvalidOperationException(
+                        "Limite de relatórios em processamento atingido. Tente novamente mais tarde.");
+            }
+
+            this.activeJobsByOwner.merge(owner, 1, Integer::sum);
+        }
+
+        try {
+            this.reportJobRepository.createJob(reportJob);
+
+        } catch (RuntimeException re) {
+            this.releaseJob(owner);
+            throw re;
+        }
+
+        this.queue.offer(owner, new ReportJobRun(reportJob, reportType, format, chunks));
+
+        return reportJob.getReportJobId();
+    }
+
+    @Override
+    public ReportJob getJobById(String reportJobId) throws InvalidOperationException {
+
+        ReportJob reportJob = this.reportJobRepository.getJobById(reportJobId);
+
+        if (reportJob == null || !reportJob.getOwner().equals(this.authenticationService.getLoggedUserEmail())) {
+            throw new InvalidOperationException("Relatório não encontrado!");
+        }
+
+        return reportJob;
+    }
+
+    @Override
+    public List<ReportJob> getJobsByLoggedUser() {
+
+        return this.reportJobRepository.getJobsByOwner(this.authenticationService.getLoggedUserEmail());
+    }
+
+    @Override
+    public File getJobResultFile(String reportJobId) throws InvalidOperationException {
+
+        ReportJob reportJob = this.getJobById(reportJobId);
+
+        if (reportJob.getReportJobStatusId() != ReportJobStatusEnum.COMPLETED.getId()) {
+            throw new InvalidOperationException("O relatório não está disponível para download!");
+        }
+
+        File file = new File(reportJob.getFilePath());
+
+        if (!file.exists()) {
+            throw new InvalidOperationException("O arquivo do relatório não foi encontrado!");
+        }
+
+        return file;
+    }
+
+    @Override
+    public int deleteExpiredResults() {
+
+        LocalDateTime threshold = LocalDateTime.now().minusHours(this.retentionHours);
+        List<ReportJob> reportJobs = this.reportJobRepository.getJobsFinishedBefore(
+                Arrays.asList(ReportJobStatusEnum.COMPLETED.getId(), ReportJobStatusEnum.FAILED.getId()), threshold);
+
+        for (ReportJob reportJob : reportJobs) {
+
+            this.deleteFile(reportJob.getFilePath());
+
+            reportJob.setFilePath(null);
+            reportJob.setReportJobStatusId(ReportJobStatusEnum.EXPIRED.getId());
+            reportJob.setLastUpdate(LocalDateTime.now());
+
+            this.reportJobRepository.updateJob(reportJob);
+        }
+
+        if (!reportJobs.isEmpty()) {
+            logger.info("Deleted " + reportJobs.size() + " report job results finished before " + threshold);
+        }
+
+        return reportJobs.size();
+    }
+
+    @Scheduled(fixedDelayString = "${application.report-jobs.cleanup-interval-ms:3600000}")
+    public void deleteExpiredResultsJob() {
+
+        try {
+            this.deleteExpiredResults();
+
+        } catch (Exception e) {
+            logger.error("Report job cleanup failed: " + e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWorkers() throws IOException {
+
+        Files.createDirectories(Paths.get(this.directory));
+
+        List<ReportJob> interruptedJobs = this.reportJobRepository.getJobsByStatusIds(
+                Arrays.asList(ReportJobStatusEnum.QUEUED.getId(), ReportJobStatusEnum.RUNNING.getId()));
+
+        for (ReportJob reportJob : interruptedJobs) {
+            this.deleteFile(reportJob.getFilePath());
+            this.failJob(reportJob, "Processamento interrompido pela reinicialização do sistema.");
+        }
+
+        this.executor = Executors.newFixedThreadPool(this.workers);
+
+        for (int i = 0; i < this.workers; i++) {
+            this.executor.execute(this::processQueue);
+        }
+
+        logger.info("Report job workers started: " + this.workers + ", interrupted jobs failed: "
+                + interruptedJobs.size());
+    }
+
+    @PreDestroy
+    public void stopWorkers() {
+
+        if (this.executor != null) {
+            this.executor.shutdownNow();
+        }
+    }
+
+    private void processQueue() {
+
+        while (!Thread.currentThread().isInterrupted()) {
+
+            ReportJobRun run;
+
+            try {
+                run = this.queue.take();
+
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            this.processChunk(run);
+        }
+    }
+
+    private void processChunk(ReportJobRun run) {
+
+        ReportJob reportJob = run.reportJob;
+
+        try {
+
+            if (run.writer == null) {
+
+                run.path = Paths.get(this.directory, reportJob.getReportJobId() + "." + run.format.getName()
+                        + (reportJob.isGzip() ? ".gz" : ""));
+                run.writer = new ReportExportWriter(this.objectMapper, run.format, Files.newOutputStream(run.path),
+                        reportJob.isGzip(), this.bufferSize);
+
+                reportJob.setFilePath(run.path.toString());
+                reportJob.setReportJobStatusId(ReportJobStatusEnum.RUNNING.getId());
+            }
+
+            LocalDate[] chunk = run.chunks.get(reportJob.getCompletedChunks());
+            long rows = run.reportType == ReportTypeEnum.STORE_CASH_FLOW
+                    ? this.reportService.streamStoreCashFlowReport(reportJob.getStoreId(), chunk[0], chunk[1],
+                            run.writer::write)
+                    : this.reportService.streamSystemCashFlowByOrderReport(chunk[0], chunk[1], run.writer::write);
+
+            reportJob.setRows(reportJob.getRows() + rows);
+            reportJob.setCompletedChunks(reportJob.getCompletedChunks() + 1);
+            reportJob.setLastUpdate(LocalDateTime.now());
+
+            if (reportJob.getCompletedChunks() < reportJob.getTotalChunks()) {
+
+                this.reportJobRepository.updateJob(reportJob);
+                this.queue.offer(reportJob.getOwner(), run);
+
+                return;
+            }
+
+            run.writer.close();
+
+            reportJob.setFileSize(Files.size(run.path));
+            reportJob.setReportJobStatusId(ReportJobStatusEnum.COMPLETED.getId());
+            reportJob.setFinishDate(LocalDateTime.now());
+
+            this.reportJobRepository.updateJob(reportJob);
+            this.releaseJob(reportJob.getOwner());
+
+            logger.info("Report job " + reportJob.getReportJobId() + " completed with " + reportJob.getRows()
+                    + " rows in " + reportJob.getTotalChunks() + " chunks");
+
+        } catch (Exception e) {
+
+            logger.error("Report job " + reportJob.getReportJobId() + " failed: " + e.getMessage());
+
+            try {
+                if (run.writer != null) {
+                    run.writer.close();
+                }
+
+            } catch (IOException ioe) {
+                logger.error("Failed to close report job file " + run.path + ": " + ioe.getMessage());
+            }
+
+            this.deleteFile(run.path == null ? null : run.path.toString());
+
+            try {
+                this.failJob(reportJob, "Falha ao gerar o relatório.");
+
+            } catch (Exception fe) {
+                logger.error("Failed to update report job " + reportJob.getReportJobId() + ": " + fe.getMessage());
+            }
+
+            this.releaseJob(reportJob.getOwner());
+        }
+    }
+
+    private void failJob(ReportJob reportJob, String errorMessage) {
+
+        reportJob.setFilePath(null);
+        reportJob.setErrorMessage(errorMessage);
+        reportJob.setReportJobStatusId(ReportJobStatusEnum.FAILED.getId());
+        reportJob.setLastUpdate(LocalDateTime.now());
+        reportJob.setFinishDate(LocalDateTime.now());
+
+        this.reportJobRepository.updateJob(reportJob);
+    }
+
+    private void releaseJob(String owner) {
+
+        synchronized (this.activeJobsByOwner) {
+            this.activeJobsByOwner.computeIfPresent(owner, (key, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    private void deleteFile(String filePath) {
+
+        if (filePath == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(Paths.get(filePath));
+
+        } catch (IOException ioe) {
+            logger.error("Failed to delete report job file " + filePath + ": " + ioe.getMessage());
+        }
+    }
+
+    private List<LocalDate[]> getMonthlyChunks(LocalDate startDate, LocalDate endDate) {
+
+        List<LocalDate[]> chunks = new ArrayList<>();
+        LocalDate chunkStart = startDate;
+
+        while (!chunkStart.isAfter(endDate)) {
+
+            LocalDate monthEnd = chunkStart.withDayOfMonth(chunkStart.lengthOfMonth());
+            LocalDate chunkEnd = monthEnd.isAfter(endDate) ? endDate : monthEnd;
+
+            chunks.add(new LocalDate[] { chunkStart, chunkEnd });
+            chunkStart = chunkEnd.plusDays(1);
+        }
+
+        return chunks;
+    }
+
+    private static class ReportJobRun {
+
+        private final ReportJob reportJob;
+        private final ReportTypeEnum reportType;
+        private final ReportExportFormatEnum format;
+        private final List<LocalDate[]> chunks;
+        private ReportExportWriter writer;
+        private Path path;
+
+        private ReportJobRun(ReportJob reportJob, ReportTypeEnum reportType, ReportExportFormatEnum format,
+                List<LocalDate[]> chunks) {
+            this.reportJob = reportJob;
+            this.reportType = reportType;
+            this.format = format;
+            this.chunks = chunks;
+        }
+    }
+}
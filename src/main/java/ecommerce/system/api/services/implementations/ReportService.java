@@ -1,128 +1,264 @@
 package ecommerce.system.api.services.implementations;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ecommerce.system.api.dto.BestSellerDTO;
+import ecommerce.system.api.dto.ReportPageDTO;
+import ecommerce.system.api.dto.ReportPageRequestDTO;
+import ecommerce.system.api.enums.ReportExecutionModeEnum;
+import ecommerce.system.api.enums.ReportExportFormatEnum;
+import ecommerce.system.api.enums.ReportPeriodEnum;
+import ecommerce.system.api.enums.ReportTypeEnum;
+import ecommerce.system.api.exceptions.InvalidOperationException;
 import ecommerce.system.api.models.*;
 import ecommerce.system.api.repositories.IReportRepository;
 import ecommerce.system.api.services.IReportService;
+import ecommerce.system.api.tools.BestSellerTracker;
+import ecommerce.system.api.tools.PartitionedReportExecutor;
+import ecommerce.system.api.tools.ReportCache;
+import ecommerce.system.api.tools.ReportPager;
+import ecommerce.system.api.tools.ReportExportWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 @Service
 public class ReportService implements IReportService {
 
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final IReportRepository reportRepository;
+    private final BestSellerTracker bestSellerTracker;
+    private final PartitionedReportExecutor partitionedReportExecutor;
+    private final ReportCache reportCache;
+    private final ReportPager reportPager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${application.reports.execution-mode:serial}")
+    private String executionMode;
+
+    @Value("${application.report-export.buffer-size:8192}")
+    private int exportBufferSize;
 
     @Autowired
-    public ReportService(IReportRepository reportRepository) {
+    public ReportService(IReportRepository reportRepository, BestSellerTracker bestSellerTracker,
+            PartitionedReportExecutor partitionedReportExecutor, ReportCache reportCache, ReportPager reportPager,
+            ObjectMapper objectMapper) {
         this.reportRepository = reportRepository;
-    }
-
-    @Override
-    public List<OrdersByStoreReport> getOrdersReport() {
-        return this.reportRepository.getOrdersReport();
+        this.bestSellerTracker = bestSellerTracker;
+        this.partitionedReportExecutor = partitionedReportExecutor;
+        this.reportCache = reportCache;
+        this.reportPager = reportPager;
+        this.objectMapper = objectMapper;
     }
 
     @Override
     public OrdersByStoreReport getOrdersReportByStoreId(int storeId) {
-        return this.reportRepository.getOrdersReportByStoreId(storeId);
-    }
-
-    @Override
-    public List<ProductsByStoreReport> getProductsReport() {
-        return this.reportRepository.getProductsReport();
+        return this.reportCache.get(ReportTypeEnum.ORDERS, storeId,
+                () -> this.reportRepository.getOrdersReportByStoreId(storeId));
     }
 
     @Override
     public ProductsByStoreReport getProductsReportByStoreId(int storeId) {
-        return this.reportRepository.getProductsReportByStoreId(storeId);
+        return this.reportCache.get(ReportTypeEnum.PRODUCTS, storeId,
+                () -> this.reportRepository.getProductsReportByStoreId(storeId));
     }
 
     @Override
-    public List<StoreCashFlowByOrderReport> getStoreCashFlowReport() {
-        return this.reportRepository.getStoreCashFlowReport();
+    public long streamStoreCashFlowReport(Integer storeId, LocalDate startDate, LocalDate endDate,
+            Consumer<StoreCashFlowByOrderReport> consumer) {
+        return this.reportRepository.streamStoreCashFlowReport(storeId, startDate, endDate, consumer);
     }
 
     @Override
-    public List<StoreCashFlowByOrderReport> getStoreCashFlowReportByDateRange(LocalDate startDate,
-            LocalDate endDate) {
-        return this.reportRepository.getStoreCashFlowReportByDateRange(startDate, endDate);
-    }
+    public long exportStoreCashFlowReport(Integer storeId, LocalDate startDate, LocalDate endDate,
+            ReportExportFormatEnum format, boolean gzip, OutputStream outputStream) throws IOException {
 
-    @Override
-    public List<StoreCashFlowByOrderReport> getStoreCashFlowReportByStoreId(int storeId) {
-        return this.reportRepository.getStoreCashFlowReportByStoreId(storeId);
+        try (ReportExportWriter writer = new ReportExportWriter(this.objectMapper, format, outputStream, gzip,
+                this.exportBufferSize)) {
+
+            return this.streamStoreCashFlowReport(storeId, startDate, endDate, writer::write);
+        }
     }
 
     @Override
-    public List<StoreCashFlowByOrderReport> getStoreCashFlowReportByStoreIdAndDateRange(int storeId,
-            LocalDate startDate, LocalDate endDate) {
-        return this.reportRepository.getStoreCashFlowReportByStoreIdAndDateRange(storeId, startDate, endDate);
+    public StoresByUserReport getStoresByUserReportByUserId(int userId) {
+        return this.reportCache.get(ReportTypeEnum.STORES_BY_USER, userId,
+                () -> this.reportRepository.getStoresByUserReportByUserId(userId));
     }
 
     @Override
-    public List<StoreCashFlowRevenueReport> getStoreCashFlowRevenueReport() {
-        return this.reportRepository.getStoreCashFlowRevenueReport();
+    public long streamSystemCashFlowByOrderReport(LocalDate startDate, LocalDate endDate,
+            Consumer<SystemCashFlowByOrderReport> consumer) {
+        return this.reportRepository.streamSystemCashFlowByOrderReport(startDate, endDate, consumer);
     }
 
     @Override
-    public List<StoreCashFlowRevenueReport> getStoreCashFlowRevenueReportByDateRange(LocalDate startDate,
-            LocalDate endDate) {
-        return this.reportRepository.getStoreCashFlowRevenueReportByDateRange(startDate, endDate);
+    public long exportSystemCashFlowByOrderReport(LocalDate startDate, LocalDate endDate,
+            ReportExportFormatEnum format, boolean gzip, OutputStream outputStream) throws IOException {
+
+        try (ReportExportWriter writer = new ReportExportWriter(this.objectMapper, format, outputStream, gzip,
+                this.exportBufferSize)) {
+
+            return this.streamSystemCashFlowByOrderReport(startDate, endDate, writer::write);
+        }
     }
 
     @Override
-    public List<StoreCashFlowRevenueReport> getStoreCashFlowRevenueReportByStoreId(int storeId) {
-        return this.reportRepository.getStoreCashFlowRevenueReportByStoreId(storeId);
+    public ReportPageDTO getReportPage(ReportTypeEnum reportType, Integer scopeId, LocalDate startDate,
+            LocalDate endDate, ReportPageRequestDTO page) throws InvalidOperationException {
+
+        this.reportPager.validate(reportType, page);
+
+        return this.reportCache.get(reportType, scopeId, startDate, endDate, page.getKey(),
+                () -> this.isPartitioned(reportType, scopeId, startDate, page)
+                        ? this.getPageByStorePartitions(reportType, startDate, endDate, page)
+                        : this.reportRepository.getReportPage(reportType, scopeId, startDate, endDate, page));
     }
 
     @Override
-    public List<StoreCashFlowRevenueReport> getStoreCashFlowRevenueReportByStoreIdAndDateRange(int storeId,
-            LocalDate startDate, LocalDate endDate) {
-        return this.reportRepository.getStoreCashFlowRevenueReportByStoreIdAndDateRange(storeId, startDate, endDate);
+    public List<BestSellerDTO> getBestSellingProducts(ReportPeriodEnum period, LocalDate date, Integer storeId,
+            int limit) {
+
+        LocalDate periodStart = period.getPeriodStart(date);
+        int topK = this.bestSellerTracker.getTopK();
+
+        if (periodStart.equals(period.getPeriodStart(LocalDate.now()))) {
+
+            List<BestSellerDTO> products = this.bestSellerTracker.getTopProducts(period, periodStart, storeId,
+                    Math.min(limit, topK));
+
+            if (products != null) {
+                return products.isEmpty() ? null : products;
+            }
+        }
+
+        List<BestSellerDTO> products = this.reportCache.get(ReportTypeEnum.BEST_SELLING_PRODUCTS, storeId,
+                periodStart, period.getNextPeriodStart(periodStart).minusDays(1),
+                () -> this.reportRepository.getTopProducts(period, periodStart, storeId, topK));
+
+        return this.limit(products, limit);
     }
 
     @Override
-    public List<StoresByUserReport> getStoresByUserReport() {
-        return this.reportRepository.getStoresByUserReport();
+    public List<BestSellerDTO> getBestSellingStores(ReportPeriodEnum period, LocalDate date, int limit) {
+
+        LocalDate periodStart = period.getPeriodStart(date);
+        int topK = this.bestSellerTracker.getTopK();
+
+        if (periodStart.equals(period.getPeriodStart(LocalDate.now()))) {
+
+            List<BestSellerDTO> stores = this.bestSellerTracker.getTopStores(period, periodStart,
+                    Math.min(limit, topK));
+
+            if (stores != null) {
+                return stores.isEmpty() ? null : stores;
+            }
+        }
+
+        List<BestSellerDTO> stores = this.reportCache.get(ReportTypeEnum.BEST_SELLING_STORES, null, periodStart,
+                period.getNextPeriodStart(periodStart).minusDays(1),
+                () -> this.reportRepository.getTopStores(period, periodStart, topK));
+
+        return this.limit(stores, limit);
     }
 
     @Override
-    public StoresByUserReport getStoresByUserReportByUserId(int userId) {
-        return this.reportRepository.getStoresByUserReportByUserId(userId);
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${application.best-sellers.reload-interval-ms:300000}", fixedDelayString = "${application.best-sellers.reload-interval-ms:300000}")
+    public void reloadBestSellers() {
+
+        LocalDate today = LocalDate.now();
+
+        this.bestSellerTracker.beginLoad();
+
+        try {
+            for (ReportPeriodEnum period : ReportPeriodEnum.values()) {
+
+                LocalDate periodStart = period.getPeriodStart(today);
+                long appliedBeforeRead = this.bestSellerTracker.getAppliedSales();
+
+                this.bestSellerTracker.load(period, periodStart, appliedBeforeRead,
+                        this.reportRepository.getProductSales(period, periodStart));
+            }
+
+        } finally {
+            this.bestSellerTracker.endLoad();
+        }
+
+        logger.debug("Best seller windows reloaded: " + this.bestSellerTracker.getStatus());
     }
 
     @Override
-    public List<SystemCashFlowByOrderReport> getSystemCashFlowByOrderReport() {
-        return this.reportRepository.getSystemCashFlowByOrderReport();
+    public Map<String, Object> getBestSellersStatus() {
+
+        return this.bestSellerTracker.getStatus();
     }
 
     @Override
-    public List<SystemCashFlowByOrderReport> getSystemCashFlowByOrderReportByDateRange(LocalDate startDate,
-            LocalDate endDate) {
-        return this.reportRepository.getSystemCashFlowByOrderReportByDateRange(startDate, endDate);
+    public void rebuildReports() {
+
+        this.reportRepository.rebuildReports();
+
+        this.reloadBestSellers();
     }
 
     @Override
-    public List<SystemCashFlowRevenueReport> getSystemCashFlowRevenueReport() {
-        return this.reportRepository.getSystemCashFlowRevenueReport();
+    public Map<String, Object> getCacheStatistics() {
+
+        return this.reportCache.getStatistics();
     }
 
-    @Override
-    public List<SystemCashFlowRevenueReport> getSystemCashFlowRevenueReportByDateRange(LocalDate startDate,
-            LocalDate endDate) {
-        return this.reportRepository.getSystemCashFlowRevenueReportByDateRange(startDate, endDate);
+    private boolean isPartitioned(ReportTypeEnum reportType, Integer scopeId, LocalDate startDate,
+            ReportPageRequestDTO page) {
+
+        if (ReportExecutionModeEnum.getModeByName(this.executionMode) != ReportExecutionModeEnum.PARALLEL
+                || scopeId != null) {
+            return false;
+        }
+
+        // Date-range revenue pages are built in memory from the rollups
+        if (startDate != null && reportType == ReportTypeEnum.STORE_CASH_FLOW_REVENUE) {
+            return false;
+        }
+
+        return this.reportPager.isPartitionable(this.reportPager.getSpec(reportType), page);
     }
 
-    @Override
-    public List<UsersCountReport> getUsersCountReport() {
-        return this.reportRepository.getUsersCountReport();
+    private ReportPageDTO getPageByStorePartitions(ReportTypeEnum reportType, LocalDate startDate, LocalDate endDate,
+            ReportPageRequestDTO page) {
+
+        int[] bounds = this.reportRepository.getStoreIdBounds();
+
+        if (bounds == null) {
+            return null;
+        }
+
+        ReportPager.Spec spec = this.reportPager.getSpec(reportType);
+        List<Object> rows = this.partitionedReportExecutor.execute(bounds[0], bounds[1],
+                (fromStoreId, toStoreId) -> this.reportRepository.getReportPageRowsByStoreIdRange(reportType,
+                        fromStoreId, toStoreId, startDate, endDate, page));
+
+        return this.reportPager.toPage(spec, page, this.reportPager.mergePartitions(spec, page, rows));
     }
 
-    @Override
-    public List<StoresCountReport> getStoresCountReport() {
+    private List<BestSellerDTO> limit(List<BestSellerDTO> items, int limit) {
+
+        if (items == null || items.size() <= limit) {
+            return items;
+        }
 
-        return this.reportRepository.getStoresCountReport();
+        return new ArrayList<>(items.subList(0, limit));
     }
 }
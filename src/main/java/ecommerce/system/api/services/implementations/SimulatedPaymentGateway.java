@@ -0,0 +1,82 @@
+package ecommerce.system.api.services.implementations;
+
+import ecommerce.system.api.exceptions.InvalidOperationException;
+import ecommerce.system.api.models.PaymentMethod;
+import ecommerce.system.api.services.IPaymentGateway;
+import ecommerce.system.api.tools.Money;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+public class SimulatedPaymentGateway implements IPaymentGateway {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Value("${application.payment.simulated.latency-ms:200}")
+    private long latency;
+
+    @Value("${application.payment.simulated.failure-rate:0.0}")
+    private double failureRate;
+
+    @Value("${application.payment.simulated.decline-rate:0.0}")
+    private double declineRate;
+
+    @Override
+    public String getName() {
+        return "simulated";
+    }
+
+    @Override
+    public String authorize(PaymentMethod paymentMethod, long value) throws InvalidOperationException {
+
+        this.simulateNetwork();
+
+        if (ThreadLocalRandom.current().nextDouble() < this.declineRate) {
+            throw new InvalidOperationException("Pagamento recusado pela operadora!");
+        }
+
+        String authorizationId = UUID.randomUUID().toString();
+
+        logger.info("Simulated gateway authorized value " + Money.format(value) + " with authorization " + authorizationId);
+
+        return authorizationId;
+    }
+
+    @Override
+    public boolean capture(String authorizationId, long value) {
+
+        this.simulateNetwork();
+
+        logger.info("Simulated gateway captured value " + Money.format(value) + " for authorization " + authorizationId);
+
+        return true;
+    }
+
+    @Override
+    public void voidAuthorization(String authorizationId) {
+
+        this.simulateNetwork();
+
+        logger.info("Simulated gateway voided authorization " + authorizationId);
+    }
+
+    private void simulateNetwork() {
+
+        try {
+            Thread.sleep(this.latency);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulated gateway call interrupted");
+        }
+
+        if (ThreadLocalRandom.current().nextDouble() < this.failureRate) {
+            throw new IllegalStateException("Simulated gateway failure");
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package ecommerce.system.api.services.implementations;
+
+import ecommerce.system.api.dto.StoreMetricsDTO;
+import ecommerce.system.api.enums.ReportPeriodEnum;
+import ecommerce.system.api.enums.StoreMetricEnum;
+import ecommerce.system.api.exceptions.InvalidOperationException;
+import ecommerce.system.api.repositories.IStoreMetricsRepository;
+import ecommerce.system.api.services.IStoreMetricsService;
+import ecommerce.system.api.tools.HyperLogLog;
+import ecommerce.system.api.tools.StoreSketchBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class StoreMetricsService implements IStoreMetricsService {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final IStoreMetricsRepository storeMetricsRepository;
+    private final StoreSketchBuffer storeSketchBuffer;
+    private volatile Map<String, Object> reconciliationStatus = new LinkedHashMap<>();
+
+    @Value("${application.store-metrics.max-range-days:1100}")
+    private int maxRangeDays;
+
+    @Autowired
+    public StoreMetricsService(IStoreMetricsRepository storeMetricsRepository, StoreSketchBuffer storeSketchBuffer) {
+        this.storeMetricsRepository = storeMetricsRepository;
+        this.storeSketchBuffer = storeSketchBuffer;
+    }
+
+    @Override
+    public void recordOrder(int storeId, int customerId, Collection<Integer> productIds, LocalDate day) {
+
+        this.storeSketchBuffer.record(storeId, day, customerId, new ArrayList<>(productIds));
+    }
+
+    @Override
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${application.store-metrics.flush-interval-ms:10000}")
+    public synchronized void flushSketches() {
+
+        Map<StoreSketchBuffer.Key, HyperLogLog> pending = this.storeSketchBuffer.drain();
+        Iterator<Map.Entry<StoreSketchBuffer.Key, HyperLogLog>> entries = pending.entrySet().iterator();
+
+        try {
+            while (entries.hasNext()) {
+
+                Map.Entry<StoreSketchBuffer.Key, HyperLogLog> entry = entries.next();
+                StoreSketchBuffer.Key key = entry.getKey();
+
+                this.storeMetricsRepository.mergeSketch(key.getStoreId(), key.getMetric(), key.getDay(),
+                        entry.getValue());
+                entries.remove();
+            }
+
+        } catch (Exception e) {
+
+            logger.error("Store sketch flush failed, " + pending.size() + " sketches kept for retry: " + e.getMessage());
+
+            this.storeSketchBuffer.restore(pending);
+        }
+    }
+
+    @Override
+    public List<StoreMetricsDTO> getStoreMetrics(int storeId, LocalDate startDate, LocalDate endDate,
+            ReportPeriodEnum period) throws InvalidOperationException {
+
+        if (startDate.isAfter(endDate) || ChronoUnit.DAYS.between(startDate, endDate) > this.maxRangeDays) {
+            throw new InvalidOperationException("Período de consulta inválido!");
+        }
+
+        Map<LocalDate, Map<StoreMetricEnum, HyperLogLog>> sketchesByDay = new HashMap<>();
+        List<Object[]> rows = this.storeMetricsRepository.getSketches(storeId, startDate, endDate);
+
+        if (rows != null) {
+            for (Object[] row : rows) {
+
+                StoreMetricEnum metric = StoreMetricEnum.getMetricById(((Number) row[0]).intValue());
+                LocalDate day = ((Date) row[1]).toLocalDate();
+
+                if (metric != null) {
+                    sketchesByDay.computeIfAbsent(day, (key) -> new EnumMap<>(StoreMetricEnum.class))
+                            .put(metric, HyperLogLog.fromBytes((byte[]) row[2]));
+                }
+            }
+        }
+
+        List<StoreMetricsDTO> metrics = new ArrayList<>();
+        LocalDate bucketStart = startDate;
+
+        while (!bucketStart.isAfter(endDate)) {
+
+            LocalDate bucketEnd = period == null ? endDate
+                    : period.getNextPeriodStart(period.getPeriodStart(bucketStart)).minusDays(1);
+
+            if (bucketEnd.isAfter(endDate)) {
+                bucketEnd = endDate;
+            }
+
+            HyperLogLog customers = new HyperLogLog();
+            HyperLogLog products = new HyperLogLog();
+
+            for (Map.Entry<LocalDate, Map<StoreMetricEnum, HyperLogLog>> day : sketchesByDay.entrySet()) {
+                if (!day.getKey().isBefore(bucketStart) && !day.getKey().isAfter(bucketEnd)) {
+                    this.merge(customers, day.getValue().get(StoreMetricEnum.DISTINCT_CUSTOMERS));
+                    this.merge(products, day.getValue().get(StoreMetricEnum.DISTINCT_PRODUCTS));
+                }
+            }
+
+            this.storeSketchBuffer.mergeInto(storeId, StoreMetricEnum.DISTINCT_CUSTOMERS, bucketStart, bucketEnd,
+                    customers);
+            this.storeSketchBuffer.mergeInto(storeId, StoreMetricEnum.DISTINCT_PRODUCTS, bucketStart, bucketEnd,
+                    products);
+
+            metrics.add(new StoreMetricsDTO(storeId, bucketStart, bucketEnd, customers.estimate(),
+                    products.estimate(), HyperLogLog.RELATIVE_STANDARD_ERROR));
+
+            bucketStart = bucketEnd.plusDays(1);
+        }
+
+        return metrics;
+    }
+
+    @Override
+    public Map<String, Object> reconcile(LocalDate day) {
+
+        long start = System.currentTimeMillis();
+        List<Integer> storeIds = this.storeMetricsRepository.getStoreIdsWithOrders(day);
+        double maxError = 0;
+        double totalError = 0;
+        int samples = 0;
+        int outOfBounds = 0;
+
+        this.flushSketches();
+
+        for (int storeId : storeIds) {
+
+            Map<StoreMetricEnum, HyperLogLog> persisted = new EnumMap<>(StoreMetricEnum.class);
+            List<Object[]> rows = this.storeMetricsRepository.getSketches(storeId, day, day);
+
+            if (rows != null) {
+                for (Object[] row : rows) {
+                    StoreMetricEnum metric = StoreMetricEnum.getMetricById(((Number) row[0]).intValue());
+
+                    if (metric != null) {
+                        persisted.put(metric, HyperLogLog.fromBytes((byte[]) row[2]));
+                    }
+                }
+            }
+
+            for (StoreMetricEnum metric : StoreMetricEnum.values()) {
+
+                List<Integer> ids = metric == StoreMetricEnum.DISTINCT_CUSTOMERS
+                        ? this.storeMetricsRepository.getCustomerIds(storeId, day)
+                        : this.storeMetricsRepository.getProductIds(storeId, day);
+
+                HyperLogLog exact = new HyperLogLog();
+                ids.forEach(exact::add);
+
+                long estimate = persisted.containsKey(metric) ? persisted.get(metric).estimate() : 0;
+                double error = ids.isEmpty() ? 0 : Math.abs(estimate - ids.size()) / (double) ids.size();
+
+                maxError = Math.max(maxError, error);
+                totalError += error;
+                samples++;
+
+                if (error > 3 * HyperLogLog.RELATIVE_STANDARD_ERROR) {
+                    outOfBounds++;
+                    logger.warn("Store " + storeId + " " + metric + " sketch for " + day + " estimated " + estimate
+                            + " against " + ids.size() + " exact, rebuilding it");
+                }
+
+                this.storeMetricsRepository.replaceSketch(storeId, metric, day, exact);
+            }
+        }
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("day", day);
+        status.put("stores", storeIds.size());
+        status.put("sketches", samples);
+        status.put("meanRelativeError", samples == 0 ? 0 : totalError / samples);
+        status.put("maxRelativeError", maxError);
+        status.put("outOfBounds", outOfBounds);
+        status.put("relativeStandardError", HyperLogLog.RELATIVE_STANDARD_ERROR);
+        status.put("durationMs", System.currentTimeMillis() - start);
+        status.put("finishedAt", LocalDateTime.now());
+
+        this.reconciliationStatus = status;
+
+        logger.info("Store sketches reconciled for " + day + ": " + storeIds.size() + " stores, max relative error "
+                + maxError + ", " + outOfBounds + " out of bounds");
+
+        return status;
+    }
+
+    @Scheduled(cron = "${application.store-metrics.reconcile-cron:0 30 3 * * *}")
+    public void reconcileJob() {
+
+        try {
+            this.reconcile(LocalDate.now().minusDays(1));
+
+        } catch (Exception e) {
+            logger.error("Store sketch reconciliation failed: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Map<String, Object> getReconciliationStatus() {
+
+        Map<String, Object> status = new LinkedHashMap<>(this.reconciliationStatus);
+        status.put("pendingSketches", this.storeSketchBuffer.size());
+
+        return status;
+    }
+
+    private void merge(HyperLogLog target, HyperLogLog sketch) {
+
+        if (sketch != null) {
+            target.merge(sketch);
+        }
+    }
+}
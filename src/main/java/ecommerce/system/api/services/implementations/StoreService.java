@@ -1,12 +1,11 @@
 package ecommerce.system.api.services.implementations;
 
 import ecommerce.system.api.enums.MessagesEnum;
-import ecommerce.system.api.enums.OrderStatusEnum;
 import ecommerce.system.api.enums.RolesEnum;
 import ecommerce.system.api.exceptions.InvalidOperationException;
-import ecommerce.system.api.models.Order;
 import ecommerce.system.api.models.Store;
 import ecommerce.system.api.models.User;
+import ecommerce.system.api.repositories.IReportRepository;
 import ecommerce.system.api.repositories.IStoreRepository;
 import ecommerce.system.api.services.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,6 +24,7 @@ public class StoreService implements IStoreService {
     private final IAuthenticationService authenticationService;
     private final IFileService fileService;
     private final IOrderService orderService;
+    private final IReportRepository reportRepository;
     private final IStoreRepository storeRepository;
     private final IUserService userService;
 
@@ -36,11 +36,13 @@ public class StoreService implements IStoreService {
             IAuthenticationService authenticationService,
             IFileService fileService,
             @Lazy IOrderService orderService,
+            IReportRepository reportRepository,
             IStoreRepository storeRepository,
             IUserService userService) {
         this.authenticationService = authenticationService;
         this.fileService = fileService;
         this.orderService = orderService;
+        this.reportRepository = reportRepository;
         this.storeRepository = storeRepository;
         this.userService = userService;
     }
@@ -61,6 +63,8 @@ public class StoreService implements IStoreService {
 
         this.storeRepository.relateStoreAndUser(storeId, userId);
 
+        this.reportRepository.refreshStoreReports(storeId);
+
         return storeId;
     }
 
@@ -151,6 +155,8 @@ public class StoreService implements IStoreService {
         store.setActive(store.isActive());
 
         this.storeRepository.update(store);
+
+        this.reportRepository.refreshStoreReports(store.getStoreId());
     }
 
     @Override
@@ -173,15 +179,12 @@ public class StoreService implements IStoreService {
             }
         }
 
-        List<Order> orders = this.orderService.getOrdersByStoreId(storeId);
-
-        for (Order order : orders) {
-
-            if (order.getOrderStatusId() != OrderStatusEnum.FINISHED.getId()) {
-                throw new InvalidOperationException("Não é possível desativar uma loja com pedidos em aberto.");
-            }
+        if (this.orderService.hasOpenOrdersByStoreId(storeId)) {
+            throw new InvalidOperationException("Não é possível desativar uma loja com pedidos em aberto.");
         }
 
         this.storeRepository.delete(storeId);
+
+        this.reportRepository.refreshStoreReports(storeId);
     }
 }
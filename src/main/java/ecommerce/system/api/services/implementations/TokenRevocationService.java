@@ -0,0 +1,111 @@
+package ecommerce.system.api.services.implementations;
+
+import ecommerce.system.api.repositories.ITokenRevocationRepository;
+import ecommerce.system.api.services.ITokenRevocationService;
+import ecommerce.system.api.tools.JwtHandler;
+import ecommerce.system.api.tools.TokenRevocationList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class TokenRevocationService implements ITokenRevocationService {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final ITokenRevocationRepository tokenRevocationRepository;
+    private final JwtHandler jwtHandler;
+    private final TokenRevocationList tokenRevocationList;
+
+    @Autowired
+    public TokenRevocationService(
+            ITokenRevocationRepository tokenRevocationRepository,
+            JwtHandler jwtHandler,
+            TokenRevocationList tokenRevocationList) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.jwtHandler = jwtHandler;
+        this.tokenRevocationList = tokenRevocationList;
+    }
+
+    @Override
+    public void revokeToken(String tokenId, String subject, Date expiration) {
+
+        if (tokenId == null || expiration == null) {
+            return;
+        }
+
+        this.tokenRevocationRepository.revokeToken(tokenId, subject, this.toLocalDateTime(expiration.getTime()));
+
+        this.tokenRevocationList.revokeToken(tokenId, expiration.getTime());
+    }
+
+    @Override
+    public void revokeUser(String subject) {
+
+        long notBefore = System.currentTimeMillis() / 1000 * 1000;
+
+        this.tokenRevocationRepository.revokeUser(subject, this.toLocalDateTime(notBefore));
+
+        this.tokenRevocationList.revokeUser(subject, notBefore);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId, String subject, Date issuedAt) {
+
+        return this.tokenRevocationList.isRevoked(tokenId, subject, issuedAt == null ? 0 : issuedAt.getTime());
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${application.token-revocation.reload-interval-ms:60000}",
+            initialDelayString = "${application.token-revocation.reload-interval-ms:60000}")
+    public void reloadRevocations() {
+
+        long now = System.currentTimeMillis();
+        LocalDateTime nowDate = this.toLocalDateTime(now);
+        LocalDateTime notBeforeCutoff = this.toLocalDateTime(now - this.jwtHandler.getExpirationMiliseconds());
+
+        this.tokenRevocationRepository.deleteExpired(nowDate, notBeforeCutoff);
+
+        Map<String, Long> revokedTokens = this.toMap(this.tokenRevocationRepository.getRevokedTokens(nowDate));
+        Map<String, Long> revokedUsers = this.toMap(this.tokenRevocationRepository.getRevokedUsers(notBeforeCutoff));
+
+        this.tokenRevocationList.purge(now, now - this.jwtHandler.getExpirationMiliseconds());
+        this.tokenRevocationList.rebuild(revokedTokens, revokedUsers);
+
+        logger.debug("Token revocation list loaded with " + revokedTokens.size() + " tokens and "
+                + revokedUsers.size() + " users");
+    }
+
+    @Override
+    public Map<String, Object> getStatus() {
+
+        return this.tokenRevocationList.getStatus();
+    }
+
+    private Map<String, Long> toMap(List<Object[]> rows) {
+
+        Map<String, Long> entries = new HashMap<>();
+
+        for (Object[] row : rows) {
+            entries.put((String) row[0], ((Date) row[1]).getTime());
+        }
+
+        return entries;
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMilli) {
+
+        return LocalDateTime.ofInstant(new Date(epochMilli).toInstant(), ZoneId.systemDefault());
+    }
+}
@@ -8,6 +8,7 @@ import ecommerce.system.api.exceptions.InvalidOperationException;
 import ecommerce.system.api.exceptions.InvalidTokenException;
 import ecommerce.system.api.models.Order;
 import ecommerce.system.api.models.User;
+import ecommerce.system.api.repositories.IReportRepository;
 import ecommerce.system.api.repositories.IUserRepository;
 import ecommerce.system.api.services.*;
 import ecommerce.system.api.tools.NotificationHandler;
@@ -30,6 +31,7 @@ public class UserService implements IUserService {
     private final IAuthenticationService authenticationService;
     private final IFileService fileService;
     private final IOrderService orderService;
+    private final IReportRepository reportRepository;
     private final IStoreService storeService;
     private final IUserRepository userRepository;
     private final SHAEncoder shaEncoder;
@@ -42,6 +44,7 @@ public class UserService implements IUserService {
     public UserService(IAuthenticationService authenticationService,
             IFileService fileService,
             @Lazy IOrderService orderService,
+            IReportRepository reportRepository,
             @Lazy IStoreService storeService,
             IUserRepository userRepository,
             SHAEncoder shaEncoder,
@@ -49,6 +52,7 @@ public class UserService implements IUserService {
         this.authenticationService = authenticationService;
         this.fileService = fileService;
         this.orderService = orderService;
+        this.reportRepository = reportRepository;
         this.storeService = storeService;
         this.userRepository = userRepository;
         this.shaEncoder = shaEncoder;
@@ -93,7 +97,7 @@ public class UserService implements IUserService {
                 }
             }
 
-            return this.userRepository.create(user);
+            return this.createUserRecord(user);
 
         } else {
 
@@ -110,7 +114,7 @@ public class UserService implements IUserService {
                 checkedUser.setDocumentNumber(checkedUser.getDocumentNumber() + " [Inactive]");
                 this.userRepository.update(checkedUser);
 
-                return this.userRepository.create(user);
+                return this.createUserRecord(user);
             }
         }
     }
@@ -263,6 +267,8 @@ public class UserService implements IUserService {
         if (!this.userRepository.update(user)) {
             throw new InvalidOperationException("Usuário não encontrado!");
         }
+
+        this.authenticationService.revokeUserSessions(userId, user.getEmail());
     }
 
     @Override
@@ -289,6 +295,10 @@ public class UserService implements IUserService {
         if (!this.userRepository.update(user)) {
             throw new InvalidOperationException("Usuário não encontrado!");
         }
+
+        if (!oldUser.getEmail().equals(user.getEmail())) {
+            this.authenticationService.revokeUserSessions(user.getUserId(), oldUser.getEmail());
+        }
     }
 
     @Override
@@ -322,6 +332,21 @@ public class UserService implements IUserService {
             }
         }
 
-        this.userRepository.delete(userId);
+        boolean deactivated = this.userRepository.delete(userId);
+
+        this.authenticationService.revokeUserSessions(userId, user.getEmail());
+
+        if (deactivated) {
+            this.reportRepository.updateUsersCountReport(user.getRoleId(), -1);
+        }
+    }
+
+    private int createUserRecord(User user) {
+
+        int userId = this.userRepository.create(user);
+
+        this.reportRepository.updateUsersCountReport(user.getRoleId(), 1);
+
+        return userId;
     }
 }
@@ -0,0 +1,221 @@
+package ecommerce.system.api.tools;
+
+import ecommerce.system.api.dto.BestSellerDTO;
+import ecommerce.system.api.enums.ReportPeriodEnum;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class BestSellerTracker {
+
+    private static final int ALL_STORES = 0;
+
+    private final Map<ReportPeriodEnum, Window> windows = new EnumMap<>(ReportPeriodEnum.class);
+    private List<Object[]> pendingSales;
+    private long appliedSales;
+
+    @Value("${application.best-sellers.top-k:50}")
+    private int topK;
+
+    public void recordSale(int storeId, int productId, int quantity, LocalDate date) {
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(storeId, productId, quantity, date);
+                }
+            });
+
+            return;
+        }
+
+        this.apply(storeId, productId, quantity, date);
+    }
+
+    public void beginLoad() {
+
+        synchronized (this.windows) {
+            this.pendingSales = new ArrayList<>();
+        }
+    }
+
+    public long getAppliedSales() {
+
+        synchronized (this.windows) {
+            return this.appliedSales;
+        }
+    }
+
+    public void load(ReportPeriodEnum period, LocalDate periodStart, long appliedBeforeRead,
+            List<Object[]> productSales) {
+
+        Window window = new Window(periodStart, this.topK);
+
+        for (Object[] row : productSales) {
+            window.add(((Number) row[1]).intValue(), ((Number) row[0]).intValue(), ((Number) row[2]).longValue());
+        }
+
+        synchronized (this.windows) {
+
+            // Sales applied before the rows were read are already counted in them
+            if (this.pendingSales != null) {
+                for (Object[] sale : this.pendingSales) {
+                    if ((long) sale[4] > appliedBeforeRead
+                            && period.getPeriodStart((LocalDate) sale[3]).equals(periodStart)) {
+                        window.add((int) sale[0], (int) sale[1], (int) sale[2]);
+                    }
+                }
+            }
+
+            this.windows.put(period, window);
+        }
+    }
+
+    public void endLoad() {
+
+        synchronized (this.windows) {
+            this.pendingSales = null;
+        }
+    }
+
+    public List<BestSellerDTO> getTopProducts(ReportPeriodEnum period, LocalDate periodStart, Integer storeId,
+            int limit) {
+
+        Window window = this.getWindow(period, periodStart);
+
+        if (window == null) {
+            return null;
+        }
+
+        TopKCounter counter = window.products.get(storeId == null ? ALL_STORES : storeId);
+        List<BestSellerDTO> products = new ArrayList<>();
+
+        if (counter != null) {
+            for (long[] item : counter.getTop(limit)) {
+                int productId = (int) item[0];
+                products.add(new BestSellerDTO(storeId != null ? storeId : window.productStores.get(productId),
+                        productId, item[1]));
+            }
+        }
+
+        return products;
+    }
+
+    public List<BestSellerDTO> getTopStores(ReportPeriodEnum period, LocalDate periodStart, int limit) {
+
+        Window window = this.getWindow(period, periodStart);
+
+        if (window == null) {
+            return null;
+        }
+
+        List<BestSellerDTO> stores = new ArrayList<>();
+
+        for (long[] item : window.stores.getTop(limit)) {
+            stores.add(new BestSellerDTO((int) item[0], null, item[1]));
+        }
+
+        return stores;
+    }
+
+    public Map<String, Object> getStatus() {
+
+        Map<String, Object> status = new LinkedHashMap<>();
+
+        synchronized (this.windows) {
+            for (Map.Entry<ReportPeriodEnum, Window> entry : this.windows.entrySet()) {
+
+                Map<String, Object> window = new LinkedHashMap<>();
+                window.put("periodStart", entry.getValue().periodStart);
+                window.put("trackedStores", Math.max(0, entry.getValue().products.size() - 1));
+                window.put("trackedProducts", entry.getValue().productStores.size());
+                status.put(entry.getKey().name(), window);
+            }
+        }
+
+        status.put("topK", this.topK);
+
+        return status;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    private void apply(int storeId, int productId, int quantity, LocalDate date) {
+
+        List<Window> targets = new ArrayList<>();
+
+        synchronized (this.windows) {
+
+            this.appliedSales++;
+
+            if (this.pendingSales != null) {
+                this.pendingSales.add(new Object[] { storeId, productId, quantity, date, this.appliedSales });
+            }
+
+            for (ReportPeriodEnum period : ReportPeriodEnum.values()) {
+
+                LocalDate periodStart = period.getPeriodStart(date);
+                Window window = this.windows.get(period);
+
+                if (window == null || window.periodStart.isBefore(periodStart)) {
+                    window = new Window(periodStart, this.topK);
+                    this.windows.put(period, window);
+                } else if (window.periodStart.isAfter(periodStart)) {
+                    continue;
+                }
+
+                targets.add(window);
+            }
+        }
+
+        for (Window window : targets) {
+            window.add(storeId, productId, quantity);
+        }
+    }
+
+    private Window getWindow(ReportPeriodEnum period, LocalDate periodStart) {
+
+        synchronized (this.windows) {
+
+            Window window = this.windows.get(period);
+
+            return window != null && window.periodStart.equals(periodStart) ? window : null;
+        }
+    }
+
+    private static class Window {
+
+        private final LocalDate periodStart;
+        private final Map<Integer, TopKCounter> products = new ConcurrentHashMap<>();
+        private final Map<Integer, Integer> productStores = new ConcurrentHashMap<>();
+        private final TopKCounter stores;
+        private final int topK;
+
+        private Window(LocalDate periodStart, int topK) {
+            this.periodStart = periodStart;
+            this.stores = new TopKCounter(topK);
+            this.topK = topK;
+        }
+
+        private void add(int storeId, int productId, long quantity) {
+
+            this.productStores.put(productId, storeId);
+            this.products.computeIfAbsent(ALL_STORES, (key) -> new TopKCounter(this.topK)).add(productId, quantity);
+            this.products.computeIfAbsent(storeId, (key) -> new TopKCounter(this.topK)).add(productId, quantity);
+            this.stores.add(storeId, quantity);
+        }
+    }
+}
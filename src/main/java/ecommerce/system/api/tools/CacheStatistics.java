@@ -0,0 +1,84 @@
+package ecommerce.system.api.tools;
+
+import ecommerce.system.api.configuration.CacheRegions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class CacheStatistics {
+
+    private final SessionFactory sessionFactory;
+
+    @Autowired
+    public CacheStatistics(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    public Statistics getStatistics() {
+        return this.sessionFactory.getStatistics();
+    }
+
+    public CacheRegionStatistics getRegionStatistics(String region) {
+
+        Statistics statistics = this.getStatistics();
+
+        return statistics.isStatisticsEnabled() ? statistics.getCacheRegionStatistics(region) : null;
+    }
+
+    public boolean contains(Class<?> entityClass, Object id) {
+        return this.sessionFactory.getCache().containsEntity(entityClass, id);
+    }
+
+    public Map<String, Object> getStatus() {
+
+        Statistics statistics = this.getStatistics();
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("statisticsEnabled", statistics.isStatisticsEnabled());
+
+        if (!statistics.isStatisticsEnabled()) {
+            return status;
+        }
+
+        status.put("secondLevelCacheHits", statistics.getSecondLevelCacheHitCount());
+        status.put("secondLevelCacheMisses", statistics.getSecondLevelCacheMissCount());
+        status.put("secondLevelCachePuts", statistics.getSecondLevelCachePutCount());
+        status.put("queryCacheHits", statistics.getQueryCacheHitCount());
+        status.put("queryCacheMisses", statistics.getQueryCacheMissCount());
+        status.put("queryCachePuts", statistics.getQueryCachePutCount());
+        status.put("updateTimestampsCacheHits", statistics.getUpdateTimestampsCacheHitCount());
+        status.put("updateTimestampsCacheMisses", statistics.getUpdateTimestampsCacheMissCount());
+        status.put("updateTimestampsCachePuts", statistics.getUpdateTimestampsCachePutCount());
+
+        List<String> regions = new ArrayList<>(CacheRegions.ENTITY_REGIONS);
+        regions.addAll(CacheRegions.QUERY_REGIONS);
+        regions.add(CacheRegions.UPDATE_TIMESTAMPS);
+
+        for (String region : regions) {
+
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+
+            if (regionStatistics == null) {
+                continue;
+            }
+
+            Map<String, Object> regionStatus = new LinkedHashMap<>();
+            regionStatus.put("hits", regionStatistics.getHitCount());
+            regionStatus.put("misses", regionStatistics.getMissCount());
+            regionStatus.put("puts", regionStatistics.getPutCount());
+            regionStatus.put("elementsInMemory", regionStatistics.getElementCountInMemory());
+            status.put(region, regionStatus);
+        }
+
+        return status;
+    }
+}
@@ -0,0 +1,258 @@
+package ecommerce.system.api.tools;
+
+import ecommerce.system.api.dto.CashFlowAggregateDTO;
+import ecommerce.system.api.enums.CashFlowLedgerEnum;
+import ecommerce.system.api.enums.ReportPeriodEnum;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+@Component
+public class CashFlowColumnStore {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int NO_BUCKET = 0;
+
+    private final Map<CashFlowLedgerEnum, Columns> ledgers = new HashMap<>();
+    private final ForkJoinPool pool;
+    private final int scanChunkRows;
+
+    public CashFlowColumnStore(
+            @Value("${application.analytics.parallelism:0}") int parallelism,
+            @Value("${application.analytics.scan-chunk-rows:65536}") int scanChunkRows) {
+
+        this.scanChunkRows = Math.max(1024, scanChunkRows);
+
+        for (CashFlowLedgerEnum ledger : CashFlowLedgerEnum.values()) {
+            this.ledgers.put(ledger, new Columns());
+        }
+
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    public void append(CashFlowLedgerEnum ledger, int storeId, int orderId, LocalDate date, long cents) {
+        this.ledgers.get(ledger).append(storeId, orderId, (int) date.toEpochDay(), cents);
+    }
+
+    public void clear(CashFlowLedgerEnum ledger) {
+        this.ledgers.get(ledger).clear();
+    }
+
+    public int getRowCount(CashFlowLedgerEnum ledger) {
+        return this.ledgers.get(ledger).snapshot.size;
+    }
+
+    public List<CashFlowAggregateDTO> aggregate(CashFlowLedgerEnum ledger, Integer storeId, LocalDate startDate,
+            LocalDate endDate, boolean groupByStore, ReportPeriodEnum period) {
+
+        Snapshot snapshot = this.ledgers.get(ledger).snapshot;
+        Scan scan = new Scan(snapshot, storeId, startDate == null ? Integer.MIN_VALUE : (int) startDate.toEpochDay(),
+                endDate == null ? Integer.MAX_VALUE : (int) endDate.toEpochDay(), groupByStore, period,
+                this.scanChunkRows, 0, snapshot.size);
+        Map<Long, long[]> groups = this.pool.invoke(scan);
+
+        List<CashFlowAggregateDTO> result = new ArrayList<>(groups.size());
+
+        for (Map.Entry<Long, long[]> group : groups.entrySet()) {
+
+            int groupStoreId = (int) (group.getKey() >> 32);
+            int bucket = (int) group.getKey().longValue();
+
+            result.add(new CashFlowAggregateDTO(groupByStore ? groupStoreId : storeId,
+                    period == null ? null : this.getPeriodStart(period, bucket), group.getValue()[0],
+                    group.getValue()[1]));
+        }
+
+        result.sort((a, b) -> {
+            int byStore = Integer.compare(a.getStoreId() == null ? 0 : a.getStoreId(),
+                    b.getStoreId() == null ? 0 : b.getStoreId());
+            return byStore != 0 || a.getPeriodStart() == null ? byStore : a.getPeriodStart().compareTo(b.getPeriodStart());
+        });
+
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.pool.shutdown();
+    }
+
+    private LocalDate getPeriodStart(ReportPeriodEnum period, int bucket) {
+
+        if (period == ReportPeriodEnum.MONTH) {
+            return LocalDate.of(bucket / 12, bucket % 12 + 1, 1);
+        }
+
+        return LocalDate.ofEpochDay(bucket);
+    }
+
+    private static int getBucket(ReportPeriodEnum period, int epochDay, int month) {
+
+        if (period == null) {
+            return NO_BUCKET;
+        }
+
+        switch (period) {
+            case WEEK:
+                return epochDay - Math.floorMod(epochDay + 3, 7);
+            case MONTH:
+                return month;
+            default:
+                return epochDay;
+        }
+    }
+
+    private static class Snapshot {
+
+        private final int[] storeIds;
+        private final int[] orderIds;
+        private final int[] epochDays;
+        private final int[] months;
+        private final long[] cents;
+        private final int size;
+
+        private Snapshot(int[] storeIds, int[] orderIds, int[] epochDays, int[] months, long[] cents, int size) {
+            this.storeIds = storeIds;
+            this.orderIds = orderIds;
+            this.epochDays = epochDays;
+            this.months = months;
+            this.cents = cents;
+            this.size = size;
+        }
+    }
+
+    private static class Columns {
+
+        private volatile Snapshot snapshot = empty();
+
+        private static Snapshot empty() {
+            return new Snapshot(new int[INITIAL_CAPACITY], new int[INITIAL_CAPACITY], new int[INITIAL_CAPACITY],
+                    new int[INITIAL_CAPACITY], new long[INITIAL_CAPACITY], 0);
+        }
+
+        private synchronized void append(int storeId, int orderId, int epochDay, long cents) {
+
+            Snapshot current = this.snapshot;
+            int size = current.size;
+            Snapshot target = current;
+
+            if (size == current.cents.length) {
+                int capacity = size * 2;
+                target = new Snapshot(Arrays.copyOf(current.storeIds, capacity),
+                        Arrays.copyOf(current.orderIds, capacity), Arrays.copyOf(current.epochDays, capacity),
+                        Arrays.copyOf(current.months, capacity), Arrays.copyOf(current.cents, capacity), size);
+            }
+
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+
+            target.storeIds[size] = storeId;
+            target.orderIds[size] = orderId;
+            target.epochDays[size] = epochDay;
+            target.months[size] = date.getYear() * 12 + date.getMonthValue() - 1;
+            target.cents[size] = cents;
+
+            this.snapshot = new Snapshot(target.storeIds, target.orderIds, target.epochDays, target.months,
+                    target.cents, size + 1);
+        }
+
+        private synchronized void clear() {
+            this.snapshot = empty();
+        }
+    }
+
+    private static class Scan extends RecursiveTask<Map<Long, long[]>> {
+
+        private final Snapshot snapshot;
+        private final Integer storeId;
+        private final int startDay;
+        private final int endDay;
+        private final boolean groupByStore;
+        private final ReportPeriodEnum period;
+        private final int chunkRows;
+        private final int from;
+        private final int to;
+
+        private Scan(Snapshot snapshot, Integer storeId, int startDay, int endDay, boolean groupByStore,
+                ReportPeriodEnum period, int chunkRows, int from, int to) {
+            this.snapshot = snapshot;
+            this.storeId = storeId;
+            this.startDay = startDay;
+            this.endDay = endDay;
+            this.groupByStore = groupByStore;
+            this.period = period;
+            this.chunkRows = chunkRows;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<Long, long[]> compute() {
+
+            if (this.to - this.from > this.chunkRows) {
+
+                int middle = (this.from + this.to) >>> 1;
+                Scan left = new Scan(this.snapshot, this.storeId, this.startDay, this.endDay, this.groupByStore,
+                        this.period, this.chunkRows, this.from, middle);
+                Scan right = new Scan(this.snapshot, this.storeId, this.startDay, this.endDay, this.groupByStore,
+                        this.period, this.chunkRows, middle, this.to);
+
+                left.fork();
+                Map<Long, long[]> result = right.compute();
+
+                for (Map.Entry<Long, long[]> group : left.join().entrySet()) {
+                    long[] totals = result.computeIfAbsent(group.getKey(), (key) -> new long[2]);
+                    totals[0] += group.getValue()[0];
+                    totals[1] += group.getValue()[1];
+                }
+
+                return result;
+            }
+
+            return this.scan();
+        }
+
+        private Map<Long, long[]> scan() {
+
+            Map<Long, long[]> result = new HashMap<>();
+            int[] storeIds = this.snapshot.storeIds;
+            int[] epochDays = this.snapshot.epochDays;
+            int[] months = this.snapshot.months;
+            long[] cents = this.snapshot.cents;
+            boolean filterStore = this.storeId != null;
+            int filterStoreId = filterStore ? this.storeId : 0;
+            long lastKey = Long.MIN_VALUE;
+            long[] lastTotals = null;
+
+            for (int i = this.from; i < this.to; i++) {
+
+                int epochDay = epochDays[i];
+
+                if (epochDay < this.startDay || epochDay > this.endDay || (filterStore && storeIds[i] != filterStoreId)) {
+                    continue;
+                }
+
+                long key = ((long) (this.groupByStore ? storeIds[i] : 0) << 32)
+                        | (getBucket(this.period, epochDay, months[i]) & 0xFFFFFFFFL);
+
+                if (key != lastKey || lastTotals == null) {
+                    lastTotals = result.computeIfAbsent(key, (k) -> new long[2]);
+                    lastKey = key;
+                }
+
+                lastTotals[0] += cents[i];
+                lastTotals[1]++;
+            }
+
+            return result;
+        }
+    }
+}
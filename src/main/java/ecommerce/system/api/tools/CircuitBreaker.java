@@ -0,0 +1,51 @@
+package ecommerce.system.api.tools;
+
+public class CircuitBreaker {
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openDuration;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openedAt = 0;
+
+    public CircuitBreaker(int failureThreshold, long openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+    }
+
+    public synchronized boolean allowRequest() {
+
+        if (this.state == State.OPEN) {
+
+            if (System.currentTimeMillis() - this.openedAt < this.openDuration) {
+                return false;
+            }
+
+            this.state = State.HALF_OPEN;
+            return true;
+        }
+
+        return this.state == State.CLOSED;
+    }
+
+    public synchronized void recordSuccess() {
+        this.consecutiveFailures = 0;
+        this.state = State.CLOSED;
+    }
+
+    public synchronized void recordFailure() {
+        this.consecutiveFailures++;
+
+        if (this.state == State.HALF_OPEN || this.consecutiveFailures >= this.failureThreshold) {
+            this.state = State.OPEN;
+            this.openedAt = System.currentTimeMillis();
+        }
+    }
+
+    public synchronized String getState() {
+        return this.state.name();
+    }
+}
@@ -0,0 +1,185 @@
+package ecommerce.system.api.tools;
+
+import ecommerce.system.api.models.DeliveryRate;
+import ecommerce.system.api.models.DeliveryZonePrefix;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class DeliveryRateTable {
+
+    public static final long NO_RATE = -1;
+
+    private static final int PREFIX_LENGTH = 3;
+    private static final int PREFIX_SLOTS = 1000;
+
+    private volatile Snapshot snapshot = new Snapshot(new short[PREFIX_SLOTS], new int[0], 0, new long[0]);
+
+    public void load(List<DeliveryZonePrefix> prefixes, List<DeliveryRate> rates) {
+
+        Map<Integer, Integer> zoneIndexes = new HashMap<>();
+        Map<Integer, Integer> serviceIndexes = new HashMap<>();
+
+        for (DeliveryZonePrefix prefix : prefixes) {
+            zoneIndexes.putIfAbsent(prefix.getDeliveryZoneId(), zoneIndexes.size());
+        }
+
+        for (DeliveryRate rate : rates) {
+            zoneIndexes.putIfAbsent(rate.getOriginZoneId(), zoneIndexes.size());
+            zoneIndexes.putIfAbsent(rate.getDestinationZoneId(), zoneIndexes.size());
+            serviceIndexes.putIfAbsent(rate.getDeliveryServiceId(), serviceIndexes.size());
+        }
+
+        short[] zoneByPrefix = new short[PREFIX_SLOTS];
+        Arrays.fill(zoneByPrefix, (short) -1);
+
+        List<DeliveryZonePrefix> sortedPrefixes = new ArrayList<>(prefixes);
+        sortedPrefixes.sort(Comparator.comparingInt((prefix) -> prefix.getPostalCodePrefix().length()));
+
+        for (DeliveryZonePrefix prefix : sortedPrefixes) {
+
+            String digits = prefix.getPostalCodePrefix();
+
+            if (digits.isEmpty() || digits.length() > PREFIX_LENGTH || !digits.chars().allMatch(Character::isDigit)) {
+                continue;
+            }
+
+            int span = (int) Math.pow(10, PREFIX_LENGTH - digits.length());
+            int start = Integer.parseInt(digits) * span;
+
+            Arrays.fill(zoneByPrefix, start, start + span, zoneIndexes.get(prefix.getDeliveryZoneId()).shortValue());
+        }
+
+        int[] serviceIds = new int[serviceIndexes.size()];
+        serviceIndexes.forEach((serviceId, index) -> serviceIds[index] = serviceId);
+
+        int zoneCount = zoneIndexes.size();
+        long[] prices = new long[serviceIds.length * zoneCount * zoneCount];
+        Arrays.fill(prices, NO_RATE);
+
+        for (DeliveryRate rate : rates) {
+
+            int index = (serviceIndexes.get(rate.getDeliveryServiceId()) * zoneCount
+                    + zoneIndexes.get(rate.getOriginZoneId())) * zoneCount
+                    + zoneIndexes.get(rate.getDestinationZoneId());
+
+            prices[index] = rate.getPrice();
+        }
+
+        this.snapshot = new Snapshot(zoneByPrefix, serviceIds, zoneCount, prices);
+    }
+
+    public long getPrice(int deliveryServiceId, String originPostalCode, String destinationPostalCode) {
+
+        Snapshot current = this.snapshot;
+
+        int serviceIndex = current.indexOfService(deliveryServiceId);
+
+        if (serviceIndex < 0) {
+            return NO_RATE;
+        }
+
+        return current.getPrice(serviceIndex, originPostalCode, destinationPostalCode);
+    }
+
+    public int getCheapestDeliveryServiceId(String originPostalCode, String destinationPostalCode) {
+
+        Snapshot current = this.snapshot;
+
+        int cheapestServiceId = -1;
+        long cheapestPrice = NO_RATE;
+
+        for (int i = 0; i < current.serviceIds.length; i++) {
+
+            long price = current.getPrice(i, originPostalCode, destinationPostalCode);
+
+            if (price != NO_RATE && (cheapestPrice == NO_RATE || price < cheapestPrice)) {
+                cheapestPrice = price;
+                cheapestServiceId = current.serviceIds[i];
+            }
+        }
+
+        return cheapestServiceId;
+    }
+
+    public int getZoneCount() {
+        return this.snapshot.zoneCount;
+    }
+
+    public int getRateCount() {
+        return (int) Arrays.stream(this.snapshot.prices).filter((price) -> price != NO_RATE).count();
+    }
+
+    private static int toPrefixSlot(String postalCode) {
+
+        if (postalCode == null) {
+            return -1;
+        }
+
+        int slot = 0;
+        int digits = 0;
+
+        for (int i = 0; i < postalCode.length() && digits < PREFIX_LENGTH; i++) {
+
+            char character = postalCode.charAt(i);
+
+            if (character >= '0' && character <= '9') {
+                slot = slot * 10 + (character - '0');
+                digits++;
+            }
+        }
+
+        return digits == PREFIX_LENGTH ? slot : -1;
+    }
+
+    private static final class Snapshot {
+
+        private final short[] zoneByPrefix;
+        private final int[] serviceIds;
+        private final int zoneCount;
+        private final long[] prices;
+
+        private Snapshot(short[] zoneByPrefix, int[] serviceIds, int zoneCount, long[] prices) {
+            this.zoneByPrefix = zoneByPrefix;
+            this.serviceIds = serviceIds;
+            this.zoneCount = zoneCount;
+            this.prices = prices;
+        }
+
+        private int indexOfService(int deliveryServiceId) {
+
+            for (int i = 0; i < this.serviceIds.length; i++) {
+                if (this.serviceIds[i] == deliveryServiceId) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        private long getPrice(int serviceIndex, String originPostalCode, String destinationPostalCode) {
+
+            int originSlot = toPrefixSlot(originPostalCode);
+            int destinationSlot = toPrefixSlot(destinationPostalCode);
+
+            if (originSlot < 0 || destinationSlot < 0) {
+                return NO_RATE;
+            }
+
+            short originZone = this.zoneByPrefix[originSlot];
+            short destinationZone = this.zoneByPrefix[destinationSlot];
+
+            if (originZone < 0 || destinationZone < 0) {
+                return NO_RATE;
+            }
+
+            return this.prices[(serviceIndex * this.zoneCount + originZone) * this.zoneCount + destinationZone];
+        }
+    }
+}
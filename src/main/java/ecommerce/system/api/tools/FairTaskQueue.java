@@ -0,0 +1,58 @@
+package ecommerce.system.api.tools;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+public class FairTaskQueue<K, T> {
+
+    private final Map<K, Deque<T>> tasksByTenant = new HashMap<>();
+    private final Deque<K> tenants = new ArrayDeque<>();
+    private int size;
+
+    public synchronized void offer(K tenant, T task) {
+
+        Deque<T> tasks = this.tasksByTenant.get(tenant);
+
+        if (tasks == null) {
+            tasks = new ArrayDeque<>();
+            this.tasksByTenant.put(tenant, tasks);
+            this.tenants.addLast(tenant);
+        }
+
+        tasks.addLast(task);
+        this.size++;
+
+        this.notifyAll();
+    }
+
+    public synchronized T take() throws InterruptedException {
+
+        while (this.tenants.isEmpty()) {
+            this.wait();
+        }
+
+        K tenant = this.tenants.pollFirst();
+        Deque<T> tasks = this.tasksByTenant.get(tenant);
+        T task = tasks.pollFirst();
+
+        if (tasks.isEmpty()) {
+            this.tasksByTenant.remove(tenant);
+        } else {
+            this.tenants.addLast(tenant);
+        }
+
+        this.size--;
+
+        return task;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized int getTenantCount() {
+        return this.tenants.size();
+    }
+}
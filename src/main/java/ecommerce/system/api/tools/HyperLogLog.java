@@ -0,0 +1,161 @@
+package ecommerce.system.api.tools;
+
+public class HyperLogLog {
+
+    public static final int PRECISION = 12;
+    public static final int REGISTERS = 1 << PRECISION;
+    public static final double RELATIVE_STANDARD_ERROR = 1.04 / Math.sqrt(REGISTERS);
+
+    private static final byte SPARSE = 1;
+    private static final byte DENSE = 2;
+    private static final int DENSE_SIZE = 1 + REGISTERS * 6 / 8;
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this.registers = new byte[REGISTERS];
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    public void add(long value) {
+
+        long hash = hash(value);
+        int index = (int) (hash >>> (64 - PRECISION));
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1);
+
+        if (rank > this.registers[index]) {
+            this.registers[index] = rank;
+        }
+    }
+
+    public void merge(HyperLogLog other) {
+
+        for (int i = 0; i < REGISTERS; i++) {
+            if (other.registers[i] > this.registers[i]) {
+                this.registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    public long estimate() {
+
+        double sum = 0;
+        int zeros = 0;
+
+        for (byte register : this.registers) {
+            sum += 1.0 / (1L << register);
+
+            if (register == 0) {
+                zeros++;
+            }
+        }
+
+        double alpha = 0.7213 / (1 + 1.079 / REGISTERS);
+        double estimate = alpha * REGISTERS * REGISTERS / sum;
+
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+
+        return Math.round(estimate);
+    }
+
+    public boolean isEmpty() {
+
+        for (byte register : this.registers) {
+            if (register != 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public byte[] toBytes() {
+
+        int used = 0;
+
+        for (byte register : this.registers) {
+            if (register != 0) {
+                used++;
+            }
+        }
+
+        if (1 + used * 3 < DENSE_SIZE) {
+
+            byte[] bytes = new byte[1 + used * 3];
+            int position = 1;
+            bytes[0] = SPARSE;
+
+            for (int i = 0; i < REGISTERS; i++) {
+                if (this.registers[i] != 0) {
+                    int entry = (i << 6) | this.registers[i];
+                    bytes[position++] = (byte) (entry >>> 16);
+                    bytes[position++] = (byte) (entry >>> 8);
+                    bytes[position++] = (byte) entry;
+                }
+            }
+
+            return bytes;
+        }
+
+        byte[] bytes = new byte[DENSE_SIZE];
+        bytes[0] = DENSE;
+
+        for (int i = 0, position = 1; i < REGISTERS; i += 4, position += 3) {
+            int packed = (this.registers[i] << 18) | (this.registers[i + 1] << 12) | (this.registers[i + 2] << 6)
+                    | this.registers[i + 3];
+            bytes[position] = (byte) (packed >>> 16);
+            bytes[position + 1] = (byte) (packed >>> 8);
+            bytes[position + 2] = (byte) packed;
+        }
+
+        return bytes;
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+
+        byte[] registers = new byte[REGISTERS];
+
+        if (bytes == null || bytes.length == 0) {
+            return new HyperLogLog(registers);
+        }
+
+        if (bytes[0] == SPARSE) {
+
+            for (int position = 1; position + 2 < bytes.length; position += 3) {
+                int entry = ((bytes[position] & 0xFF) << 16) | ((bytes[position + 1] & 0xFF) << 8)
+                        | (bytes[position + 2] & 0xFF);
+                registers[entry >>> 6] = (byte) (entry & 0x3F);
+            }
+
+        } else if (bytes[0] == DENSE && bytes.length == DENSE_SIZE) {
+
+            for (int i = 0, position = 1; i < REGISTERS; i += 4, position += 3) {
+                int packed = ((bytes[position] & 0xFF) << 16) | ((bytes[position + 1] & 0xFF) << 8)
+                        | (bytes[position + 2] & 0xFF);
+                registers[i] = (byte) ((packed >>> 18) & 0x3F);
+                registers[i + 1] = (byte) ((packed >>> 12) & 0x3F);
+                registers[i + 2] = (byte) ((packed >>> 6) & 0x3F);
+                registers[i + 3] = (byte) (packed & 0x3F);
+            }
+
+        } else {
+            throw new IllegalArgumentException("Unknown HyperLogLog encoding " + bytes[0]);
+        }
+
+        return new HyperLogLog(registers);
+    }
+
+    private static long hash(long value) {
+
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+
+        return z ^ (z >>> 31);
+    }
+}
@@ -10,6 +10,7 @@ import javax.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtHandler {
@@ -24,6 +25,11 @@ public class JwtHandler {
 
         Claims claims = Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
 
+        return this.checkClaims(subject, claims);
+    }
+
+    public boolean checkClaims(String subject, Claims claims) {
+
         final String tokenSubject = claims.getSubject();
 
         return (tokenSubject.equals(subject) && !isTokenExpired(claims.getExpiration()));
@@ -40,6 +46,7 @@ public class JwtHandler {
     public String getToken(String subject) {
 
         String jwt = Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expirationMiliseconds))
@@ -62,6 +69,15 @@ public class JwtHandler {
         return null;
     }
 
+    public Claims getClaims(String token) {
+
+        return Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
+    }
+
+    public long getExpirationMiliseconds() {
+        return expirationMiliseconds;
+    }
+
     public String getTokenSubject(String token) {
         Claims claims = Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
 
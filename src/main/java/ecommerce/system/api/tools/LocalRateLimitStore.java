@@ -0,0 +1,45 @@
+package ecommerce.system.api.tools;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Component
+public class LocalRateLimitStore implements RateLimitStore {
+
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    @Override
+    public long tryConsume(String key, int capacity, int refillPerMinute, long now) {
+
+        long[] wait = new long[1];
+
+        this.buckets.compute(key, (k, bucket) -> {
+
+            if (bucket == null) {
+                bucket = new TokenBucket(capacity, now);
+            }
+
+            wait[0] = bucket.tryConsume(capacity, refillPerMinute, now);
+
+            return bucket;
+        });
+
+        return wait[0];
+    }
+
+    @Override
+    public int evictFull(long now) {
+
+        int size = this.buckets.size();
+
+        this.buckets.values().removeIf(bucket -> bucket.isFull(now));
+
+        return size - this.buckets.size();
+    }
+
+    public int size() {
+        return this.buckets.size();
+    }
+}
@@ -0,0 +1,99 @@
+package ecommerce.system.api.tools;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class Money {
+
+    public static final int SCALE = 2;
+    public static final long CENTS_PER_UNIT = 100;
+    public static final long BASIS_POINTS = 10000;
+    public static final long ZERO = 0;
+
+    private Money() {
+    }
+
+    public static long of(BigDecimal value) {
+        return value.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+
+    public static long of(String value) {
+        return of(new BigDecimal(value));
+    }
+
+    public static long parse(BigDecimal value) {
+        return value.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    public static long ofUnits(long units) {
+        return Math.multiplyExact(units, CENTS_PER_UNIT);
+    }
+
+    public static BigDecimal toBigDecimal(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    public static String format(long cents) {
+        return toBigDecimal(cents).toPlainString();
+    }
+
+    public static long add(long augend, long addend) {
+        return Math.addExact(augend, addend);
+    }
+
+    public static long subtract(long minuend, long subtrahend) {
+        return Math.subtractExact(minuend, subtrahend);
+    }
+
+    public static long multiply(long cents, long quantity) {
+        return Math.multiplyExact(cents, quantity);
+    }
+
+    public static long percentage(long cents, long basisPoints, RoundingMode roundingMode) {
+        return divide(Math.multiplyExact(cents, basisPoints), BASIS_POINTS, roundingMode);
+    }
+
+    public static long divide(long cents, long divisor, RoundingMode roundingMode) {
+
+        long quotient = cents / divisor;
+        long remainder = cents % divisor;
+
+        if (remainder == 0) {
+            return quotient;
+        }
+
+        int signum = ((cents ^ divisor) >> 63) == 0 ? 1 : -1;
+        long doubledRemainder = Math.abs(remainder) * 2;
+        long absoluteDivisor = Math.abs(divisor);
+        boolean increment;
+
+        switch (roundingMode) {
+            case UP:
+                increment = true;
+                break;
+            case DOWN:
+                increment = false;
+                break;
+            case CEILING:
+                increment = signum > 0;
+                break;
+            case FLOOR:
+                increment = signum < 0;
+                break;
+            case HALF_UP:
+                increment = doubledRemainder >= absoluteDivisor;
+                break;
+            case HALF_DOWN:
+                increment = doubledRemainder > absoluteDivisor;
+                break;
+            case HALF_EVEN:
+                increment = doubledRemainder > absoluteDivisor
+                        || (doubledRemainder == absoluteDivisor && (quotient & 1) != 0);
+                break;
+            default:
+                throw new ArithmeticException("Rounding necessary");
+        }
+
+        return increment ? quotient + signum : quotient;
+    }
+}
@@ -0,0 +1,35 @@
+package ecommerce.system.api.tools;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+public class MoneyDeserializer extends JsonDeserializer<Long> {
+
+    @Override
+    public Long deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_STRING) {
+            String text = parser.getText().trim();
+
+            try {
+                return Money.parse(new BigDecimal(text));
+
+            } catch (ArithmeticException | NumberFormatException e) {
+                throw context.weirdStringException(text, Long.class, "Valor monetário inválido!");
+            }
+        }
+
+        BigDecimal value = parser.getDecimalValue();
+
+        try {
+            return Money.parse(value);
+
+        } catch (ArithmeticException e) {
+            throw context.weirdNumberException(value, Long.class, "Valor monetário inválido!");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package ecommerce.system.api.tools;
+
+import org.hibernate.query.NativeQuery;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class NativeStatements {
+
+    private static final Pattern TARGET_TABLE = Pattern.compile(
+            "^\\s*(?:INSERT\\s+(?:IGNORE\\s+)?INTO|REPLACE\\s+INTO|UPDATE|DELETE\\s+FROM)\\s+`?(\\w+)`?",
+            Pattern.CASE_INSENSITIVE);
+
+    private NativeStatements() {
+    }
+
+    public static Query update(EntityManager entityManager, String statement) {
+
+        Query query = entityManager.createNativeQuery(statement);
+        String table = getTargetTable(statement);
+
+        // Without a query space Hibernate evicts every second-level cache region on executeUpdate
+        if (table != null) {
+            query.unwrap(NativeQuery.class).addSynchronizedQuerySpace(table);
+        }
+
+        return query;
+    }
+
+    public static String getTargetTable(String statement) {
+
+        Matcher matcher = TARGET_TABLE.matcher(statement);
+
+        return matcher.find() ? matcher.group(1) : null;
+    }
+}
@@ -0,0 +1,83 @@
+package ecommerce.system.api.tools;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class OpenOrderCounter {
+
+    private volatile Map<Integer, Long> openOrdersByStore = new ConcurrentHashMap<>();
+    private volatile Map<Integer, Long> openOrdersByProduct = new ConcurrentHashMap<>();
+    private Map<Integer, Long> pendingByStore;
+    private Map<Integer, Long> pendingByProduct;
+
+    public synchronized void orderOpened(int storeId, List<Integer> productIds) {
+        this.record(storeId, productIds, 1);
+    }
+
+    public synchronized void orderClosed(int storeId, List<Integer> productIds) {
+        this.record(storeId, productIds, -1);
+    }
+
+    public boolean hasOpenOrdersByStoreId(int storeId) {
+        return this.openOrdersByStore.getOrDefault(storeId, 0L) > 0;
+    }
+
+    public boolean hasOpenOrdersByProductId(int productId) {
+        return this.openOrdersByProduct.getOrDefault(productId, 0L) > 0;
+    }
+
+    public synchronized void beginReset() {
+        this.pendingByStore = new HashMap<>();
+        this.pendingByProduct = new HashMap<>();
+    }
+
+    public synchronized void reset(Map<Integer, Long> openOrdersByStore, Map<Integer, Long> openOrdersByProduct) {
+
+        Map<Integer, Long> storeCounters = new ConcurrentHashMap<>(openOrdersByStore);
+        Map<Integer, Long> productCounters = new ConcurrentHashMap<>(openOrdersByProduct);
+
+        // Changes recorded while the counts were being read would otherwise be lost by the swap
+        if (this.pendingByStore != null) {
+            this.pendingByStore.forEach((storeId, delta) -> this.add(storeCounters, storeId, delta));
+            this.pendingByProduct.forEach((productId, delta) -> this.add(productCounters, productId, delta));
+        }
+
+        this.openOrdersByStore = storeCounters;
+        this.openOrdersByProduct = productCounters;
+    }
+
+    public synchronized void endReset() {
+        this.pendingByStore = null;
+        this.pendingByProduct = null;
+    }
+
+    private void record(int storeId, List<Integer> productIds, long delta) {
+        this.add(this.openOrdersByStore, storeId, delta);
+
+        if (this.pendingByStore != null) {
+            this.pendingByStore.merge(storeId, delta, Long::sum);
+        }
+
+        if (productIds != null) {
+            for (Integer productId : productIds) {
+                this.add(this.openOrdersByProduct, productId, delta);
+
+                if (this.pendingByProduct != null) {
+                    this.pendingByProduct.merge(productId, delta, Long::sum);
+                }
+            }
+        }
+    }
+
+    private void add(Map<Integer, Long> counters, int key, long delta) {
+        counters.compute(key, (k, current) -> {
+            long value = (current == null ? 0 : current) + delta;
+            return value > 0 ? value : null;
+        });
+    }
+}
@@ -0,0 +1,88 @@
+package ecommerce.system.api.tools;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+@Component
+public class PartitionedReportExecutor {
+
+    private final ForkJoinPool pool;
+    private final int partitionStores;
+
+    public PartitionedReportExecutor(
+            @Value("${application.reports.parallelism:0}") int parallelism,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+            @Value("${application.reports.partition-stores:250}") int partitionStores) {
+
+        this.partitionStores = Math.max(1, partitionStores);
+        this.pool = new ForkJoinPool(parallelism > 0
+                ? Math.min(parallelism, connectionPoolSize)
+                : Math.max(1, connectionPoolSize / 2));
+    }
+
+    public <T> List<T> execute(int firstStoreId, int lastStoreId, PartitionLoader<T> loader) {
+
+        if (lastStoreId < firstStoreId) {
+            return new ArrayList<>();
+        }
+
+        return this.pool.invoke(new Partition<>(loader, this.partitionStores, firstStoreId, lastStoreId + 1));
+    }
+
+    public int getParallelism() {
+        return this.pool.getParallelism();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.pool.shutdown();
+    }
+
+    @FunctionalInterface
+    public interface PartitionLoader<T> {
+
+        List<T> load(int fromStoreId, int toStoreId);
+    }
+
+    private static class Partition<T> extends RecursiveTask<List<T>> {
+
+        private final PartitionLoader<T> loader;
+        private final int partitionStores;
+        private final int from;
+        private final int to;
+
+        private Partition(PartitionLoader<T> loader, int partitionStores, int from, int to) {
+            this.loader = loader;
+            this.partitionStores = partitionStores;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<T> compute() {
+
+            if ((long) this.to - this.from > this.partitionStores) {
+
+                int middle = (int) (((long) this.from + this.to) >>> 1);
+                Partition<T> left = new Partition<>(this.loader, this.partitionStores, this.from, middle);
+                Partition<T> right = new Partition<>(this.loader, this.partitionStores, middle, this.to);
+
+                right.fork();
+                List<T> result = left.compute();
+                result.addAll(right.join());
+
+                return result;
+            }
+
+            List<T> rows = this.loader.load(this.from, this.to);
+
+            return rows == null ? new ArrayList<>() : new ArrayList<>(rows);
+        }
+    }
+}
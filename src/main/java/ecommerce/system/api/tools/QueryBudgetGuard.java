@@ -0,0 +1,103 @@
+package ecommerce.system.api.tools;
+
+import ecommerce.system.api.configuration.QueryBudgetPolicy;
+import ecommerce.system.api.configuration.QueryBudgetRule;
+import ecommerce.system.api.enums.QueryBudgetModeEnum;
+import ecommerce.system.api.exceptions.QueryBudgetExceededException;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+@Component
+public class QueryBudgetGuard implements StatementInspector {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final QueryBudgetModeEnum mode;
+    private final int defaultMaxStatements;
+    private final RouteTrie<QueryBudgetRule> budgets = new RouteTrie<>();
+    private final List<Consumer<RequestQueryContext>> listeners = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    public QueryBudgetGuard(
+            @Value("${application.query-budget.mode:log}") String mode,
+            @Value("${application.query-budget.default-max-statements:50}") int defaultMaxStatements) {
+        this(QueryBudgetModeEnum.getModeByName(mode) == null ? QueryBudgetModeEnum.LOG
+                : QueryBudgetModeEnum.getModeByName(mode), defaultMaxStatements, QueryBudgetPolicy.RULES);
+    }
+
+    public QueryBudgetGuard(QueryBudgetModeEnum mode, int defaultMaxStatements, List<QueryBudgetRule> rules) {
+        this.mode = mode;
+        this.defaultMaxStatements = defaultMaxStatements;
+
+        for (QueryBudgetRule rule : rules) {
+            this.budgets.add(rule.getMethod(), rule.getPattern(), rule);
+        }
+    }
+
+    public int getBudget(String method, String path) {
+
+        if (this.mode == QueryBudgetModeEnum.OFF) {
+            return 0;
+        }
+
+        QueryBudgetRule rule = this.budgets.find(method, path);
+
+        return rule == null ? this.defaultMaxStatements : rule.getMaxStatements();
+    }
+
+    @Override
+    public String inspect(String sql) {
+
+        RequestQueryContext context = RequestQueryContext.current();
+
+        if (context == null) {
+            return sql;
+        }
+
+        context.recordStatement(sql);
+
+        if (this.mode == QueryBudgetModeEnum.FAIL && context.isOverBudget()) {
+            throw new QueryBudgetExceededException("Query budget of " + context.getStatementBudget()
+                    + " statements exceeded on " + context.getEndpoint());
+        }
+
+        return sql;
+    }
+
+    public void complete(RequestQueryContext context) {
+
+        if (context.isOverBudget()) {
+
+            Map.Entry<String, Integer> mostRepeated = context.getMostRepeatedStatement();
+
+            logger.warn("Query budget exceeded on " + context.getEndpoint() + ": " + context.getStatements()
+                    + " statements for a budget of " + context.getStatementBudget()
+                    + (mostRepeated == null ? ""
+                            : ", most repeated (" + mostRepeated.getValue() + "x): " + mostRepeated.getKey()));
+        }
+
+        for (Consumer<RequestQueryContext> listener : this.listeners) {
+            listener.accept(context);
+        }
+    }
+
+    public void addListener(Consumer<RequestQueryContext> listener) {
+        this.listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<RequestQueryContext> listener) {
+        this.listeners.remove(listener);
+    }
+
+    public QueryBudgetModeEnum getMode() {
+        return mode;
+    }
+}
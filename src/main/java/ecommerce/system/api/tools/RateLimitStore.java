@@ -0,0 +1,8 @@
+package ecommerce.system.api.tools;
+
+public interface RateLimitStore {
+
+    long tryConsume(String key, int capacity, int refillPerMinute, long now);
+
+    int evictFull(long now);
+}
@@ -0,0 +1,178 @@
+package ecommerce.system.api.tools;
+
+import ecommerce.system.api.enums.RateLimitModeEnum;
+import ecommerce.system.api.enums.RateLimitRouteEnum;
+import ecommerce.system.api.repositories.IRateLimitRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class RateLimiter {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final LocalRateLimitStore localStore;
+    private final IRateLimitRepository rateLimitRepository;
+    private final boolean enabled;
+    private final RateLimitModeEnum mode;
+    private final RouteTrie<RateLimitRouteEnum> routes = new RouteTrie<>();
+    private final Map<RateLimitRouteEnum, Limits> limits = new EnumMap<>(RateLimitRouteEnum.class);
+
+    @Autowired
+    public RateLimiter(
+            @Value("${application.rate-limit.enabled:true}") boolean enabled,
+            @Value("${application.rate-limit.mode:local}") String mode,
+            Environment environment,
+            LocalRateLimitStore localStore,
+            IRateLimitRepository rateLimitRepository) {
+        this.enabled = enabled;
+        this.mode = RateLimitModeEnum.getModeByName(mode) == null ? RateLimitModeEnum.LOCAL
+                : RateLimitModeEnum.getModeByName(mode);
+        this.localStore = localStore;
+        this.rateLimitRepository = rateLimitRepository;
+
+        for (RateLimitRouteEnum route : RateLimitRouteEnum.values()) {
+
+            String prefix = "application.rate-limit.routes." + route.getName() + ".";
+
+            this.limits.put(route, new Limits(
+                    environment.getProperty(prefix + "ip-capacity", Integer.class, route.getIpCapacity()),
+                    environment.getProperty(prefix + "ip-refill-per-minute", Integer.class,
+                            route.getIpRefillPerMinute()),
+                    environment.getProperty(prefix + "account-capacity", Integer.class, route.getAccountCapacity()),
+                    environment.getProperty(prefix + "account-refill-per-minute", Integer.class,
+                            route.getAccountRefillPerMinute())));
+
+            this.routes.add(route.getMethod(), route.getPattern(), route);
+        }
+    }
+
+    public RateLimitRouteEnum getRoute(String method, String path) {
+
+        return this.enabled ? this.routes.find(method, path) : null;
+    }
+
+    public long tryConsumeByIp(RateLimitRouteEnum route, String ip) {
+
+        Limits limits = this.limits.get(route);
+
+        return this.tryConsume(route, "ip:" + route.getName() + ":" + ip, limits.ipCapacity,
+                limits.ipRefillPerMinute);
+    }
+
+    public long tryConsumeByAccount(RateLimitRouteEnum route, String account) {
+
+        Limits limits = this.limits.get(route);
+
+        if (account == null || account.trim().isEmpty()) {
+            return 0;
+        }
+
+        return this.tryConsume(route, "account:" + route.getName() + ":" + account.trim().toLowerCase(),
+                limits.accountCapacity, limits.accountRefillPerMinute);
+    }
+
+    public static long toRetryAfterSeconds(long waitMillis) {
+
+        return Math.max(1, (waitMillis + 999) / 1000);
+    }
+
+    @Scheduled(fixedDelayString = "${application.rate-limit.eviction-interval-ms:60000}")
+    public void evictFullBuckets() {
+
+        long now = System.currentTimeMillis();
+        int evicted = this.localStore.evictFull(now);
+
+        if (this.mode == RateLimitModeEnum.SHARED) {
+            try {
+                evicted += this.rateLimitRepository.evictFull(now);
+            } catch (Exception e) {
+                logger.warn("Could not evict shared rate limit buckets: " + e.getMessage());
+            }
+        }
+
+        if (evicted > 0) {
+            logger.debug("Evicted " + evicted + " full rate limit buckets");
+        }
+    }
+
+    public Map<String, Object> getStatus() {
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", this.enabled);
+        status.put("mode", this.mode.getName());
+        status.put("localBuckets", this.localStore.size());
+
+        for (Map.Entry<RateLimitRouteEnum, Limits> entry : this.limits.entrySet()) {
+
+            Limits limits = entry.getValue();
+
+            Map<String, Object> route = new LinkedHashMap<>();
+            route.put("ipCapacity", limits.ipCapacity);
+            route.put("ipRefillPerMinute", limits.ipRefillPerMinute);
+            route.put("accountCapacity", limits.accountCapacity);
+            route.put("accountRefillPerMinute", limits.accountRefillPerMinute);
+            route.put("allowed", limits.allowed.sum());
+            route.put("rejected", limits.rejected.sum());
+            status.put(entry.getKey().getName(), route);
+        }
+
+        return status;
+    }
+
+    private long tryConsume(RateLimitRouteEnum route, String key, int capacity, int refillPerMinute) {
+
+        Limits limits = this.limits.get(route);
+
+        if (!this.enabled || capacity <= 0) {
+            return 0;
+        }
+
+        long now = System.currentTimeMillis();
+        long wait;
+
+        if (this.mode == RateLimitModeEnum.SHARED) {
+            try {
+                wait = this.rateLimitRepository.tryConsume(key, capacity, refillPerMinute, now);
+            } catch (Exception e) {
+                logger.warn("Shared rate limit store unavailable, using the local store: " + e.getMessage());
+                wait = this.localStore.tryConsume(key, capacity, refillPerMinute, now);
+            }
+        } else {
+            wait = this.localStore.tryConsume(key, capacity, refillPerMinute, now);
+        }
+
+        if (wait > 0) {
+            limits.rejected.increment();
+        } else {
+            limits.allowed.increment();
+        }
+
+        return wait;
+    }
+
+    private static class Limits {
+        private final int ipCapacity;
+        private final int ipRefillPerMinute;
+        private final int accountCapacity;
+        private final int accountRefillPerMinute;
+        private final LongAdder allowed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+
+        private Limits(int ipCapacity, int ipRefillPerMinute, int accountCapacity, int accountRefillPerMinute) {
+            this.ipCapacity = ipCapacity;
+            this.ipRefillPerMinute = ipRefillPerMinute;
+            this.accountCapacity = accountCapacity;
+            this.accountRefillPerMinute = accountRefillPerMinute;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package ecommerce.system.api.tools;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+@Component
+public class RefreshTokenHandler {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${token.refresh-expiration:2592000000}")
+    private long expirationMiliseconds;
+
+    public String generateToken() {
+
+        byte[] bytes = new byte[TOKEN_BYTES];
+        this.secureRandom.nextBytes(bytes);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public String hash(String token) throws NoSuchAlgorithmException {
+
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+
+        StringBuilder stringBuilder = new StringBuilder();
+
+        for (byte b : hash) {
+            String hex = Integer.toHexString(0xff & b);
+
+            if (hex.length() == 1) {
+                stringBuilder.append('0');
+            }
+
+            stringBuilder.append(hex);
+        }
+
+        return stringBuilder.toString();
+    }
+
+    public LocalDateTime getExpiration(LocalDateTime creationDate) {
+
+        return creationDate.plusNanos(this.expirationMiliseconds * 1000000L);
+    }
+}
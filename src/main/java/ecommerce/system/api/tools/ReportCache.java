@@ -0,0 +1,240 @@
+package ecommerce.system.api.tools;
+
+import ecommerce.system.api.dto.ReportPageDTO;
+import ecommerce.system.api.enums.ReportTypeEnum;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+@Component
+public class ReportCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final Map<ReportTypeEnum, Generation> generations = new EnumMap<>(ReportTypeEnum.class);
+
+    @Value("${application.report-cache.max-entries:500}")
+    private int maxEntries;
+
+    @Value("${application.report-cache.open-range-ttl-seconds:30}")
+    private long openRangeTtlSeconds;
+
+    @Value("${application.report-cache.closed-range-ttl-seconds:3600}")
+    private long closedRangeTtlSeconds;
+
+    @Value("${application.report-cache.default-ttl-seconds:300}")
+    private long defaultTtlSeconds;
+
+    public ReportCache() {
+        for (ReportTypeEnum reportType : ReportTypeEnum.values()) {
+            this.generations.put(reportType, new Generation());
+        }
+    }
+
+    public <T> T get(ReportTypeEnum reportType, Integer scopeId, Supplier<T> loader) {
+        return this.get(reportType, scopeId, null, null, false, null, loader);
+    }
+
+    public <T> T get(ReportTypeEnum reportType, Integer scopeId, LocalDate startDate, LocalDate endDate,
+            Supplier<T> loader) {
+        return this.get(reportType, scopeId, startDate, endDate, true, null, loader);
+    }
+
+    public <T> T get(ReportTypeEnum reportType, Integer scopeId, LocalDate startDate, LocalDate endDate,
+            String variant, Supplier<T> loader) {
+        return this.get(reportType, scopeId, startDate, endDate, startDate != null, variant, loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(ReportTypeEnum reportType, Integer scopeId, LocalDate startDate, LocalDate endDate,
+            boolean dated, String variant, Supplier<T> loader) {
+
+        String key = reportType.name() + ":" + (scopeId == null ? "*" : scopeId) + ":"
+                + (startDate == null ? "*" : startDate) + ":" + (endDate == null ? "*" : endDate)
+                + (variant == null ? "" : ":" + variant);
+        long now = System.currentTimeMillis();
+        Entry entry = this.entries.get(key);
+
+        if (entry != null && entry.expiresAt > now) {
+            this.hits.incrementAndGet();
+            entry.hits.incrementAndGet();
+            return (T) entry.value;
+        }
+
+        this.misses.incrementAndGet();
+
+        Generation generation = this.generations.get(reportType);
+        boolean closedRange = this.isClosedRange(dated, endDate);
+        long loadedGeneration = generation.get(closedRange);
+
+        T value = loader.get();
+
+        if (this.entries.size() >= this.maxEntries && !this.entries.containsKey(key)) {
+            this.evictOldest();
+        }
+
+        Entry loaded = new Entry(reportType, scopeId, endDate, dated, value, now,
+                now + (closedRange ? this.closedRangeTtlSeconds
+                        : dated ? this.openRangeTtlSeconds : this.defaultTtlSeconds) * 1000);
+
+        this.entries.put(key, loaded);
+
+        // A write invalidated the report while it was loading, so the value may predate that write
+        if (generation.get(closedRange) != loadedGeneration) {
+            this.entries.remove(key, loaded);
+        }
+
+        return value;
+    }
+
+    public void invalidate(ReportTypeEnum reportType, Integer scopeId) {
+        this.evictAfterCommit(() -> this.generations.get(reportType).all.incrementAndGet(),
+                (entry) -> entry.reportType == reportType
+                        && (scopeId == null || entry.scopeId == null || entry.scopeId.equals(scopeId)));
+    }
+
+    public void invalidateOpenRanges(ReportTypeEnum reportType, Integer scopeId) {
+        LocalDate today = LocalDate.now();
+
+        this.evictAfterCommit(() -> this.generations.get(reportType).openRanges.incrementAndGet(),
+                (entry) -> entry.reportType == reportType
+                        && (scopeId == null || entry.scopeId == null || entry.scopeId.equals(scopeId))
+                        && (entry.endDate == null || !entry.endDate.isBefore(today)));
+    }
+
+    public void clear() {
+        this.evictAfterCommit(() -> this.generations.values().forEach((generation) -> generation.all.incrementAndGet()),
+                (entry) -> true);
+    }
+
+    public Map<String, Object> getStatistics() {
+
+        long now = System.currentTimeMillis();
+        long hits = this.hits.get();
+        long misses = this.misses.get();
+        long rows = 0;
+        List<Map<String, Object>> entries = new ArrayList<>();
+
+        for (Map.Entry<String, Entry> cached : this.entries.entrySet()) {
+
+            Entry entry = cached.getValue();
+            rows += entry.rows;
+
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("key", cached.getKey());
+            item.put("rows", entry.rows);
+            item.put("hits", entry.hits.get());
+            item.put("ageSeconds", (now - entry.createdAt) / 1000);
+            item.put("expiresInSeconds", (entry.expiresAt - now) / 1000);
+            entries.add(item);
+        }
+
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("hits", hits);
+        statistics.put("misses", misses);
+        statistics.put("hitRate", hits + misses == 0 ? 0 : (double) hits / (hits + misses));
+        statistics.put("evictions", this.evictions.get());
+        statistics.put("size", this.entries.size());
+        statistics.put("maxEntries", this.maxEntries);
+        statistics.put("rows", rows);
+        statistics.put("entries", entries);
+
+        return statistics;
+    }
+
+    private boolean isClosedRange(boolean dated, LocalDate endDate) {
+        return dated && endDate != null && endDate.isBefore(LocalDate.now());
+    }
+
+    private void evictAfterCommit(Runnable nextGeneration, Predicate<Entry> predicate) {
+
+        nextGeneration.run();
+        this.evict(predicate);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    nextGeneration.run();
+                    evict(predicate);
+                }
+            });
+        }
+    }
+
+    private void evict(Predicate<Entry> predicate) {
+
+        int size = this.entries.size();
+
+        this.entries.values().removeIf(predicate);
+
+        this.evictions.addAndGet(Math.max(0, size - this.entries.size()));
+    }
+
+    private void evictOldest() {
+
+        String oldestKey = null;
+        long oldest = Long.MAX_VALUE;
+
+        for (Map.Entry<String, Entry> cached : this.entries.entrySet()) {
+            if (cached.getValue().createdAt < oldest) {
+                oldest = cached.getValue().createdAt;
+                oldestKey = cached.getKey();
+            }
+        }
+
+        if (oldestKey != null && this.entries.remove(oldestKey) != null) {
+            this.evictions.incrementAndGet();
+        }
+    }
+
+    private static class Generation {
+
+        private final AtomicLong all = new AtomicLong();
+        private final AtomicLong openRanges = new AtomicLong();
+
+        private long get(boolean closedRange) {
+            return closedRange ? this.all.get() : this.all.get() + this.openRanges.get();
+        }
+    }
+
+    private static class Entry {
+
+        private final ReportTypeEnum reportType;
+        private final Integer scopeId;
+        private final LocalDate endDate;
+        private final Object value;
+        private final int rows;
+        private final long createdAt;
+        private final long expiresAt;
+        private final AtomicLong hits = new AtomicLong();
+
+        private Entry(ReportTypeEnum reportType, Integer scopeId, LocalDate endDate, boolean dated, Object value,
+                long createdAt, long expiresAt) {
+            this.reportType = reportType;
+            this.scopeId = scopeId;
+            this.endDate = dated ? endDate : null;
+            this.value = value;
+            this.rows = value == null ? 0
+                    : value instanceof Collection ? ((Collection<?>) value).size()
+                    : value instanceof ReportPageDTO ? ((ReportPageDTO) value).getItems().size() : 1;
+            this.createdAt = createdAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
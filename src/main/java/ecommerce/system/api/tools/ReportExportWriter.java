@@ -0,0 +1,100 @@
+package ecommerce.system.api.tools;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ecommerce.system.api.enums.ReportExportFormatEnum;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+public class ReportExportWriter implements Closeable {
+
+    private final ObjectMapper objectMapper;
+    private final ReportExportFormatEnum format;
+    private final Writer writer;
+    private boolean headerWritten;
+    private long rows;
+
+    public ReportExportWriter(ObjectMapper objectMapper, ReportExportFormatEnum format, OutputStream outputStream,
+            boolean gzip, int bufferSize) throws IOException {
+        this.objectMapper = objectMapper;
+        this.format = format;
+        this.writer = new BufferedWriter(new OutputStreamWriter(
+                gzip ? new GZIPOutputStream(outputStream, bufferSize) : outputStream, StandardCharsets.UTF_8),
+                bufferSize);
+    }
+
+    public void write(Object row) {
+
+        try {
+
+            if (this.format == ReportExportFormatEnum.NDJSON) {
+                this.writer.write(this.objectMapper.writeValueAsString(row));
+                this.writer.write('\n');
+
+            } else {
+                this.writeCsv(this.objectMapper.valueToTree(row));
+            }
+
+            this.rows++;
+
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.writer.close();
+    }
+
+    private void writeCsv(JsonNode row) throws IOException {
+
+        if (!this.headerWritten) {
+
+            Iterator<String> names = row.fieldNames();
+
+            while (names.hasNext()) {
+                this.writer.write(this.escapeCsv(names.next()));
+                this.writer.write(names.hasNext() ? "," : "\r\n");
+            }
+
+            this.headerWritten = true;
+        }
+
+        Iterator<Map.Entry<String, JsonNode>> fields = row.fields();
+
+        while (fields.hasNext()) {
+
+            JsonNode value = fields.next().getValue();
+
+            if (!value.isNull()) {
+                this.writer.write(this.escapeCsv(value.asText()));
+            }
+
+            this.writer.write(fields.hasNext() ? "," : "\r\n");
+        }
+    }
+
+    private String escapeCsv(String value) {
+
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
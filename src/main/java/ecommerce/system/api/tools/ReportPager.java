@@ -0,0 +1,384 @@
+package ecommerce.system.api.tools;
+
+import ecommerce.system.api.dto.ReportPageDTO;
+import ecommerce.system.api.dto.ReportPageRequestDTO;
+import ecommerce.system.api.enums.ReportTypeEnum;
+import ecommerce.system.api.exceptions.InvalidOperationException;
+import ecommerce.system.api.models.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+public class ReportPager {
+
+    private static final String ID_FIELD = "id";
+
+    private final Map<ReportTypeEnum, Spec> specs = new EnumMap<>(ReportTypeEnum.class);
+
+    @Value("${application.reports.page.default-limit:100}")
+    private int defaultLimit;
+
+    @Value("${application.reports.page.max-limit:1000}")
+    private int maxLimit;
+
+    public ReportPager() {
+        this.register(ReportTypeEnum.ORDERS, OrdersByStoreReport.class, "storeId", "storeId");
+        this.register(ReportTypeEnum.PRODUCTS, ProductsByStoreReport.class, "storeId", "storeId");
+        this.register(ReportTypeEnum.STORE_CASH_FLOW, StoreCashFlowByOrderReport.class, "storeId", "timestamp");
+        this.register(ReportTypeEnum.STORE_CASH_FLOW_REVENUE, StoreCashFlowRevenueReport.class, "storeId", "storeId");
+        this.register(ReportTypeEnum.STORES_BY_USER, StoresByUserReport.class, "userId", "userId");
+        this.register(ReportTypeEnum.SYSTEM_CASH_FLOW, SystemCashFlowByOrderReport.class, null, "timestamp");
+        this.register(ReportTypeEnum.SYSTEM_CASH_FLOW_REVENUE, SystemCashFlowRevenueReport.class, null, "timestamp");
+        this.register(ReportTypeEnum.USERS_COUNT, UsersCountReport.class, null, ID_FIELD);
+        this.register(ReportTypeEnum.STORES_COUNT, StoresCountReport.class, null, ID_FIELD);
+    }
+
+    public Spec getSpec(ReportTypeEnum reportType) {
+        return this.specs.get(reportType);
+    }
+
+    public void validate(ReportTypeEnum reportType, ReportPageRequestDTO page) throws InvalidOperationException {
+
+        Spec spec = this.specs.get(reportType);
+
+        if (spec == null) {
+            throw new InvalidOperationException("Relatório não suporta paginação!");
+        }
+
+        if (page.getLimit() == null) {
+            page.setLimit(this.defaultLimit);
+        }
+
+        if (page.getLimit() <= 0 || page.getLimit() > this.maxLimit) {
+            throw new InvalidOperationException("O limite deve estar entre 1 e " + this.maxLimit + "!");
+        }
+
+        if (page.getSort() == null || page.getSort().isEmpty()) {
+            page.setSort(spec.defaultSort);
+        }
+
+        if (!spec.fields.containsKey(page.getSortField())) {
+            throw new InvalidOperationException("Campo de ordenação inválido: " + page.getSortField());
+        }
+
+        if (page.isProjected()) {
+            for (String field : page.getFields()) {
+                if (!spec.fields.containsKey(field)) {
+                    throw new InvalidOperationException("Campo inválido: " + field);
+                }
+            }
+        }
+
+        if (page.getCursor() != null && this.decodeCursor(spec, page) == null) {
+            throw new InvalidOperationException("Cursor inválido!");
+        }
+    }
+
+    public Object[] decodeCursor(Spec spec, ReportPageRequestDTO page) {
+
+        if (page.getCursor() == null) {
+            return null;
+        }
+
+        try {
+
+            String cursor = new String(Base64.getUrlDecoder().decode(page.getCursor()), StandardCharsets.UTF_8);
+            int sortEnd = cursor.indexOf('|');
+            int valueEnd = cursor.lastIndexOf('|');
+
+            if (sortEnd < 0 || valueEnd <= sortEnd || !cursor.substring(0, sortEnd).equals(page.getSort())) {
+                return null;
+            }
+
+            return new Object[] {
+                    this.parse(spec.fields.get(page.getSortField()).getType(), cursor.substring(sortEnd + 1, valueEnd)),
+                    UUID.fromString(cursor.substring(valueEnd + 1)) };
+
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    public String encodeCursor(ReportPageRequestDTO page, Object sortValue, Object id) {
+
+        String cursor = page.getSort() + "|" + sortValue + "|" + id;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public List<String> getSelectedFields(ReportPageRequestDTO page) {
+
+        List<String> fields = new ArrayList<>(page.getFields());
+        fields.add(page.getSortField());
+        fields.add(ID_FIELD);
+
+        return fields;
+    }
+
+    public Map<String, Object> project(Spec spec, List<String> fields, Object[] row) {
+
+        Map<String, Object> item = new LinkedHashMap<>();
+
+        for (int i = 0; i < fields.size(); i++) {
+
+            Object value = row[i];
+
+            if (value != null && spec.isMoney(fields.get(i))) {
+                value = Money.toBigDecimal(((Number) value).longValue());
+            }
+
+            item.put(fields.get(i), value);
+        }
+
+        return item;
+    }
+
+    public ReportPageDTO toPage(Spec spec, ReportPageRequestDTO page, List<?> rows) {
+
+        if (rows == null || rows.isEmpty()) {
+            return null;
+        }
+
+        boolean hasMore = rows.size() > page.getLimit();
+        List<Object> items = new ArrayList<>();
+        Object[] last = null;
+
+        for (Object row : rows.subList(0, Math.min(rows.size(), page.getLimit()))) {
+
+            if (!page.isProjected()) {
+                items.add(row);
+                continue;
+            }
+
+            last = (Object[]) row;
+            items.add(this.project(spec, page.getFields(), last));
+        }
+
+        String nextCursor = null;
+
+        if (hasMore) {
+            nextCursor = !page.isProjected()
+                    ? this.encodeCursor(page, spec.getValue(items.get(items.size() - 1), page.getSortField()),
+                            spec.getValue(items.get(items.size() - 1), ID_FIELD))
+                    : this.encodeCursor(page, last[last.length - 2], last[last.length - 1]);
+        }
+
+        return new ReportPageDTO(items, page.getLimit(), page.getSort(), nextCursor);
+    }
+
+    public boolean isPartitionable(Spec spec, ReportPageRequestDTO page) {
+
+        // Text columns sort by the database collation, which a merge in memory cannot reproduce
+        return "storeId".equals(spec.scopeField) && spec.fields.get(page.getSortField()).getType() != String.class;
+    }
+
+    public List<Object> mergePartitions(Spec spec, ReportPageRequestDTO page, List<?> rows) {
+
+        // Each partition is ordered by the database, which compares the ids as text
+        Comparator<Object[]> comparator = (a, b) -> {
+            int bySort = this.compareValues(a[0], b[0]);
+            return bySort != 0 ? bySort : a[1].toString().compareTo(b[1].toString());
+        };
+
+        if (page.isDescending()) {
+            comparator = comparator.reversed();
+        }
+
+        List<Object[]> keyed = new ArrayList<>(rows.size());
+
+        for (Object row : rows) {
+
+            if (page.isProjected()) {
+                Object[] values = (Object[]) row;
+                keyed.add(new Object[] { values[values.length - 2], values[values.length - 1], row });
+            } else {
+                keyed.add(new Object[] { spec.getValue(row, page.getSortField()), spec.getValue(row, ID_FIELD), row });
+            }
+        }
+
+        keyed.sort(comparator);
+
+        List<Object> merged = new ArrayList<>();
+
+        for (Object[] key : keyed.subList(0, Math.min(keyed.size(), page.getLimit() + 1))) {
+            merged.add(key[2]);
+        }
+
+        return merged;
+    }
+
+    public ReportPageDTO page(Spec spec, List<?> rows, ReportPageRequestDTO page) {
+
+        if (rows == null || rows.isEmpty()) {
+            return null;
+        }
+
+        String sortField = page.getSortField();
+        Comparator<Object[]> comparator = (a, b) -> {
+            int bySort = this.compareValues(a[0], b[0]);
+            return bySort != 0 ? bySort : this.compareValues(a[1], b[1]);
+        };
+
+        if (page.isDescending()) {
+            comparator = comparator.reversed();
+        }
+
+        List<Object[]> keyed = new ArrayList<>(rows.size());
+
+        for (Object row : rows) {
+            keyed.add(new Object[] { spec.getValue(row, sortField), spec.getValue(row, ID_FIELD), row });
+        }
+
+        keyed.sort(comparator);
+
+        Object[] cursor = this.decodeCursor(spec, page);
+        List<Object> items = new ArrayList<>();
+        Object[] last = null;
+        boolean hasMore = false;
+
+        for (Object[] key : keyed) {
+
+            if (cursor != null && comparator.compare(key, cursor) <= 0) {
+                continue;
+            }
+
+            if (items.size() == page.getLimit()) {
+                hasMore = true;
+                break;
+            }
+
+            items.add(page.isProjected()
+                    ? this.project(spec, page.getFields(), spec.getValues(key[2], page.getFields()))
+                    : key[2]);
+            last = key;
+        }
+
+        if (items.isEmpty()) {
+            return null;
+        }
+
+        return new ReportPageDTO(items, page.getLimit(), page.getSort(),
+                hasMore ? this.encodeCursor(page, last[0], last[1]) : null);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private int compareValues(Object a, Object b) {
+
+        if (a == null || b == null) {
+            return a == null ? (b == null ? 0 : -1) : 1;
+        }
+
+        return ((Comparable) a).compareTo(b);
+    }
+
+    private Object parse(Class<?> type, String value) {
+
+        if (type == int.class || type == Integer.class) {
+            return Integer.valueOf(value);
+        }
+
+        if (type == long.class || type == Long.class) {
+            return Long.valueOf(value);
+        }
+
+        if (type == double.class || type == Double.class) {
+            return Double.valueOf(value);
+        }
+
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.parse(value);
+        }
+
+        if (type == LocalDate.class) {
+            return LocalDate.parse(value);
+        }
+
+        if (type == UUID.class) {
+            return UUID.fromString(value);
+        }
+
+        return value;
+    }
+
+    private void register(ReportTypeEnum reportType, Class<?> entityClass, String scopeField, String defaultSort) {
+
+        Map<String, Field> fields = new LinkedHashMap<>();
+
+        for (Field field : entityClass.getDeclaredFields()) {
+            if (field.isAnnotationPresent(Column.class)) {
+                field.setAccessible(true);
+                fields.put(field.getName(), field);
+            }
+        }
+
+        this.specs.put(reportType, new Spec(entityClass, scopeField, defaultSort, fields));
+    }
+
+    public static class Spec {
+
+        private final Class<?> entityClass;
+        private final String entityName;
+        private final String scopeField;
+        private final String defaultSort;
+        private final Map<String, Field> fields;
+
+        private Spec(Class<?> entityClass, String scopeField, String defaultSort, Map<String, Field> fields) {
+            this.entityClass = entityClass;
+            this.entityName = entityClass.getAnnotation(javax.persistence.Entity.class).name();
+            this.scopeField = scopeField;
+            this.defaultSort = defaultSort;
+            this.fields = fields;
+        }
+
+        public Class<?> getEntityClass() {
+            return entityClass;
+        }
+
+        public String getEntityName() {
+            return entityName;
+        }
+
+        public String getScopeField() {
+            return scopeField;
+        }
+
+        public boolean isMoney(String field) {
+            Convert convert = this.fields.get(field).getAnnotation(Convert.class);
+            return convert != null && convert.converter() == MoneyConverter.class;
+        }
+
+        public Object getValue(Object row, String field) {
+            try {
+                return this.fields.get(field).get(row);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private Object[] getValues(Object row, List<String> fields) {
+
+            Object[] values = new Object[fields.size()];
+
+            for (int i = 0; i < fields.size(); i++) {
+                values[i] = this.getValue(row, fields.get(i));
+            }
+
+            return values;
+        }
+    }
+}
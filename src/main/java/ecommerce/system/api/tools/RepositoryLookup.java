@@ -0,0 +1,62 @@
+package ecommerce.system.api.tools;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.TypedQuery;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class RepositoryLookup {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final LogLevel missLogLevel;
+
+    public RepositoryLookup(@Value("${application.repositories.miss-log-level:DEBUG}") String missLogLevel) {
+        this.missLogLevel = LogLevel.valueOf(missLogLevel.toUpperCase());
+    }
+
+    public <T> Optional<T> findFirst(TypedQuery<T> query, String description) {
+
+        List<T> rows = query.setMaxResults(1).getResultList();
+
+        if (rows.isEmpty()) {
+
+            this.logMiss(description);
+
+            return Optional.empty();
+        }
+
+        return Optional.of(rows.get(0));
+    }
+
+    public void logMiss(String description) {
+
+        String message = "No " + description + " found";
+
+        switch (this.missLogLevel) {
+            case TRACE:
+                logger.trace(message);
+                break;
+            case DEBUG:
+                logger.debug(message);
+                break;
+            case INFO:
+                logger.info(message);
+                break;
+            case WARN:
+                logger.warn(message);
+                break;
+            case ERROR:
+            case FATAL:
+                logger.error(message);
+                break;
+            default:
+                break;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package ecommerce.system.api.tools;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class RequestQueryContext {
+
+    private static final ThreadLocal<RequestQueryContext> CURRENT = new ThreadLocal<>();
+    private static final int MAX_DISTINCT_STATEMENTS = 100;
+
+    private final String method;
+    private final String path;
+    private final int statementBudget;
+    private final Map<String, Integer> statementCounts = new HashMap<>();
+    private String uri;
+    private int repositoryCalls;
+    private int statements;
+
+    private RequestQueryContext(String method, String path, int statementBudget) {
+        this.method = method;
+        this.path = path;
+        this.statementBudget = statementBudget;
+    }
+
+    public static RequestQueryContext begin(String method, String path, int statementBudget) {
+
+        RequestQueryContext context = new RequestQueryContext(method, path, statementBudget);
+        CURRENT.set(context);
+
+        return context;
+    }
+
+    public static RequestQueryContext current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public void recordRepositoryCall() {
+        this.repositoryCalls++;
+    }
+
+    public int recordStatement(String sql) {
+
+        if (this.statementCounts.size() < MAX_DISTINCT_STATEMENTS || this.statementCounts.containsKey(sql)) {
+            this.statementCounts.merge(sql, 1, Integer::sum);
+        }
+
+        return ++this.statements;
+    }
+
+    public boolean isOverBudget() {
+        return this.statementBudget > 0 && this.statements > this.statementBudget;
+    }
+
+    public Map.Entry<String, Integer> getMostRepeatedStatement() {
+
+        Map.Entry<String, Integer> mostRepeated = null;
+
+        for (Map.Entry<String, Integer> entry : this.statementCounts.entrySet()) {
+            if (mostRepeated == null || entry.getValue() > mostRepeated.getValue()) {
+                mostRepeated = entry;
+            }
+        }
+
+        return mostRepeated;
+    }
+
+    public String getEndpoint() {
+        return this.method + " " + (this.uri == null ? this.path : this.uri);
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public void setUri(String uri) {
+        this.uri = uri;
+    }
+
+    public int getStatementBudget() {
+        return statementBudget;
+    }
+
+    public int getRepositoryCalls() {
+        return repositoryCalls;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+}
@@ -0,0 +1,128 @@
+package ecommerce.system.api.tools;
+
+import org.springframework.util.StringUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class RouteTrie<T> {
+
+    private static final String ANY_METHOD = "*";
+    private static final String WILDCARD = "*";
+    private static final String CATCH_ALL = "**";
+
+    private final Node<T> root = new Node<>();
+    private int size;
+
+    public void add(String method, String pattern, T value) {
+
+        String[] segments = split(pattern);
+        Node<T> node = this.root;
+
+        for (int i = 0; i < segments.length; i++) {
+
+            String segment = segments[i];
+
+            if (CATCH_ALL.equals(segment)) {
+
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**' must be the last segment of route " + pattern);
+                }
+
+                node.catchAll = this.put(node.catchAll, method, pattern, value);
+
+                return;
+            }
+
+            if (segment.contains(WILDCARD) && !WILDCARD.equals(segment)) {
+                throw new IllegalArgumentException("Partial wildcards are not supported in route " + pattern);
+            }
+
+            if (WILDCARD.equals(segment)) {
+
+                if (node.wildcard == null) {
+                    node.wildcard = new Node<>();
+                }
+
+                node = node.wildcard;
+
+            } else {
+                node = node.children.computeIfAbsent(segment, key -> new Node<>());
+            }
+        }
+
+        node.exact = this.put(node.exact, method, pattern, value);
+    }
+
+    public T find(String method, String path) {
+
+        return this.find(this.root, split(path), 0, method);
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    private T find(Node<T> node, String[] segments, int index, String method) {
+
+        if (index == segments.length) {
+
+            T value = select(node.exact, method);
+
+            return value != null ? value : select(node.catchAll, method);
+        }
+
+        T value = null;
+        Node<T> child = node.children.get(segments[index]);
+
+        if (child != null) {
+            value = this.find(child, segments, index + 1, method);
+        }
+
+        if (value == null && node.wildcard != null) {
+            value = this.find(node.wildcard, segments, index + 1, method);
+        }
+
+        return value != null ? value : select(node.catchAll, method);
+    }
+
+    private Map<String, T> put(Map<String, T> values, String method, String pattern, T value) {
+
+        if (values == null) {
+            values = new HashMap<>(4);
+        }
+
+        String key = method == null ? ANY_METHOD : method.toUpperCase();
+
+        if (values.putIfAbsent(key, value) != null) {
+            throw new IllegalStateException("Duplicated route " + key + " " + pattern);
+        }
+
+        this.size++;
+
+        return values;
+    }
+
+    private static <T> T select(Map<String, T> values, String method) {
+
+        if (values == null) {
+            return null;
+        }
+
+        T value = method == null ? null : values.get(method);
+
+        return value != null ? value : values.get(ANY_METHOD);
+    }
+
+    private static String[] split(String path) {
+
+        return StringUtils.tokenizeToStringArray(path, "/");
+    }
+
+    private static class Node<T> {
+        private final Map<String, Node<T>> children = new HashMap<>(4);
+        private Node<T> wildcard;
+        private Map<String, T> exact;
+        private Map<String, T> catchAll;
+    }
+}
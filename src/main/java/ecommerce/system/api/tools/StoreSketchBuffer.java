@@ -0,0 +1,125 @@
+package ecommerce.system.api.tools;
+
+import ecommerce.system.api.enums.StoreMetricEnum;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+@Component
+public class StoreSketchBuffer {
+
+    private Map<Key, HyperLogLog> pending = new HashMap<>();
+
+    public void record(int storeId, LocalDate day, int customerId, Collection<Integer> productIds) {
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(storeId, day, customerId, productIds);
+                }
+            });
+
+            return;
+        }
+
+        this.apply(storeId, day, customerId, productIds);
+    }
+
+    public synchronized Map<Key, HyperLogLog> drain() {
+
+        Map<Key, HyperLogLog> drained = this.pending;
+        this.pending = new HashMap<>();
+
+        return drained;
+    }
+
+    public synchronized void restore(Map<Key, HyperLogLog> sketches) {
+
+        for (Map.Entry<Key, HyperLogLog> entry : sketches.entrySet()) {
+            this.pending.computeIfAbsent(entry.getKey(), (key) -> new HyperLogLog()).merge(entry.getValue());
+        }
+    }
+
+    public synchronized void mergeInto(int storeId, StoreMetricEnum metric, LocalDate startDate, LocalDate endDate,
+            HyperLogLog target) {
+
+        for (Map.Entry<Key, HyperLogLog> entry : this.pending.entrySet()) {
+
+            Key key = entry.getKey();
+
+            if (key.storeId == storeId && key.metric == metric && !key.day.isBefore(startDate)
+                    && !key.day.isAfter(endDate)) {
+                target.merge(entry.getValue());
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return this.pending.size();
+    }
+
+    private synchronized void apply(int storeId, LocalDate day, int customerId, Collection<Integer> productIds) {
+
+        this.pending.computeIfAbsent(new Key(storeId, StoreMetricEnum.DISTINCT_CUSTOMERS, day),
+                (key) -> new HyperLogLog()).add(customerId);
+
+        HyperLogLog products = this.pending.computeIfAbsent(new Key(storeId, StoreMetricEnum.DISTINCT_PRODUCTS, day),
+                (key) -> new HyperLogLog());
+
+        for (int productId : productIds) {
+            products.add(productId);
+        }
+    }
+
+    public static class Key {
+
+        private final int storeId;
+        private final StoreMetricEnum metric;
+        private final LocalDate day;
+
+        public Key(int storeId, StoreMetricEnum metric, LocalDate day) {
+            this.storeId = storeId;
+            this.metric = metric;
+            this.day = day;
+        }
+
+        public int getStoreId() {
+            return storeId;
+        }
+
+        public StoreMetricEnum getMetric() {
+            return metric;
+        }
+
+        public LocalDate getDay() {
+            return day;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) o;
+
+            return this.storeId == key.storeId && this.metric == key.metric && this.day.equals(key.day);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.storeId, this.metric, this.day);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package ecommerce.system.api.tools;
+
+public class TokenBucket {
+
+    private static final double MILLIS_PER_MINUTE = 60000d;
+
+    private double tokens;
+    private long lastRefill;
+    private int capacity;
+    private int refillPerMinute;
+
+    public TokenBucket(double tokens, long lastRefill) {
+        this.tokens = tokens;
+        this.lastRefill = lastRefill;
+    }
+
+    public long tryConsume(int capacity, int refillPerMinute, long now) {
+
+        this.capacity = capacity;
+        this.refillPerMinute = refillPerMinute;
+
+        if (now > this.lastRefill) {
+            this.tokens = Math.min(capacity, this.tokens + (now - this.lastRefill) * refillPerMinute / MILLIS_PER_MINUTE);
+            this.lastRefill = now;
+        }
+
+        if (this.tokens >= 1) {
+            this.tokens -= 1;
+            return 0;
+        }
+
+        if (refillPerMinute <= 0) {
+            return (long) MILLIS_PER_MINUTE;
+        }
+
+        return (long) Math.ceil((1 - this.tokens) * MILLIS_PER_MINUTE / refillPerMinute);
+    }
+
+    public boolean isFull(long now) {
+
+        if (this.refillPerMinute <= 0) {
+            return false;
+        }
+
+        return this.tokens + (now - this.lastRefill) * this.refillPerMinute / MILLIS_PER_MINUTE >= this.capacity;
+    }
+
+    public double getTokens() {
+        return tokens;
+    }
+
+    public long getLastRefill() {
+        return lastRefill;
+    }
+}
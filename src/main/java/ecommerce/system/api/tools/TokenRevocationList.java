@@ -0,0 +1,163 @@
+package ecommerce.system.api.tools;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class TokenRevocationList {
+
+    private static final String TOKEN_PREFIX = "jti:";
+    private static final String USER_PREFIX = "user:";
+
+    private final int minimumCapacity;
+    private final double falsePositiveRate;
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder probableHits = new LongAdder();
+    private final LongAdder confirmedHits = new LongAdder();
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public TokenRevocationList(
+            @Value("${application.token-revocation.bloom-capacity:10000}") int minimumCapacity,
+            @Value("${application.token-revocation.bloom-false-positive-rate:0.01}") double falsePositiveRate) {
+        this.minimumCapacity = minimumCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+        this.snapshot = new Snapshot(new BloomFilter(minimumCapacity, falsePositiveRate));
+    }
+
+    public synchronized void revokeToken(String tokenId, long expiration) {
+
+        Snapshot current = this.snapshot;
+
+        current.revokedTokens.put(tokenId, expiration);
+        current.bloomFilter.add(TOKEN_PREFIX + tokenId);
+
+        this.growIfNeeded(current);
+    }
+
+    public synchronized void revokeUser(String subject, long notBefore) {
+
+        Snapshot current = this.snapshot;
+
+        current.notBefore.merge(subject, notBefore, Math::max);
+        current.bloomFilter.add(USER_PREFIX + subject);
+
+        this.growIfNeeded(current);
+    }
+
+    public boolean isRevoked(String tokenId, String subject, long issuedAt) {
+
+        Snapshot current = this.snapshot;
+
+        this.lookups.increment();
+
+        if (tokenId != null && current.bloomFilter.mightContain(TOKEN_PREFIX + tokenId)) {
+
+            this.probableHits.increment();
+
+            if (current.revokedTokens.containsKey(tokenId)) {
+                this.confirmedHits.increment();
+                return true;
+            }
+        }
+
+        if (subject != null && current.bloomFilter.mightContain(USER_PREFIX + subject)) {
+
+            this.probableHits.increment();
+
+            Long notBefore = current.notBefore.get(subject);
+
+            if (notBefore != null && issuedAt < notBefore) {
+                this.confirmedHits.increment();
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public synchronized void rebuild(Map<String, Long> revokedTokens, Map<String, Long> notBefore) {
+
+        Snapshot rebuilt = new Snapshot(new BloomFilter(
+                Math.max(this.minimumCapacity, 2 * (revokedTokens.size() + notBefore.size())), this.falsePositiveRate));
+
+        for (Map.Entry<String, Long> entry : revokedTokens.entrySet()) {
+            rebuilt.revokedTokens.put(entry.getKey(), entry.getValue());
+            rebuilt.bloomFilter.add(TOKEN_PREFIX + entry.getKey());
+        }
+
+        for (Map.Entry<String, Long> entry : notBefore.entrySet()) {
+            rebuilt.notBefore.put(entry.getKey(), entry.getValue());
+            rebuilt.bloomFilter.add(USER_PREFIX + entry.getKey());
+        }
+
+        Snapshot previous = this.snapshot;
+        this.snapshot = rebuilt;
+
+        for (Map.Entry<String, Long> entry : previous.revokedTokens.entrySet()) {
+            if (!rebuilt.revokedTokens.containsKey(entry.getKey())) {
+                this.revokeToken(entry.getKey(), entry.getValue());
+            }
+        }
+
+        for (Map.Entry<String, Long> entry : previous.notBefore.entrySet()) {
+
+            Long loaded = rebuilt.notBefore.get(entry.getKey());
+
+            if (loaded == null || loaded < entry.getValue()) {
+                this.revokeUser(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    public synchronized void purge(long now, long notBeforeCutoff) {
+
+        Snapshot current = this.snapshot;
+
+        current.revokedTokens.values().removeIf(expiration -> expiration < now);
+        current.notBefore.values().removeIf(notBefore -> notBefore < notBeforeCutoff);
+
+        this.rebuild(new LinkedHashMap<>(current.revokedTokens), new LinkedHashMap<>(current.notBefore));
+    }
+
+    public Map<String, Object> getStatus() {
+
+        Snapshot current = this.snapshot;
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("revokedTokens", current.revokedTokens.size());
+        status.put("revokedUsers", current.notBefore.size());
+        status.put("bloomCapacity", current.bloomFilter.getExpectedInsertions());
+        status.put("bloomBits", current.bloomFilter.getBitCount());
+        status.put("bloomHashes", current.bloomFilter.getHashCount());
+        status.put("lookups", this.lookups.sum());
+        status.put("probableHits", this.probableHits.sum());
+        status.put("confirmedHits", this.confirmedHits.sum());
+
+        return status;
+    }
+
+    private void growIfNeeded(Snapshot current) {
+
+        if (current.revokedTokens.size() + current.notBefore.size() > current.bloomFilter.getExpectedInsertions()) {
+            this.rebuild(new LinkedHashMap<>(current.revokedTokens), new LinkedHashMap<>(current.notBefore));
+        }
+    }
+
+    private static class Snapshot {
+        private final BloomFilter bloomFilter;
+        private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+        private final Map<String, Long> notBefore = new ConcurrentHashMap<>();
+
+        private Snapshot(BloomFilter bloomFilter) {
+            this.bloomFilter = bloomFilter;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package ecommerce.system.api.tools;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+public class TopKCounter {
+
+    private final int capacity;
+    private final Map<Integer, Long> counts = new HashMap<>();
+    private final TreeSet<Integer> top;
+
+    public TopKCounter(int capacity) {
+        this.capacity = capacity;
+        this.top = new TreeSet<>(Comparator
+                .comparing((Integer id) -> this.counts.getOrDefault(id, 0L)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+    }
+
+    public synchronized void add(int id, long delta) {
+
+        if (delta <= 0) {
+            return;
+        }
+
+        boolean inTop = this.top.remove(id);
+
+        this.counts.merge(id, delta, Long::sum);
+
+        if (inTop || this.top.size() < this.capacity) {
+            this.top.add(id);
+            return;
+        }
+
+        this.top.add(id);
+
+        if (this.top.size() > this.capacity) {
+            this.top.pollLast();
+        }
+    }
+
+    public synchronized List<long[]> getTop(int limit) {
+
+        List<long[]> result = new ArrayList<>(Math.min(limit, this.top.size()));
+        Iterator<Integer> ids = this.top.iterator();
+
+        while (ids.hasNext() && result.size() < limit) {
+            int id = ids.next();
+            result.add(new long[] { id, this.counts.get(id) });
+        }
+
+        return result;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
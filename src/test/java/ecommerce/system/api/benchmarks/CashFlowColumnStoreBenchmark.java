@@ -0,0 +1,79 @@
+package ecommerce.system.api.benchmarks;
+
+import ecommerce.system.api.dto.CashFlowAggregateDTO;
+import ecommerce.system.api.enums.CashFlowLedgerEnum;
+import ecommerce.system.api.enums.ReportPeriodEnum;
+import ecommerce.system.api.tools.CashFlowColumnStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CashFlowColumnStoreBenchmark {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2018, 1, 1);
+
+    @Param({ "1000000", "5000000" })
+    private int rows;
+
+    private CashFlowColumnStore columnStore;
+
+    @Setup
+    public void setUp() {
+
+        Random random = new Random(42);
+        this.columnStore = new CashFlowColumnStore(0, 65536);
+
+        for (int i = 0; i < this.rows; i++) {
+            this.columnStore.append(CashFlowLedgerEnum.STORE, random.nextInt(500) + 1, i + 1,
+                    FIRST_DAY.plusDays(i * 1095L / this.rows), random.nextInt(100000) + 100);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.columnStore.shutdown();
+    }
+
+    @Benchmark
+    public List<CashFlowAggregateDTO> revenueByStoreAndWeek() {
+        return this.columnStore.aggregate(CashFlowLedgerEnum.STORE, null, null, null, true, ReportPeriodEnum.WEEK);
+    }
+
+    @Benchmark
+    public List<CashFlowAggregateDTO> revenueByMonthForOneStore() {
+        return this.columnStore.aggregate(CashFlowLedgerEnum.STORE, 42, null, null, false, ReportPeriodEnum.MONTH);
+    }
+
+    @Benchmark
+    public List<CashFlowAggregateDTO> totalRevenueForOneYear() {
+        return this.columnStore.aggregate(CashFlowLedgerEnum.STORE, null, LocalDate.of(2019, 1, 1),
+                LocalDate.of(2019, 12, 31), false, null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CashFlowColumnStoreBenchmark.class.getSimpleName()).build()).run();
+    }
+}
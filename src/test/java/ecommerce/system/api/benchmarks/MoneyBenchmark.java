@@ -0,0 +1,107 @@
+package ecommerce.system.api.benchmarks;
+
+import ecommerce.system.api.tools.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private static final BigDecimal COMMISSION_RATE = new BigDecimal("0.10");
+
+    @Param({ "5", "50" })
+    private int items;
+
+    private long[] centPrices;
+    private double[] doublePrices;
+    private BigDecimal[] decimalPrices;
+    private int[] quantities;
+
+    @Setup
+    public void setup() {
+
+        Random random = new Random(42);
+
+        this.centPrices = new long[this.items];
+        this.doublePrices = new double[this.items];
+        this.decimalPrices = new BigDecimal[this.items];
+        this.quantities = new int[this.items];
+
+        for (int i = 0; i < this.items; i++) {
+            long cents = 100 + random.nextInt(100000);
+
+            this.centPrices[i] = cents;
+            this.doublePrices[i] = cents / 100.0;
+            this.decimalPrices[i] = BigDecimal.valueOf(cents, 2);
+            this.quantities[i] = 1 + random.nextInt(5);
+        }
+    }
+
+    @Benchmark
+    public double checkoutWithDouble() {
+
+        double total = 10.00;
+
+        for (int i = 0; i < this.items; i++) {
+            total += this.doublePrices[i] * this.quantities[i];
+        }
+
+        double commission = total * 0.10;
+
+        return total - commission;
+    }
+
+    @Benchmark
+    public BigDecimal checkoutWithBigDecimal() {
+
+        BigDecimal total = BigDecimal.TEN;
+
+        for (int i = 0; i < this.items; i++) {
+            total = total.add(this.decimalPrices[i].multiply(BigDecimal.valueOf(this.quantities[i])));
+        }
+
+        BigDecimal commission = total.multiply(COMMISSION_RATE).setScale(2, RoundingMode.HALF_EVEN);
+
+        return total.subtract(commission);
+    }
+
+    @Benchmark
+    public long checkoutWithMoney() {
+
+        long total = Money.ofUnits(10);
+
+        for (int i = 0; i < this.items; i++) {
+            total = Money.add(total, Money.multiply(this.centPrices[i], this.quantities[i]));
+        }
+
+        long commission = Money.percentage(total, 1000, RoundingMode.HALF_EVEN);
+
+        return Money.subtract(total, commission);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MoneyBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,126 @@
+package ecommerce.system.api.benchmarks;
+
+import ecommerce.system.api.dto.ReportPageDTO;
+import ecommerce.system.api.dto.ReportPageRequestDTO;
+import ecommerce.system.api.enums.ReportTypeEnum;
+import ecommerce.system.api.models.StoreCashFlowRevenueReport;
+import ecommerce.system.api.tools.PartitionedReportExecutor;
+import ecommerce.system.api.tools.ReportPager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PartitionedReportExecutorBenchmark {
+
+    private static final long QUERY_LATENCY_NANOS = 500_000;
+    private static final long ROW_COST_NANOS = 2_000;
+    private static final int ROWS_PER_STORE = 4;
+
+    @Param({ "1000", "10000" })
+    private int stores;
+
+    @Param({ "4", "10" })
+    private int connections;
+
+    @Param({ "100" })
+    private int limit;
+
+    private PartitionedReportExecutor executor;
+    private ReportPager reportPager;
+    private ReportPager.Spec spec;
+    private ReportPageRequestDTO page;
+    private List<StoreCashFlowRevenueReport> rows;
+
+    @Setup
+    public void setUp() {
+
+        this.executor = new PartitionedReportExecutor(this.connections, this.connections, 250);
+        this.reportPager = new ReportPager();
+        this.spec = this.reportPager.getSpec(ReportTypeEnum.STORE_CASH_FLOW_REVENUE);
+        this.page = new ReportPageRequestDTO(this.limit, null, "-revenue", null);
+        this.rows = new ArrayList<>();
+
+        LocalDateTime timestamp = LocalDateTime.of(2020, 5, 1, 0, 0);
+
+        for (int storeId = 1; storeId <= this.stores; storeId++) {
+            for (int i = 0; i < ROWS_PER_STORE; i++) {
+                this.rows.add(new StoreCashFlowRevenueReport(UUID.randomUUID(), storeId, storeId * 31L % 977 * 100 + i,
+                        timestamp.plusDays(i)));
+            }
+        }
+
+        // Same order the database returns for "-revenue": revenue, then id as text, both descending
+        this.rows.sort(Comparator.comparingLong(StoreCashFlowRevenueReport::getRevenue)
+                .thenComparing((row) -> row.getId().toString())
+                .reversed());
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.executor.shutdown();
+    }
+
+    @Benchmark
+    public ReportPageDTO serial() {
+        return this.reportPager.toPage(this.spec, this.page, this.query(1, this.stores + 1));
+    }
+
+    @Benchmark
+    public ReportPageDTO parallel() {
+
+        List<Object> partitions = this.executor.execute(1, this.stores, this::query);
+
+        return this.reportPager.toPage(this.spec, this.page,
+                this.reportPager.mergePartitions(this.spec, this.page, partitions));
+    }
+
+    private List<Object> query(int fromStoreId, int toStoreId) {
+
+        LockSupport.parkNanos(QUERY_LATENCY_NANOS + ROW_COST_NANOS * ROWS_PER_STORE * (toStoreId - fromStoreId));
+
+        List<Object> page = new ArrayList<>(this.limit + 1);
+
+        for (StoreCashFlowRevenueReport row : this.rows) {
+
+            if (row.getStoreId() >= fromStoreId && row.getStoreId() < toStoreId) {
+                page.add(row);
+            }
+
+            if (page.size() > this.limit) {
+                break;
+            }
+        }
+
+        return page;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PartitionedReportExecutorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
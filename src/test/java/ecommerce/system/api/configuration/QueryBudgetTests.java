@@ -0,0 +1,65 @@
+package ecommerce.system.api.configuration;
+
+import ecommerce.system.api.enums.QueryBudgetModeEnum;
+import ecommerce.system.api.exceptions.QueryBudgetExceededException;
+import ecommerce.system.api.tools.QueryBudgetGuard;
+import ecommerce.system.api.tools.RequestQueryContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ExtendWith(QueryCountExtension.class)
+class QueryBudgetTests {
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Test
+	@MaxQueries(2)
+	void paymentMethodsStayWithinBudget(QueryCounts counts) throws Exception {
+
+		this.mockMvc.perform(get("/paymentmethods/all"));
+
+		counts.assertAtMost("GET /paymentmethods/all", 1);
+		counts.assertWithinBudget();
+	}
+
+	@Test
+	void productTypesAreServedFromTheQueryCache(QueryCounts counts) throws Exception {
+
+		this.mockMvc.perform(get("/products/type/all"));
+		counts.reset();
+
+		this.mockMvc.perform(get("/products/type/all"));
+
+		assertEquals(0, counts.getStatements("GET /products/type/all"));
+	}
+
+	@Test
+	void failModeRejectsStatementsOverBudget() {
+
+		QueryBudgetGuard guard = new QueryBudgetGuard(QueryBudgetModeEnum.FAIL, 2, Collections.emptyList());
+
+		RequestQueryContext.begin("GET", "/products/all", guard.getBudget("GET", "/products/all"));
+
+		try {
+			guard.inspect("select 1");
+			guard.inspect("select 1");
+
+			assertThrows(QueryBudgetExceededException.class, () -> guard.inspect("select 1"));
+		} finally {
+			RequestQueryContext.end();
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package ecommerce.system.api.configuration;
+
+import ecommerce.system.api.tools.QueryBudgetGuard;
+import ecommerce.system.api.tools.RequestQueryContext;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.function.Consumer;
+
+public class QueryCountExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
+
+	private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace
+			.create(QueryCountExtension.class);
+
+	@Override
+	public void beforeEach(ExtensionContext context) {
+
+		QueryCounts counts = new QueryCounts();
+		Consumer<RequestQueryContext> listener = counts::record;
+
+		this.getGuard(context).addListener(listener);
+
+		context.getStore(NAMESPACE).put(QueryCounts.class, counts);
+		context.getStore(NAMESPACE).put(Consumer.class, listener);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void afterEach(ExtensionContext context) {
+
+		Consumer<RequestQueryContext> listener = context.getStore(NAMESPACE)
+				.remove(Consumer.class, Consumer.class);
+
+		this.getGuard(context).removeListener(listener);
+
+		MaxQueries maxQueries = context.getRequiredTestMethod().getAnnotation(MaxQueries.class);
+
+		if (maxQueries != null) {
+			context.getStore(NAMESPACE).get(QueryCounts.class, QueryCounts.class).assertAllAtMost(maxQueries.value());
+		}
+	}
+
+	@Override
+	public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+		return parameterContext.getParameter().getType() == QueryCounts.class;
+	}
+
+	@Override
+	public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+		return extensionContext.getStore(NAMESPACE).get(QueryCounts.class, QueryCounts.class);
+	}
+
+	private QueryBudgetGuard getGuard(ExtensionContext context) {
+		return SpringExtension.getApplicationContext(context).getBean(QueryBudgetGuard.class);
+	}
+}
@@ -0,0 +1,77 @@
+package ecommerce.system.api.configuration;
+
+import ecommerce.system.api.tools.RequestQueryContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QueryCounts {
+
+	private final List<RequestQueryContext> requests = Collections.synchronizedList(new ArrayList<>());
+
+	void record(RequestQueryContext context) {
+		this.requests.add(context);
+	}
+
+	public List<RequestQueryContext> getRequests(String endpoint) {
+
+		synchronized (this.requests) {
+			return this.requests.stream()
+					.filter(request -> request.getEndpoint().equals(endpoint))
+					.collect(Collectors.toList());
+		}
+	}
+
+	public int getStatements(String endpoint) {
+
+		List<RequestQueryContext> requests = this.getRequests(endpoint);
+
+		assertFalse(requests.isEmpty(), "No request recorded for " + endpoint + ", got " + this.getEndpoints());
+
+		return requests.get(requests.size() - 1).getStatements();
+	}
+
+	public void assertAtMost(String endpoint, int maxStatements) {
+
+		int statements = this.getStatements(endpoint);
+
+		assertTrue(statements <= maxStatements,
+				endpoint + " executed " + statements + " statements, expected at most " + maxStatements);
+	}
+
+	public void assertAllAtMost(int maxStatements) {
+
+		synchronized (this.requests) {
+			for (RequestQueryContext request : this.requests) {
+				assertTrue(request.getStatements() <= maxStatements, request.getEndpoint() + " executed "
+						+ request.getStatements() + " statements, expected at most " + maxStatements);
+			}
+		}
+	}
+
+	public void assertWithinBudget() {
+
+		synchronized (this.requests) {
+			for (RequestQueryContext request : this.requests) {
+				assertFalse(request.isOverBudget(), request.getEndpoint() + " executed " + request.getStatements()
+						+ " statements for a budget of " + request.getStatementBudget());
+			}
+		}
+	}
+
+	public void reset() {
+		this.requests.clear();
+	}
+
+	private List<String> getEndpoints() {
+
+		synchronized (this.requests) {
+			return this.requests.stream().map(RequestQueryContext::getEndpoint).collect(Collectors.toList());
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package ecommerce.system.api.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteAuthorizerTests {
+
+	private final RouteAuthorizer routeAuthorizer = new RouteAuthorizer();
+
+	@Test
+	void exactRouteWinsOverCatchAll() {
+
+		assertEquals("/reports/orders", this.routeAuthorizer.getRule("GET", "/reports/orders").getPattern());
+		assertEquals("/reports/orders/**", this.routeAuthorizer.getRule("GET", "/reports/orders/1").getPattern());
+		assertEquals("/reports/**", this.routeAuthorizer.getRule("GET", "/reports/analytics/orders").getPattern());
+	}
+
+	@Test
+	void catchAllMatchesItsOwnPrefix() {
+
+		assertEquals("/users/recover/password/**",
+				this.routeAuthorizer.getRule("PUT", "/users/recover/password").getPattern());
+		assertNull(this.routeAuthorizer.getRule("GET", "/unknown"));
+	}
+
+	@Test
+	void methodSpecificRouteOnlyMatchesItsMethod() {
+
+		assertTrue(this.routeAuthorizer.getRule("POST", "/users/create").isPermitAll());
+		assertEquals("/users/**", this.routeAuthorizer.getRule("GET", "/users/create").getPattern());
+	}
+
+	@Test
+	void checkAppliesRoles() {
+
+		Authentication storeAdmin = this.user("ROLE_store_admin");
+		Authentication anonymous = new AnonymousAuthenticationToken("key", "anonymous",
+				AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+
+		assertTrue(this.routeAuthorizer.check(storeAdmin, this.request("GET", "/reports/orders/1")));
+		assertFalse(this.routeAuthorizer.check(storeAdmin, this.request("GET", "/reports/orders")));
+		assertTrue(this.routeAuthorizer.check(anonymous, this.request("GET", "/products/1")));
+		assertFalse(this.routeAuthorizer.check(anonymous, this.request("GET", "/unknown")));
+		assertTrue(this.routeAuthorizer.check(storeAdmin, this.request("GET", "/unknown")));
+	}
+
+	private Authentication user(String authority) {
+
+		return new UsernamePasswordAuthenticationToken("user@mail.com", "",
+				AuthorityUtils.createAuthorityList(authority));
+	}
+
+	private MockHttpServletRequest request(String method, String path) {
+
+		MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+		request.setServletPath(path);
+
+		return request;
+	}
+}
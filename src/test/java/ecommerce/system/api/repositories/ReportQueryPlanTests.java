@@ -0,0 +1,77 @@
+package ecommerce.system.api.repositories;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class ReportQueryPlanTests {
+
+	private static final LocalDate START_DATE = LocalDate.of(2020, 5, 1);
+	private static final LocalDate END_DATE = LocalDate.of(2020, 5, 31);
+
+	@PersistenceContext
+	EntityManager entityManager;
+
+	@Test
+	void storeCashFlowByStoreAndDateRangeCanUseRangeIndex() {
+
+		Object[] plan = this.explain(
+				"SELECT * FROM tb_storeCashFlow s WHERE s.fk_storeId = 1 AND s.timestamp >= :startDate AND s.timestamp < :endDate");
+
+		this.assertPossibleKey("fk_tb_storeCashFlow_tb_store1_idx", plan);
+	}
+
+	@Test
+	void systemCashFlowByDateRangeCanUseRangeIndex() {
+
+		Object[] plan = this.explain(
+				"SELECT * FROM tb_systemCashFlow s WHERE s.timestamp >= :startDate AND s.timestamp < :endDate");
+
+		this.assertPossibleKey("tb_systemCashFlow_timestamp_idx", plan);
+	}
+
+	@Test
+	void storeCashFlowReportByStoreAndDateRangeCanUseRangeIndex() {
+
+		Object[] plan = this.explain(
+				"SELECT * FROM tb_reportStoreCashFlowByOrder s WHERE s.storeId = 1 AND s.timestamp >= :startDate AND s.timestamp < :endDate");
+
+		this.assertPossibleKey("tb_reportStoreCashFlowByOrder_storeId_timestamp_idx", plan);
+	}
+
+	@Test
+	void systemCashFlowReportByDateRangeCanUseRangeIndex() {
+
+		Object[] plan = this.explain(
+				"SELECT * FROM tb_reportSystemCashFlowByOrder s WHERE s.timestamp >= :startDate AND s.timestamp < :endDate");
+
+		this.assertPossibleKey("tb_reportSystemCashFlowByOrder_timestamp_idx", plan);
+	}
+
+	private void assertPossibleKey(String index, Object[] plan) {
+
+		// possible_keys only depends on the schema and the predicates, not on the optimizer's cost estimate
+		String possibleKeys = plan[5] == null ? "" : plan[5].toString();
+
+		assertTrue(Arrays.asList(possibleKeys.split(",")).contains(index), index + " not in [" + possibleKeys + "]");
+	}
+
+	private Object[] explain(String query) {
+
+		@SuppressWarnings("unchecked")
+		List<Object[]> rows = this.entityManager.createNativeQuery("EXPLAIN " + query)
+				.setParameter("startDate", START_DATE.atStartOfDay())
+				.setParameter("endDate", END_DATE.plusDays(1).atStartOfDay())
+				.getResultList();
+
+		return rows.get(0);
+	}
+}
@@ -0,0 +1,101 @@
+package ecommerce.system.api.repositories;
+
+import ecommerce.system.api.configuration.CacheRegions;
+import ecommerce.system.api.models.Store;
+import ecommerce.system.api.models.User;
+import ecommerce.system.api.tools.CacheStatistics;
+import ecommerce.system.api.tools.NativeStatements;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@SpringBootTest
+class SecondLevelCacheTests {
+
+	@Autowired
+	IStoreRepository storeRepository;
+
+	@Autowired
+	IUserRepository userRepository;
+
+	@Autowired
+	IRateLimitRepository rateLimitRepository;
+
+	@Autowired
+	CacheStatistics cacheStatistics;
+
+	@Test
+	void storeUpdateInvalidatesStoreQueriesAndKeepsUserRegions() {
+
+		List<Store> stores = this.storeRepository.getAllStores();
+		List<User> users = this.userRepository.getAllUsers();
+
+		assumeTrue(stores != null && users != null);
+
+		Store store = stores.get(0);
+		int userId = users.get(0).getUserId();
+		String name = store.getName();
+
+		this.storeRepository.getById(store.getStoreId());
+		this.userRepository.getById(userId);
+
+		long storeQueryMisses = this.cacheStatistics.getRegionStatistics(CacheRegions.STORE_QUERIES).getMissCount();
+		long userQueryHits = this.cacheStatistics.getRegionStatistics(CacheRegions.USER_QUERIES).getHitCount();
+
+		try {
+			store.setName(name + " (cache)");
+			assertTrue(this.storeRepository.update(store));
+
+			assertEquals(name + " (cache)", this.storeRepository.getById(store.getStoreId()).getName());
+			assertEquals(storeQueryMisses + 1,
+					this.cacheStatistics.getRegionStatistics(CacheRegions.STORE_QUERIES).getMissCount());
+
+			this.userRepository.getById(userId);
+
+			assertEquals(userQueryHits + 1,
+					this.cacheStatistics.getRegionStatistics(CacheRegions.USER_QUERIES).getHitCount());
+			assertTrue(this.cacheStatistics.contains(User.class, userId));
+		} finally {
+			store.setName(name);
+			this.storeRepository.update(store);
+		}
+	}
+
+	@Test
+	void nativeStatementsOnlyInvalidateTheirTargetTable() {
+
+		List<User> users = this.userRepository.getAllUsers();
+
+		assumeTrue(users != null);
+
+		int userId = users.get(0).getUserId();
+
+		this.userRepository.getById(userId);
+		long userQueryHits = this.cacheStatistics.getRegionStatistics(CacheRegions.USER_QUERIES).getHitCount();
+
+		this.rateLimitRepository.evictFull(System.currentTimeMillis());
+
+		assertTrue(this.cacheStatistics.contains(User.class, userId));
+
+		this.userRepository.getById(userId);
+
+		assertEquals(userQueryHits + 1,
+				this.cacheStatistics.getRegionStatistics(CacheRegions.USER_QUERIES).getHitCount());
+	}
+
+	@Test
+	void nativeStatementTargetTableIsParsed() {
+
+		assertEquals("tb_rateLimitBucket", NativeStatements.getTargetTable("INSERT IGNORE INTO tb_rateLimitBucket (bucketKey) VALUES (:key)"));
+		assertEquals("tb_reportOrdersByStore", NativeStatements.getTargetTable("UPDATE tb_reportOrdersByStore r INNER JOIN tb_store s ON s.pk_storeId = r.storeId SET r.storeName = s.name"));
+		assertEquals("tb_revokedUser", NativeStatements.getTargetTable("  delete from tb_revokedUser WHERE notBefore < :cutoff"));
+		assertNull(NativeStatements.getTargetTable("SELECT * FROM tb_store"));
+	}
+}
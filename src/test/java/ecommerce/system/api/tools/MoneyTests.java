@@ -0,0 +1,90 @@
+package ecommerce.system.api.tools;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyTests {
+
+	@Test
+	void ofRoundsToCentsHalfEven() {
+
+		assertEquals(1234, Money.of("12.34"));
+		assertEquals(1234, Money.of("12.345"));
+		assertEquals(1236, Money.of("12.355"));
+		assertEquals(-1234, Money.of(new BigDecimal("-12.345")));
+		assertEquals(1200, Money.of(new BigDecimal("12")));
+	}
+
+	@Test
+	void parseRejectsFractionsOfCents() {
+
+		assertEquals(1234, Money.parse(new BigDecimal("12.34")));
+		assertEquals(1230, Money.parse(new BigDecimal("12.3")));
+		assertEquals(1234, Money.parse(new BigDecimal("12.3400")));
+		assertThrows(ArithmeticException.class, () -> Money.parse(new BigDecimal("12.345")));
+	}
+
+	@Test
+	void percentageRoundsBasisPoints() {
+
+		assertEquals(100, Money.percentage(1000, 1000, RoundingMode.HALF_EVEN));
+		assertEquals(12, Money.percentage(125, 1000, RoundingMode.HALF_EVEN));
+		assertEquals(14, Money.percentage(135, 1000, RoundingMode.HALF_EVEN));
+		assertEquals(13, Money.percentage(125, 1000, RoundingMode.HALF_UP));
+		assertEquals(-12, Money.percentage(-125, 1000, RoundingMode.HALF_EVEN));
+	}
+
+	@Test
+	void divideMatchesBigDecimalRounding() {
+
+		RoundingMode[] modes = { RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR,
+				RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN };
+
+		for (RoundingMode mode : modes) {
+			for (long cents = -25; cents <= 25; cents++) {
+				for (long divisor : new long[] { 2, 3, 4, -4, 10 }) {
+
+					long expected = BigDecimal.valueOf(cents).divide(BigDecimal.valueOf(divisor), 0, mode)
+							.longValueExact();
+
+					assertEquals(expected, Money.divide(cents, divisor, mode), cents + " / " + divisor + " " + mode);
+				}
+			}
+		}
+
+		assertThrows(ArithmeticException.class, () -> Money.divide(5, 2, RoundingMode.UNNECESSARY));
+		assertEquals(3, Money.divide(6, 2, RoundingMode.UNNECESSARY));
+	}
+
+	@Test
+	void arithmeticFailsOnOverflow() {
+
+		assertThrows(ArithmeticException.class, () -> Money.add(Long.MAX_VALUE, 1));
+		assertThrows(ArithmeticException.class, () -> Money.subtract(Long.MIN_VALUE, 1));
+		assertThrows(ArithmeticException.class, () -> Money.multiply(Long.MAX_VALUE / 2, 3));
+		assertThrows(ArithmeticException.class, () -> Money.ofUnits(Long.MAX_VALUE / 10));
+		assertThrows(ArithmeticException.class, () -> Money.percentage(Long.MAX_VALUE / 100, 1000, RoundingMode.HALF_EVEN));
+		assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("100000000000000000000")));
+	}
+
+	@Test
+	void deserializerRejectsFractionsOfCents() throws Exception {
+
+		ObjectMapper objectMapper = new ObjectMapper()
+				.registerModule(new SimpleModule().addDeserializer(Long.class, new MoneyDeserializer()));
+
+		assertEquals(1234, (long) objectMapper.readValue("12.34", Long.class));
+		assertEquals(1234, (long) objectMapper.readValue("\"12.34\"", Long.class));
+		assertThrows(InvalidFormatException.class, () -> objectMapper.readValue("12.345", Long.class));
+		assertThrows(InvalidFormatException.class, () -> objectMapper.readValue("\"12.345\"", Long.class));
+		assertThrows(InvalidFormatException.class, () -> objectMapper.readValue("\"abc\"", Long.class));
+	}
+}
@@ -0,0 +1,278 @@
+package ecommerce.system.api.tools;
+
+import ecommerce.system.api.dto.ReportPageDTO;
+import ecommerce.system.api.dto.ReportPageRequestDTO;
+import ecommerce.system.api.enums.ReportTypeEnum;
+import ecommerce.system.api.models.StoreCashFlowRevenueReport;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReportPagerTests {
+
+	private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2020, 5, 1, 10, 0);
+
+	private final ReportPager reportPager = new ReportPager();
+	private final ReportPager.Spec spec = this.reportPager.getSpec(ReportTypeEnum.STORE_CASH_FLOW_REVENUE);
+
+	@Test
+	void cursorRoundTripsAcrossSortTypes() {
+
+		UUID id = UUID.randomUUID();
+		Object[][] cases = {
+				{ "storeId", 7 },
+				{ "-storeId", 7 },
+				{ "revenue", 123456L },
+				{ "-revenue", 123456L },
+				{ "timestamp", TIMESTAMP },
+				{ "-timestamp", TIMESTAMP.plusNanos(1500) },
+				{ "id", UUID.randomUUID() } };
+
+		for (Object[] item : cases) {
+
+			ReportPageRequestDTO page = new ReportPageRequestDTO(10, null, (String) item[0], null);
+			page.setCursor(this.reportPager.encodeCursor(page, item[1], id));
+
+			assertArrayEquals(new Object[] { item[1], id }, this.reportPager.decodeCursor(this.spec, page),
+					(String) item[0]);
+		}
+	}
+
+	@Test
+	void cursorIsBoundToItsSort() {
+
+		ReportPageRequestDTO page = new ReportPageRequestDTO(10, null, "revenue", null);
+		String cursor = this.reportPager.encodeCursor(page, 100L, UUID.randomUUID());
+
+		assertNull(this.reportPager.decodeCursor(this.spec, new ReportPageRequestDTO(10, cursor, "-revenue", null)));
+		assertNull(this.reportPager.decodeCursor(this.spec, new ReportPageRequestDTO(10, cursor, "storeId", null)));
+		assertNull(this.reportPager.decodeCursor(this.spec, new ReportPageRequestDTO(10, "bm90LWEtY3Vyc29y", "revenue", null)));
+	}
+
+	@Test
+	void pagesVisitEveryRowOnceWithTiesOnTheSortColumn() {
+
+		List<StoreCashFlowRevenueReport> rows = this.getRows();
+
+		for (String sort : Arrays.asList("storeId", "-storeId", "revenue", "-revenue", "timestamp", "-timestamp")) {
+			for (int limit = 1; limit <= rows.size() + 1; limit++) {
+
+				List<UUID> expected = this.sortedIds(rows, sort);
+				List<UUID> visited = new ArrayList<>();
+				ReportPageRequestDTO page = new ReportPageRequestDTO(limit, null, sort, null);
+				ReportPageDTO result;
+
+				do {
+					result = this.reportPager.page(this.spec, rows, page);
+
+					for (Object item : result.getItems()) {
+						visited.add(((StoreCashFlowRevenueReport) item).getId());
+					}
+
+					page.setCursor(result.getNextCursor());
+
+				} while (result.getNextCursor() != null);
+
+				assertEquals(expected, visited, sort + " limit " + limit);
+			}
+		}
+	}
+
+	@Test
+	void projectedLayoutEndsWithSortValueAndId() {
+
+		ReportPageRequestDTO omitted = new ReportPageRequestDTO(10, null, "-storeId",
+				Collections.singletonList("revenue"));
+		ReportPageRequestDTO included = new ReportPageRequestDTO(10, null, "storeId", Arrays.asList("storeId", "revenue"));
+
+		assertEquals(Arrays.asList("revenue", "storeId", "id"), this.reportPager.getSelectedFields(omitted));
+		assertEquals(Arrays.asList("storeId", "revenue", "storeId", "id"), this.reportPager.getSelectedFields(included));
+
+		UUID id = UUID.randomUUID();
+
+		for (ReportPageRequestDTO page : Arrays.asList(omitted, included)) {
+
+			List<String> selectedFields = this.reportPager.getSelectedFields(page);
+			Object[] row = new Object[selectedFields.size()];
+
+			for (int i = 0; i < row.length; i++) {
+				row[i] = selectedFields.get(i).equals("id") ? id : selectedFields.get(i).equals("revenue") ? 1250L : 3;
+			}
+
+			Map<String, Object> item = this.reportPager.project(this.spec, page.getFields(), row);
+
+			assertEquals(page.getFields(), new ArrayList<>(item.keySet()));
+			assertEquals(new BigDecimal("12.50"), item.get("revenue"));
+
+			page.setCursor(this.reportPager.encodeCursor(page, row[row.length - 2], row[row.length - 1]));
+
+			assertArrayEquals(new Object[] { 3, id }, this.reportPager.decodeCursor(this.spec, page));
+		}
+	}
+
+	@Test
+	void projectedPagesOnlyCarryRequestedFields() {
+
+		List<StoreCashFlowRevenueReport> rows = this.getRows();
+		ReportPageRequestDTO page = new ReportPageRequestDTO(3, null, "-revenue", Collections.singletonList("storeId"));
+		HashSet<Object> visited = new HashSet<>();
+		ReportPageDTO result;
+		int items = 0;
+
+		do {
+			result = this.reportPager.page(this.spec, rows, page);
+
+			for (Object item : result.getItems()) {
+				assertEquals(Collections.singleton("storeId"), ((Map<?, ?>) item).keySet());
+				visited.add(item);
+				items++;
+			}
+
+			page.setCursor(result.getNextCursor());
+
+		} while (result.getNextCursor() != null);
+
+		assertEquals(rows.size(), items);
+		assertEquals(3, visited.size());
+	}
+
+	@Test
+	void mergedStorePartitionsMatchTheSerialOrder() {
+
+		List<StoreCashFlowRevenueReport> rows = this.getRows();
+
+		for (String sort : Arrays.asList("revenue", "-revenue", "timestamp", "-timestamp")) {
+			for (int limit = 1; limit <= rows.size() + 1; limit++) {
+
+				List<StoreCashFlowRevenueReport> ordered = this.databaseOrder(rows, sort);
+				List<UUID> visited = new ArrayList<>();
+				ReportPageRequestDTO page = new ReportPageRequestDTO(limit, null, sort, null);
+				ReportPageDTO result;
+
+				do {
+					List<Object> partitions = new ArrayList<>();
+
+					for (int storeId = 1; storeId <= 3; storeId++) {
+						partitions.addAll(this.partitionPage(ordered, storeId, page));
+					}
+
+					result = this.reportPager.toPage(this.spec, page,
+							this.reportPager.mergePartitions(this.spec, page, partitions));
+
+					for (Object item : result.getItems()) {
+						visited.add(((StoreCashFlowRevenueReport) item).getId());
+					}
+
+					page.setCursor(result.getNextCursor());
+
+				} while (result.getNextCursor() != null);
+
+				List<UUID> expected = new ArrayList<>();
+				ordered.forEach((row) -> expected.add(row.getId()));
+
+				assertEquals(expected, visited, sort + " limit " + limit);
+			}
+		}
+	}
+
+	@Test
+	void onlyStoreScopedReportsSortedByNonTextFieldsArePartitionable() {
+
+		assertTrue(this.reportPager.isPartitionable(this.spec, new ReportPageRequestDTO(10, null, "-revenue", null)));
+		assertFalse(this.reportPager.isPartitionable(this.reportPager.getSpec(ReportTypeEnum.ORDERS),
+				new ReportPageRequestDTO(10, null, "storeName", null)));
+		assertFalse(this.reportPager.isPartitionable(this.reportPager.getSpec(ReportTypeEnum.SYSTEM_CASH_FLOW),
+				new ReportPageRequestDTO(10, null, "timestamp", null)));
+	}
+
+	private List<StoreCashFlowRevenueReport> getRows() {
+
+		List<StoreCashFlowRevenueReport> rows = new ArrayList<>();
+
+		for (int i = 0; i < 9; i++) {
+			rows.add(new StoreCashFlowRevenueReport(UUID.randomUUID(), 1 + i % 3, 1000L * (i % 4),
+					TIMESTAMP.plusMinutes(i % 2)));
+		}
+
+		return rows;
+	}
+
+	private List<StoreCashFlowRevenueReport> databaseOrder(List<StoreCashFlowRevenueReport> rows, String sort) {
+
+		boolean descending = sort.startsWith("-");
+		Comparator<StoreCashFlowRevenueReport> comparator = sort.endsWith("revenue")
+				? Comparator.comparing(StoreCashFlowRevenueReport::getRevenue)
+				: Comparator.comparing(StoreCashFlowRevenueReport::getTimestamp);
+
+		comparator = comparator.thenComparing((row) -> row.getId().toString());
+
+		List<StoreCashFlowRevenueReport> ordered = new ArrayList<>(rows);
+		ordered.sort(descending ? comparator.reversed() : comparator);
+
+		return ordered;
+	}
+
+	private List<Object> partitionPage(List<StoreCashFlowRevenueReport> ordered, int storeId, ReportPageRequestDTO page) {
+
+		Object[] cursor = this.reportPager.decodeCursor(this.spec, page);
+		List<Object> rows = new ArrayList<>();
+		boolean afterCursor = cursor == null;
+
+		for (StoreCashFlowRevenueReport row : ordered) {
+
+			if (!afterCursor) {
+				afterCursor = row.getId().equals(cursor[1]);
+				continue;
+			}
+
+			if (row.getStoreId() == storeId && rows.size() <= page.getLimit()) {
+				rows.add(row);
+			}
+		}
+
+		return rows;
+	}
+
+	private List<UUID> sortedIds(List<StoreCashFlowRevenueReport> rows, String sort) {
+
+		boolean descending = sort.startsWith("-");
+		String field = descending ? sort.substring(1) : sort;
+		Comparator<StoreCashFlowRevenueReport> comparator;
+
+		switch (field) {
+			case "storeId":
+				comparator = Comparator.comparing(StoreCashFlowRevenueReport::getStoreId);
+				break;
+			case "revenue":
+				comparator = Comparator.comparing(StoreCashFlowRevenueReport::getRevenue);
+				break;
+			default:
+				comparator = Comparator.comparing(StoreCashFlowRevenueReport::getTimestamp);
+		}
+
+		comparator = comparator.thenComparing(StoreCashFlowRevenueReport::getId);
+
+		List<StoreCashFlowRevenueReport> sorted = new ArrayList<>(rows);
+		sorted.sort(descending ? comparator.reversed() : comparator);
+
+		List<UUID> ids = new ArrayList<>();
+		sorted.forEach((row) -> ids.add(row.getId()));
+
+		return ids;
+	}
+}
@@ -0,0 +1,112 @@
+package ecommerce.system.api.tools;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTests {
+
+	private static final long NOW = 1_000_000L;
+
+	@Test
+	void fullBucketAllowsBurstUpToCapacity() {
+
+		TokenBucket bucket = new TokenBucket(5, NOW);
+
+		for (int i = 0; i < 5; i++) {
+			assertEquals(0, bucket.tryConsume(5, 60, NOW));
+		}
+
+		assertEquals(1000, bucket.tryConsume(5, 60, NOW));
+	}
+
+	@Test
+	void retryAfterShrinksAsTokensRefill() {
+
+		TokenBucket bucket = new TokenBucket(0, NOW);
+
+		assertEquals(1000, bucket.tryConsume(5, 60, NOW));
+		assertEquals(500, bucket.tryConsume(5, 60, NOW + 500));
+		assertEquals(0, bucket.tryConsume(5, 60, NOW + 1000));
+		assertEquals(1000, bucket.tryConsume(5, 60, NOW + 1000));
+	}
+
+	@Test
+	void retryAfterRoundsUpToWholeMilliseconds() {
+
+		TokenBucket bucket = new TokenBucket(0, NOW);
+
+		assertEquals(8572, bucket.tryConsume(3, 7, NOW));
+	}
+
+	@Test
+	void refillNeverExceedsCapacity() {
+
+		TokenBucket bucket = new TokenBucket(0, NOW);
+
+		assertEquals(0, bucket.tryConsume(3, 60, NOW + 3_600_000));
+		assertEquals(2, bucket.getTokens(), 0);
+
+		assertEquals(0, bucket.tryConsume(3, 60, NOW + 3_600_000));
+		assertEquals(0, bucket.tryConsume(3, 60, NOW + 3_600_000));
+		assertEquals(1000, bucket.tryConsume(3, 60, NOW + 3_600_000));
+	}
+
+	@Test
+	void clockGoingBackwardsDoesNotRefill() {
+
+		TokenBucket bucket = new TokenBucket(0, NOW);
+
+		assertEquals(1000, bucket.tryConsume(5, 60, NOW - 5000));
+		assertEquals(NOW, bucket.getLastRefill());
+	}
+
+	@Test
+	void bucketWithoutRefillWaitsAFullMinute() {
+
+		TokenBucket bucket = new TokenBucket(1, NOW);
+
+		assertEquals(0, bucket.tryConsume(1, 0, NOW));
+		assertEquals(60000, bucket.tryConsume(1, 0, NOW + 3_600_000));
+		assertFalse(bucket.isFull(NOW + 3_600_000));
+	}
+
+	@Test
+	void bucketIsFullOnceItRefillsToCapacity() {
+
+		TokenBucket bucket = new TokenBucket(2, NOW);
+
+		bucket.tryConsume(2, 60, NOW);
+
+		assertFalse(bucket.isFull(NOW + 999));
+		assertTrue(bucket.isFull(NOW + 1000));
+	}
+
+	@Test
+	void localStoreKeepsOneBucketPerKey() {
+
+		LocalRateLimitStore store = new LocalRateLimitStore();
+
+		assertEquals(0, store.tryConsume("ip:login:10.0.0.1", 1, 60, NOW));
+		assertEquals(1000, store.tryConsume("ip:login:10.0.0.1", 1, 60, NOW));
+		assertEquals(0, store.tryConsume("ip:login:10.0.0.2", 1, 60, NOW));
+		assertEquals(2, store.size());
+	}
+
+	@Test
+	void localStoreEvictsOnlyFullBuckets() {
+
+		LocalRateLimitStore store = new LocalRateLimitStore();
+
+		store.tryConsume("account:login:a@email.com", 2, 60, NOW);
+		store.tryConsume("account:login:b@email.com", 2, 60, NOW);
+		store.tryConsume("account:login:b@email.com", 2, 60, NOW);
+
+		assertEquals(1, store.evictFull(NOW + 1000));
+		assertEquals(1, store.size());
+		assertEquals(0, store.tryConsume("account:login:b@email.com", 2, 60, NOW + 1000));
+		assertEquals(1000, store.tryConsume("account:login:b@email.com", 2, 60, NOW + 1000));
+	}
+}
@@ -0,0 +1,126 @@
+package ecommerce.system.api.tools;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenRevocationListTests {
+
+	private static final long EXPIRATION = 4102444800000L;
+
+	@Test
+	void bloomFilterHasNoFalseNegatives() {
+
+		BloomFilter bloomFilter = new BloomFilter(1000, 0.01);
+
+		for (int i = 0; i < 1000; i++) {
+			bloomFilter.add("jti:" + i);
+		}
+
+		int falsePositives = 0;
+
+		for (int i = 0; i < 1000; i++) {
+			assertTrue(bloomFilter.mightContain("jti:" + i), "jti:" + i);
+
+			if (bloomFilter.mightContain("other:" + i)) {
+				falsePositives++;
+			}
+		}
+
+		assertTrue(falsePositives < 50, falsePositives + " false positives");
+	}
+
+	@Test
+	void bloomFilterRejectsInvalidSizing() {
+
+		assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+		assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1));
+	}
+
+	@Test
+	void revokedEntriesSurviveGrowth() {
+
+		TokenRevocationList revocationList = new TokenRevocationList(16, 0.01);
+
+		for (int i = 0; i < 200; i++) {
+			revocationList.revokeToken("token-" + i, EXPIRATION);
+			revocationList.revokeUser("user-" + i, 5000);
+		}
+
+		for (int i = 0; i < 200; i++) {
+			assertTrue(revocationList.isRevoked("token-" + i, null, 0), "token-" + i);
+			assertTrue(revocationList.isRevoked(null, "user-" + i, 4000), "user-" + i);
+		}
+
+		assertFalse(revocationList.isRevoked("token-200", "user-200", 0));
+		assertTrue((int) revocationList.getStatus().get("bloomCapacity") >= 400);
+	}
+
+	@Test
+	void notBeforeComparesAtSecondGranularity() {
+
+		TokenRevocationList revocationList = new TokenRevocationList(16, 0.01);
+
+		revocationList.revokeUser("user@email.com", 5000);
+
+		assertTrue(revocationList.isRevoked(null, "user@email.com", 4000));
+		assertFalse(revocationList.isRevoked(null, "user@email.com", 5000));
+		assertFalse(revocationList.isRevoked(null, "user@email.com", 6000));
+
+		revocationList.revokeUser("user@email.com", 3000);
+
+		assertTrue(revocationList.isRevoked(null, "user@email.com", 4000));
+	}
+
+	@Test
+	void rebuildKeepsRevocationsMadeDuringAReload() {
+
+		TokenRevocationList revocationList = new TokenRevocationList(16, 0.01);
+
+		revocationList.revokeToken("loaded", EXPIRATION);
+		revocationList.revokeUser("first@email.com", 1000);
+
+		Map<String, Long> revokedTokens = new HashMap<>();
+		revokedTokens.put("loaded", EXPIRATION);
+		Map<String, Long> notBefore = new HashMap<>();
+		notBefore.put("first@email.com", 1000L);
+
+		revocationList.revokeToken("during-reload", EXPIRATION);
+		revocationList.revokeUser("first@email.com", 9000);
+		revocationList.revokeUser("second@email.com", 9000);
+
+		revocationList.rebuild(revokedTokens, notBefore);
+
+		assertTrue(revocationList.isRevoked("loaded", null, 0));
+		assertTrue(revocationList.isRevoked("during-reload", null, 0));
+		assertTrue(revocationList.isRevoked(null, "first@email.com", 8000));
+		assertTrue(revocationList.isRevoked(null, "second@email.com", 8000));
+	}
+
+	@Test
+	void purgeDropsExpiredEntries() {
+
+		TokenRevocationList revocationList = new TokenRevocationList(16, 0.01);
+
+		revocationList.revokeToken("expired", 1000);
+		revocationList.revokeToken("active", EXPIRATION);
+		revocationList.revokeUser("old@email.com", 1000);
+		revocationList.revokeUser("recent@email.com", 9000);
+
+		revocationList.purge(2000, 2000);
+		revocationList.rebuild(Collections.emptyMap(), Collections.emptyMap());
+
+		assertFalse(revocationList.isRevoked("expired", null, 0));
+		assertTrue(revocationList.isRevoked("active", null, 0));
+		assertFalse(revocationList.isRevoked(null, "old@email.com", 0));
+		assertTrue(revocationList.isRevoked(null, "recent@email.com", 0));
+		assertEquals(1, revocationList.getStatus().get("revokedTokens"));
+	}
+}